@@ -0,0 +1,141 @@
+package tutorhelper.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tutorhelper.model.StorageMode;
+import tutorhelper.model.TutorHelper;
+import tutorhelper.model.student.Phone;
+import tutorhelper.model.student.Student;
+import tutorhelper.storage.CheckedXmlFileStorage;
+import tutorhelper.storage.JournalTutorHelperStorage;
+import tutorhelper.storage.TutorHelperStorage;
+import tutorhelper.storage.XmlTutorHelperStorage;
+
+/**
+ * Compares the cost of saving a single-student edit under each {@code StorageMode}, as done after every
+ * mutating command. Besides the time taken, reports the average bytes written per save as the
+ * {@code bytesPerSave} counter, which for the journal includes the occasional compaction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JournalStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    @Param({"XML", "JOURNAL"})
+    private StorageMode storageMode;
+
+    private Path dataFile;
+    private Path journalFile;
+    private TutorHelperStorage storage;
+    private TutorHelper tutorHelper;
+    private Student original;
+    private Student edited;
+
+    /**
+     * Counts the bytes written to the data file and the journal in each iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WriteCounters {
+        private long bytesWritten;
+        private long saves;
+
+        /**
+         * Starts counting again for a new iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesWritten = 0;
+            saves = 0;
+        }
+
+        public long bytesPerSave() {
+            return saves == 0 ? 0 : bytesWritten / saves;
+        }
+
+        /**
+         * Records a save that wrote {@code bytes} bytes.
+         */
+        void recordSave(long bytes) {
+            bytesWritten += bytes;
+            saves++;
+        }
+    }
+
+    /**
+     * Writes a generated roster to a temporary data file through the storage being measured.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tutorHelper = new RosterGenerator(rosterSize).generateTutorHelper(rosterSize);
+        dataFile = Files.createTempFile("tutorhelper-journal-", ".xml");
+        journalFile = JournalTutorHelperStorage.getJournalFilePath(dataFile);
+        storage = storageMode == StorageMode.JOURNAL
+                ? new JournalTutorHelperStorage(dataFile)
+                : new XmlTutorHelperStorage(dataFile);
+        storage.saveTutorHelper(tutorHelper);
+
+        original = tutorHelper.getStudentList().get(rosterSize / 2);
+        edited = new Student(original.getName(), new Phone("99999999"), original.getEmail(),
+                original.getAddress(), original.getSubjects(), original.getTuitionTiming(), original.getTags(),
+                original.getPayments());
+    }
+
+    /**
+     * Deletes the data file, the backups the saves left next to it, and its journal.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (Path snapshot : CheckedXmlFileStorage.getSnapshotPaths(dataFile,
+                XmlTutorHelperStorage.DEFAULT_BACKUP_COUNT)) {
+            Files.deleteIfExists(snapshot);
+        }
+        Files.deleteIfExists(journalFile);
+    }
+
+    /**
+     * Edits one student and saves the result.
+     */
+    @Benchmark
+    public TutorHelper editAndSave(WriteCounters counters) throws IOException {
+        Student target = tutorHelper.getStudentList().get(rosterSize / 2);
+        tutorHelper.updateStudent(target, target == original ? edited : original);
+
+        long journalSize = sizeOf(journalFile);
+        storage.saveTutorHelper(tutorHelper);
+        long newJournalSize = sizeOf(journalFile);
+        // a journal only shrinks when it is compacted, which rewrites the data file as well
+        counters.recordSave(newJournalSize > journalSize
+                ? newJournalSize - journalSize
+                : Files.size(dataFile) + newJournalSize);
+        return tutorHelper;
+    }
+
+    private static long sizeOf(Path file) throws IOException {
+        return Files.exists(file) ? Files.size(file) : 0;
+    }
+}
@@ -0,0 +1,89 @@
+package tutorhelper.benchmark;
+
+import static tutorhelper.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static tutorhelper.logic.parser.CliSyntax.PREFIX_DAY_AND_TIME;
+import static tutorhelper.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static tutorhelper.logic.parser.CliSyntax.PREFIX_NAME;
+import static tutorhelper.logic.parser.CliSyntax.PREFIX_PHONE;
+import static tutorhelper.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static tutorhelper.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tutorhelper.logic.commands.Command;
+import tutorhelper.logic.parser.ArgumentMultimap;
+import tutorhelper.logic.parser.ArgumentTokenizer;
+import tutorhelper.logic.parser.TutorHelperParser;
+import tutorhelper.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures the parser alone, from the text of a command to the {@code Command} to execute, for the commands
+ * most common in scripts. No model is involved, so this is the cost every command pays before it runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final String ADD_ARGUMENTS = " n/Amy Bee p/85355255 e/amy@example.com a/Block 312, Amy Street 1"
+            + " s/Mathematics d/Monday 1:00pm t/friend";
+
+    private final TutorHelperParser parser = new TutorHelperParser();
+
+    @Benchmark
+    public Command parseAdd() throws ParseException {
+        return parser.parseCommand("add" + ADD_ARGUMENTS);
+    }
+
+    @Benchmark
+    public Command parseEdit() throws ParseException {
+        return parser.parseCommand("edit 3 p/91234567 e/johndoe@example.com");
+    }
+
+    @Benchmark
+    public Command parseDelete() throws ParseException {
+        return parser.parseCommand("delete 12");
+    }
+
+    @Benchmark
+    public Command parseFind() throws ParseException {
+        return parser.parseCommand("find alice bob");
+    }
+
+    @Benchmark
+    public Command parsePaid() throws ParseException {
+        return parser.parseCommand("paid 2 200 8 2018");
+    }
+
+    @Benchmark
+    public Command parseAddSyll() throws ParseException {
+        return parser.parseCommand("addsyll 1 1 sy/Integration");
+    }
+
+    @Benchmark
+    public Command parseList() throws ParseException {
+        return parser.parseCommand("list");
+    }
+
+    /**
+     * The tokenizer alone, on the arguments of {@link #parseAdd}, which has the most prefixes of any command.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenizeAdd() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_SUBJECT, PREFIX_DAY_AND_TIME, PREFIX_TAG);
+    }
+}
@@ -0,0 +1,118 @@
+package tutorhelper.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import tutorhelper.commons.core.index.Index;
+import tutorhelper.model.TutorHelper;
+import tutorhelper.model.student.Address;
+import tutorhelper.model.student.Email;
+import tutorhelper.model.student.Name;
+import tutorhelper.model.student.Payment;
+import tutorhelper.model.student.Phone;
+import tutorhelper.model.student.Student;
+import tutorhelper.model.subject.Subject;
+import tutorhelper.model.subject.SubjectType;
+import tutorhelper.model.subject.Syllabus;
+import tutorhelper.model.tag.Tag;
+import tutorhelper.model.tuitiontiming.TuitionTiming;
+
+/**
+ * Generates rosters of distinct students for the benchmarks.
+ * Every student has one to three subjects with a few syllabus topics each, up to two tags and
+ * a year of monthly payments. The same {@code size} and {@code seed} always give the same roster.
+ */
+public class RosterGenerator {
+
+    private static final String[] DAYS = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday",
+        "Sunday"};
+    private static final String[] TOPICS = {"Algebra", "Calculus", "Vectors", "Organic Chemistry", "Kinematics",
+        "Essay Writing", "Comprehension", "Statistics", "Genetics", "Electricity"};
+    private static final String[] TAGS = {"exam", "weak", "new", "sibling", "online"};
+
+    private final Random random;
+
+    public RosterGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns a {@code TutorHelper} holding {@code size} generated students.
+     */
+    public TutorHelper generateTutorHelper(int size) {
+        TutorHelper tutorHelper = new TutorHelper();
+        tutorHelper.setStudents(generateStudents(size));
+        return tutorHelper;
+    }
+
+    /**
+     * Returns {@code size} generated students, no two of which are the same student.
+     */
+    public List<Student> generateStudents(int size) {
+        List<Student> students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            students.add(generateStudent(i));
+        }
+        return students;
+    }
+
+    /**
+     * Returns the student with the given {@code id}. Students with different ids have different names.
+     */
+    public Student generateStudent(int id) {
+        Name name = new Name("Student " + toLetters(id));
+        Phone phone = new Phone(String.format("%08d", 80000000 + id));
+        Email email = new Email("student" + id + "@example.com");
+        Address address = new Address(id + ", Clementi Ave " + (id % 7 + 1) + ", #" + (id % 20 + 1) + "-" + id);
+        TuitionTiming timing = new TuitionTiming(DAYS[random.nextInt(DAYS.length)] + " "
+                + (random.nextInt(12) + 1) + ":" + (random.nextBoolean() ? "00" : "30")
+                + (random.nextBoolean() ? "am" : "pm"));
+
+        Set<Subject> subjects = new HashSet<>();
+        int subjectCount = random.nextInt(3) + 1;
+        for (int i = 0; i < subjectCount; i++) {
+            subjects.add(generateSubject());
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = random.nextInt(3);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(TAGS[random.nextInt(TAGS.length)]));
+        }
+
+        List<Payment> payments = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            payments.add(new Payment(Index.fromZeroBased(id), 100 + random.nextInt(400), month, 2018));
+        }
+
+        return new Student(name, phone, email, address, subjects, timing, tags, payments);
+    }
+
+    /**
+     * Returns a subject with a few syllabus topics, some of them completed.
+     */
+    private Subject generateSubject() {
+        SubjectType type = SubjectType.values()[random.nextInt(SubjectType.values().length)];
+        List<Syllabus> content = new ArrayList<>();
+        int topicCount = random.nextInt(5) + 1;
+        for (int i = 0; i < topicCount; i++) {
+            content.add(new Syllabus(TOPICS[random.nextInt(TOPICS.length)], random.nextBoolean()));
+        }
+        return new Subject(type, content, 0).updateCompletionRate();
+    }
+
+    /**
+     * Spells out {@code number} in letters, as names may not contain digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.reverse().toString();
+    }
+}
@@ -0,0 +1,98 @@
+package tutorhelper.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tutorhelper.commons.exceptions.DataConversionException;
+import tutorhelper.commons.exceptions.IllegalValueException;
+import tutorhelper.model.ModelManager;
+import tutorhelper.model.ReadOnlyTutorHelper;
+import tutorhelper.model.StorageMode;
+import tutorhelper.model.TutorHelper;
+import tutorhelper.model.UserPrefs;
+import tutorhelper.storage.BinaryTutorHelperStorage;
+import tutorhelper.storage.CheckedXmlFileStorage;
+import tutorhelper.storage.TutorHelperStorage;
+import tutorhelper.storage.XmlSerializableTutorHelper;
+import tutorhelper.storage.XmlTutorHelperStorage;
+
+/**
+ * Measures what {@code MainApp} does with the data file on startup: reading and converting it,
+ * then building the {@code ModelManager} around it, for the xml and the binary data file formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StartupBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    @Param({"XML", "BINARY"})
+    private StorageMode storageMode;
+
+    private Path dataFile;
+    private TutorHelperStorage storage;
+    private XmlSerializableTutorHelper serializedTutorHelper;
+
+    /**
+     * Writes a generated roster to a temporary data file.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        TutorHelper tutorHelper = new RosterGenerator(rosterSize).generateTutorHelper(rosterSize);
+        dataFile = Files.createTempFile("tutorhelper-startup-", ".xml");
+        storage = storageMode == StorageMode.BINARY
+                ? new BinaryTutorHelperStorage(dataFile)
+                : new XmlTutorHelperStorage(dataFile);
+        storage.saveTutorHelper(tutorHelper);
+        serializedTutorHelper = new XmlSerializableTutorHelper(tutorHelper);
+    }
+
+    /**
+     * Deletes the temporary data file and the backups the save left next to it.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (Path snapshot : CheckedXmlFileStorage.getSnapshotPaths(dataFile,
+                XmlTutorHelperStorage.DEFAULT_BACKUP_COUNT)) {
+            Files.deleteIfExists(snapshot);
+        }
+    }
+
+    /**
+     * Reads the data file and builds the model, as done on startup.
+     */
+    @Benchmark
+    public ModelManager readAndBuildModel() throws DataConversionException, IOException {
+        ReadOnlyTutorHelper tutorHelper = storage.readTutorHelper().get();
+        return new ModelManager(tutorHelper, new UserPrefs());
+    }
+
+    /**
+     * Converts already parsed data into the model's {@code TutorHelper}, leaving out the XML parsing.
+     */
+    @Benchmark
+    public TutorHelper convertToModel() throws IllegalValueException {
+        return serializedTutorHelper.toModelType();
+    }
+}
@@ -0,0 +1,113 @@
+package tutorhelper.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tutorhelper.commons.exceptions.DataConversionException;
+import tutorhelper.model.ReadOnlyTutorHelper;
+import tutorhelper.model.TutorHelper;
+import tutorhelper.storage.CheckedXmlFileStorage;
+import tutorhelper.storage.JsonTutorHelperStorage;
+import tutorhelper.storage.TutorHelperStorage;
+import tutorhelper.storage.XmlTutorHelperStorage;
+
+/**
+ * Compares the xml and JSON data file formats on the time taken to load and to save a whole roster.
+ * Besides the time taken, reports the size of the data file as the {@code fileBytes} counter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageFormatBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    @Param({"xml", "json"})
+    private String format;
+
+    private Path dataFile;
+    private TutorHelper tutorHelper;
+
+    /**
+     * Reports the size of the data file.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FileCounters {
+        private long fileBytes;
+
+        public long fileBytes() {
+            return fileBytes;
+        }
+
+        void recordFileSize(Path file) throws IOException {
+            fileBytes = Files.size(file);
+        }
+    }
+
+    /**
+     * Writes a generated roster to a temporary data file in the format being measured.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tutorHelper = new RosterGenerator(rosterSize).generateTutorHelper(rosterSize);
+        dataFile = Files.createTempFile("tutorhelper-format-", "." + format);
+        createStorage().saveTutorHelper(tutorHelper);
+    }
+
+    /**
+     * Deletes the temporary data file and the backups the saves left next to it.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (Path snapshot : CheckedXmlFileStorage.getSnapshotPaths(dataFile,
+                XmlTutorHelperStorage.DEFAULT_BACKUP_COUNT)) {
+            Files.deleteIfExists(snapshot);
+        }
+    }
+
+    /**
+     * Reads and converts the whole data file.
+     */
+    @Benchmark
+    public ReadOnlyTutorHelper load(FileCounters counters) throws DataConversionException, IOException {
+        counters.recordFileSize(dataFile);
+        return createStorage().readTutorHelper().get();
+    }
+
+    /**
+     * Converts and writes the whole roster. A new storage is used each time, so that the xml storage converts
+     * every student rather than reusing the xml it kept from the last save.
+     */
+    @Benchmark
+    public Path save(FileCounters counters) throws IOException {
+        createStorage().saveTutorHelper(tutorHelper);
+        counters.recordFileSize(dataFile);
+        return dataFile;
+    }
+
+    private TutorHelperStorage createStorage() {
+        return format.equals("json") ? new JsonTutorHelperStorage(dataFile) : new XmlTutorHelperStorage(dataFile);
+    }
+}
@@ -0,0 +1,82 @@
+package tutorhelper.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tutorhelper.model.UndoMode;
+import tutorhelper.model.VersionedTutorHelper;
+import tutorhelper.model.student.Phone;
+import tutorhelper.model.student.Student;
+
+/**
+ * Compares the cost of committing, undoing and redoing a single-student edit under each {@code UndoMode}.
+ * The edited student sits in the middle of the roster, so locating it costs the same in both modes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UndoBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    @Param({"SNAPSHOT", "CHANGE_LOG"})
+    private UndoMode undoMode;
+
+    private VersionedTutorHelper tutorHelper;
+    private Student original;
+    private Student edited;
+
+    /**
+     * Starts every iteration from a fresh roster with an empty history, so that the history does not keep
+     * growing across iterations.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        RosterGenerator generator = new RosterGenerator(rosterSize);
+        tutorHelper = new VersionedTutorHelper(generator.generateTutorHelper(rosterSize), undoMode, 0, 0);
+        original = tutorHelper.getStudentList().get(rosterSize / 2);
+        edited = new Student(original.getName(), new Phone("99999999"), original.getEmail(),
+                original.getAddress(), original.getSubjects(), original.getTuitionTiming(), original.getTags(),
+                original.getPayments());
+    }
+
+    /**
+     * An edit followed by a commit, as done by every mutating command.
+     */
+    @Benchmark
+    public VersionedTutorHelper editAndCommit() {
+        Student target = tutorHelper.getStudentList().get(rosterSize / 2);
+        tutorHelper.updateStudent(target, target == original ? edited : original);
+        tutorHelper.commit();
+        return tutorHelper;
+    }
+
+    /**
+     * An edit that is committed, undone and redone.
+     */
+    @Benchmark
+    public VersionedTutorHelper editCommitUndoRedo() {
+        Student target = tutorHelper.getStudentList().get(rosterSize / 2);
+        tutorHelper.updateStudent(target, target == original ? edited : original);
+        tutorHelper.commit();
+        tutorHelper.undo();
+        tutorHelper.redo();
+        return tutorHelper;
+    }
+}
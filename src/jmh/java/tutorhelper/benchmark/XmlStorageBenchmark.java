@@ -0,0 +1,148 @@
+package tutorhelper.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.JAXBException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tutorhelper.commons.exceptions.DataConversionException;
+import tutorhelper.commons.exceptions.IllegalValueException;
+import tutorhelper.commons.util.XmlUtil;
+import tutorhelper.model.ReadOnlyTutorHelper;
+import tutorhelper.model.TutorHelper;
+import tutorhelper.storage.CheckedXmlFileStorage;
+import tutorhelper.storage.XmlAdaptedStudent;
+import tutorhelper.storage.XmlSerializableTutorHelper;
+import tutorhelper.storage.XmlTutorHelperStorage;
+
+/**
+ * Measures each step of reading and saving the xml data file over generated rosters: the whole
+ * {@code XmlTutorHelperStorage} read and save, the conversion between the model and
+ * {@code XmlSerializableTutorHelper}, and the {@code XmlUtil} calls that marshal and unmarshal the data.
+ * The whole save is measured as the app does it, so its numbers include the fsync and the rotation of the
+ * {@link XmlTutorHelperStorage#DEFAULT_BACKUP_COUNT} backups.
+ *
+ * Run with {@code -PgcProfile} to also report the bytes allocated per operation as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlStorageBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int rosterSize;
+
+    private Path dataFile;
+    private Path outputFile;
+    private TutorHelper tutorHelper;
+    private XmlSerializableTutorHelper serializable;
+    private List<XmlAdaptedStudent> adaptedStudents;
+
+    /**
+     * Writes a generated roster to a temporary data file, and creates an empty one for the saves.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tutorHelper = new RosterGenerator(rosterSize).generateTutorHelper(rosterSize);
+        serializable = new XmlSerializableTutorHelper(tutorHelper);
+        adaptedStudents = tutorHelper.getStudentList().stream().map(XmlAdaptedStudent::new)
+                .collect(Collectors.toList());
+        dataFile = Files.createTempFile("tutorhelper-xml-", ".xml");
+        outputFile = Files.createTempFile("tutorhelper-xml-out-", ".xml");
+        new XmlTutorHelperStorage(dataFile).saveTutorHelper(tutorHelper);
+    }
+
+    /**
+     * Deletes the temporary data files and the backups the saves left next to them.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (Path file : new Path[] {dataFile, outputFile}) {
+            for (Path snapshot : CheckedXmlFileStorage.getSnapshotPaths(file,
+                    XmlTutorHelperStorage.DEFAULT_BACKUP_COUNT)) {
+                Files.deleteIfExists(snapshot);
+            }
+        }
+    }
+
+    /**
+     * Reads and converts the whole data file, as done at startup.
+     */
+    @Benchmark
+    public ReadOnlyTutorHelper readTutorHelper() throws DataConversionException, IOException {
+        return new XmlTutorHelperStorage(dataFile).readTutorHelper().get();
+    }
+
+    /**
+     * Converts and writes the whole roster. A new storage is used each time, so that every student is converted
+     * rather than reusing the xml kept from the last save.
+     */
+    @Benchmark
+    public Path saveTutorHelper() throws IOException {
+        new XmlTutorHelperStorage(outputFile).saveTutorHelper(tutorHelper);
+        return outputFile;
+    }
+
+    /**
+     * Converts the roster to its xml-friendly form.
+     */
+    @Benchmark
+    public XmlSerializableTutorHelper toSerializable() {
+        return new XmlSerializableTutorHelper(tutorHelper);
+    }
+
+    /**
+     * Converts the xml-friendly form back to the model, checking every field.
+     */
+    @Benchmark
+    public TutorHelper toModelType() throws IllegalValueException {
+        return serializable.toModelType();
+    }
+
+    /**
+     * Marshals the whole xml-friendly form to a file with JAXB.
+     */
+    @Benchmark
+    public Path xmlUtilSaveDataToFile() throws IOException, JAXBException {
+        XmlUtil.saveDataToFile(outputFile, serializable);
+        return outputFile;
+    }
+
+    /**
+     * Unmarshals the whole data file with JAXB.
+     */
+    @Benchmark
+    public XmlSerializableTutorHelper xmlUtilGetDataFromFile() throws IOException, JAXBException {
+        return XmlUtil.getDataFromFile(dataFile, XmlSerializableTutorHelper.class);
+    }
+
+    /**
+     * Marshals each student to a fragment of xml, as done for the students that changed before each save.
+     */
+    @Benchmark
+    public List<String> xmlUtilToXmlFragments() throws JAXBException {
+        return XmlUtil.toXmlFragments(XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME, XmlAdaptedStudent.class,
+                adaptedStudents);
+    }
+}
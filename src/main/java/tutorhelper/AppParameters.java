@@ -2,9 +2,12 @@ package tutorhelper;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javafx.application.Application;
 import tutorhelper.commons.core.LogsCenter;
@@ -15,8 +18,10 @@ import tutorhelper.commons.util.FileUtil;
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final Pattern NAMED_PARAMETER_FORMAT = Pattern.compile("--(?<name>[^=]+)=(?<value>.*)");
 
     private Path configPath;
+    private Path scriptPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +31,29 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script to run once the application has started, or null if there is none.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the named application command-line parameters, keyed by their names.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,9 +62,31 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("run");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No script will be run.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
         return appParameters;
     }
 
+    /**
+     * Returns the named parameters in {@code args}, which are given as {@code --name=value}, keyed by their names,
+     * as JavaFX reads them for an application it launches. Any other argument is ignored.
+     */
+    public static Map<String, String> parseNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            Matcher matcher = NAMED_PARAMETER_FORMAT.matcher(arg);
+            if (matcher.matches()) {
+                namedParameters.put(matcher.group("name"), matcher.group("value"));
+            }
+        }
+        return namedParameters;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +98,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getScriptPath(), otherAppParameters.getScriptPath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath);
     }
 }
@@ -0,0 +1,169 @@
+package tutorhelper;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.logging.Logger;
+
+import tutorhelper.commons.core.LogsCenter;
+import tutorhelper.commons.util.FileUtil;
+import tutorhelper.commons.util.StringUtil;
+import tutorhelper.logic.CommandLineDriver;
+import tutorhelper.logic.commands.RunCommand;
+
+/**
+ * The application without its GUI, for scripts to run commands on the TutorHelper data.
+ * It is started by {@link HeadlessLauncher}.
+ *
+ * Only the storage, model and logic are started, and the JavaFX toolkit is not. Commands are read one per line
+ * from the standard input, or, with {@code --serve=PORT}, from any number of connections to that port on the
+ * loopback address, and the result of each is written back as a line, as {@link CommandLineDriver} says.
+ * The {@code exit} command, or the end of the standard input, stops the application.
+ *
+ * Any program on the computer can connect to the port, so each connection must first send a line with a random
+ * token made at startup. The token is written to {@link #TOKEN_FILE_NAME} in the folder of the data file,
+ * readable by the user running the app only, and the file is deleted when the app stops.
+ */
+public class HeadlessApp extends MainApp {
+
+    public static final String MESSAGE_LISTENING = "Listening on port %1$d, with the token in %2$s";
+    public static final String TOKEN_FILE_NAME = "serve.token";
+
+    private static final int TOKEN_BYTES = 32;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private CommandLineDriver driver;
+    private volatile ServerSocket serverSocket;
+
+    /**
+     * Starts the components of the app as {@code appParameters} say, runs the script given at launch, if any,
+     * then the commands read from the standard input, or from connections to {@code port} if it is not null,
+     * and saves the data once they are done. Returns the exit status of the application.
+     */
+    int run(AppParameters appParameters, Integer port) {
+        logger.info("=============================[ Initializing TutorHelper ]===========================");
+        initComponents(appParameters);
+
+        logger.info("Starting TutorHelper " + MainApp.VERSION + " without the GUI");
+        driver = new CommandLineDriver(logic);
+        Writer stdout = new OutputStreamWriter(System.out, UTF_8);
+        int status = 0;
+        try {
+            if (scriptPath != null) {
+                stdout.write(driver.execute(RunCommand.COMMAND_WORD + " " + scriptPath) + "\n");
+                stdout.flush();
+            }
+            if (port == null) {
+                driver.run(new InputStreamReader(System.in, UTF_8), stdout);
+            } else {
+                serve(port, stdout);
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to run commands " + StringUtil.getDetails(e));
+            status = 1;
+        }
+        logger.info("============================ [ Stopping Tutor Helper ] =============================");
+        stopComponents();
+        return status;
+    }
+
+    /**
+     * Accepts connections to {@code port} on the loopback address and runs the commands read from each that
+     * starts with the token, until this app is stopped. The port listened on and the path of the token file are
+     * written to {@code stdout} first.
+     */
+    private void serve(int port, Writer stdout) throws IOException {
+        String token = createToken();
+        Path tokenFilePath = userPrefs.getTutorHelperFilePath().toAbsolutePath().resolveSibling(TOKEN_FILE_NAME);
+        writeTokenFile(tokenFilePath, token);
+        try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            this.serverSocket = serverSocket;
+            stdout.write(String.format(MESSAGE_LISTENING, serverSocket.getLocalPort(), tokenFilePath) + "\n");
+            stdout.flush();
+            while (!driver.isStopped()) {
+                Socket socket;
+                try {
+                    socket = serverSocket.accept();
+                } catch (SocketException e) {
+                    break; // closed by stop()
+                }
+                Thread connection = new Thread(() -> handleConnection(socket, token), "TutorHelper connection");
+                connection.setDaemon(true);
+                connection.start();
+            }
+        } finally {
+            Files.deleteIfExists(tokenFilePath);
+        }
+    }
+
+    /**
+     * Returns a new random token, which cannot be guessed.
+     */
+    private static String createToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Writes {@code token} to a new file at {@code filePath}, replacing any file there, which only the owner can
+     * read and write. On a file system without POSIX permissions, the file gets the default ones.
+     */
+    private static void writeTokenFile(Path filePath, String token) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.deleteIfExists(filePath);
+        try {
+            // created with the permissions already set, so that the token is never readable by others
+            Files.createFile(filePath, PosixFilePermissions.asFileAttribute(
+                    PosixFilePermissions.fromString("rw-------")));
+        } catch (UnsupportedOperationException e) {
+            logger.warning("Cannot restrict the permissions of " + filePath + " on this file system");
+            Files.createFile(filePath);
+        }
+        Files.write(filePath, (token + "\n").getBytes(UTF_8));
+    }
+
+    /**
+     * Runs the commands read from {@code socket} if it starts with {@code token}, and closes it once they are
+     * done.
+     */
+    private void handleConnection(Socket socket, String token) {
+        try (Socket connection = socket) {
+            driver.run(new InputStreamReader(connection.getInputStream(), UTF_8),
+                    new OutputStreamWriter(connection.getOutputStream(), UTF_8), token);
+        } catch (IOException e) {
+            logger.warning("Connection failed " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Stops reading commands, which ends {@link #run}. The data is saved there, once the command that asked
+     * for this is done.
+     */
+    @Override
+    public void stop() {
+        driver.stop();
+        ServerSocket serverSocket = this.serverSocket;
+        if (serverSocket == null) {
+            return;
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop listening " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package tutorhelper;
+
+import java.util.Map;
+
+/**
+ * The entry point to the application without its GUI, which is {@link HeadlessApp}.
+ * The java launcher does not start a JavaFX application as its main class without the JavaFX runtime,
+ * so this class, which is not one, starts it instead.
+ */
+public class HeadlessLauncher {
+
+    public static final String SERVE_PARAMETER = "serve";
+    public static final String MESSAGE_INVALID_PORT = "Invalid port %1$s";
+
+    /**
+     * Starts the application without its GUI, reading commands from the standard input, or from the port
+     * given as {@code --serve=PORT} in {@code args}.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = AppParameters.parseNamedParameters(args);
+        Integer port = null;
+        if (namedParameters.containsKey(SERVE_PARAMETER)) {
+            port = parsePort(namedParameters.get(SERVE_PARAMETER));
+            if (port == null) {
+                System.err.println(String.format(MESSAGE_INVALID_PORT, namedParameters.get(SERVE_PARAMETER)));
+                System.exit(1);
+            }
+        }
+        System.exit(new HeadlessApp().run(AppParameters.parse(namedParameters), port));
+    }
+
+    /**
+     * Returns the port {@code value} names, or null if it is not a port number. Port 0 picks any free port.
+     */
+    static Integer parsePort(String value) {
+        try {
+            int port = Integer.parseInt(value.trim());
+            return port >= 0 && port <= 65535 ? port : null;
+        } catch (NumberFormatException nfe) {
+            return null;
+        }
+    }
+}
@@ -14,21 +14,35 @@ import tutorhelper.commons.core.Config;
 import tutorhelper.commons.core.EventsCenter;
 import tutorhelper.commons.core.LogsCenter;
 import tutorhelper.commons.core.Version;
+import tutorhelper.commons.events.storage.MigrateDataRequestEvent;
 import tutorhelper.commons.events.ui.ExitAppRequestEvent;
+import tutorhelper.commons.events.ui.NewResultAvailableEvent;
 import tutorhelper.commons.exceptions.DataConversionException;
 import tutorhelper.commons.util.ConfigUtil;
 import tutorhelper.commons.util.StringUtil;
+import tutorhelper.logic.CommandHistory;
 import tutorhelper.logic.Logic;
 import tutorhelper.logic.LogicManager;
+import tutorhelper.logic.commands.RunCommand;
+import tutorhelper.logic.commands.exceptions.CommandException;
+import tutorhelper.logic.parser.exceptions.ParseException;
 import tutorhelper.model.Model;
 import tutorhelper.model.ModelManager;
 import tutorhelper.model.ReadOnlyTutorHelper;
+import tutorhelper.model.StorageMode;
 import tutorhelper.model.TutorHelper;
 import tutorhelper.model.UserPrefs;
 import tutorhelper.model.util.SampleDataUtil;
+import tutorhelper.storage.BinaryTutorHelperStorage;
+import tutorhelper.storage.CommandHistoryStorage;
+import tutorhelper.storage.JournalTutorHelperStorage;
+import tutorhelper.storage.JsonFileStorage;
+import tutorhelper.storage.JsonTutorHelperStorage;
 import tutorhelper.storage.JsonUserPrefsStorage;
+import tutorhelper.storage.ShardedTutorHelperStorage;
 import tutorhelper.storage.Storage;
 import tutorhelper.storage.StorageManager;
+import tutorhelper.storage.TextCommandHistoryStorage;
 import tutorhelper.storage.TutorHelperStorage;
 import tutorhelper.storage.UserPrefsStorage;
 import tutorhelper.storage.XmlTutorHelperStorage;
@@ -50,6 +64,7 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
+    protected Path scriptPath;
 
 
     @Override
@@ -57,25 +72,61 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing TutorHelper ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()));
+
+        ui = new UiManager(logic, config, userPrefs);
+    }
+
+    /**
+     * Initializes every component of the app but its UI, as {@code appParameters} say.
+     */
+    protected void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
+        scriptPath = appParameters.getScriptPath();
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        TutorHelperStorage tutorHelperStorage = new XmlTutorHelperStorage(userPrefs.getTutorHelperFilePath());
-        storage = new StorageManager(tutorHelperStorage, userPrefsStorage);
+        TutorHelperStorage tutorHelperStorage = initTutorHelperStorage(userPrefs);
+        CommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(
+                userPrefs.getCommandHistoryFilePath(), CommandHistory.DEFAULT_CAPACITY);
+        storage = new StorageManager(tutorHelperStorage, userPrefsStorage, commandHistoryStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
-
-        ui = new UiManager(logic, config, userPrefs);
+        logic = new LogicManager(model, initCommandHistory(storage));
 
         initEventsCenter();
     }
 
+    /**
+     * Returns the {@code TutorHelperStorage} for the data file and storage mode in {@code userPrefs}.
+     */
+    private TutorHelperStorage initTutorHelperStorage(UserPrefs userPrefs) {
+        return createTutorHelperStorage(userPrefs.getTutorHelperFilePath(), userPrefs.getStorageMode());
+    }
+
+    /**
+     * Returns the {@code TutorHelperStorage} for the data file at {@code filePath}.
+     * A data file with the JSON file extension is stored as JSON, and any other as {@code storageMode} says.
+     */
+    private TutorHelperStorage createTutorHelperStorage(Path filePath, StorageMode storageMode) {
+        if (JsonFileStorage.isJsonFilePath(filePath)) {
+            return new JsonTutorHelperStorage(filePath);
+        }
+        switch (storageMode) {
+        case BINARY:
+            return new BinaryTutorHelperStorage(filePath);
+        case JOURNAL:
+            return new JournalTutorHelperStorage(filePath);
+        case SHARDED:
+            return new ShardedTutorHelperStorage(filePath);
+        default:
+            return new XmlTutorHelperStorage(filePath);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s TutorHelper and {@code userPrefs}. <br>
      * The data from the sample TutorHelper will be used instead if {@code storage}'s TutorHelper is not found,
@@ -101,6 +152,22 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns a {@code CommandHistory} with the commands from {@code storage}'s command history, or an empty one
+     * if errors occur when reading it.
+     */
+    private CommandHistory initCommandHistory(Storage storage) {
+        CommandHistory history = new CommandHistory();
+        try {
+            for (String commandText : storage.readCommandHistory()) {
+                history.add(commandText);
+            }
+        } catch (IOException e) {
+            logger.warning("Problem while reading the command history. Will be starting with an empty history");
+        }
+        return history;
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -181,19 +248,46 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting TutorHelper " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (scriptPath != null) {
+            runScript(scriptPath);
+        }
+    }
+
+    /**
+     * Runs the script at {@code scriptPath} as the {@code run} command would, and shows the result.
+     */
+    private void runScript(Path scriptPath) {
+        String commandText = RunCommand.COMMAND_WORD + " " + scriptPath;
+        String feedback;
+        try {
+            feedback = logic.execute(commandText).feedbackToUser;
+        } catch (CommandException | ParseException e) {
+            logger.warning("Failed to run script " + scriptPath + ": " + e.getMessage());
+            feedback = e.getMessage();
+        }
+        EventsCenter.getInstance().post(new NewResultAvailableEvent(feedback));
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Tutor Helper ] =============================");
         ui.stop();
+        stopComponents();
+        Platform.exit();
+        System.exit(0);
+    }
+
+    /**
+     * Saves any data not saved yet, and the user prefs, and deletes the undo history kept on disk.
+     */
+    protected void stopComponents() {
+        storage.flush();
+        model.close();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
-        Platform.exit();
-        System.exit(0);
     }
 
     @Subscribe
@@ -202,6 +296,23 @@ public class MainApp extends Application {
         stop();
     }
 
+    /**
+     * Moves the TutorHelper data to the file requested, which is used from now on, also after a restart.
+     * If the data could not be saved there, records why on the event, and the data is kept in the current file.
+     */
+    @Subscribe
+    public void handleMigrateDataRequestEvent(MigrateDataRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        try {
+            storage.switchTutorHelperStorage(createTutorHelperStorage(event.filePath, userPrefs.getStorageMode()),
+                    model.getTutorHelper());
+            userPrefs.setTutorHelperFilePath(event.filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to move data to " + event.filePath + ": " + StringUtil.getDetails(e));
+            event.setFailure(e);
+        }
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -10,6 +10,10 @@ public class Messages {
     public static final String MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX = "The student index provided is invalid";
     public static final String MESSAGE_INVALID_SUBJECT_INDEX = "The subject index provided is invalid";
     public static final String MESSAGE_INVALID_SYLLABUS_INDEX = "The syllabus index provided is invalid";
+    public static final String MESSAGE_SUBJECT_NOT_TAKEN = "%1$s does not take %2$s";
+    public static final String MESSAGE_SYLLABUS_NOT_FOUND = "%1$s has no syllabus topic %2$d in %3$s";
+    public static final String MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS = "Give the subject by name, such as "
+            + "Mathematics, for more than one student, as each student lists their subjects in their own order";
     public static final String MESSAGE_STUDENTS_LISTED_OVERVIEW = "%1$d students listed!";
 
 }
@@ -0,0 +1,104 @@
+package tutorhelper.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the consecutive indexes into a list from a first {@code Index} to a last one, both included,
+ * such as the students a command acts on. A range of a single index acts like that {@code Index}, and the
+ * range of all indexes ends at the end of whichever list it is used on.
+ */
+public class IndexRange {
+    private final Index first;
+    /** The last index of the range, or null if the range ends at the end of the list. */
+    private final Index last;
+
+    private IndexRange(Index first, Index last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Creates the range of the single {@code index}.
+     */
+    public static IndexRange of(Index index) {
+        requireNonNull(index);
+        return new IndexRange(index, index);
+    }
+
+    /**
+     * Creates the range from {@code first} to {@code last}, which must not come before {@code first}.
+     */
+    public static IndexRange between(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new IllegalArgumentException("The last index of a range must not come before the first");
+        }
+        return new IndexRange(first, last);
+    }
+
+    /**
+     * Creates the range of every index of a list.
+     */
+    public static IndexRange all() {
+        return new IndexRange(Index.fromZeroBased(0), null);
+    }
+
+    /**
+     * Returns true if this range is a single index, which is then its first index.
+     */
+    public boolean isSingleIndex() {
+        return first.equals(last);
+    }
+
+    public Index getFirst() {
+        return first;
+    }
+
+    /**
+     * Returns true if every index of this range is within a list of {@code listSize} elements.
+     * The range of all indexes is within any list that is not empty.
+     */
+    public boolean isWithin(int listSize) {
+        int lastZeroBased = last == null ? first.getZeroBased() : last.getZeroBased();
+        return lastZeroBased < listSize;
+    }
+
+    /**
+     * Returns the elements of {@code list} at the indexes of this range, in order, which must all be within it.
+     * The elements are copied, so {@code list} may change afterwards without changing them.
+     */
+    public <T> List<T> getElementsOf(List<T> list) {
+        requireNonNull(list);
+        if (!isWithin(list.size())) {
+            throw new IndexOutOfBoundsException();
+        }
+        int end = last == null ? list.size() : last.getOneBased();
+        return new ArrayList<>(list.subList(first.getZeroBased(), end));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexRange // instanceof handles nulls
+                && first.equals(((IndexRange) other).first)
+                && Objects.equals(last, ((IndexRange) other).last)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first.getZeroBased(), last == null ? null : last.getZeroBased());
+    }
+
+    @Override
+    public String toString() {
+        if (last == null) {
+            return "all";
+        }
+        return isSingleIndex() ? String.valueOf(first.getOneBased()) : first.getOneBased() + "-" + last.getOneBased();
+    }
+}
@@ -0,0 +1,18 @@
+package tutorhelper.commons.events.logic;
+
+import tutorhelper.commons.events.BaseEvent;
+
+/** Indicates a command was entered and added to the command history, whether it succeeded or not. */
+public class CommandEnteredEvent extends BaseEvent {
+
+    public final String commandText;
+
+    public CommandEnteredEvent(String commandText) {
+        this.commandText = commandText;
+    }
+
+    @Override
+    public String toString() {
+        return commandText;
+    }
+}
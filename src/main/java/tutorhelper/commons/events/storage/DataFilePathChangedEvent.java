@@ -0,0 +1,23 @@
+package tutorhelper.commons.events.storage;
+
+import java.nio.file.Path;
+
+import tutorhelper.commons.events.BaseEvent;
+
+/**
+ * Indicates that the TutorHelper data is now saved to another file
+ */
+public class DataFilePathChangedEvent extends BaseEvent {
+
+    public final Path filePath;
+
+    public DataFilePathChangedEvent(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " to " + filePath;
+    }
+
+}
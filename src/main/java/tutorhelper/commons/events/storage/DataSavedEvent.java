@@ -0,0 +1,23 @@
+package tutorhelper.commons.events.storage;
+
+import java.nio.file.Path;
+
+import tutorhelper.commons.events.BaseEvent;
+
+/**
+ * Indicates that changes to the TutorHelper data have been written to the data file
+ */
+public class DataSavedEvent extends BaseEvent {
+
+    public final Path filePath;
+
+    public DataSavedEvent(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " to " + filePath;
+    }
+
+}
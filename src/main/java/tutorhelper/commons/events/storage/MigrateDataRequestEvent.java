@@ -0,0 +1,40 @@
+package tutorhelper.commons.events.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import tutorhelper.commons.events.BaseEvent;
+
+/**
+ * Indicates a request to save the TutorHelper data to another file, in the format for that file, and to keep
+ * it there from now on. The handler records on the event why the data could not be moved, if it could not, for
+ * the requester to read once the event is posted.
+ */
+public class MigrateDataRequestEvent extends BaseEvent {
+
+    public final Path filePath;
+
+    private IOException failure;
+
+    public MigrateDataRequestEvent(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setFailure(IOException failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * Returns why the data could not be moved, or an empty {@code Optional} if it was moved.
+     */
+    public Optional<IOException> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " to " + filePath;
+    }
+
+}
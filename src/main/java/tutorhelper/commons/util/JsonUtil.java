@@ -3,6 +3,7 @@ package tutorhelper.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -91,6 +95,31 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a generator that writes pretty-printed JSON to the specified stream, one token at a time.
+     * Closing the generator flushes it but leaves the stream open.
+     * @param out cannot be null
+     * @throws IOException if the generator cannot be created
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+
+        return objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Returns a parser that reads the JSON in the specified file one token at a time, without building a tree.
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened for reading
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
@@ -13,6 +14,8 @@ public class StringUtil {
 
     public static final int MINIMUM_LENGTH_TO_MATCH = 3;
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -59,7 +62,7 @@ public class StringUtil {
         requireNonNull(toSearch);
         String preppedToSearch = toSearch.trim();
         AppUtil.checkArgument(!preppedToSearch.isEmpty(), "Word parameter cannot be empty");
-        AppUtil.checkArgument(preppedToSearch.split("\\s+").length == 1,
+        AppUtil.checkArgument(!WHITESPACE.matcher(preppedToSearch).find(),
                 "Word parameter should be a single word");
         // Length of keyword must exceed minimum length
         if (preppedToSearch.length() < MINIMUM_LENGTH_TO_MATCH) {
@@ -3,19 +3,54 @@ package tutorhelper.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * Creating a {@code JAXBContext} is expensive, so one is created for each class on first use and then shared.
+ * Contexts are thread-safe; the marshallers and unmarshallers created from them are not, and are created per call.
  */
 public class XmlUtil {
 
+    private static final String INDENT = "    ";
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+
+    private static final ConcurrentMap<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * Handles the elements read by {@link #readElementsFromFile}, one at a time.
+     *
+     * @param <T> the type of the elements
+     * @param <E> the checked exception the handler may throw, which stops the reading
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T, E extends Exception> {
+        void handle(T element) throws E;
+    }
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,8 +72,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
         return ((T) um.unmarshal(file.toFile()));
     }
@@ -61,11 +95,307 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Reads the children of the root element of an xml file one at a time, without loading the whole file.
+     * Each child named {@code elementName} is converted to {@code elementClass} and given to {@code handler}
+     * before the next one is read; other children are skipped.
+     *
+     * @param file         Points to a valid xml file. Cannot be null.
+     * @param rootName     The expected name of the root element. Cannot be null.
+     * @param elementName  The name of the children to read. Cannot be null.
+     * @param elementClass The class corresponding to those children. Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if the file is empty or does not have the correct format.
+     * @throws E                     Thrown if {@code handler} throws it. The rest of the file is not read.
+     */
+    public static <T, E extends Exception> void readElementsFromFile(Path file, String rootName, String elementName,
+            Class<T> elementClass, ElementHandler<? super T, E> handler)
+            throws FileNotFoundException, JAXBException, E {
+
+        requireNonNull(file);
+        requireNonNull(rootName);
+        requireNonNull(elementName);
+        requireNonNull(elementClass);
+        requireNonNull(handler);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        Unmarshaller um = getContext(elementClass).createUnmarshaller();
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLStreamReader reader = createInputFactory().createXMLStreamReader(in);
+            try {
+                reader.nextTag();
+                if (!reader.getLocalName().equals(rootName)) {
+                    throw new JAXBException("Unexpected root element " + reader.getLocalName()
+                            + ", expected " + rootName);
+                }
+                reader.nextTag();
+                while (reader.isStartElement()) {
+                    if (reader.getLocalName().equals(elementName)) {
+                        // leaves the reader just after the end of the element
+                        handler.handle(um.unmarshal(reader, elementClass).getValue());
+                    } else {
+                        skipElement(reader);
+                    }
+                    toTag(reader);
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IOException e) {
+            throw new JAXBException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Saves {@code elements} in the file in xml format, as the children named {@code elementName} of a root
+     * element named {@code rootName}. Each element is converted and written before the next one is read,
+     * so {@code elements} may be a lazy view that is never held in memory as a whole.
+     *
+     * @param file Points to a valid xml file. Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if there is an error during converting the data
+     *                               into xml and writing to the file.
+     */
+    public static <T> void saveElementsToFile(Path file, String rootName, String elementName, Class<T> elementClass,
+            Iterable<? extends T> elements) throws FileNotFoundException, JAXBException {
+
+        requireNonNull(file);
+        requireNonNull(rootName);
+        requireNonNull(elementName);
+        requireNonNull(elementClass);
+        requireNonNull(elements);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        Marshaller m = getContext(elementClass).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        QName elementQName = new QName(elementName);
+
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(XML_DECLARATION);
+            out.write("<" + rootName + ">\n");
+            Writer elementWriter = new IndentingWriter(out);
+            for (T element : elements) {
+                m.marshal(new JAXBElement<>(elementQName, elementClass, element), elementWriter);
+                elementWriter.write('\n');
+            }
+            out.write("</" + rootName + ">\n");
+        } catch (IOException e) {
+            throw new JAXBException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns each of {@code elements} as an xml fragment named {@code elementName}, formatted and indented the
+     * way {@link #saveElementsToFile} writes the children of the root element, ending with a line break.
+     * Writing such fragments in order with {@link #saveFragmentsToFile} gives the same file as saving the
+     * elements themselves.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     */
+    public static <T> List<String> toXmlFragments(String elementName, Class<T> elementClass,
+            List<? extends T> elements) throws JAXBException {
+
+        requireNonNull(elementName);
+        requireNonNull(elementClass);
+        requireNonNull(elements);
+
+        Marshaller m = getContext(elementClass).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        QName elementQName = new QName(elementName);
+
+        List<String> fragments = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            StringWriter writer = new StringWriter();
+            try (Writer elementWriter = new IndentingWriter(writer)) {
+                m.marshal(new JAXBElement<>(elementQName, elementClass, element), elementWriter);
+                elementWriter.write('\n');
+            } catch (IOException e) {
+                throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+            }
+            fragments.add(writer.toString());
+        }
+        return fragments;
+    }
+
+    /**
+     * Saves {@code fragments}, as returned by {@link #toXmlFragments}, in the file in xml format, as the children
+     * of a root element named {@code rootName}.
+     *
+     * @param file Points to a valid xml file. Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if there is an error writing to the file.
+     */
+    public static void saveFragmentsToFile(Path file, String rootName, Iterable<String> fragments)
+            throws FileNotFoundException, JAXBException {
+
+        requireNonNull(file);
+        requireNonNull(rootName);
+        requireNonNull(fragments);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeFragments(out, rootName, fragments);
+        } catch (IOException e) {
+            throw new JAXBException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes {@code fragments}, as returned by {@link #toXmlFragments}, to {@code out} as a whole xml document,
+     * the same as {@link #saveFragmentsToFile} saves to a file.
+     *
+     * @throws IOException Thrown if there is an error writing to {@code out}.
+     */
+    public static void writeFragments(Writer out, String rootName, Iterable<String> fragments) throws IOException {
+        requireNonNull(out);
+        requireNonNull(rootName);
+        requireNonNull(fragments);
+
+        out.write(XML_DECLARATION);
+        out.write("<" + rootName + ">\n");
+        for (String fragment : fragments) {
+            out.write(fragment);
+        }
+        out.write("</" + rootName + ">\n");
+    }
+
+    /**
+     * Returns {@code data} as an xml fragment on a single line, without an xml declaration.
+     * {@code data}'s class must be annotated with {@code XmlRootElement}.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     */
+    public static String toXmlString(Object data) throws JAXBException {
+        requireNonNull(data);
+
+        Marshaller m = getContext(data.getClass()).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+
+        StringWriter writer = new StringWriter();
+        m.marshal(data, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Returns the xml data in {@code xml} as an object of the specified type.
+     *
+     * @throws JAXBException Thrown if {@code xml} is empty or does not have the correct format.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T fromXmlString(String xml, Class<T> classToConvert) throws JAXBException {
+        requireNonNull(xml);
+        requireNonNull(classToConvert);
+
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
+        return (T) um.unmarshal(new StringReader(xml));
+    }
+
+    /**
+     * Returns the shared context for {@code type}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            // two threads may both create a context here; only the first one stored is ever used
+            JAXBContext created = JAXBContext.newInstance(type);
+            context = contexts.putIfAbsent(type, created);
+            if (context == null) {
+                context = created;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Returns a factory for readers that do not resolve DTDs or external entities.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Moves {@code reader} past the element it is at the start of, including all its children.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        reader.next();
+    }
+
+    /**
+     * Moves {@code reader} to the next start or end tag, unless it is already at one, skipping whitespace.
+     */
+    private static void toTag(XMLStreamReader reader) throws XMLStreamException {
+        if (!reader.isStartElement() && !reader.isEndElement()) {
+            reader.nextTag();
+        }
+    }
+
+    /**
+     * Indents by one level every line written through it, so that the elements marshalled as children of the
+     * root element line up under it. Closing it leaves the underlying writer open.
+     */
+    private static class IndentingWriter extends Writer {
+        private final Writer out;
+        private boolean atLineStart = true;
+
+        IndentingWriter(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            int end = offset + length;
+            int lineStart = offset;
+            for (int i = offset; i < end; i++) {
+                if (atLineStart && buffer[i] != '\n') {
+                    out.write(INDENT);
+                }
+                atLineStart = buffer[i] == '\n';
+                if (atLineStart) {
+                    out.write(buffer, lineStart, i + 1 - lineStart);
+                    lineStart = i + 1;
+                }
+            }
+            out.write(buffer, lineStart, end - lineStart);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
 }
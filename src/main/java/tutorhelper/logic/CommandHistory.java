@@ -1,37 +1,95 @@
 package tutorhelper.logic;
 
 import static java.util.Objects.requireNonNull;
+import static tutorhelper.commons.util.AppUtil.checkArgument;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
- * Stores the history of commands executed.
+ * Stores the history of commands executed, up to a fixed number of the latest ones.
+ *
+ * The commands are appended to an array twice as long as the capacity. Once it is full, the latest commands are
+ * moved to a new array, so adding a command costs amortized O(1), and the oldest commands beyond the capacity
+ * are dropped. As no part of an array that holds a command is ever written again, a snapshot of the history is
+ * a view of the array, taken in O(1), that stays the same however many commands are added afterwards.
  */
 public class CommandHistory {
-    private LinkedList<String> userInputHistory;
+
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final int capacity;
+    private String[] entries;
+    /** The index in {@code entries} of the oldest command kept. */
+    private int start;
+    /** The index in {@code entries} after the latest command. */
+    private int end;
 
     public CommandHistory() {
-        userInputHistory = new LinkedList<>();
+        this(DEFAULT_CAPACITY);
     }
 
+    /**
+     * Creates an empty history that keeps the latest {@code capacity} commands.
+     */
+    public CommandHistory(int capacity) {
+        checkArgument(capacity > 0, "The capacity of a command history must be positive");
+        this.capacity = capacity;
+        entries = new String[2 * capacity];
+    }
+
+    /**
+     * Creates a copy of {@code commandHistory}, which changes independently of it.
+     */
     public CommandHistory(CommandHistory commandHistory) {
-        userInputHistory = new LinkedList<>(commandHistory.userInputHistory);
+        this(commandHistory.capacity);
+        end = commandHistory.size();
+        System.arraycopy(commandHistory.entries, commandHistory.start, entries, 0, end);
     }
 
     /**
-     * Appends {@code userInput} to the list of user input entered.
+     * Appends {@code userInput} to the list of user input entered, dropping the oldest input if there are
+     * more than the capacity of this history.
      */
     public void add(String userInput) {
         requireNonNull(userInput);
-        userInputHistory.add(userInput);
+        if (end == entries.length) {
+            String[] newEntries = new String[entries.length];
+            int kept = capacity - 1;
+            System.arraycopy(entries, end - kept, newEntries, 0, kept);
+            entries = newEntries;
+            start = 0;
+            end = kept;
+        }
+        entries[end++] = userInput;
+        if (end - start > capacity) {
+            start++;
+        }
     }
 
     /**
-     * Returns a defensive copy of {@code userInputHistory}.
+     * Returns a defensive copy of {@code userInputHistory}, from the earliest input to the latest.
      */
     public List<String> getHistory() {
-        return new LinkedList<>(userInputHistory);
+        return new ArrayList<>(getSnapshot());
+    }
+
+    /**
+     * Returns an unmodifiable view of the input entered so far, from the earliest to the latest, which does not
+     * change when input is added to this history later on.
+     */
+    public List<String> getSnapshot() {
+        return Collections.unmodifiableList(Arrays.asList(entries).subList(start, end));
+    }
+
+    public int size() {
+        return end - start;
+    }
+
+    public int getCapacity() {
+        return capacity;
     }
 
     @Override
@@ -48,11 +106,12 @@ public class CommandHistory {
 
         // state check
         CommandHistory other = (CommandHistory) obj;
-        return userInputHistory.equals(other.userInputHistory);
+        return capacity == other.capacity
+                && getSnapshot().equals(other.getSnapshot());
     }
 
     @Override
     public int hashCode() {
-        return userInputHistory.hashCode();
+        return getSnapshot().hashCode();
     }
 }
@@ -0,0 +1,112 @@
+package tutorhelper.logic;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.security.MessageDigest;
+
+import tutorhelper.logic.commands.CommandResult;
+import tutorhelper.logic.commands.exceptions.CommandException;
+import tutorhelper.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands read one per line from text streams, such as the standard input or a socket, and writes the
+ * result of each as one line, so that TutorHelper can be driven by scripts without its GUI.
+ *
+ * A result line is {@link #RESULT_SUCCESS} or {@link #RESULT_ERROR}, a tab, and the message that would be shown
+ * to the user, with its line breaks written as {@code \n} and its backslashes as {@code \\}. Several streams can
+ * be run at the same time; their commands are run one at a time. A stream from someone who may not be the user,
+ * such as a socket, can be made to start with a secret token, without which none of its commands are run.
+ */
+public class CommandLineDriver {
+
+    public static final String RESULT_SUCCESS = "OK";
+    public static final String RESULT_ERROR = "ERROR";
+    public static final String MESSAGE_INVALID_TOKEN = "Invalid token";
+
+    private final Logic logic;
+    private volatile boolean isStopped;
+
+    public CommandLineDriver(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Runs each line read from {@code in} as a command and writes its result line to {@code out}, until
+     * {@code in} ends or this driver is stopped. Blank lines are skipped. {@code out} is flushed whenever no
+     * more input is ready, so a client waiting for a result gets it without every result being flushed.
+     */
+    public void run(Reader in, Writer out) throws IOException {
+        runLines(new BufferedReader(in), out);
+    }
+
+    /**
+     * Runs the commands read from {@code in} as {@link #run(Reader, Writer)} does, if the first line read is
+     * {@code token}. Otherwise writes an error line to {@code out} and runs none of them.
+     */
+    public void run(Reader in, Writer out, String token) throws IOException {
+        requireNonNull(token);
+        BufferedReader reader = new BufferedReader(in);
+        String firstLine = reader.readLine();
+        // compared in constant time, so that the time taken does not give away how much of the token was right
+        if (firstLine == null || !MessageDigest.isEqual(firstLine.getBytes(UTF_8), token.getBytes(UTF_8))) {
+            out.write(RESULT_ERROR + "\t" + MESSAGE_INVALID_TOKEN + "\n");
+            out.flush();
+            return;
+        }
+        runLines(reader, out);
+    }
+
+    /**
+     * Runs each line read from {@code reader} as a command, as {@link #run(Reader, Writer)} says.
+     */
+    private void runLines(BufferedReader reader, Writer out) throws IOException {
+        String line;
+        while (!isStopped && (line = reader.readLine()) != null) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            out.write(execute(line));
+            out.write('\n');
+            if (isStopped || !reader.ready()) {
+                out.flush();
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Runs {@code commandText} as a command and returns its result line, without the line break.
+     */
+    public String execute(String commandText) {
+        try {
+            CommandResult result;
+            synchronized (logic) {
+                result = logic.execute(commandText);
+            }
+            return RESULT_SUCCESS + "\t" + escape(result.feedbackToUser);
+        } catch (CommandException | ParseException e) {
+            return RESULT_ERROR + "\t" + escape(e.getMessage());
+        }
+    }
+
+    /**
+     * Stops every stream being run once its current command is done.
+     */
+    public void stop() {
+        isStopped = true;
+    }
+
+    public boolean isStopped() {
+        return isStopped;
+    }
+
+    private static String escape(String message) {
+        return message.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
@@ -3,6 +3,7 @@ package tutorhelper.logic;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 /**
  * Has a cursor that points to an element in the list, and is able to iterate through the list.
@@ -13,7 +14,10 @@ import java.util.NoSuchElementException;
  * {@code next()} and {@code previous()}, the next and previous elements are returned respectively.
  */
 public class ListElementPointer {
-    private List<String> list;
+    /** The elements the pointer was constructed with, which never change. */
+    private final List<String> list;
+    /** The elements added to the end of {@code list} since. */
+    private final List<String> addedElements = new ArrayList<>();
     private int index;
 
     /**
@@ -21,15 +25,27 @@ public class ListElementPointer {
      * The cursor points to the last element in {@code list}.
      */
     public ListElementPointer(List<String> list) {
-        this.list = new ArrayList<>(list);
-        index = this.list.size() - 1;
+        this(new ArrayList<>(list), list.size() - 1);
+    }
+
+    private ListElementPointer(List<String> list, int index) {
+        this.list = list;
+        this.index = index;
+    }
+
+    /**
+     * Constructs {@code ListElementPointer} which is backed by {@code snapshot} itself, without copying it,
+     * so {@code snapshot} must never change. The cursor points to the last element in {@code snapshot}.
+     */
+    static ListElementPointer ofSnapshot(List<String> snapshot) {
+        return new ListElementPointer(snapshot, snapshot.size() - 1);
     }
 
     /**
      * Appends {@code element} to the end of the list.
      */
     public void add(String element) {
-        list.add(element);
+        addedElements.add(element);
     }
 
     /**
@@ -56,7 +72,15 @@ public class ListElementPointer {
     }
 
     private boolean isWithinBounds(int index) {
-        return index >= 0 && index < list.size();
+        return index >= 0 && index < size();
+    }
+
+    private int size() {
+        return list.size() + addedElements.size();
+    }
+
+    private String get(int index) {
+        return index < list.size() ? list.get(index) : addedElements.get(index - list.size());
     }
 
     /**
@@ -67,7 +91,7 @@ public class ListElementPointer {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return list.get(++index);
+        return get(++index);
     }
 
     /**
@@ -78,7 +102,7 @@ public class ListElementPointer {
         if (!hasPrevious()) {
             throw new NoSuchElementException();
         }
-        return list.get(--index);
+        return get(--index);
     }
 
     /**
@@ -89,7 +113,23 @@ public class ListElementPointer {
         if (!hasCurrent()) {
             throw new NoSuchElementException();
         }
-        return list.get(index);
+        return get(index);
+    }
+
+    /**
+     * Moves the cursor back to the latest element before it that contains {@code query}, and returns that
+     * element. Returns an empty {@code Optional} if there is no such element, in which case the cursor stays
+     * where it is.
+     */
+    public Optional<String> findPrevious(String query) {
+        for (int i = Math.min(index, size()) - 1; i >= 0; i--) {
+            String element = get(i);
+            if (element.contains(query)) {
+                index = i;
+                return Optional.of(element);
+            }
+        }
+        return Optional.empty();
     }
 
     @Override
@@ -106,6 +146,12 @@ public class ListElementPointer {
 
         // state check
         ListElementPointer iterator = (ListElementPointer) other;
-        return list.equals(iterator.list) && index == iterator.index;
+        return getElements().equals(iterator.getElements()) && index == iterator.index;
+    }
+
+    private List<String> getElements() {
+        List<String> elements = new ArrayList<>(list);
+        elements.addAll(addedElements);
+        return elements;
     }
 }
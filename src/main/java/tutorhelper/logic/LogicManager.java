@@ -5,6 +5,7 @@ import java.util.logging.Logger;
 import javafx.collections.ObservableList;
 import tutorhelper.commons.core.ComponentManager;
 import tutorhelper.commons.core.LogsCenter;
+import tutorhelper.commons.events.logic.CommandEnteredEvent;
 import tutorhelper.logic.commands.Command;
 import tutorhelper.logic.commands.CommandResult;
 import tutorhelper.logic.commands.exceptions.CommandException;
@@ -24,8 +25,12 @@ public class LogicManager extends ComponentManager implements Logic {
     private final TutorHelperParser tutorHelperParser;
 
     public LogicManager(Model model) {
+        this(model, new CommandHistory());
+    }
+
+    public LogicManager(Model model, CommandHistory history) {
         this.model = model;
-        history = new CommandHistory();
+        this.history = history;
         tutorHelperParser = new TutorHelperParser();
     }
 
@@ -37,6 +42,7 @@ public class LogicManager extends ComponentManager implements Logic {
             return command.execute(model, history);
         } finally {
             history.add(commandText);
+            raise(new CommandEnteredEvent(commandText));
         }
     }
 
@@ -47,6 +53,6 @@ public class LogicManager extends ComponentManager implements Logic {
 
     @Override
     public ListElementPointer getHistorySnapshot() {
-        return new ListElementPointer(history.getHistory());
+        return ListElementPointer.ofSnapshot(history.getSnapshot());
     }
 }
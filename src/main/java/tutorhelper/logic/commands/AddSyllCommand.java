@@ -2,7 +2,8 @@ package tutorhelper.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
-import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_SUBJECT_INDEX;
+import static tutorhelper.commons.core.Messages.MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS;
+import static tutorhelper.commons.util.AppUtil.checkArgument;
 import static tutorhelper.logic.parser.CliSyntax.PREFIX_SYLLABUS;
 import static tutorhelper.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import static tutorhelper.model.util.SubjectsUtil.createStudentWithNewSubjects;
@@ -14,6 +15,7 @@ import java.util.List;
 import java.util.Set;
 
 import tutorhelper.commons.core.index.Index;
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.logic.commands.exceptions.CommandException;
 import tutorhelper.model.Model;
@@ -22,7 +24,8 @@ import tutorhelper.model.subject.Subject;
 import tutorhelper.model.subject.Syllabus;
 
 /**
- * Adds a syllabus topic to a subject for a student in the TutorHelper.
+ * Adds a syllabus topic to a subject for a student, or for every student in a range, in the TutorHelper.
+ * The subject of every student in a range is the one of the same type.
  */
 public class AddSyllCommand extends Command {
 
@@ -31,25 +34,38 @@ public class AddSyllCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Adds a syllabus topic to a subject for a student in the TutorHelper.\n"
             + "Parameters: "
-            + "STUDENT_INDEX (must be a positive integer) "
-            + "SUBJECT_INDEX (must be a positive integer) "
+            + "STUDENT_INDEX (must be a positive integer, FIRST_INDEX-LAST_INDEX or all) "
+            + "SUBJECT_INDEX (must be a positive integer) or SUBJECT_NAME (needed for more than one student) "
             + PREFIX_SYLLABUS + "SYLLABUS, [MORE SYLLABUSES]...\n"
-            + "Example: " + COMMAND_WORD + " 1 1 " + PREFIX_SYLLABUS + "Integration";
+            + "Example: " + COMMAND_WORD + " 1 1 " + PREFIX_SYLLABUS + "Integration\n"
+            + "Example: " + COMMAND_WORD + " all Mathematics " + PREFIX_SYLLABUS + "Algebra";
 
     public static final String MESSAGE_ADDSYLL_SUCCESS = "Added syllabus to Student: %1$s";
+    public static final String MESSAGE_ADDSYLL_STUDENTS_SUCCESS = "Added syllabus to %1$d students";
     public static final String MESSAGE_DUPLICATE_SYLLABUS_IN_STUDENT = "Syllabus is already in Student: %1$s";
     public static final String MESSAGE_DUPLICATE_SYLLABUS_IN_ARGUMENT = "Duplicate syllabuses are not allowed";
 
-    private final Index studentIndex;
-    private final Index subjectIndex;
+    private final IndexRange studentRange;
+    private final SubjectTarget subjectTarget;
     private final List<Syllabus> syllabuses;
 
     public AddSyllCommand(Index studentIndex, Index subjectIndex, List<Syllabus> syllabuses) {
-        requireNonNull(studentIndex);
-        requireNonNull(subjectIndex);
+        this(IndexRange.of(studentIndex), SubjectTarget.of(subjectIndex), syllabuses);
+    }
+
+    /**
+     * Creates an AddSyllCommand to add {@code syllabuses} to the subject {@code subjectTarget} of every
+     * student in the {@code studentRange}. The subject must be given by its type unless the range is a single
+     * student.
+     */
+    public AddSyllCommand(IndexRange studentRange, SubjectTarget subjectTarget, List<Syllabus> syllabuses) {
+        requireNonNull(studentRange);
+        requireNonNull(subjectTarget);
         requireNonNull(syllabuses);
-        this.studentIndex = studentIndex;
-        this.subjectIndex = subjectIndex;
+        checkArgument(studentRange.isSingleIndex() || !subjectTarget.isIndex(),
+                MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS);
+        this.studentRange = studentRange;
+        this.subjectTarget = subjectTarget;
         this.syllabuses = syllabuses;
     }
 
@@ -58,18 +74,16 @@ public class AddSyllCommand extends Command {
         requireNonNull(model);
         List<Student> lastShownList = model.getFilteredStudentList();
 
-        if (studentIndex.getZeroBased() >= lastShownList.size()) {
+        if (!studentRange.isWithin(lastShownList.size())) {
             throw new CommandException(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
         }
 
-        Student studentTarget = lastShownList.get(studentIndex.getZeroBased());
-
-        if (subjectIndex.getZeroBased() >= studentTarget.getSubjects().size()) {
-            throw new CommandException(MESSAGE_INVALID_SUBJECT_INDEX);
+        if (!studentRange.isSingleIndex()) {
+            return executeOnRange(model, lastShownList);
         }
 
-        Set<Subject> addedSubjectContent = addSubjectContentTo(studentTarget, subjectIndex, syllabuses);
-        Student studentSubjUpdated = createStudentWithNewSubjects(studentTarget, addedSubjectContent);
+        Student studentTarget = lastShownList.get(studentRange.getFirst().getZeroBased());
+        Student studentSubjUpdated = createStudentWithSyllabuses(studentTarget);
 
         model.updateStudentInternalField(studentTarget, studentSubjUpdated);
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
@@ -77,6 +91,33 @@ public class AddSyllCommand extends Command {
         return new CommandResult(String.format(MESSAGE_ADDSYLL_SUCCESS, studentSubjUpdated));
     }
 
+    /**
+     * Adds the syllabuses to every student of {@code lastShownList} in the student range, as a single change.
+     * No student is changed if the syllabuses cannot be added to any of them.
+     */
+    private CommandResult executeOnRange(Model model, List<Student> lastShownList) throws CommandException {
+        List<Student> studentTargets = studentRange.getElementsOf(lastShownList);
+        List<Student> studentsSubjUpdated = new ArrayList<>(studentTargets.size());
+        for (Student studentTarget : studentTargets) {
+            studentsSubjUpdated.add(createStudentWithSyllabuses(studentTarget));
+        }
+
+        model.updateStudents(studentTargets, studentsSubjUpdated);
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        model.commitTutorHelper();
+        return new CommandResult(String.format(MESSAGE_ADDSYLL_STUDENTS_SUCCESS, studentsSubjUpdated.size()));
+    }
+
+    /**
+     * Returns a copy of {@code studentTarget} with the syllabuses added to its target subject.
+     * @throws CommandException if the student has no such subject, or already has any of the syllabuses.
+     */
+    private Student createStudentWithSyllabuses(Student studentTarget) throws CommandException {
+        Index subjectIndex = subjectTarget.getIndexIn(studentTarget);
+        Set<Subject> addedSubjectContent = addSubjectContentTo(studentTarget, subjectIndex, syllabuses);
+        return createStudentWithNewSubjects(studentTarget, addedSubjectContent);
+    }
+
     /**
      * Add syllabus to the student.
      * @param studentTarget The student to add to.
@@ -117,7 +158,8 @@ public class AddSyllCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddSyllCommand // instanceof handles nulls
-                && studentIndex.equals(((AddSyllCommand) other).studentIndex))
-                && syllabuses.equals(((AddSyllCommand) other).syllabuses); // state check
+                && studentRange.equals(((AddSyllCommand) other).studentRange)
+                && subjectTarget.equals(((AddSyllCommand) other).subjectTarget)
+                && syllabuses.equals(((AddSyllCommand) other).syllabuses)); // state check
     }
 }
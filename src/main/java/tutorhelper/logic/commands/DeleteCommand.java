@@ -6,32 +6,45 @@ import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYE
 import java.util.List;
 
 import tutorhelper.commons.core.index.Index;
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.logic.commands.exceptions.CommandException;
 import tutorhelper.model.Model;
 import tutorhelper.model.student.Student;
 
 /**
- * Deletes a student identified using it's displayed index from the TutorHelper.
+ * Deletes a student identified using it's displayed index from the TutorHelper,
+ * or every student in a range of displayed indexes.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the student identified by the index number used in the displayed student list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the student identified by the index number used in the displayed student list, "
+            + "or every student in a range of them.\n"
+            + "Parameters: INDEX (must be a positive integer), FIRST_INDEX-LAST_INDEX or all\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " 3-40";
 
     public static final String MESSAGE_DELETE_STUDENT_SUCCESS = "Deleted Student: %1$s";
+    public static final String MESSAGE_DELETE_STUDENTS_SUCCESS = "Deleted %1$d students";
 
-    private final Index targetIndex;
+    private final IndexRange targetRange;
 
     /**
      * Creates a DeleteCommand to delete the student at the {@code targetIndex}.
      */
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(IndexRange.of(targetIndex));
+    }
+
+    /**
+     * Creates a DeleteCommand to delete the students in the {@code targetRange}.
+     */
+    public DeleteCommand(IndexRange targetRange) {
+        requireNonNull(targetRange);
+        this.targetRange = targetRange;
     }
 
     @Override
@@ -39,20 +52,27 @@ public class DeleteCommand extends Command {
         requireNonNull(model);
         List<Student> lastShownList = model.getFilteredStudentList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+        if (!targetRange.isWithin(lastShownList.size())) {
             throw new CommandException(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
         }
 
-        Student studentToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteStudent(studentToDelete);
+        if (targetRange.isSingleIndex()) {
+            Student studentToDelete = lastShownList.get(targetRange.getFirst().getZeroBased());
+            model.deleteStudent(studentToDelete);
+            model.commitTutorHelper();
+            return new CommandResult(String.format(MESSAGE_DELETE_STUDENT_SUCCESS, studentToDelete));
+        }
+
+        List<Student> studentsToDelete = targetRange.getElementsOf(lastShownList);
+        model.deleteStudents(studentsToDelete);
         model.commitTutorHelper();
-        return new CommandResult(String.format(MESSAGE_DELETE_STUDENT_SUCCESS, studentToDelete));
+        return new CommandResult(String.format(MESSAGE_DELETE_STUDENTS_SUCCESS, studentsToDelete.size()));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteCommand) other).targetIndex)); // state check
+                && targetRange.equals(((DeleteCommand) other).targetRange)); // state check
     }
 }
@@ -1,50 +1,47 @@
 package tutorhelper.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorhelper.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.List;
+import java.time.YearMonth;
 
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.model.Model;
-import tutorhelper.model.student.Payment;
-import tutorhelper.model.student.Student;
 
 /**
- * Displays earning of the month, year.
+ * Displays earning of the month, year, or of a range of months.
  */
 public class EarningsCommand extends Command {
     public static final String COMMAND_WORD = "earnings";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Shows earnings of the month\n"
+            + ": Shows earnings of the month, or of every month from the first to the second month given\n"
             + "Parameters: "
             + "MONTH (must be an integer from 1 to 12, inclusive) "
-            + "YEAR (must be a 4-digit integer) \n"
-            + "Example: " + COMMAND_WORD + " 08 2018 ";
+            + "YEAR (must be a 4-digit integer) "
+            + "[MONTH YEAR]\n"
+            + "Example: " + COMMAND_WORD + " 08 2018\n"
+            + "Example: " + COMMAND_WORD + " 01 2018 12 2018 ";
 
-    private int month;
-    private int year;
-    private long earnings = 0;
+    public static final String MESSAGE_INVALID_RANGE = "The first month must not be after the second month.";
+
+    private final YearMonth from;
+    private final YearMonth to;
 
     public EarningsCommand(int month, int year) {
-        this.month = month;
-        this.year = year;
+        this(YearMonth.of(year, month), YearMonth.of(year, month));
+    }
+
+    public EarningsCommand(YearMonth from, YearMonth to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        List<Student> lastShownList = model.getFilteredStudentList();
-
-        for (int i = 0; i < lastShownList.size(); i++) {
-            List<Payment> studentPaymentsList = lastShownList.get(i).getPayments();
-            for (int j = 0; j < studentPaymentsList.size(); j++) {
-                Payment thisPayment = studentPaymentsList.get(j);
-                if (thisPayment.getMonth() == this.month && thisPayment.getYear() == this.year) {
-                    this.earnings += (thisPayment.getAmount());
-                }
-            }
-        }
+        long earnings = model.getEarnings(from, to);
         return new CommandResult("Earnings: $" + String.valueOf(earnings));
     }
 
@@ -62,7 +59,7 @@ public class EarningsCommand extends Command {
 
         // state check
         EarningsCommand e = (EarningsCommand) other;
-        return month == e.month
-                && year == e.year;
+        return from.equals(e.from)
+                && to.equals(e.to);
     }
 }
@@ -27,6 +27,7 @@ import tutorhelper.model.student.Address;
 import tutorhelper.model.student.Email;
 import tutorhelper.model.student.Name;
 import tutorhelper.model.student.Payment;
+import tutorhelper.model.student.PaymentHistory;
 import tutorhelper.model.student.Phone;
 import tutorhelper.model.student.Student;
 import tutorhelper.model.subject.Subject;
@@ -111,7 +112,7 @@ public class EditCommand extends Command {
         TuitionTiming updatedTuitionTiming = editStudentDescriptor.getTuitionTiming()
                 .orElse(studentToEdit.getTuitionTiming());
         Set<Tag> updatedTags = editStudentDescriptor.getTags().orElse(studentToEdit.getTags());
-        List<Payment> updatedPayments = studentToEdit.getPayments();
+        PaymentHistory updatedPayments = studentToEdit.getPaymentHistory();
 
         return new Student(updatedName, updatedPhone, updatedEmail,
                 updatedAddress, updatedSubject, updatedTuitionTiming, updatedTags, updatedPayments);
@@ -10,6 +10,7 @@ import tutorhelper.model.student.NameContainsKeywordsPredicate;
 /**
  * Finds and lists all students in TutorHelper whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * The students are looked up in the name index of the model, so only the matching students are visited.
  */
 public class FindCommand extends Command {
 
@@ -17,8 +18,11 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Words joined with " + NameContainsKeywordsPredicate.ALL_OF_SEPARATOR + " must all be in the name, "
+            + "and a word ending with * matches any word that starts with it.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " alice+tan char*";
 
     private final NameContainsKeywordsPredicate predicate;
 
@@ -29,7 +33,7 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredStudentList(predicate);
+        model.showStudentsWithName(predicate);
         return new CommandResult(
                 String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
     }
@@ -3,12 +3,18 @@ package tutorhelper.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static tutorhelper.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
 
+import java.time.DayOfWeek;
+import java.util.Optional;
+import java.util.OptionalInt;
+
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.model.Model;
 import tutorhelper.model.tuitiontiming.TuitionTimingContainsKeywordsPredicate;
 
 /**
- * Groups the students in TutorHelper based on their tuition timings and sorts the list accordingly.
+ * Groups the students in TutorHelper based on their tuition timings and lists them in order of their tuition.
+ * The students are looked up in the tuition timing index of the model, so only the students in the group are
+ * visited, and the TutorHelper itself is left as it is.
  */
 public class GroupCommand extends Command {
     public static final String COMMAND_WORD = "group";
@@ -34,15 +40,16 @@ public class GroupCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredStudentList(predicate);
+        Optional<DayOfWeek> day = predicate.getDay();
+        OptionalInt minuteOfDay = predicate.getMinuteOfDay();
 
-        if (this.isDay) {
+        if (this.isDay && day.isPresent()) {
             assert !this.isTime;
-            model.sortByTime();
-            model.commitTutorHelper();
-        } else if (this.isTime) {
-            model.sortByDay();
-            model.commitTutorHelper();
+            model.showStudentsWithTuitionOn(day.get());
+        } else if (this.isTime && minuteOfDay.isPresent()) {
+            model.showStudentsWithTuitionAt(minuteOfDay.getAsInt());
+        } else {
+            model.updateFilteredStudentList(predicate);
         }
 
         return new CommandResult(
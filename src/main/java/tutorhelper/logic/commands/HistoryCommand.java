@@ -7,6 +7,7 @@ import java.util.List;
 
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.model.Model;
+import tutorhelper.model.util.MemoryUsageUtil;
 
 /**
  * Lists all the commands entered by user from the start of app launch.
@@ -16,6 +17,7 @@ public class HistoryCommand extends Command {
     public static final String COMMAND_WORD = "history";
     public static final String MESSAGE_SUCCESS = "Entered commands (from most recent to earliest):\n%1$s";
     public static final String MESSAGE_NO_HISTORY = "You have not yet entered any commands.";
+    public static final String MESSAGE_UNDO_HISTORY_USAGE = "\n\nUndo history: %1$s in memory, %2$s on disk";
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
@@ -23,11 +25,22 @@ public class HistoryCommand extends Command {
         List<String> previousCommands = history.getHistory();
 
         if (previousCommands.isEmpty()) {
-            return new CommandResult(MESSAGE_NO_HISTORY);
+            return new CommandResult(MESSAGE_NO_HISTORY + getUndoHistoryUsage(model));
         }
 
         Collections.reverse(previousCommands);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands))
+                + getUndoHistoryUsage(model));
+    }
+
+    /**
+     * Returns a line describing how much memory and disk space the undo history of {@code model} takes up.
+     */
+    public static String getUndoHistoryUsage(Model model) {
+        requireNonNull(model);
+        return String.format(MESSAGE_UNDO_HISTORY_USAGE,
+                MemoryUsageUtil.toReadableSize(model.getUndoHistoryBytesInMemory()),
+                MemoryUsageUtil.toReadableSize(model.getUndoHistoryBytesOnDisk()));
     }
 
 }
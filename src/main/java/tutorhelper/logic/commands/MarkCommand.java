@@ -2,17 +2,21 @@ package tutorhelper.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
-import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_SUBJECT_INDEX;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_SYLLABUS_INDEX;
+import static tutorhelper.commons.core.Messages.MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS;
+import static tutorhelper.commons.core.Messages.MESSAGE_SYLLABUS_NOT_FOUND;
+import static tutorhelper.commons.util.AppUtil.checkArgument;
 import static tutorhelper.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import static tutorhelper.model.util.SubjectsUtil.createStudentWithNewSubjects;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import tutorhelper.commons.core.index.Index;
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.logic.commands.exceptions.CommandException;
 import tutorhelper.model.Model;
@@ -20,7 +24,8 @@ import tutorhelper.model.student.Student;
 import tutorhelper.model.subject.Subject;
 
 /**
- * Toggles the marked state of a syllabus topic of a subject of a student.
+ * Toggles the marked state of a syllabus topic of a subject of a student, or of every student in a range.
+ * The subject of every student in a range is the one of the same type.
  */
 public class MarkCommand extends Command {
 
@@ -29,20 +34,33 @@ public class MarkCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Toggles the marked state of a syllabus topic of a subject of a student. \n"
             + "Parameters: "
-            + "STUDENT_INDEX (must be a positive integer) "
-            + "SUBJECT_INDEX (must be a positive integer) "
+            + "STUDENT_INDEX (must be a positive integer, FIRST_INDEX-LAST_INDEX or all) "
+            + "SUBJECT_INDEX (must be a positive integer) or SUBJECT_NAME (needed for more than one student) "
             + "SYLLABUS_INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1 1 2";
+            + "Example: " + COMMAND_WORD + " 1 1 2\n"
+            + "Example: " + COMMAND_WORD + " 1-5 Mathematics 3";
 
     public static final String MESSAGE_MARK_SUCCESS = "Changed selected syllabus from Student: %1$s";
+    public static final String MESSAGE_MARK_STUDENTS_SUCCESS = "Changed selected syllabus from %1$d students";
 
-    private final Index studentIndex;
-    private final Index subjectIndex;
+    private final IndexRange studentRange;
+    private final SubjectTarget subjectTarget;
     private final Index syllabusIndex;
 
     public MarkCommand(Index studentIndex, Index subjectIndex, Index syllabusIndex) {
-        this.studentIndex = studentIndex;
-        this.subjectIndex = subjectIndex;
+        this(IndexRange.of(studentIndex), SubjectTarget.of(subjectIndex), syllabusIndex);
+    }
+
+    /**
+     * Creates a MarkCommand to toggle the syllabus at {@code syllabusIndex} of the subject {@code subjectTarget}
+     * of every student in the {@code studentRange}. The subject must be given by its type unless the range is a
+     * single student.
+     */
+    public MarkCommand(IndexRange studentRange, SubjectTarget subjectTarget, Index syllabusIndex) {
+        checkArgument(studentRange.isSingleIndex() || !subjectTarget.isIndex(),
+                MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS);
+        this.studentRange = studentRange;
+        this.subjectTarget = subjectTarget;
         this.syllabusIndex = syllabusIndex;
     }
 
@@ -51,12 +69,16 @@ public class MarkCommand extends Command {
         requireNonNull(model);
         List<Student> lastShownList = model.getFilteredStudentList();
 
-        if (studentIndex.getZeroBased() >= lastShownList.size()) {
+        if (!studentRange.isWithin(lastShownList.size())) {
             throw new CommandException(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX,
                     new CommandException(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX));
         }
 
-        Student studentTarget = lastShownList.get(studentIndex.getZeroBased());
+        if (!studentRange.isSingleIndex()) {
+            return executeOnRange(model, lastShownList);
+        }
+
+        Student studentTarget = lastShownList.get(studentRange.getFirst().getZeroBased());
 
         Set<Subject> updatedSubjectContent = markSubjectContentFrom(studentTarget);
         Student studentSubjUpdated = createStudentWithNewSubjects(studentTarget, updatedSubjectContent);
@@ -67,22 +89,42 @@ public class MarkCommand extends Command {
         return new CommandResult(String.format(MESSAGE_MARK_SUCCESS, studentSubjUpdated));
     }
 
+    /**
+     * Toggles the syllabus of every student of {@code lastShownList} in the student range, as a single change.
+     * No student is changed if the syllabus cannot be toggled for any of them, and the error names the first
+     * student it cannot be toggled for.
+     */
+    private CommandResult executeOnRange(Model model, List<Student> lastShownList) throws CommandException {
+        List<Student> studentTargets = studentRange.getElementsOf(lastShownList);
+        List<Student> studentsSubjUpdated = new ArrayList<>(studentTargets.size());
+        for (Student studentTarget : studentTargets) {
+            studentsSubjUpdated.add(createStudentWithNewSubjects(studentTarget, markSubjectContentFrom(studentTarget)));
+        }
+
+        model.updateStudents(studentTargets, studentsSubjUpdated);
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        model.commitTutorHelper();
+        return new CommandResult(String.format(MESSAGE_MARK_STUDENTS_SUCCESS, studentsSubjUpdated.size()));
+    }
+
     /**
      * Returns a new {@code Set<Subject>} with the syllabus state changed from the student specified
      * @param studentTarget the student to change syllabus from
      * @return a new {@code Set<Subject>} with the specified syllabus state changed
-     * @throws CommandException if the index to remove from is invalid
+     * @throws CommandException if the index to remove from is invalid. For a range of students, the message
+     *     names the student.
      */
     private Set<Subject> markSubjectContentFrom(Student studentTarget)
         throws CommandException {
+        Index subjectIndex = subjectTarget.getIndexIn(studentTarget);
         List<Subject> subjects = studentTarget.getSubjects().stream().collect(Collectors.toList());
+        Subject subject = subjects.get(subjectIndex.getZeroBased());
 
-        if (hasExceededNumberOfSubjects(subjects)) {
-            throw new CommandException(MESSAGE_INVALID_SUBJECT_INDEX);
-        }
-
-        if (hasExceededNumberOfSyllabus(subjects.get(subjectIndex.getZeroBased()))) {
-            throw new CommandException(MESSAGE_INVALID_SYLLABUS_INDEX);
+        if (hasExceededNumberOfSyllabus(subject)) {
+            throw new CommandException(studentRange.isSingleIndex()
+                    ? MESSAGE_INVALID_SYLLABUS_INDEX
+                    : String.format(MESSAGE_SYLLABUS_NOT_FOUND, studentTarget.getName(),
+                            syllabusIndex.getOneBased(), subject.getSubjectName()));
         }
 
         Subject updatedSubject = subjects.get(subjectIndex.getZeroBased()).toggleState(syllabusIndex);
@@ -90,10 +132,6 @@ public class MarkCommand extends Command {
         return new HashSet<>(subjects);
     }
 
-    private boolean hasExceededNumberOfSubjects(List<Subject> subjects) {
-        return subjectIndex.getOneBased() > subjects.size();
-    }
-
     private boolean hasExceededNumberOfSyllabus(Subject subject) {
         return syllabusIndex.getOneBased() > subject.getSubjectContent().size();
     }
@@ -102,8 +140,8 @@ public class MarkCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof MarkCommand // instanceof handles nulls
-                && studentIndex.equals(((MarkCommand) other).studentIndex))
-                && subjectIndex.equals(((MarkCommand) other).subjectIndex)
-                && syllabusIndex.equals(((MarkCommand) other).syllabusIndex); // state check
+                && studentRange.equals(((MarkCommand) other).studentRange)
+                && subjectTarget.equals(((MarkCommand) other).subjectTarget)
+                && syllabusIndex.equals(((MarkCommand) other).syllabusIndex)); // state check
     }
 }
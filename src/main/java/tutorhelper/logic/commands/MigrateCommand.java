@@ -0,0 +1,61 @@
+package tutorhelper.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import tutorhelper.commons.core.EventsCenter;
+import tutorhelper.commons.events.storage.MigrateDataRequestEvent;
+import tutorhelper.logic.CommandHistory;
+import tutorhelper.logic.commands.exceptions.CommandException;
+import tutorhelper.model.Model;
+
+/**
+ * Moves the TutorHelper data to another file, converting it to the format for that file.
+ */
+public class MigrateCommand extends Command {
+
+    public static final String COMMAND_WORD = "migrate";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Moves the data to the file given, which is used from now on. "
+            + "A file ending in .json is saved as JSON, and any other in the current storage format. "
+            + "The file must not exist yet, as it is never overwritten.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/tutorhelper.json";
+
+    public static final String MESSAGE_SUCCESS = "Moved data to %1$s";
+    public static final String MESSAGE_MIGRATE_FAILED = "Could not move data to %1$s: %2$s";
+    public static final String MESSAGE_FILE_EXISTS = "%1$s already exists. "
+            + "Move the data to a new file, so that the existing one is not overwritten.";
+
+    private final Path filePath;
+
+    public MigrateCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (Files.exists(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_EXISTS, filePath));
+        }
+        MigrateDataRequestEvent request = new MigrateDataRequestEvent(filePath);
+        EventsCenter.getInstance().post(request);
+        if (request.getFailure().isPresent()) {
+            throw new CommandException(String.format(MESSAGE_MIGRATE_FAILED, filePath,
+                    request.getFailure().get().getMessage()));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MigrateCommand // instanceof handles nulls
+                && filePath.equals(((MigrateCommand) other).filePath)); // state check
+    }
+}
@@ -7,24 +7,25 @@ import static tutorhelper.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import java.util.ArrayList;
 import java.util.List;
 
-import tutorhelper.commons.core.index.Index;
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.logic.commands.exceptions.CommandException;
 import tutorhelper.model.Model;
 import tutorhelper.model.student.Payment;
+import tutorhelper.model.student.PaymentHistory;
 import tutorhelper.model.student.Student;
 
 
 /**
- * Adds a payment record of a student.
+ * Adds a payment record of a student, or of every student in a range of displayed indexes.
  */
 public class PayCommand extends Command {
     public static final String COMMAND_WORD = "paid";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Adds a payment record of a student.\n"
+            + ": Adds a payment record of a student, or of every student in a range of them.\n"
             + "Parameters: "
-            + "INDEX (must be a positive integer) "
+            + "INDEX (must be a positive integer), FIRST_INDEX-LAST_INDEX or all "
             + "AMOUNT (must be a positive integer between 0 to 10 000) "
             + "MONTH (must be an integer from 1 to 12, inclusive) "
             + "YEAR (must be a 4-digit integer)\n"
@@ -32,46 +33,41 @@ public class PayCommand extends Command {
 
     public static final String MESSAGE_PAYMENT_SUCCESS = "Payment for this student is added: %1$s";
     public static final String MESSAGE_EDIT_PAYMENT_SUCCESS = "Payment for this student has been edited: %1$s";
+    public static final String MESSAGE_PAYMENTS_SUCCESS = "Payment is added for %1$d students: %2$s";
 
-    private static final int MIN_VALUE = -1;
-    private static final int MAX_PAYMENTS_DISPLAYED = 5;
-
-    private Index targetIndex;
-    private Payment newPayment;
+    private final IndexRange targetRange;
+    private final Payment newPayment;
 
     public PayCommand(Payment payment) {
-        this.targetIndex = payment.getIndex();
+        this(IndexRange.of(payment.getIndex()), payment);
+    }
+
+    /**
+     * Creates a PayCommand to add {@code payment} to every student in the {@code targetRange}.
+     */
+    public PayCommand(IndexRange targetRange, Payment payment) {
+        requireNonNull(targetRange);
+        requireNonNull(payment);
+        this.targetRange = targetRange;
         this.newPayment = payment;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
-        boolean editEntry;
         requireNonNull(model);
         List<Student> lastShownList = model.getFilteredStudentList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size() || targetIndex.getZeroBased() <= MIN_VALUE) {
+        if (!targetRange.isWithin(lastShownList.size())) {
             throw new CommandException(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
         }
 
-        Student studentTarget = lastShownList.get(targetIndex.getZeroBased());
-
-        List<Payment> pay = studentTarget.getPayments();
-
-        editEntry = findPaymentToUpdate(pay, newPayment);
-
-        if (!editEntry) {
-            if (pay.size() >= MAX_PAYMENTS_DISPLAYED) {
-                pay.remove(0);
-            }
-            pay = updatePayment(studentTarget.getPayments(), newPayment);
-        } else {
-            pay = editPaymentField(pay, newPayment);
+        if (!targetRange.isSingleIndex()) {
+            return executeOnRange(model, lastShownList);
         }
 
-        Student studentToPay = new Student(studentTarget.getName(), studentTarget.getPhone(),
-                studentTarget.getEmail(), studentTarget.getAddress(), studentTarget.getSubjects(),
-                studentTarget.getTuitionTiming(), studentTarget.getTags(), pay);
+        Student studentTarget = lastShownList.get(targetRange.getFirst().getZeroBased());
+        boolean editEntry = studentTarget.getPaymentHistory().contains(newPayment.getMonth(), newPayment.getYear());
+        Student studentToPay = createPaidStudent(studentTarget);
 
         if (editEntry) {
             model.updateStudentInternalField(studentTarget, studentToPay);
@@ -87,44 +83,30 @@ public class PayCommand extends Command {
     }
 
     /**
-     * Update payment for this student and returns a new instance of this student.
-     * @return the same student but updated with payment.
-     */
-    public List<Payment> updatePayment(List<Payment> oldPayments, Payment newPayment) {
-        List<Payment> updatedPayment = new ArrayList<>(oldPayments);
-        updatedPayment.add(newPayment);
-        return updatedPayment;
-    }
-
-    /**
-     * Checks if student to edit has the payment field.
-     * @param payments the list of payment to check for entry with same details.
-     * @param toFind the payment entry to edit.
-     * @return true if payment field has already existed; false otherwise.
+     * Adds the payment to every student of {@code lastShownList} in the target range, as a single change.
      */
-    private boolean findPaymentToUpdate(List<Payment> payments, Payment toFind) {
-        for (int i = 0; i < payments.size(); i++) {
-            if (payments.get(i).getMonth() == toFind.getMonth() && payments.get(i).getYear() == toFind.getYear()) {
-                return true;
-            }
+    private CommandResult executeOnRange(Model model, List<Student> lastShownList) {
+        List<Student> studentTargets = targetRange.getElementsOf(lastShownList);
+        List<Student> studentsToPay = new ArrayList<>(studentTargets.size());
+        for (Student studentTarget : studentTargets) {
+            studentsToPay.add(createPaidStudent(studentTarget));
         }
-        return false;
+
+        model.updateStudents(studentTargets, studentsToPay);
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        model.commitTutorHelper();
+        return new CommandResult(String.format(MESSAGE_PAYMENTS_SUCCESS, studentsToPay.size(),
+                newPayment.toString().trim()));
     }
 
     /**
-     * Updates payment field in list of payments.
-     * @param payments the list of payment to check for entry with same details.
-     * @param toEdit the payment entry to edit.
-     * @return the edited list of payments.
+     * Returns a copy of {@code studentTarget} with the payment added, replacing any payment for the same month.
      */
-    private List<Payment> editPaymentField(List<Payment> payments, Payment toEdit) {
-        for (int i = 0; i < payments.size(); i++) {
-            if (payments.get(i).getMonth() == toEdit.getMonth() && payments.get(i).getYear() == toEdit.getYear()) {
-                payments.set(i, toEdit);
-                break;
-            }
-        }
-        return payments;
+    private Student createPaidStudent(Student studentTarget) {
+        PaymentHistory payments = studentTarget.getPaymentHistory();
+        return new Student(studentTarget.getName(), studentTarget.getPhone(),
+                studentTarget.getEmail(), studentTarget.getAddress(), studentTarget.getSubjects(),
+                studentTarget.getTuitionTiming(), studentTarget.getTags(), payments.with(newPayment));
     }
 
     @Override
@@ -141,7 +123,7 @@ public class PayCommand extends Command {
 
         // state check
         PayCommand e = (PayCommand) other;
-        return targetIndex.equals(e.targetIndex)
+        return targetRange.equals(e.targetRange)
                 && newPayment.equals(e.newPayment);
     }
 }
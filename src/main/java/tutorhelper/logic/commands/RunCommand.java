@@ -0,0 +1,72 @@
+package tutorhelper.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import tutorhelper.logic.CommandHistory;
+import tutorhelper.logic.commands.exceptions.CommandException;
+import tutorhelper.model.Model;
+
+/**
+ * Runs the commands in a script file as a single command: they are undone together and saved once.
+ * If any of them fails, none of their changes are kept.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in the file given, one per line, as a single command that is undone and saved "
+            + "as a whole. Blank lines and lines starting with # are skipped. If any command fails, no changes "
+            + "are made.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/term-start.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s\nNo changes were made.";
+
+    private final Path filePath;
+    private final SortedMap<Integer, Command> commands;
+
+    /**
+     * Creates a RunCommand to run {@code commands}, keyed by the line of {@code filePath} they are on.
+     */
+    public RunCommand(Path filePath, SortedMap<Integer, Command> commands) {
+        requireNonNull(filePath);
+        requireNonNull(commands);
+        this.filePath = filePath;
+        this.commands = new TreeMap<>(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        model.beginBatch();
+        for (Map.Entry<Integer, Command> line : commands.entrySet()) {
+            try {
+                line.getValue().execute(model, history);
+            } catch (CommandException ce) {
+                model.abortBatch();
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, line.getKey(), ce.getMessage()));
+            } catch (RuntimeException re) {
+                model.abortBatch();
+                throw re;
+            }
+        }
+        model.endBatch();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && filePath.equals(((RunCommand) other).filePath)
+                && commands.equals(((RunCommand) other).commands)); // state check
+    }
+}
@@ -0,0 +1,90 @@
+package tutorhelper.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_SUBJECT_INDEX;
+import static tutorhelper.commons.core.Messages.MESSAGE_SUBJECT_NOT_TAKEN;
+import static tutorhelper.model.util.SubjectsUtil.findSubjectIndex;
+
+import java.util.Objects;
+
+import tutorhelper.commons.core.index.Index;
+import tutorhelper.logic.commands.exceptions.CommandException;
+import tutorhelper.model.student.Student;
+import tutorhelper.model.subject.SubjectType;
+
+/**
+ * Represents the subject of a student that a command acts on, given either by its index in the subject list of
+ * the student or by its {@code SubjectType}.
+ * Each student lists their subjects in their own order, so an index only picks out the same subject for a single
+ * student, and a command acting on many students takes the subject type instead.
+ */
+public class SubjectTarget {
+    /** The index of the subject, or null if the subject is given by its type. */
+    private final Index index;
+    /** The type of the subject, or null if the subject is given by its index. */
+    private final SubjectType type;
+
+    private SubjectTarget(Index index, SubjectType type) {
+        this.index = index;
+        this.type = type;
+    }
+
+    /**
+     * Creates the target of the subject at {@code index} in the subject list of a student.
+     */
+    public static SubjectTarget of(Index index) {
+        requireNonNull(index);
+        return new SubjectTarget(index, null);
+    }
+
+    /**
+     * Creates the target of the subject of {@code type}.
+     */
+    public static SubjectTarget of(SubjectType type) {
+        requireNonNull(type);
+        return new SubjectTarget(null, type);
+    }
+
+    /**
+     * Returns true if the subject is given by its index, which only suits a command acting on a single student.
+     */
+    public boolean isIndex() {
+        return index != null;
+    }
+
+    /**
+     * Returns the index of the subject in the subject list of {@code student}, in the order the student lists
+     * their subjects.
+     *
+     * @throws CommandException if {@code student} does not have the subject.
+     */
+    public Index getIndexIn(Student student) throws CommandException {
+        requireNonNull(student);
+        if (index != null) {
+            if (index.getZeroBased() >= student.getSubjects().size()) {
+                throw new CommandException(MESSAGE_INVALID_SUBJECT_INDEX);
+            }
+            return index;
+        }
+        return findSubjectIndex(student, type).orElseThrow(() ->
+                new CommandException(String.format(MESSAGE_SUBJECT_NOT_TAKEN, student.getName(), type)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SubjectTarget // instanceof handles nulls
+                && Objects.equals(index, ((SubjectTarget) other).index)
+                && type == ((SubjectTarget) other).type); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index == null ? null : index.getZeroBased(), type);
+    }
+
+    @Override
+    public String toString() {
+        return index != null ? String.valueOf(index.getOneBased()) : type.toString();
+    }
+}
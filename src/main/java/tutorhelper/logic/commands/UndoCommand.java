@@ -3,6 +3,8 @@ package tutorhelper.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static tutorhelper.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
+import java.io.UncheckedIOException;
+
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.logic.commands.exceptions.CommandException;
 import tutorhelper.model.Model;
@@ -15,6 +17,7 @@ public class UndoCommand extends Command {
     public static final String COMMAND_WORD = "undo";
     public static final String MESSAGE_SUCCESS = "Undo success!";
     public static final String MESSAGE_FAILURE = "No more commands to undo!";
+    public static final String MESSAGE_STATE_UNAVAILABLE = "Unable to read the state to undo from disk!";
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
@@ -24,7 +27,11 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.undoTutorHelper();
+        try {
+            model.undoTutorHelper();
+        } catch (UncheckedIOException uioe) {
+            throw new CommandException(MESSAGE_STATE_UNAVAILABLE);
+        }
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
@@ -2,12 +2,14 @@ package tutorhelper.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorhelper.commons.core.Messages.MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS;
 import static tutorhelper.logic.parser.CliSyntax.PREFIX_SYLLABUS;
 
 import java.util.List;
 
-import tutorhelper.commons.core.index.Index;
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.commands.AddSyllCommand;
+import tutorhelper.logic.commands.SubjectTarget;
 import tutorhelper.logic.parser.exceptions.ParseException;
 import tutorhelper.model.subject.Syllabus;
 
@@ -29,39 +31,33 @@ public class AddSyllCommandParser implements Parser<AddSyllCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SYLLABUS);
 
-        Index studentIndex;
-        Index subjectIndex;
-        List<Index> indexList;
+        IndexRange studentRange;
+        SubjectTarget subjectTarget;
+
+        String[] targets = argMultimap.getPreamble().trim().split("\\s+");
+        if (targets.length != NUMBER_OF_ARGS) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddSyllCommand.MESSAGE_USAGE));
+        }
 
         try {
-            indexList = ParserUtil.parseIndexes(argMultimap.getPreamble());
+            studentRange = ParserUtil.parseIndexRange(targets[STUDENT_INDEX]);
+            subjectTarget = ParserUtil.parseSubjectTarget(targets[SUBJECT_INDEX]);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddSyllCommand.MESSAGE_USAGE), pe);
         }
 
-        if (indexList.size() != NUMBER_OF_ARGS) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddSyllCommand.MESSAGE_USAGE));
+        if (!studentRange.isSingleIndex() && subjectTarget.isIndex()) {
+            throw new ParseException(MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS);
         }
 
-        studentIndex = getStudentIndex(indexList);
-        subjectIndex = getSubjectIndex(indexList);
-
         if (!argMultimap.getValue(PREFIX_SYLLABUS).isPresent()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddSyllCommand.MESSAGE_USAGE));
         }
 
         List<Syllabus> syllabuses = ParserUtil.parseSyllabuses(argMultimap.getValue(PREFIX_SYLLABUS).get());
-        return new AddSyllCommand(studentIndex, subjectIndex, syllabuses);
-    }
-
-    private static Index getStudentIndex(List<Index> indexList) {
-        return indexList.get(STUDENT_INDEX);
-    }
-
-    private static Index getSubjectIndex(List<Index> indexList) {
-        return indexList.get(SUBJECT_INDEX);
+        return new AddSyllCommand(studentRange, subjectTarget, syllabuses);
     }
 
 }
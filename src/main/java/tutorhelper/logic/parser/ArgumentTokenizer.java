@@ -1,9 +1,6 @@
 package tutorhelper.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>subjectName <prefix>subjectName ...}<br>
@@ -15,6 +12,8 @@ import java.util.stream.Collectors;
  */
 public class ArgumentTokenizer {
 
+    private static final int NOT_FOUND = -1;
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,125 +23,93 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
+        int[] positions = findPrefixPositions(argsString, prefixes);
+        return extractArguments(argsString, prefixes, positions);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Returns the zero-based position of the first occurrence of each of {@code prefixes} in {@code argsString},
+     * in the order of {@code prefixes}, or -1 for a prefix that does not occur. An occurrence is valid if there
+     * is a whitespace before it, so {@code argsString} is only compared with the prefixes after each whitespace,
+     * in a single pass that ends once every prefix has been found.
      *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>subjectName <prefix>subjectName ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
+     * E.g if {@code argsString} = "e/hip/900" and {@code prefixes} = {"p/"}, this method returns {-1}
+     * as there are no valid occurrences of "p/" with whitespace before it. However, if
+     * {@code argsString} = "e/hi p/900", this method returns {5}.
      */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        if (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
+    private static int[] findPrefixPositions(String argsString, Prefix... prefixes) {
+        int[] positions = new int[prefixes.length];
+        Arrays.fill(positions, NOT_FOUND);
+
+        int prefixesLeft = prefixes.length;
+        for (int i = 1; i <= argsString.length() && prefixesLeft > 0; i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+            for (int p = 0; p < prefixes.length; p++) {
+                if (positions[p] == NOT_FOUND && argsString.startsWith(prefixes[p].getPrefix(), i)) {
+                    positions[p] = i;
+                    prefixesLeft--;
+                }
+            }
         }
-
         return positions;
     }
 
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
     /**
      * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
+     * extracted prefixes to their respective arguments. The value of a prefix runs from the end of the prefix to
+     * the start of the next prefix found, or to the end of {@code argsString}.
      *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>subjectName <prefix>subjectName ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @param argsString Arguments string of the form: {@code preamble <prefix>subjectName <prefix>subjectName ...}
+     * @param prefixes   Prefixes to extract
+     * @param positions  Zero-based positions of {@code prefixes} in {@code argsString}, or -1 if not found
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    private static ArgumentMultimap extractArguments(String argsString, Prefix[] prefixes, int[] positions) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        argMultimap.put(ArgumentMultimap.PREAMBLE, trimmedSubstring(argsString, 0,
+                findNextPosition(argsString, positions, NOT_FOUND)));
+
+        for (int p = 0; p < prefixes.length; p++) {
+            if (positions[p] == NOT_FOUND) {
+                continue;
+            }
+            int valueStartPos = positions[p] + prefixes[p].getPrefix().length();
+            int valueEndPos = findNextPosition(argsString, positions, positions[p]);
+            argMultimap.put(prefixes[p], trimmedSubstring(argsString, valueStartPos, valueEndPos));
         }
-
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed subjectName of the argument in the arguments string specified
-     * by {@code currentPrefixPosition}. The end position of the subjectName is determined
-     * by {@code nextPrefixPosition}.
+     * Returns the smallest of {@code positions} after {@code position}, or the length of {@code argsString}
+     * if there is none.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private static int findNextPosition(String argsString, int[] positions, int position) {
+        int nextPosition = argsString.length();
+        for (int other : positions) {
+            if (other > position && other < nextPosition) {
+                nextPosition = other;
+            }
+        }
+        return nextPosition;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Returns the part of {@code argsString} from {@code beginIndex} to {@code endIndex} without its leading and
+     * trailing whitespace, as {@link String#trim} would, but without creating the untrimmed part first.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+    private static String trimmedSubstring(String argsString, int beginIndex, int endIndex) {
+        int begin = beginIndex;
+        int end = endIndex;
+        while (begin < end && argsString.charAt(begin) <= ' ') {
+            begin++;
         }
-
-        int getStartPosition() {
-            return startPosition;
-        }
-
-        Prefix getPrefix() {
-            return prefix;
+        while (end > begin && argsString.charAt(end - 1) <= ' ') {
+            end--;
         }
+        return argsString.substring(begin, end);
     }
 
 }
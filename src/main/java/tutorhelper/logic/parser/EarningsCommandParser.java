@@ -2,6 +2,8 @@ package tutorhelper.logic.parser;
 
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.time.YearMonth;
+
 import tutorhelper.logic.commands.EarningsCommand;
 import tutorhelper.logic.parser.exceptions.ParseException;
 
@@ -10,8 +12,6 @@ import tutorhelper.logic.parser.exceptions.ParseException;
  */
 public class EarningsCommandParser implements Parser<EarningsCommand> {
 
-    private int month;
-    private int year;
     /**
      * Parses the given {@code String} of arguments in the context of the EarningsCommand
      * and returns an EarningsCommand object for execution.
@@ -20,17 +20,29 @@ public class EarningsCommandParser implements Parser<EarningsCommand> {
     public EarningsCommand parse(String args) throws ParseException {
 
         String trimmedEarnings = args.trim();
-        String[] separatedEarnings = trimmedEarnings.split("\\s");
+        String[] separatedEarnings = trimmedEarnings.split("\\s+");
 
-        if (separatedEarnings.length != 2) { //invalid number of fields
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EarningsCommand.MESSAGE_USAGE));
+        if (separatedEarnings.length == 2) {
+            YearMonth month = parseYearMonth(separatedEarnings[0], separatedEarnings[1]);
+            return new EarningsCommand(month, month);
+        } else if (separatedEarnings.length == 4) {
+            YearMonth from = parseYearMonth(separatedEarnings[0], separatedEarnings[1]);
+            YearMonth to = parseYearMonth(separatedEarnings[2], separatedEarnings[3]);
+            if (from.isAfter(to)) {
+                throw new ParseException(EarningsCommand.MESSAGE_INVALID_RANGE);
+            }
+            return new EarningsCommand(from, to);
         }
-        String inputMonth = separatedEarnings[0];
-        String inputYear = separatedEarnings[1];
+        //invalid number of fields
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EarningsCommand.MESSAGE_USAGE));
+    }
 
-        //Put the arguments into ParserUtil to check for validity
-        this.month = ParserUtil.parseMonth(inputMonth);
-        this.year = ParserUtil.parseYear(inputYear);
-        return new EarningsCommand(month, year);
+    /**
+     * Puts the arguments into ParserUtil to check for validity and returns the month they describe.
+     */
+    private YearMonth parseYearMonth(String inputMonth, String inputYear) throws ParseException {
+        int month = ParserUtil.parseMonth(inputMonth);
+        int year = ParserUtil.parseYear(inputYear);
+        return YearMonth.of(year, month);
     }
 }
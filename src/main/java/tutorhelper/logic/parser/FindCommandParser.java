@@ -3,6 +3,7 @@ package tutorhelper.logic.parser;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.regex.Pattern;
 
 import tutorhelper.logic.commands.FindCommand;
 import tutorhelper.logic.parser.exceptions.ParseException;
@@ -13,6 +14,10 @@ import tutorhelper.model.student.NameContainsKeywordsPredicate;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    /** One or more non-empty words joined with +, each of which may end with *. */
+    private static final String KEYWORD_VALIDATION_REGEX = "[^+*]+\\*?(\\+[^+*]+\\*?)*";
+    private static final Pattern KEYWORD_VALIDATION_PATTERN = Pattern.compile(KEYWORD_VALIDATION_REGEX);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns an FindCommand object for execution.
@@ -26,6 +31,12 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
+        for (String keyword : nameKeywords) {
+            if (!KEYWORD_VALIDATION_PATTERN.matcher(keyword).matches()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+        }
 
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
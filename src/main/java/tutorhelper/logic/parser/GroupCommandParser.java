@@ -2,6 +2,8 @@ package tutorhelper.logic.parser;
 
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.regex.Pattern;
+
 import tutorhelper.logic.commands.GroupCommand;
 import tutorhelper.logic.parser.exceptions.ParseException;
 import tutorhelper.model.tuitiontiming.TuitionTiming;
@@ -12,6 +14,9 @@ import tutorhelper.model.tuitiontiming.TuitionTimingContainsKeywordsPredicate;
  */
 public class GroupCommandParser implements Parser<GroupCommand> {
 
+    private static final Pattern DAY_PATTERN = Pattern.compile(TuitionTiming.DAY_REGEX);
+    private static final Pattern TIME_PATTERN = Pattern.compile(TuitionTiming.TIME_REGEX);
+
     /**
      * Parses the given {@code String} of arguments in the context of the GroupCommand
      * and returns an GroupCommand object for execution.
@@ -20,10 +25,10 @@ public class GroupCommandParser implements Parser<GroupCommand> {
     public GroupCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
 
-        if (trimmedArgs.matches(TuitionTiming.DAY_REGEX)) {
+        if (DAY_PATTERN.matcher(trimmedArgs).matches()) {
             return new GroupCommand(
                     new TuitionTimingContainsKeywordsPredicate(trimmedArgs), true, false);
-        } else if (trimmedArgs.matches(TuitionTiming.TIME_REGEX)) {
+        } else if (TIME_PATTERN.matcher(trimmedArgs).matches()) {
             return new GroupCommand(
                     new TuitionTimingContainsKeywordsPredicate(trimmedArgs), false, true);
         } else {
@@ -2,11 +2,12 @@ package tutorhelper.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-
-import java.util.List;
+import static tutorhelper.commons.core.Messages.MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS;
 
 import tutorhelper.commons.core.index.Index;
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.commands.MarkCommand;
+import tutorhelper.logic.commands.SubjectTarget;
 import tutorhelper.logic.parser.exceptions.ParseException;
 
 /**
@@ -27,39 +28,29 @@ public class MarkCommandParser implements Parser<MarkCommand> {
     public MarkCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        Index studentIndex;
-        Index subjectIndex;
+        IndexRange studentRange;
+        SubjectTarget subjectTarget;
         Index syllabusIndex;
-        List<Index> indexList;
+
+        String[] targets = args.trim().split("\\s+");
+        if (targets.length != MARK_NUMBER_OF_ARGS) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE));
+        }
 
         try {
-            indexList = ParserUtil.parseIndexes(args);
+            studentRange = ParserUtil.parseIndexRange(targets[STUDENT_INDEX_LOCATION]);
+            subjectTarget = ParserUtil.parseSubjectTarget(targets[SUBJECT_INDEX_LOCATION]);
+            syllabusIndex = ParserUtil.parseIndex(targets[SYLLABUS_INDEX_LOCATION]);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE), pe);
         }
 
-        if (indexList.size() != MARK_NUMBER_OF_ARGS) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE));
+        if (!studentRange.isSingleIndex() && subjectTarget.isIndex()) {
+            throw new ParseException(MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS);
         }
 
-        studentIndex = getStudentIndex(indexList);
-        subjectIndex = getSubjectIndex(indexList);
-        syllabusIndex = getSyllabusIndex(indexList);
-
-        return new MarkCommand(studentIndex, subjectIndex, syllabusIndex);
-    }
-
-    private static Index getStudentIndex(List<Index> indexList) {
-        return indexList.get(STUDENT_INDEX_LOCATION);
-    }
-
-    private static Index getSubjectIndex(List<Index> indexList) {
-        return indexList.get(SUBJECT_INDEX_LOCATION);
-    }
-
-    private static Index getSyllabusIndex(List<Index> indexList) {
-        return indexList.get(SYLLABUS_INDEX_LOCATION);
+        return new MarkCommand(studentRange, subjectTarget, syllabusIndex);
     }
 }
@@ -0,0 +1,29 @@
+package tutorhelper.logic.parser;
+
+import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import tutorhelper.logic.commands.MigrateCommand;
+import tutorhelper.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MigrateCommand object
+ */
+public class MigrateCommandParser implements Parser<MigrateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MigrateCommand
+     * and returns a MigrateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MigrateCommand parse(String args) throws ParseException {
+        try {
+            Path filePath = ParserUtil.parseFilePath(args);
+            return new MigrateCommand(filePath);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, MigrateCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -2,13 +2,18 @@ package tutorhelper.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import tutorhelper.commons.core.index.Index;
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.commons.util.StringUtil;
+import tutorhelper.logic.commands.SubjectTarget;
 import tutorhelper.logic.parser.exceptions.ParseException;
 import tutorhelper.model.student.Address;
 import tutorhelper.model.student.Email;
@@ -27,6 +32,10 @@ import tutorhelper.model.tuitiontiming.TuitionTiming;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is not valid.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "The last index of a range must not be before the first.";
+    public static final String ALL_INDEXES = "all";
+    public static final char INDEX_RANGE_SEPARATOR = '-';
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -41,6 +50,44 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes} into an {@code IndexRange} and returns it. Leading and trailing whitespaces
+     * will be trimmed. The range is either a single index, two indexes joined by {@link #INDEX_RANGE_SEPARATOR},
+     * e.g. {@code 3-40}, or {@link #ALL_INDEXES} for every index.
+     * @throws ParseException if the specified range is invalid.
+     */
+    public static IndexRange parseIndexRange(String oneBasedIndexes) throws ParseException {
+        String trimmedIndexes = oneBasedIndexes.trim();
+        if (trimmedIndexes.equals(ALL_INDEXES)) {
+            return IndexRange.all();
+        }
+
+        int separator = trimmedIndexes.indexOf(INDEX_RANGE_SEPARATOR);
+        if (separator == -1) {
+            return IndexRange.of(parseIndex(trimmedIndexes));
+        }
+        Index first = parseIndex(trimmedIndexes.substring(0, separator));
+        Index last = parseIndex(trimmedIndexes.substring(separator + 1));
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+        }
+        return IndexRange.between(first, last);
+    }
+
+    /**
+     * Parses {@code subject} into a {@code SubjectTarget} and returns it. Leading and trailing whitespaces will be
+     * trimmed. The subject is either a one-based index into the subject list of a student, or a subject name.
+     * @throws ParseException if the specified subject is neither a valid index nor a valid subject name.
+     */
+    public static SubjectTarget parseSubjectTarget(String subject) throws ParseException {
+        requireNonNull(subject);
+        String trimmedSubject = subject.trim();
+        if (StringUtil.isNonZeroUnsignedInteger(trimmedSubject)) {
+            return SubjectTarget.of(parseIndex(trimmedSubject));
+        }
+        return SubjectTarget.of(parseSubject(trimmedSubject).getSubjectType());
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -272,6 +319,26 @@ public class ParserUtil {
         return listIndexes;
     }
 
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is empty or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        try {
+            Path path = Paths.get(trimmedFilePath);
+            if (trimmedFilePath.isEmpty() || path.getFileName() == null) {
+                throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+            }
+            return path;
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH, ipe);
+        }
+    }
+
     /**
      * Parses a {@code String syllabus} into a {@code Syllabus}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,87 @@
+package tutorhelper.logic.parser;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import tutorhelper.logic.commands.Command;
+import tutorhelper.logic.commands.ExitCommand;
+import tutorhelper.logic.commands.MigrateCommand;
+import tutorhelper.logic.commands.RedoCommand;
+import tutorhelper.logic.commands.RunCommand;
+import tutorhelper.logic.commands.UndoCommand;
+import tutorhelper.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object.
+ * Every command in the script is parsed here, before any of them is run.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_CANNOT_READ_FILE = "Unable to read the script %1$s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_NOT_ALLOWED_IN_SCRIPT = "%1$s cannot be used in a script";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, the script cannot be read,
+     * or any line of it is not a command that can be run from a script.
+     */
+    public RunCommand parse(String args) throws ParseException {
+        Path filePath;
+        try {
+            filePath = ParserUtil.parseFilePath(args);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE), pe);
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, UTF_8);
+        } catch (IOException ioe) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_FILE, filePath), ioe);
+        }
+
+        TutorHelperParser tutorHelperParser = new TutorHelperParser();
+        SortedMap<Integer, Command> commands = new TreeMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            commands.put(i + 1, parseLine(tutorHelperParser, line, i + 1));
+        }
+        return new RunCommand(filePath, commands);
+    }
+
+    /**
+     * Parses {@code line}, the {@code lineNumber}th line of a script, into a command that can be run from a script.
+     */
+    private static Command parseLine(TutorHelperParser tutorHelperParser, String line, int lineNumber)
+            throws ParseException {
+        Command command;
+        try {
+            command = tutorHelperParser.parseCommand(line);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, pe.getMessage()), pe);
+        }
+
+        // migrate moves the data file at once, which cannot be reversed if a later command fails
+        if (command instanceof UndoCommand || command instanceof RedoCommand || command instanceof RunCommand
+                || command instanceof ExitCommand || command instanceof MigrateCommand) {
+            String commandWord = line.split("\\s+")[0];
+            throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber,
+                    String.format(MESSAGE_NOT_ALLOWED_IN_SCRIPT, commandWord)));
+        }
+        return command;
+    }
+}
@@ -3,8 +3,9 @@ package tutorhelper.logic.parser;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorhelper.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import tutorhelper.logic.commands.AddCommand;
 import tutorhelper.logic.commands.AddSubCommand;
@@ -25,8 +26,10 @@ import tutorhelper.logic.commands.HelpCommand;
 import tutorhelper.logic.commands.HistoryCommand;
 import tutorhelper.logic.commands.ListCommand;
 import tutorhelper.logic.commands.MarkCommand;
+import tutorhelper.logic.commands.MigrateCommand;
 import tutorhelper.logic.commands.PayCommand;
 import tutorhelper.logic.commands.RedoCommand;
+import tutorhelper.logic.commands.RunCommand;
 import tutorhelper.logic.commands.SelectCommand;
 import tutorhelper.logic.commands.UndoCommand;
 import tutorhelper.logic.parser.exceptions.ParseException;
@@ -38,9 +41,10 @@ import tutorhelper.logic.parser.exceptions.ParseException;
 public class TutorHelperParser {
 
     /**
-     * Used for initial separation of command word and args.
+     * The parser of the arguments of each command, keyed by its command word.
+     * Parsers keep no state between inputs, so each is shared by every input parsed.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final Map<String, Parser<? extends Command>> PARSERS = createParsers();
 
     /**
      * Parses user input into command for execution.
@@ -50,84 +54,82 @@ public class TutorHelperParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        final int commandWordEnd = findCommandWordEnd(trimmedInput);
+        if (commandWordEnd == 0 || containsLineTerminator(trimmedInput, commandWordEnd)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case SelectCommand.COMMAND_WORD:
-            return new SelectCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case HistoryCommand.COMMAND_WORD:
-            return new HistoryCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
-
-        case RedoCommand.COMMAND_WORD:
-            return new RedoCommand();
-
-        case PayCommand.COMMAND_WORD:
-            return new PayCommandParser().parse(arguments);
-
-        case EarningsCommand.COMMAND_WORD:
-            return new EarningsCommandParser().parse(arguments);
-
-        case AddSyllCommand.COMMAND_WORD:
-            return new AddSyllCommandParser().parse(arguments);
-
-        case DeleteSyllCommand.COMMAND_WORD:
-            return new DeleteSyllCommandParser().parse(arguments);
-
-        case MarkCommand.COMMAND_WORD:
-            return new MarkCommandParser().parse(arguments);
-
-        case CopySubCommand.COMMAND_WORD:
-            return new CopySubCommandParser().parse(arguments);
-
-        case GroupCommand.COMMAND_WORD:
-            return new GroupCommandParser().parse(arguments);
-
-        case EditSyllCommand.COMMAND_WORD:
-            return new EditSyllCommandParser().parse(arguments);
+        final Parser<? extends Command> parser = PARSERS.get(trimmedInput.substring(0, commandWordEnd));
+        if (parser == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(trimmedInput.substring(commandWordEnd));
+    }
 
-        case AddSubCommand.COMMAND_WORD:
-            return new AddSubCommandParser().parse(arguments);
+    /**
+     * Returns the parser of every command word.
+     */
+    private static Map<String, Parser<? extends Command>> createParsers() {
+        Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+        parsers.put(AddCommand.COMMAND_WORD, new AddCommandParser());
+        parsers.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        parsers.put(SelectCommand.COMMAND_WORD, new SelectCommandParser());
+        parsers.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        parsers.put(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        parsers.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        parsers.put(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        parsers.put(HistoryCommand.COMMAND_WORD, arguments -> new HistoryCommand());
+        parsers.put(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        parsers.put(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        parsers.put(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        parsers.put(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        parsers.put(PayCommand.COMMAND_WORD, new PayCommandParser());
+        parsers.put(EarningsCommand.COMMAND_WORD, new EarningsCommandParser());
+        parsers.put(AddSyllCommand.COMMAND_WORD, new AddSyllCommandParser());
+        parsers.put(DeleteSyllCommand.COMMAND_WORD, new DeleteSyllCommandParser());
+        parsers.put(MarkCommand.COMMAND_WORD, new MarkCommandParser());
+        parsers.put(CopySubCommand.COMMAND_WORD, new CopySubCommandParser());
+        parsers.put(GroupCommand.COMMAND_WORD, new GroupCommandParser());
+        parsers.put(EditSyllCommand.COMMAND_WORD, new EditSyllCommandParser());
+        parsers.put(AddSubCommand.COMMAND_WORD, new AddSubCommandParser());
+        parsers.put(DeleteSubCommand.COMMAND_WORD, new DeleteSubCommandParser());
+        parsers.put(MigrateCommand.COMMAND_WORD, new MigrateCommandParser());
+        parsers.put(RunCommand.COMMAND_WORD, new RunCommandParser());
+        return Collections.unmodifiableMap(parsers);
+    }
 
-        case DeleteSubCommand.COMMAND_WORD:
-            return new DeleteSubCommandParser().parse(arguments);
+    /**
+     * Returns the index of the first whitespace in {@code input}, which ends the command word,
+     * or the length of {@code input} if it has none.
+     */
+    private static int findCommandWordEnd(String input) {
+        int end = 0;
+        while (end < input.length() && !isWhitespace(input.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
 
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns true if {@code input} has a line terminator at or after {@code fromIndex}.
+     */
+    private static boolean containsLineTerminator(String input, int fromIndex) {
+        for (int i = fromIndex; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
         }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code c} is one of the whitespace characters that separate the command word from its
+     * arguments, which are those of {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
 }
@@ -0,0 +1,158 @@
+package tutorhelper.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@code TutorHelperHistory} that keeps only the changes made by each commit.
+ * Undoing a commit reverts its changes in reverse order and redoing it applies them again, so committing,
+ * undoing and redoing a command that touches one student costs O(1) regardless of the size of the list.
+ */
+class ChangeLog implements TutorHelperHistory {
+
+    private final List<Commit> commits = new ArrayList<>();
+    private List<StudentListChange> pendingChanges = new ArrayList<>();
+    private int appliedCommits;
+    private long bytesInMemory;
+
+    @Override
+    public void record(StudentListChange change) {
+        requireNonNull(change);
+        pendingChanges.add(change);
+        bytesInMemory += change.estimateSize();
+    }
+
+    @Override
+    public void commit(TutorHelper current) {
+        for (int i = commits.size() - 1; i >= appliedCommits; i--) {
+            bytesInMemory -= commits.remove(i).estimateSize();
+        }
+        commits.add(new Commit(pendingChanges));
+        pendingChanges = new ArrayList<>();
+        appliedCommits++;
+    }
+
+    @Override
+    public void rollback(TutorHelper current) {
+        discardPendingChanges(current);
+    }
+
+    @Override
+    public void undo(TutorHelper current) {
+        discardPendingChanges(current);
+        commits.get(appliedCommits - 1).revert(current);
+        appliedCommits--;
+    }
+
+    @Override
+    public void redo(TutorHelper current) {
+        discardPendingChanges(current);
+        commits.get(appliedCommits).apply(current);
+        appliedCommits++;
+    }
+
+    @Override
+    public boolean canUndo() {
+        return appliedCommits > 0;
+    }
+
+    @Override
+    public boolean canRedo() {
+        return appliedCommits < commits.size();
+    }
+
+    @Override
+    public long getBytesInMemory() {
+        return bytesInMemory;
+    }
+
+    @Override
+    public long getBytesOnDisk() {
+        return 0;
+    }
+
+    /**
+     * Does nothing, as the whole log is in memory.
+     */
+    @Override
+    public void close() {}
+
+    /**
+     * Reverts the changes made to {@code current} since the last commit.
+     */
+    private void discardPendingChanges(TutorHelper current) {
+        Commit uncommitted = new Commit(pendingChanges);
+        uncommitted.revert(current);
+        bytesInMemory -= uncommitted.estimateSize();
+        pendingChanges = new ArrayList<>();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ChangeLog)) {
+            return false;
+        }
+
+        ChangeLog otherLog = (ChangeLog) other;
+        return commits.equals(otherLog.commits)
+                && pendingChanges.equals(otherLog.pendingChanges)
+                && appliedCommits == otherLog.appliedCommits;
+    }
+
+    /**
+     * The changes made between two commits, in the order they were made.
+     */
+    private static class Commit {
+        private final List<StudentListChange> changes;
+
+        private Commit(List<StudentListChange> changes) {
+            this.changes = changes;
+        }
+
+        /**
+         * Makes the changes again, in the order they were first made.
+         */
+        private void apply(TutorHelper tutorHelper) {
+            for (StudentListChange change : changes) {
+                change.apply(tutorHelper);
+            }
+        }
+
+        /**
+         * Undoes the changes, latest first.
+         */
+        private void revert(TutorHelper tutorHelper) {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).revert(tutorHelper);
+            }
+        }
+
+        /**
+         * Returns the estimated number of bytes kept alive by the changes.
+         */
+        private long estimateSize() {
+            long bytes = 0;
+            for (StudentListChange change : changes) {
+                bytes += change.estimateSize();
+            }
+            return bytes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Commit && changes.equals(((Commit) other).changes));
+        }
+
+        @Override
+        public int hashCode() {
+            return changes.hashCode();
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package tutorhelper.model;
 
+import java.time.DayOfWeek;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import tutorhelper.model.student.NameContainsKeywordsPredicate;
 import tutorhelper.model.student.Student;
 
 /**
@@ -53,14 +57,47 @@ public interface Model {
     void updateStudentInternalField(Student target, Student editedStudent);
 
     /**
-     * Sorts the list by day.
+     * Deletes the given students, as a single change to the TutorHelper.
+     * The students must all exist in the TutorHelper.
      */
-    void sortByDay();
+    void deleteStudents(List<Student> targets);
 
     /**
-     * Sorts the list by time.
+     * Replaces each student of {@code targets} with the student at the same position of {@code editedStudents},
+     * as a single change to the TutorHelper. This is used to update an internal field of many students.
+     * {@code targets} must all exist in the TutorHelper.
+     * The student identity of each edited student must not be the same as
+     * another existing student in the TutorHelper.
+     */
+    void updateStudents(List<Student> targets, List<Student> editedStudents);
+
+    /**
+     * Shows the students whose tuition is on {@code day}, ordered by time, in the filtered student list,
+     * until its filter is updated. The list keeps following changes to those students.
+     * Takes time proportional to the number of such students.
+     */
+    void showStudentsWithTuitionOn(DayOfWeek day);
+
+    /**
+     * Shows the students whose tuition starts at {@code minuteOfDay}, on any day, ordered by day, in the filtered
+     * student list, until its filter is updated. The list keeps following changes to those students.
+     * Takes time proportional to the number of such students.
+     */
+    void showStudentsWithTuitionAt(int minuteOfDay);
+
+    /**
+     * Shows the students whose name matches {@code predicate} in the filtered student list, until its filter is
+     * updated. The list keeps following changes to those students.
+     * Takes time proportional to the number of such students.
+     */
+    void showStudentsWithName(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns the total paid from {@code from} to {@code to}, both inclusive, by the students in the filtered list.
+     * Takes O(1) time for a single month and O(log n) for a longer range while the list is unfiltered,
+     * and O(log p) for each student in the filtered list otherwise, where p is the number of payments they made.
      */
-    void sortByTime();
+    long getEarnings(YearMonth from, YearMonth to);
 
     /** Returns an unmodifiable view of the filtered student list */
     ObservableList<Student> getFilteredStudentList();
@@ -95,4 +132,37 @@ public interface Model {
      * Saves the current TutorHelper state for undo/redo.
      */
     void commitTutorHelper();
+
+    /**
+     * Starts a batch of changes that are committed and saved as one. Until the batch ends, commits are held back
+     * and no change is announced, so that the whole batch becomes a single undoable state and a single save.
+     * Batches cannot be nested, and undo/redo must not be used during one.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the current batch, committing the changes made during it if any of them was committed.
+     */
+    void endBatch();
+
+    /**
+     * Ends the current batch, discarding every change made during it.
+     */
+    void abortBatch();
+
+    /**
+     * Returns the estimated number of bytes of memory used by the undo/redo history.
+     */
+    long getUndoHistoryBytesInMemory();
+
+    /**
+     * Returns the number of bytes of undo/redo history that have been moved to disk.
+     */
+    long getUndoHistoryBytesOnDisk();
+
+    /**
+     * Releases what the model holds outside memory, such as the undo/redo history moved to disk.
+     * The model must not be used afterwards.
+     */
+    void close();
 }
@@ -3,7 +3,11 @@ package tutorhelper.model;
 import static java.util.Objects.requireNonNull;
 import static tutorhelper.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DayOfWeek;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -13,6 +17,7 @@ import tutorhelper.commons.core.ComponentManager;
 import tutorhelper.commons.core.LogsCenter;
 import tutorhelper.commons.events.model.TutorHelperChangedEvent;
 import tutorhelper.commons.events.ui.StudentPanelSelectionChangedEvent;
+import tutorhelper.model.student.NameContainsKeywordsPredicate;
 import tutorhelper.model.student.Student;
 
 /**
@@ -23,6 +28,16 @@ public class ModelManager extends ComponentManager implements Model {
 
     private final VersionedTutorHelper versionedTutorHelper;
     private final FilteredList<Student> filteredStudents;
+    /** The students last looked up through {@code lookUp}, shown instead of the filtered students while it is set. */
+    private final ObservableList<Student> lookedUpStudents = FXCollections.observableArrayList();
+    /** The list shown to the user, which is either the filtered students or the looked up students. */
+    private final SwitchableObservableList<Student> shownStudents;
+    private Supplier<List<Student>> lookUp;
+
+    // Whether a batch is open, and whether the TutorHelper was changed and committed since it began.
+    private boolean inBatch;
+    private boolean changedInBatch;
+    private boolean committedInBatch;
 
     /**
      * Initializes a ModelManager with the given TutorHelper and userPrefs.
@@ -33,8 +48,10 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with tutor helper: " + tutorHelper + " and user prefs " + userPrefs);
 
-        versionedTutorHelper = new VersionedTutorHelper(tutorHelper);
+        versionedTutorHelper = new VersionedTutorHelper(tutorHelper, userPrefs.getUndoMode(),
+                userPrefs.getMaxUndoStatesInMemory(), userPrefs.getMaxUndoBytesInMemory());
         filteredStudents = new FilteredList<>(versionedTutorHelper.getStudentList());
+        shownStudents = new SwitchableObservableList<>(filteredStudents);
     }
 
     public ModelManager() {
@@ -52,8 +69,13 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedTutorHelper;
     }
 
-    /** Raises an event to indicate the model has changed */
+    /** Raises an event to indicate the model has changed, or remembers to once the current batch ends */
     private void indicateTutorHelperChanged() {
+        refreshLookedUpStudents();
+        if (inBatch) {
+            changedInBatch = true;
+            return;
+        }
         raise(new TutorHelperChangedEvent(versionedTutorHelper));
     }
 
@@ -99,33 +121,78 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public void sortByDay() {
-        versionedTutorHelper.sortByDay();
+    public void deleteStudents(List<Student> targets) {
+        requireAllNonNull(targets);
+        versionedTutorHelper.removeStudents(targets);
         indicateTutorHelperChanged();
     }
 
     @Override
-    public void sortByTime() {
-        versionedTutorHelper.sortByTime();
+    public void updateStudents(List<Student> targets, List<Student> editedStudents) {
+        requireAllNonNull(targets, editedStudents);
+        versionedTutorHelper.updateStudents(targets, editedStudents);
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
         indicateTutorHelperChanged();
     }
 
+    @Override
+    public void showStudentsWithTuitionOn(DayOfWeek day) {
+        requireNonNull(day);
+        showLookUp(() -> versionedTutorHelper.getStudentsWithTuitionOn(day));
+    }
+
+    @Override
+    public void showStudentsWithTuitionAt(int minuteOfDay) {
+        showLookUp(() -> versionedTutorHelper.getStudentsWithTuitionAt(minuteOfDay));
+    }
+
+    @Override
+    public void showStudentsWithName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        showLookUp(() -> versionedTutorHelper.findStudentsByName(predicate));
+    }
+
+    @Override
+    public long getEarnings(YearMonth from, YearMonth to) {
+        requireAllNonNull(from, to);
+        if (shownStudents.size() < versionedTutorHelper.getStudentList().size()) {
+            return sumFilteredEarnings(from, to);
+        }
+        if (from.equals(to)) {
+            return versionedTutorHelper.getEarnings(from.getMonthValue(), from.getYear());
+        }
+        return versionedTutorHelper.getEarnings(from, to);
+    }
+
+    /**
+     * Returns the total paid from {@code from} to {@code to} by the students in the filtered list,
+     * by going through each of their payment histories.
+     */
+    private long sumFilteredEarnings(YearMonth from, YearMonth to) {
+        long earnings = 0;
+        for (Student student : shownStudents) {
+            earnings += student.getPaymentHistory().getTotal(from, to);
+        }
+        return earnings;
+    }
+
     //=========== Filtered Student List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Student} backed by the internal list of
-     * {@code versionedTutorHelper}
+     * {@code versionedTutorHelper}, or by the students last looked up in one of its indexes.
      */
     @Override
     public ObservableList<Student> getFilteredStudentList() {
 
-        return FXCollections.unmodifiableObservableList(filteredStudents);
+        return FXCollections.unmodifiableObservableList(shownStudents);
     }
 
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
         filteredStudents.setPredicate(predicate);
+        showFilteredStudents();
     }
 
     /**
@@ -138,6 +205,33 @@ public class ModelManager extends ComponentManager implements Model {
         requireNonNull(predicate2);
         filteredStudents.setPredicate(predicate1);
         filteredStudents.setPredicate(predicate2);
+        showFilteredStudents();
+    }
+
+    /**
+     * Shows the students returned by {@code lookUp} instead of the filtered students, until the filter is updated.
+     * {@code lookUp} is called again after every change to the TutorHelper, so that the students shown follow it.
+     * Only the students it returns are visited, unlike with a filter, which is tested against every student.
+     */
+    private void showLookUp(Supplier<List<Student>> lookUp) {
+        this.lookUp = lookUp;
+        lookedUpStudents.setAll(lookUp.get());
+        shownStudents.setSource(lookedUpStudents);
+    }
+
+    private void showFilteredStudents() {
+        lookUp = null;
+        shownStudents.setSource(filteredStudents);
+        lookedUpStudents.clear();
+    }
+
+    /**
+     * Looks up the students shown again, if they were looked up.
+     */
+    private void refreshLookedUpStudents() {
+        if (lookUp != null) {
+            lookedUpStudents.setAll(lookUp.get());
+        }
     }
 
     //=========== Undo/Redo =================================================================================
@@ -166,7 +260,68 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void commitTutorHelper() {
+        if (inBatch) {
+            committedInBatch = true;
+            return;
+        }
         versionedTutorHelper.commit();
+        logger.fine("Undo history uses " + versionedTutorHelper.getHistoryBytesInMemory() + " bytes in memory and "
+                + versionedTutorHelper.getHistoryBytesOnDisk() + " bytes on disk");
+    }
+
+    //=========== Batches ===================================================================================
+
+    @Override
+    public void beginBatch() {
+        if (inBatch) {
+            throw new IllegalStateException("A batch has already begun");
+        }
+        inBatch = true;
+        changedInBatch = false;
+        committedInBatch = false;
+    }
+
+    @Override
+    public void endBatch() {
+        requireBatch();
+        inBatch = false;
+        if (committedInBatch) {
+            commitTutorHelper();
+        }
+        if (changedInBatch) {
+            indicateTutorHelperChanged();
+        }
+    }
+
+    @Override
+    public void abortBatch() {
+        requireBatch();
+        inBatch = false;
+        versionedTutorHelper.rollback();
+        if (changedInBatch) {
+            indicateTutorHelperChanged();
+        }
+    }
+
+    private void requireBatch() {
+        if (!inBatch) {
+            throw new IllegalStateException("No batch has begun");
+        }
+    }
+
+    @Override
+    public long getUndoHistoryBytesInMemory() {
+        return versionedTutorHelper.getHistoryBytesInMemory();
+    }
+
+    @Override
+    public long getUndoHistoryBytesOnDisk() {
+        return versionedTutorHelper.getHistoryBytesOnDisk();
+    }
+
+    @Override
+    public void close() {
+        versionedTutorHelper.close();
     }
 
     @Override
@@ -184,7 +339,7 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return versionedTutorHelper.equals(other.versionedTutorHelper)
-                && filteredStudents.equals(other.filteredStudents);
+                && shownStudents.equals(other.shownStudents);
     }
 
 }
@@ -0,0 +1,91 @@
+package tutorhelper.model;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@code TutorHelperHistory} that keeps a snapshot of the whole student list for every commit.
+ * Snapshots share structure with each other, so each commit only costs the nodes touched since the previous one.
+ * Only the most recent snapshots are kept, and only the most recent of those in memory; see {@code UndoHistory}.
+ */
+class SnapshotHistory implements TutorHelperHistory {
+
+    private final UndoHistory tutorHelperStateHistory;
+    private int currentStatePointer;
+
+    /**
+     * Creates a history whose only state is the current state of {@code initialState}.
+     *
+     * @param maxStatesInMemory the number of snapshots kept in memory, or {@link UndoHistory#UNLIMITED}.
+     * @param maxBytesInMemory the estimated number of bytes kept in memory, or {@link UndoHistory#UNLIMITED}.
+     */
+    SnapshotHistory(TutorHelper initialState, int maxStatesInMemory, long maxBytesInMemory) {
+        requireNonNull(initialState);
+        tutorHelperStateHistory = new UndoHistory(maxStatesInMemory, maxBytesInMemory);
+        tutorHelperStateHistory.add(initialState.getSnapshot());
+        currentStatePointer = 0;
+    }
+
+    /**
+     * Does nothing, as every change is captured by the snapshot taken on commit.
+     */
+    @Override
+    public void record(StudentListChange change) {}
+
+    @Override
+    public void commit(TutorHelper current) {
+        tutorHelperStateHistory.truncate(currentStatePointer + 1);
+        tutorHelperStateHistory.add(current.getSnapshot());
+        // the oldest state may have been dropped to make room
+        currentStatePointer = tutorHelperStateHistory.size() - 1;
+    }
+
+    @Override
+    public void rollback(TutorHelper current) {
+        current.restoreSnapshot(tutorHelperStateHistory.get(currentStatePointer));
+    }
+
+    @Override
+    public void undo(TutorHelper current) {
+        current.restoreSnapshot(tutorHelperStateHistory.get(currentStatePointer - 1));
+        currentStatePointer--;
+    }
+
+    @Override
+    public void redo(TutorHelper current) {
+        current.restoreSnapshot(tutorHelperStateHistory.get(currentStatePointer + 1));
+        currentStatePointer++;
+    }
+
+    @Override
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    @Override
+    public boolean canRedo() {
+        return currentStatePointer < tutorHelperStateHistory.size() - 1;
+    }
+
+    @Override
+    public long getBytesInMemory() {
+        return tutorHelperStateHistory.getBytesInMemory();
+    }
+
+    @Override
+    public long getBytesOnDisk() {
+        return tutorHelperStateHistory.getBytesOnDisk();
+    }
+
+    @Override
+    public void close() {
+        tutorHelperStateHistory.close();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SnapshotHistory // instanceof handles nulls
+                && tutorHelperStateHistory.equals(((SnapshotHistory) other).tutorHelperStateHistory)
+                && currentStatePointer == ((SnapshotHistory) other).currentStatePointer);
+    }
+}
@@ -0,0 +1,15 @@
+package tutorhelper.model;
+
+/**
+ * How the TutorHelper data file is kept up to date on the hard disk.
+ */
+public enum StorageMode {
+    /** Rewrites the whole data file on every change. */
+    XML,
+    /** Rewrites the whole data file on every change, in a compact binary format that is faster to read. */
+    BINARY,
+    /** Appends each change to a journal next to the data file, and rewrites the data file once in a while. */
+    JOURNAL,
+    /** Keeps each student in a file of its own, in a directory next to the data file, rewriting only those changed. */
+    SHARDED
+}
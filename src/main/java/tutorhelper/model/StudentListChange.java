@@ -0,0 +1,232 @@
+package tutorhelper.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import tutorhelper.model.student.PersistentStudentList;
+import tutorhelper.model.student.Student;
+import tutorhelper.model.util.MemoryUsageUtil;
+
+/**
+ * A single change made to the student list of a {@code TutorHelper}, which can be applied again and reverted.
+ * Changes to a single student only remember that student and its position, so they cost O(1) to keep
+ * and O(1) to revert regardless of the size of the list.
+ */
+abstract class StudentListChange {
+
+    /**
+     * Returns the change that inserted {@code student} at {@code index}.
+     */
+    static StudentListChange added(int index, Student student) {
+        return new Addition(index, student);
+    }
+
+    /**
+     * Returns the change that removed {@code student} from {@code index}.
+     */
+    static StudentListChange removed(int index, Student student) {
+        return new Removal(index, student);
+    }
+
+    /**
+     * Returns the change that replaced {@code before} with {@code after} at {@code index}.
+     */
+    static StudentListChange replaced(int index, Student before, Student after) {
+        return new Replacement(index, before, after);
+    }
+
+    /**
+     * Returns the change that replaced the whole list {@code before} with {@code after}, e.g. a clear or a sort.
+     */
+    static StudentListChange reset(PersistentStudentList before, PersistentStudentList after) {
+        return new Reset(before, after);
+    }
+
+    /**
+     * Makes this change again on {@code tutorHelper}, which must be in the state the change was first made from.
+     */
+    abstract void apply(TutorHelper tutorHelper);
+
+    /**
+     * Undoes this change on {@code tutorHelper}, which must be in the state the change left it in.
+     */
+    abstract void revert(TutorHelper tutorHelper);
+
+    /**
+     * Returns the estimated number of bytes kept alive by this change that are no longer part of the live list.
+     */
+    abstract long estimateSize();
+
+    /**
+     * A student inserted at a position.
+     */
+    private static class Addition extends StudentListChange {
+        private final int index;
+        private final Student student;
+
+        private Addition(int index, Student student) {
+            this.index = index;
+            this.student = requireNonNull(student);
+        }
+
+        @Override
+        void apply(TutorHelper tutorHelper) {
+            tutorHelper.addStudentAt(index, student);
+        }
+
+        @Override
+        void revert(TutorHelper tutorHelper) {
+            tutorHelper.removeStudentAt(index);
+        }
+
+        @Override
+        long estimateSize() {
+            return MemoryUsageUtil.OBJECT_OVERHEAD_BYTES;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Addition
+                    && index == ((Addition) other).index
+                    && student.equals(((Addition) other).student));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, student);
+        }
+    }
+
+    /**
+     * A student removed from a position.
+     */
+    private static class Removal extends StudentListChange {
+        private final int index;
+        private final Student student;
+
+        private Removal(int index, Student student) {
+            this.index = index;
+            this.student = requireNonNull(student);
+        }
+
+        @Override
+        void apply(TutorHelper tutorHelper) {
+            tutorHelper.removeStudentAt(index);
+        }
+
+        @Override
+        void revert(TutorHelper tutorHelper) {
+            tutorHelper.addStudentAt(index, student);
+        }
+
+        @Override
+        long estimateSize() {
+            return MemoryUsageUtil.OBJECT_OVERHEAD_BYTES + MemoryUsageUtil.estimateSize(student);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Removal
+                    && index == ((Removal) other).index
+                    && student.equals(((Removal) other).student));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, student);
+        }
+    }
+
+    /**
+     * A student replaced by an edited copy at the same position.
+     */
+    private static class Replacement extends StudentListChange {
+        private final int index;
+        private final Student before;
+        private final Student after;
+
+        private Replacement(int index, Student before, Student after) {
+            this.index = index;
+            this.before = requireNonNull(before);
+            this.after = requireNonNull(after);
+        }
+
+        @Override
+        void apply(TutorHelper tutorHelper) {
+            tutorHelper.setStudentAt(index, after);
+        }
+
+        @Override
+        void revert(TutorHelper tutorHelper) {
+            tutorHelper.setStudentAt(index, before);
+        }
+
+        @Override
+        long estimateSize() {
+            return MemoryUsageUtil.OBJECT_OVERHEAD_BYTES + MemoryUsageUtil.estimateSize(before);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Replacement)) {
+                return false;
+            }
+            Replacement otherReplacement = (Replacement) other;
+            return index == otherReplacement.index
+                    && before.equals(otherReplacement.before)
+                    && after.equals(otherReplacement.after);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, before, after);
+        }
+    }
+
+    /**
+     * The whole list replaced at once. Both versions are kept as snapshots, which share structure with the live list.
+     */
+    private static class Reset extends StudentListChange {
+        private final PersistentStudentList before;
+        private final PersistentStudentList after;
+
+        private Reset(PersistentStudentList before, PersistentStudentList after) {
+            this.before = requireNonNull(before);
+            this.after = requireNonNull(after);
+        }
+
+        @Override
+        void apply(TutorHelper tutorHelper) {
+            tutorHelper.restoreSnapshot(after);
+        }
+
+        @Override
+        void revert(TutorHelper tutorHelper) {
+            tutorHelper.restoreSnapshot(before);
+        }
+
+        @Override
+        long estimateSize() {
+            return MemoryUsageUtil.OBJECT_OVERHEAD_BYTES + before.getEstimatedSize();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Reset
+                    && before.equals(((Reset) other).before)
+                    && after.equals(((Reset) other).after));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(before, after);
+        }
+    }
+}
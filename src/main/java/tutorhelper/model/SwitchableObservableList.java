@@ -0,0 +1,132 @@
+package tutorhelper.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable {@code ObservableList} that shows the contents of another list, its source,
+ * and can be switched to show a different source.
+ * Changes to the source are passed on to the listeners of this list, and switching the source is seen by them
+ * as the replacement of the whole contents.
+ * Switching takes O(1) time, as the contents of the old source are handed to the listeners without being copied.
+ */
+class SwitchableObservableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::sourceChanged;
+    private ObservableList<E> source;
+
+    SwitchableObservableList(ObservableList<E> source) {
+        this.source = requireNonNull(source);
+        source.addListener(sourceListener);
+    }
+
+    /**
+     * Shows the contents of {@code newSource} from now on.
+     */
+    void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+        ObservableList<E> oldSource = source;
+        oldSource.removeListener(sourceListener);
+        newSource.addListener(sourceListener);
+        source = newSource;
+        if (!oldSource.isEmpty() || !newSource.isEmpty()) {
+            fireChange(new SwitchChange(Collections.unmodifiableList(oldSource)));
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    /**
+     * Passes on {@code change}, made to the source, as a change to this list.
+     */
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * The replacement of the whole contents of the list by a switch of its source.
+     * The contents of the old source are only valid while listeners are being notified, as the old source is no
+     * longer followed.
+     */
+    private final class SwitchChange extends ListChangeListener.Change<E> {
+        private final List<E> removed;
+        private boolean isOnChange;
+
+        private SwitchChange(List<E> removed) {
+            super(SwitchableObservableList.this);
+            this.removed = removed;
+        }
+
+        @Override
+        public boolean next() {
+            if (isOnChange) {
+                return false;
+            }
+            isOnChange = true;
+            return true;
+        }
+
+        @Override
+        public void reset() {
+            isOnChange = false;
+        }
+
+        @Override
+        public int getFrom() {
+            return 0;
+        }
+
+        @Override
+        public int getTo() {
+            return size();
+        }
+
+        @Override
+        public List<E> getRemoved() {
+            return removed;
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            return new int[0];
+        }
+    }
+}
@@ -2,12 +2,16 @@ package tutorhelper.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.DayOfWeek;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import tutorhelper.model.student.NameContainsKeywordsPredicate;
+import tutorhelper.model.student.PersistentStudentList;
 import tutorhelper.model.student.Student;
 import tutorhelper.model.student.UniqueStudentList;
-import tutorhelper.model.tuitiontiming.TuitionTiming;
 
 /**
  * Wraps all data at the TutorHelper level
@@ -38,6 +42,15 @@ public class TutorHelper implements ReadOnlyTutorHelper {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates a TutorHelper holding {@code students}, in one pass over the list.
+     * {@code students} must not contain duplicate students.
+     */
+    public TutorHelper(List<Student> students) {
+        this();
+        setStudents(students);
+    }
+
     //// list overwrite operations
 
     /**
@@ -45,7 +58,9 @@ public class TutorHelper implements ReadOnlyTutorHelper {
      * {@code students} must not contain duplicate students.
      */
     public void setStudents(List<Student> students) {
+        PersistentStudentList before = getSnapshot();
         this.students.setStudents(students);
+        studentsChanged(StudentListChange.reset(before, getSnapshot()));
     }
 
     /**
@@ -72,7 +87,8 @@ public class TutorHelper implements ReadOnlyTutorHelper {
      * The student must not already exist in the TutorHelper.
      */
     public void addStudent(Student p) {
-        students.add(p);
+        int index = students.add(p);
+        studentsChanged(StudentListChange.added(index, p));
     }
 
     /**
@@ -83,7 +99,8 @@ public class TutorHelper implements ReadOnlyTutorHelper {
      */
     public void updateStudent(Student target, Student editedStudent) {
         requireNonNull(editedStudent);
-        students.setStudent(target, editedStudent);
+        int index = students.setStudent(target, editedStudent);
+        studentsChanged(StudentListChange.replaced(index, target, editedStudent));
     }
 
     /**
@@ -91,47 +108,104 @@ public class TutorHelper implements ReadOnlyTutorHelper {
      * {@code key} must exist in the TutorHelper.
      */
     public void removeStudent(Student key) {
-        students.remove(key);
+        int index = students.remove(key);
+        studentsChanged(StudentListChange.removed(index, key));
+    }
+
+    /**
+     * Removes {@code keys} from this {@code TutorHelper} in a single pass, recorded as a single change.
+     * {@code keys} must all exist in the TutorHelper.
+     */
+    public void removeStudents(Collection<Student> keys) {
+        PersistentStudentList before = getSnapshot();
+        students.removeAll(keys);
+        studentsChanged(StudentListChange.reset(before, getSnapshot()));
+    }
+
+    /**
+     * Replaces each student of {@code targets} with the student at the same position of {@code editedStudents},
+     * in a single pass recorded as a single change.
+     * {@code targets} must all exist in the TutorHelper.
+     * The student identity of each edited student must not be the same as another existing student in the
+     * TutorHelper.
+     */
+    public void updateStudents(List<Student> targets, List<Student> editedStudents) {
+        PersistentStudentList before = getSnapshot();
+        students.setStudents(targets, editedStudents);
+        studentsChanged(StudentListChange.reset(before, getSnapshot()));
     }
 
     /**
-     * Sorts the list based on day.
+     * Returns the students whose tuition is on {@code day}, ordered by time.
      */
-    public void sortByDay() {
-        ObservableList<Student> studentList = students.asModifiableObservableList();
-        studentList.sort(((p1, p2) -> {
-            int p1Day = p1.getTuitionTiming().day.getValue();
-            int p2Day = p2.getTuitionTiming().day.getValue();
+    public List<Student> getStudentsWithTuitionOn(DayOfWeek day) {
+        return students.getStudentsWithTuitionOn(day);
+    }
 
-            if (p1Day - p2Day < 0) {
-                return -1;
-            } else if (p2Day - p1Day < 0) {
-                return 1;
-            } else {
-                return 0;
-            }
-        }));
+    /**
+     * Returns the students whose tuition starts at {@code minuteOfDay}, on any day, ordered by day.
+     */
+    public List<Student> getStudentsWithTuitionAt(int minuteOfDay) {
+        return students.getStudentsWithTuitionAt(minuteOfDay);
     }
 
     /**
-     * Sorts the list based on time.
+     * Returns the students whose name matches {@code predicate}, in the order of the list.
      */
-    public void sortByTime() {
-        ObservableList<Student> studentList = students.asModifiableObservableList();
-        studentList.sort((p1, p2) -> {
-            String time1 = TuitionTiming.convertTwelveHourToTwentyFourHour(p1.getTuitionTiming().time);
-            String time2 = TuitionTiming.convertTwelveHourToTwentyFourHour(p2.getTuitionTiming().time);
-            assert time1 != null : "time1 should not be null";
-            assert time2 != null : "time2 should not be null";
+    public List<Student> findStudentsByName(NameContainsKeywordsPredicate predicate) {
+        return students.findByName(predicate);
+    }
+
+    /**
+     * Returns the total paid by all students in {@code month} of {@code year}.
+     */
+    public long getEarnings(int month, int year) {
+        return students.getEarnings(month, year);
+    }
+
+    /**
+     * Returns the total paid by all students from {@code from} to {@code to}, both inclusive.
+     */
+    public long getEarnings(YearMonth from, YearMonth to) {
+        return students.getEarnings(from, to);
+    }
+
+    /**
+     * Called after every change made to the student list through the operations above.
+     * Does nothing by default; overridden by subclasses that keep track of changes.
+     */
+    void studentsChanged(StudentListChange change) {}
+
+    //// snapshot operations
+
+    /**
+     * Returns an immutable snapshot of the students in this {@code TutorHelper}.
+     * The snapshot shares its structure with the live data, so taking one costs O(1).
+     */
+    public PersistentStudentList getSnapshot() {
+        return students.snapshot();
+    }
+
+    /**
+     * Replaces the students in this {@code TutorHelper} with a {@code snapshot} previously returned by
+     * {@link #getSnapshot()}.
+     */
+    public void restoreSnapshot(PersistentStudentList snapshot) {
+        students.restore(snapshot);
+    }
+
+    //// unchecked positional operations, used to replay and undo changes without recording them again
+
+    void addStudentAt(int index, Student student) {
+        students.addAt(index, student);
+    }
+
+    void setStudentAt(int index, Student student) {
+        students.setAt(index, student);
+    }
 
-            if (time1.compareTo(time2) < 1) {
-                return -1;
-            } else if (time2.compareTo(time1) < 1) {
-                return 1;
-            } else {
-                return 0;
-            }
-        });
+    void removeStudentAt(int index) {
+        students.removeAt(index);
     }
 
     //// util methods
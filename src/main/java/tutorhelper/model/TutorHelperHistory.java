@@ -0,0 +1,54 @@
+package tutorhelper.model;
+
+/**
+ * The undo/redo history of a {@code VersionedTutorHelper}.
+ * Implementations decide how past states are remembered; see {@code SnapshotHistory} and {@code ChangeLog}.
+ */
+interface TutorHelperHistory {
+
+    /**
+     * Called for every change made to {@code current} since the last commit.
+     */
+    void record(StudentListChange change);
+
+    /**
+     * Saves the state of {@code current} as a new undoable state, discarding any undone states.
+     */
+    void commit(TutorHelper current);
+
+    /**
+     * Restores {@code current} to the last committed state, discarding the changes made since.
+     */
+    void rollback(TutorHelper current);
+
+    /**
+     * Restores {@code current} to the previous committed state.
+     * Changes made since the last commit are discarded.
+     */
+    void undo(TutorHelper current);
+
+    /**
+     * Restores {@code current} to the most recently undone state.
+     * Changes made since the last commit are discarded.
+     */
+    void redo(TutorHelper current);
+
+    boolean canUndo();
+
+    boolean canRedo();
+
+    /**
+     * Returns the estimated number of bytes used by the history in memory.
+     */
+    long getBytesInMemory();
+
+    /**
+     * Returns the number of bytes used by the history on disk.
+     */
+    long getBytesOnDisk();
+
+    /**
+     * Releases what the history holds outside memory. The history must not be used afterwards.
+     */
+    void close();
+}
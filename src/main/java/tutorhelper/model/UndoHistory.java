@@ -0,0 +1,311 @@
+package tutorhelper.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import tutorhelper.commons.core.LogsCenter;
+import tutorhelper.commons.util.StringUtil;
+import tutorhelper.model.student.PersistentStudentList;
+
+/**
+ * The committed states of a {@code VersionedTutorHelper}, oldest first. Every state is kept until it is truncated
+ * away, but only the most recent states are kept in memory, within a budget given as a number of states and/or an
+ * estimated number of bytes. Older states are moved to an {@code UndoSpillFile}, mostly as
+ * deltas against the state before them, and are read back transparently when they are needed again.
+ * The spill file is deleted by {@link #close()}.
+ */
+class UndoHistory {
+
+    /** Budget value meaning "no limit". */
+    static final int UNLIMITED = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(UndoHistory.class);
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final int maxStatesInMemory;
+    private final long maxBytesInMemory;
+
+    private UndoSpillFile spillFile;
+    private boolean isSpillFileUsable = true;
+    private int statesInMemory;
+    private long bytesInMemory;
+
+    /**
+     * Creates an empty history.
+     *
+     * @param maxStatesInMemory the number of states kept in memory, or {@link #UNLIMITED}.
+     * @param maxBytesInMemory the estimated number of bytes kept in memory, or {@link #UNLIMITED}.
+     */
+    UndoHistory(int maxStatesInMemory, long maxBytesInMemory) {
+        this.maxStatesInMemory = maxStatesInMemory;
+        this.maxBytesInMemory = maxBytesInMemory;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Appends {@code state} to the end of the history, spilling older states to disk if memory is then over budget.
+     */
+    void add(PersistentStudentList state) {
+        requireNonNull(state);
+        entries.add(new Entry());
+        bringIntoMemory(entries.size() - 1, state);
+        enforceBudget(entries.size() - 1);
+    }
+
+    /**
+     * Returns the state at {@code index}, reading it back from the spill file if it is no longer in memory.
+     *
+     * @throws UncheckedIOException if the state was spilled and cannot be read back.
+     */
+    PersistentStudentList get(int index) {
+        Entry entry = entries.get(index);
+        if (entry.state == null) {
+            bringIntoMemory(index, readSpilled(entry));
+            enforceBudget(index);
+        }
+        return entry.state;
+    }
+
+    /**
+     * Removes every state from {@code size} onwards. The space of their records in the spill file is reused.
+     */
+    void truncate(int size) {
+        for (int i = entries.size() - 1; i >= size; i--) {
+            remove(i);
+        }
+    }
+
+    /**
+     * Closes and deletes the spill file. The history must not be used afterwards.
+     */
+    void close() {
+        if (spillFile == null) {
+            return;
+        }
+        try {
+            spillFile.close();
+        } catch (IOException ioe) {
+            logger.warning("Unable to delete the undo history on disk: " + StringUtil.getDetails(ioe));
+        }
+        spillFile = null;
+        isSpillFileUsable = false;
+    }
+
+    /**
+     * Returns the estimated number of bytes used by the states held in memory.
+     */
+    long getBytesInMemory() {
+        return bytesInMemory;
+    }
+
+    /**
+     * Returns the number of bytes written to the spill file.
+     */
+    long getBytesOnDisk() {
+        if (spillFile == null) {
+            return 0;
+        }
+        try {
+            return spillFile.size();
+        } catch (IOException ioe) {
+            return 0;
+        }
+    }
+
+    int getStatesInMemory() {
+        return statesInMemory;
+    }
+
+    /**
+     * Puts {@code state} back into the entry at {@code index} and charges it against the budget.
+     * A state that directly follows an in-memory state is only charged for what it does not share with it.
+     */
+    private void bringIntoMemory(int index, PersistentStudentList state) {
+        Entry entry = entries.get(index);
+        Entry previous = index > 0 ? entries.get(index - 1) : null;
+        entry.state = state;
+        entry.isChargedAsDelta = previous != null && previous.state != null;
+        entry.chargedBytes = entry.isChargedAsDelta
+                ? state.estimateSizeAddedSince(previous.state)
+                : state.getEstimatedSize();
+        statesInMemory++;
+        bytesInMemory += entry.chargedBytes;
+
+        if (index + 1 < entries.size()) {
+            Entry next = entries.get(index + 1);
+            if (next.state != null && !next.isChargedAsDelta) {
+                recharge(next, next.state.estimateSizeAddedSince(state), true);
+            }
+        }
+    }
+
+    /**
+     * Removes the state at {@code index}, from memory and from the spill file.
+     */
+    private void remove(int index) {
+        Entry entry = entries.get(index);
+        if (entry.state != null) {
+            evict(index);
+        }
+        entries.remove(index);
+        if (entry.spillRecord == null) {
+            return;
+        }
+        try {
+            spillFile.free(entry.spillRecord);
+        } catch (IOException ioe) {
+            logger.warning("Unable to reclaim undo history space on disk: " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    /**
+     * Drops the in-memory copy of the state at {@code index}.
+     * The state that follows it no longer shares anything held by this history, so it is charged in full.
+     */
+    private void evict(int index) {
+        Entry entry = entries.get(index);
+        statesInMemory--;
+        bytesInMemory -= entry.chargedBytes;
+        entry.state = null;
+        entry.chargedBytes = 0;
+
+        if (index + 1 < entries.size()) {
+            Entry next = entries.get(index + 1);
+            if (next.state != null && next.isChargedAsDelta) {
+                recharge(next, next.state.getEstimatedSize(), false);
+            }
+        }
+    }
+
+    /**
+     * Changes the number of bytes {@code entry} is charged for, keeping the running total in step.
+     */
+    private void recharge(Entry entry, long chargedBytes, boolean isChargedAsDelta) {
+        bytesInMemory += chargedBytes - entry.chargedBytes;
+        entry.chargedBytes = chargedBytes;
+        entry.isChargedAsDelta = isChargedAsDelta;
+    }
+
+    /**
+     * Spills the oldest in-memory states, other than the one at {@code pinnedIndex}, until the history is
+     * within budget again.
+     */
+    private void enforceBudget(int pinnedIndex) {
+        while (isOverBudget()) {
+            int oldest = findOldestInMemory(pinnedIndex);
+            if (oldest == -1 || !spill(oldest)) {
+                return;
+            }
+        }
+    }
+
+    private boolean isOverBudget() {
+        return (maxStatesInMemory != UNLIMITED && statesInMemory > maxStatesInMemory)
+                || (maxBytesInMemory != UNLIMITED && bytesInMemory > maxBytesInMemory);
+    }
+
+    /**
+     * Returns the index of the oldest in-memory state other than {@code pinnedIndex}, or -1 if there is none.
+     */
+    private int findOldestInMemory(int pinnedIndex) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (i != pinnedIndex && entries.get(i).state != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Moves the state at {@code index} out of memory, writing it to the spill file if it is not there yet.
+     * Returns false if the state could not be written, in which case it stays in memory.
+     */
+    private boolean spill(int index) {
+        Entry entry = entries.get(index);
+        if (entry.spillRecord == null) {
+            if (!isSpillFileUsable) {
+                return false;
+            }
+            try {
+                if (spillFile == null) {
+                    spillFile = new UndoSpillFile();
+                }
+                UndoSpillFile.Record previous = index > 0 ? entries.get(index - 1).spillRecord : null;
+                entry.spillRecord = spillFile.write(entry.state, previous);
+            } catch (IOException ioe) {
+                logger.warning("Unable to spill undo history to disk, keeping it in memory: "
+                        + StringUtil.getDetails(ioe));
+                isSpillFileUsable = false;
+                return false;
+            }
+        }
+        evict(index);
+        return true;
+    }
+
+    /**
+     * Reads the state of {@code entry} back from the spill file.
+     *
+     * @throws UncheckedIOException if the state cannot be read.
+     */
+    private PersistentStudentList readSpilled(Entry entry) {
+        try {
+            return spillFile.read(entry.spillRecord);
+        } catch (IOException ioe) {
+            logger.severe("Unable to read undo history back from disk: " + StringUtil.getDetails(ioe));
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Returns true if both histories hold the same states, wherever those states are kept.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof UndoHistory)) {
+            return false;
+        }
+
+        UndoHistory otherHistory = (UndoHistory) other;
+        if (size() != otherHistory.size()) {
+            return false;
+        }
+        for (int i = 0; i < size(); i++) {
+            if (!peek(i).equals(otherHistory.peek(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the state at {@code index} without bringing it back into memory.
+     */
+    private PersistentStudentList peek(int index) {
+        Entry entry = entries.get(index);
+        return entry.state != null ? entry.state : readSpilled(entry);
+    }
+
+    /**
+     * A single committed state. {@code state} is null while the state only lives in the spill file.
+     */
+    private static class Entry {
+        private PersistentStudentList state;
+        /** Where the state is in the spill file, or null if it has not been written there. */
+        private UndoSpillFile.Record spillRecord;
+        private long chargedBytes;
+        private boolean isChargedAsDelta;
+    }
+}
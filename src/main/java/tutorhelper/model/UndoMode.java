@@ -0,0 +1,11 @@
+package tutorhelper.model;
+
+/**
+ * How a {@code VersionedTutorHelper} remembers the states it can undo to.
+ */
+public enum UndoMode {
+    /** Keeps a structurally shared snapshot of the whole student list per commit. */
+    SNAPSHOT,
+    /** Keeps only the changes made by each commit, and undoes a commit by reverting them. */
+    CHANGE_LOG
+}
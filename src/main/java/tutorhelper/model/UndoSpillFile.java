@@ -0,0 +1,442 @@
+package tutorhelper.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tutorhelper.model.student.Address;
+import tutorhelper.model.student.Email;
+import tutorhelper.model.student.Name;
+import tutorhelper.model.student.Payment;
+import tutorhelper.model.student.PaymentHistory;
+import tutorhelper.model.student.PersistentStudentList;
+import tutorhelper.model.student.Phone;
+import tutorhelper.model.student.Student;
+import tutorhelper.model.subject.Subject;
+import tutorhelper.model.subject.SubjectType;
+import tutorhelper.model.subject.Syllabus;
+import tutorhelper.model.tag.Tag;
+import tutorhelper.model.tuitiontiming.TuitionTiming;
+
+/**
+ * A temporary file that holds TutorHelper states which were moved out of memory by {@code UndoHistory}.
+ *
+ * A state written right after the state it follows is stored as a delta against it: only the students that
+ * differ, found without walking the subtrees the two share. Every {@link #MAX_CHAIN_LENGTH}th state in a row, or a
+ * state that shares little with the one before, is stored whole, so that reading a state back only replays a few
+ * deltas. The state last written and the states of the chain last read are kept, so that the next state written
+ * can be compared with the one it follows, and reading back the states around the last one read builds them from
+ * each other, so that they share their structure in memory as they did before they were spilled.
+ *
+ * Each state is stored as one binary record, addressed by the {@link Record} returned when it was written.
+ * A record that is freed is reclaimed once no delta depends on it, and the file is shrunk or compacted so that
+ * it does not hold much more than the states still in use. The file is deleted by {@link #close()}.
+ */
+class UndoSpillFile {
+
+    /** The most records that a record can be read back through, counting itself. */
+    static final int MAX_CHAIN_LENGTH = 16;
+
+    /** The file is compacted once reclaimed records take more bytes than this and than the records in use. */
+    private static final long MIN_COMPACTION_BYTES = 64 * 1024;
+
+    private static final byte WHOLE_STATE = 0;
+    private static final byte REPLACED_STUDENTS = 1;
+    private static final byte REPLACED_RANGE = 2;
+
+    private final Path file;
+    private final RandomAccessFile access;
+    /** Every record that has not been reclaimed yet, in the order they are laid out in the file. */
+    private final List<Record> records = new ArrayList<>();
+    /** The states of the records in the chain last written or read. */
+    private Map<Record, PersistentStudentList> chainStates = new HashMap<>();
+    private long reclaimedBytes;
+
+    UndoSpillFile() throws IOException {
+        file = Files.createTempFile("tutorhelper-undo-", ".spill");
+        file.toFile().deleteOnExit();
+        access = new RandomAccessFile(file.toFile(), "rw");
+    }
+
+    /**
+     * Writes {@code state} to the file and returns its record. If {@code previous} is the record of the state that
+     * {@code state} directly follows, {@code state} may be stored as a delta against it.
+     */
+    Record write(PersistentStudentList state, Record previous) throws IOException {
+        requireNonNull(state);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buffer);
+        PersistentStudentList previousState = previous == null || previous.chainLength >= MAX_CHAIN_LENGTH
+                ? null : chainStates.get(previous);
+        Record base = previousState != null && writeDelta(out, previousState, state) ? previous : null;
+        if (base == null) {
+            out.writeByte(WHOLE_STATE);
+            writeStudents(out, state, 0, state.size());
+        }
+        out.flush();
+
+        Record record = new Record(base, getEnd(), buffer.size());
+        access.seek(record.offset);
+        access.write(buffer.toByteArray());
+        records.add(record);
+        if (base != null) {
+            base.dependents++;
+        }
+        // only the state just written is kept, as the state the next one written is likely to follow
+        chainStates = new HashMap<>();
+        chainStates.put(record, state);
+        return record;
+    }
+
+    /**
+     * Reads back the state of {@code record}.
+     */
+    PersistentStudentList read(Record record) throws IOException {
+        requireNonNull(record);
+        if (record.isReclaimed) {
+            throw new IllegalArgumentException("The record has been freed");
+        }
+        Deque<Record> unread = new ArrayDeque<>();
+        Record known = record;
+        while (!chainStates.containsKey(known) && known.base != null) {
+            unread.push(known);
+            known = known.base;
+        }
+
+        PersistentStudentList state = chainStates.containsKey(known) ? chainStates.get(known) : readWhole(known);
+        rememberChain(known, state);
+        while (!unread.isEmpty()) {
+            Record next = unread.pop();
+            state = readDelta(next, state);
+            chainStates.put(next, state);
+        }
+        return state;
+    }
+
+    /**
+     * Marks {@code record} as no longer needed. Its space is reused once no other record depends on it.
+     */
+    void free(Record record) throws IOException {
+        requireNonNull(record);
+        record.isFreed = true;
+        for (Record unused = record; unused != null && unused.isFreed && unused.dependents == 0
+                && !unused.isReclaimed; unused = unused.base) {
+            unused.isReclaimed = true;
+            reclaimedBytes += unused.length;
+            chainStates.remove(unused);
+            if (unused.base != null) {
+                unused.base.dependents--;
+            }
+        }
+        reclaimSpace();
+    }
+
+    Path getFilePath() {
+        return file;
+    }
+
+    /**
+     * Returns the number of bytes the file takes.
+     */
+    long size() throws IOException {
+        return access.length();
+    }
+
+    /**
+     * Closes and deletes the file. The records written cannot be read back afterwards.
+     */
+    void close() throws IOException {
+        chainStates = new HashMap<>();
+        try {
+            access.close();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Writes {@code state} as a delta against {@code previousState} to {@code out}, and returns true, if the two
+     * share most of their students. Returns false, writing nothing, otherwise.
+     */
+    private static boolean writeDelta(DataOutputStream out, PersistentStudentList previousState,
+                                      PersistentStudentList state) throws IOException {
+        if (previousState.size() == state.size()) {
+            List<Integer> positions = previousState.getDifferingPositions(state);
+            if (positions.size() * 2 > state.size()) {
+                return false;
+            }
+            out.writeByte(REPLACED_STUDENTS);
+            out.writeInt(positions.size());
+            for (int position : positions) {
+                out.writeInt(position);
+                writeStudent(out, state.get(position));
+            }
+            return true;
+        }
+
+        int prefixLength = previousState.getCommonPrefixLength(state);
+        int suffixLength = previousState.getCommonSuffixLength(state,
+                Math.min(previousState.size(), state.size()) - prefixLength);
+        int addedEnd = state.size() - suffixLength;
+        if ((addedEnd - prefixLength) * 2 > state.size()) {
+            return false;
+        }
+        out.writeByte(REPLACED_RANGE);
+        out.writeInt(prefixLength);
+        out.writeInt(previousState.size() - suffixLength - prefixLength);
+        writeStudents(out, state, prefixLength, addedEnd);
+        return true;
+    }
+
+    /**
+     * Reads back the state stored whole in {@code record}.
+     */
+    private PersistentStudentList readWhole(Record record) throws IOException {
+        DataInputStream in = readRecord(record);
+        in.readByte();
+        return PersistentStudentList.of(readStudents(in));
+    }
+
+    /**
+     * Reads back the state of {@code record} by applying its delta to {@code previousState}, which the state
+     * shares all its other students with.
+     */
+    private PersistentStudentList readDelta(Record record, PersistentStudentList previousState) throws IOException {
+        DataInputStream in = readRecord(record);
+        PersistentStudentList state = previousState;
+        if (in.readByte() == REPLACED_STUDENTS) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                int position = in.readInt();
+                state = state.set(position, readStudent(in));
+            }
+            return state;
+        }
+
+        int prefixLength = in.readInt();
+        int removedCount = in.readInt();
+        for (int i = 0; i < removedCount; i++) {
+            state = state.remove(prefixLength);
+        }
+        List<Student> added = readStudents(in);
+        for (int i = 0; i < added.size(); i++) {
+            state = state.add(prefixLength + i, added.get(i));
+        }
+        return state;
+    }
+
+    /**
+     * Returns a stream over the bytes of {@code record}.
+     */
+    private DataInputStream readRecord(Record record) throws IOException {
+        byte[] bytes = new byte[record.length];
+        access.seek(record.offset);
+        access.readFully(bytes);
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Keeps {@code state} as the state of {@code record}, along with the states already known of the records
+     * it is read back through, and forgets the states of any other chain.
+     */
+    private void rememberChain(Record record, PersistentStudentList state) {
+        Map<Record, PersistentStudentList> states = new HashMap<>();
+        states.put(record, state);
+        for (Record base = record.base; base != null; base = base.base) {
+            if (chainStates.containsKey(base)) {
+                states.put(base, chainStates.get(base));
+            }
+        }
+        chainStates = states;
+    }
+
+    /**
+     * Reuses the space of the reclaimed records: shrinks the file if they are at its end, and compacts it if
+     * they take more space than the records in use.
+     */
+    private void reclaimSpace() throws IOException {
+        while (!records.isEmpty() && records.get(records.size() - 1).isReclaimed) {
+            Record last = records.remove(records.size() - 1);
+            reclaimedBytes -= last.length;
+        }
+        long end = getEnd();
+        if (end < access.length()) {
+            access.setLength(end);
+        }
+        if (reclaimedBytes > MIN_COMPACTION_BYTES && reclaimedBytes * 2 > end) {
+            compact();
+        }
+    }
+
+    /**
+     * Moves every record in use towards the start of the file, over the reclaimed ones, and shrinks the file.
+     */
+    private void compact() throws IOException {
+        long end = 0;
+        Iterator<Record> iterator = records.iterator();
+        while (iterator.hasNext()) {
+            Record record = iterator.next();
+            if (record.isReclaimed) {
+                iterator.remove();
+                continue;
+            }
+            if (record.offset != end) {
+                // records are kept in file order, so a record only moves over space already copied out of
+                byte[] bytes = new byte[record.length];
+                access.seek(record.offset);
+                access.readFully(bytes);
+                access.seek(end);
+                access.write(bytes);
+                record.offset = end;
+            }
+            end += record.length;
+        }
+        access.setLength(end);
+        reclaimedBytes = 0;
+    }
+
+    /**
+     * Returns the offset just past the last record that has not been reclaimed.
+     */
+    private long getEnd() {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        Record last = records.get(records.size() - 1);
+        return last.offset + last.length;
+    }
+
+    /**
+     * Writes the students of {@code state} from {@code from}, inclusive, to {@code to}, exclusive, to {@code out},
+     * preceded by their number.
+     */
+    private static void writeStudents(DataOutputStream out, PersistentStudentList state, int from, int to)
+            throws IOException {
+        out.writeInt(to - from);
+        for (Student student : state.toList(from, to)) {
+            writeStudent(out, student);
+        }
+    }
+
+    /**
+     * Reads back students written by {@link #writeStudents}.
+     */
+    private static List<Student> readStudents(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<Student> students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            students.add(readStudent(in));
+        }
+        return students;
+    }
+
+    /**
+     * Writes every field of {@code student} to {@code out}.
+     */
+    private static void writeStudent(DataOutputStream out, Student student) throws IOException {
+        out.writeUTF(student.getName().fullName);
+        out.writeUTF(student.getPhone().value);
+        out.writeUTF(student.getEmail().value);
+        out.writeUTF(student.getAddress().value);
+        out.writeUTF(student.getTuitionTiming().value);
+
+        out.writeInt(student.getSubjects().size());
+        for (Subject subject : student.getSubjects()) {
+            out.writeByte(subject.getSubjectType().ordinal());
+            out.writeFloat(subject.getCompletionRate());
+            out.writeInt(subject.getSubjectContent().size());
+            for (Syllabus syllabus : subject.getSubjectContent()) {
+                out.writeUTF(syllabus.syllabus);
+                out.writeBoolean(syllabus.state);
+            }
+        }
+
+        out.writeInt(student.getTags().size());
+        for (Tag tag : student.getTags()) {
+            out.writeUTF(tag.tagName);
+        }
+
+        PaymentHistory payments = student.getPaymentHistory();
+        out.writeInt(payments.size());
+        for (int i = 0; i < payments.size(); i++) {
+            out.writeInt(payments.getAmount(i));
+            out.writeInt(payments.getMonth(i));
+            out.writeInt(payments.getYear(i));
+        }
+    }
+
+    /**
+     * Reads back a student written by {@link #writeStudent}.
+     */
+    private static Student readStudent(DataInputStream in) throws IOException {
+        Name name = new Name(in.readUTF());
+        Phone phone = new Phone(in.readUTF());
+        Email email = new Email(in.readUTF());
+        Address address = new Address(in.readUTF());
+        TuitionTiming tuitionTiming = new TuitionTiming(in.readUTF());
+
+        int subjectCount = in.readInt();
+        Set<Subject> subjects = new HashSet<>();
+        for (int i = 0; i < subjectCount; i++) {
+            SubjectType type = SubjectType.values()[in.readByte()];
+            float completionRate = in.readFloat();
+            int syllabusCount = in.readInt();
+            List<Syllabus> content = new ArrayList<>(syllabusCount);
+            for (int j = 0; j < syllabusCount; j++) {
+                content.add(new Syllabus(in.readUTF(), in.readBoolean()));
+            }
+            subjects.add(new Subject(type, content, completionRate));
+        }
+
+        int tagCount = in.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(in.readUTF()));
+        }
+
+        int paymentCount = in.readInt();
+        List<Payment> payments = new ArrayList<>(paymentCount);
+        for (int i = 0; i < paymentCount; i++) {
+            payments.add(new Payment(null, in.readInt(), in.readInt(), in.readInt()));
+        }
+
+        return new Student(name, phone, email, address, subjects, tuitionTiming, tags, payments);
+    }
+
+    /**
+     * Where a state is stored in the file, and the record its delta is against, if it is stored as one.
+     */
+    static final class Record {
+        private final Record base;
+        private final int chainLength;
+        private final int length;
+        private long offset;
+        /** The number of records stored as deltas against this one that are not reclaimed. */
+        private int dependents;
+        private boolean isFreed;
+        private boolean isReclaimed;
+
+        private Record(Record base, long offset, int length) {
+            this.base = base;
+            this.chainLength = base == null ? 1 : base.chainLength + 1;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
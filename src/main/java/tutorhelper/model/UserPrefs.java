@@ -13,6 +13,12 @@ public class UserPrefs {
 
     private GuiSettings guiSettings;
     private Path tutorHelperFilePath = Paths.get("data" , "tutorhelper.xml");
+    private Path commandHistoryFilePath = Paths.get("data", "commandhistory.txt");
+    private StorageMode storageMode = StorageMode.XML;
+    private UndoMode undoMode = UndoMode.SNAPSHOT;
+    // Undo snapshots beyond either limit are moved to disk, never dropped. A limit of 0 means no limit.
+    private int maxUndoStatesInMemory = 20;
+    private long maxUndoBytesInMemory = 0;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +44,46 @@ public class UserPrefs {
         this.tutorHelperFilePath = tutorHelperFilePath;
     }
 
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryFilePath;
+    }
+
+    public void setCommandHistoryFilePath(Path commandHistoryFilePath) {
+        this.commandHistoryFilePath = commandHistoryFilePath;
+    }
+
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        this.storageMode = storageMode;
+    }
+
+    public UndoMode getUndoMode() {
+        return undoMode;
+    }
+
+    public void setUndoMode(UndoMode undoMode) {
+        this.undoMode = undoMode;
+    }
+
+    public int getMaxUndoStatesInMemory() {
+        return maxUndoStatesInMemory;
+    }
+
+    public void setMaxUndoStatesInMemory(int maxUndoStatesInMemory) {
+        this.maxUndoStatesInMemory = maxUndoStatesInMemory;
+    }
+
+    public long getMaxUndoBytesInMemory() {
+        return maxUndoBytesInMemory;
+    }
+
+    public void setMaxUndoBytesInMemory(long maxUndoBytesInMemory) {
+        this.maxUndoBytesInMemory = maxUndoBytesInMemory;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +96,18 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(tutorHelperFilePath, o.tutorHelperFilePath);
+                && Objects.equals(tutorHelperFilePath, o.tutorHelperFilePath)
+                && Objects.equals(commandHistoryFilePath, o.commandHistoryFilePath)
+                && storageMode == o.storageMode
+                && undoMode == o.undoMode
+                && maxUndoStatesInMemory == o.maxUndoStatesInMemory
+                && maxUndoBytesInMemory == o.maxUndoBytesInMemory;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, tutorHelperFilePath);
+        return Objects.hash(guiSettings, tutorHelperFilePath, commandHistoryFilePath, storageMode, undoMode,
+                maxUndoStatesInMemory, maxUndoBytesInMemory);
     }
 
     @Override
@@ -63,6 +115,11 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + tutorHelperFilePath);
+        sb.append("\nCommand history file location : " + commandHistoryFilePath);
+        sb.append("\nStorage mode : " + storageMode);
+        sb.append("\nUndo mode : " + undoMode);
+        sb.append("\nUndo states kept in memory : " + maxUndoStatesInMemory);
+        sb.append("\nUndo bytes kept in memory : " + maxUndoBytesInMemory);
         return sb.toString();
     }
 
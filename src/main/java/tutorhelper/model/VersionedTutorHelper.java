@@ -1,36 +1,59 @@
 package tutorhelper.model;
 
-import java.util.ArrayList;
-import java.util.List;
+import static java.util.Objects.requireNonNull;
 
 /**
  * {@code TutorHelper} that keeps track of its own history.
+ * How past states are remembered depends on the {@code UndoMode}: either as structurally shared snapshots of
+ * the student list (see {@code SnapshotHistory}), or as the changes made by each commit (see {@code ChangeLog}).
  */
 public class VersionedTutorHelper extends TutorHelper {
 
-    private final List<ReadOnlyTutorHelper> tutorHelperStateList;
-    private int currentStatePointer;
+    private final TutorHelperHistory history;
 
     public VersionedTutorHelper(ReadOnlyTutorHelper initialState) {
+        this(initialState, UndoMode.SNAPSHOT, UndoHistory.UNLIMITED, UndoHistory.UNLIMITED);
+    }
+
+    /**
+     * Creates a {@code VersionedTutorHelper} that remembers its history as described by {@code undoMode}.
+     * In {@code UndoMode.SNAPSHOT}, at most {@code maxStatesInMemory} states, taking up at most an estimated
+     * {@code maxBytesInMemory} bytes, are kept in memory and older states are moved to disk, so no state is ever
+     * dropped. A limit of 0 means no limit. The limits are ignored by {@code UndoMode.CHANGE_LOG}.
+     */
+    public VersionedTutorHelper(ReadOnlyTutorHelper initialState, UndoMode undoMode,
+                                int maxStatesInMemory, long maxBytesInMemory) {
         super(initialState);
+        requireNonNull(undoMode);
+
+        if (undoMode == UndoMode.CHANGE_LOG) {
+            history = new ChangeLog();
+        } else {
+            history = new SnapshotHistory(this, maxStatesInMemory, maxBytesInMemory);
+        }
+    }
 
-        tutorHelperStateList = new ArrayList<>();
-        tutorHelperStateList.add(new TutorHelper(initialState));
-        currentStatePointer = 0;
+    @Override
+    void studentsChanged(StudentListChange change) {
+        // changes made while the initial state is copied in are not part of the history
+        if (history != null) {
+            history.record(change);
+        }
     }
 
     /**
-     * Saves a copy of the current {@code TutorHelper} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the current {@code TutorHelper} state as the latest undoable state.
+     * Undone states are removed from the history.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        tutorHelperStateList.add(new TutorHelper(this));
-        currentStatePointer++;
+        history.commit(this);
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        tutorHelperStateList.subList(currentStatePointer + 1, tutorHelperStateList.size()).clear();
+    /**
+     * Restores the TutorHelper to its last committed state, discarding the changes made since.
+     */
+    public void rollback() {
+        history.rollback(this);
     }
 
     /**
@@ -40,8 +63,7 @@ public class VersionedTutorHelper extends TutorHelper {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(tutorHelperStateList.get(currentStatePointer));
+        history.undo(this);
     }
 
     /**
@@ -51,22 +73,42 @@ public class VersionedTutorHelper extends TutorHelper {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(tutorHelperStateList.get(currentStatePointer));
+        history.redo(this);
     }
 
     /**
      * Returns true if {@code undo()} has TutorHelper states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has TutorHelper states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < tutorHelperStateList.size() - 1;
+        return history.canRedo();
+    }
+
+    /**
+     * Returns the estimated number of bytes used by the history in memory.
+     */
+    public long getHistoryBytesInMemory() {
+        return history.getBytesInMemory();
+    }
+
+    /**
+     * Returns the number of bytes used by the history on disk.
+     */
+    public long getHistoryBytesOnDisk() {
+        return history.getBytesOnDisk();
+    }
+
+    /**
+     * Deletes the history kept on disk. The history must not be used afterwards.
+     */
+    public void close() {
+        history.close();
     }
 
     @Override
@@ -85,8 +127,7 @@ public class VersionedTutorHelper extends TutorHelper {
 
         // state check
         return super.equals(otherVersionedTutorHelper)
-                && tutorHelperStateList.equals(otherVersionedTutorHelper.tutorHelperStateList)
-                && currentStatePointer == otherVersionedTutorHelper.currentStatePointer;
+                && history.equals(otherVersionedTutorHelper.history);
     }
 
     /**
@@ -3,6 +3,8 @@ package tutorhelper.model.student;
 import static java.util.Objects.requireNonNull;
 import static tutorhelper.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's address in the TutorHelper.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -17,6 +19,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String ADDRESS_VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern ADDRESS_VALIDATION_PATTERN = Pattern.compile(ADDRESS_VALIDATION_REGEX);
 
     public final String value;
 
@@ -35,7 +38,7 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(ADDRESS_VALIDATION_REGEX);
+        return ADDRESS_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
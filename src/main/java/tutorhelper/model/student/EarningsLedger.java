@@ -0,0 +1,104 @@
+package tutorhelper.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A running total of the payments made by a set of students, kept per month.
+ * The total of a single month is answered in O(1) from a hash map. Totals over a range of months, such as a
+ * whole year, are answered in O(log n) from a Fenwick tree over every month of the four-digit years that
+ * {@code Payment} allows. The tree is sparse, so it only holds the nodes that some payment has touched.
+ *
+ * @see Payment#isValidYear(int)
+ */
+class EarningsLedger {
+
+    private static final int FIRST_YEAR = 1000;
+    private static final int LAST_YEAR = 9999;
+    private static final int MONTHS_IN_YEAR = 12;
+    private static final int MONTH_COUNT = (LAST_YEAR - FIRST_YEAR + 1) * MONTHS_IN_YEAR;
+
+    private final Map<Integer, Long> monthlyTotals = new HashMap<>();
+    private final Map<Integer, Long> tree = new HashMap<>();
+
+    /**
+     * Adds the payments made by {@code student} to the ledger.
+     */
+    void add(Student student) {
+        PaymentHistory payments = student.getPaymentHistory();
+        for (int i = 0; i < payments.size(); i++) {
+            record(payments.getMonth(i), payments.getYear(i), payments.getAmount(i));
+        }
+    }
+
+    /**
+     * Takes the payments made by {@code student} out of the ledger.
+     */
+    void remove(Student student) {
+        PaymentHistory payments = student.getPaymentHistory();
+        for (int i = 0; i < payments.size(); i++) {
+            record(payments.getMonth(i), payments.getYear(i), -payments.getAmount(i));
+        }
+    }
+
+    void clear() {
+        monthlyTotals.clear();
+        tree.clear();
+    }
+
+    /**
+     * Returns the total paid in {@code month} of {@code year}.
+     */
+    long getTotal(int month, int year) {
+        return monthlyTotals.getOrDefault(toMonthNumber(year, month), 0L);
+    }
+
+    /**
+     * Returns the total paid from {@code from} to {@code to}, both inclusive.
+     * Returns 0 if {@code from} is after {@code to}.
+     */
+    long getTotal(YearMonth from, YearMonth to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (from.isAfter(to) || to.getYear() < FIRST_YEAR || from.getYear() > LAST_YEAR) {
+            return 0;
+        }
+        int first = from.getYear() < FIRST_YEAR ? 0 : toMonthNumber(from.getYear(), from.getMonthValue());
+        int last = to.getYear() > LAST_YEAR ? MONTH_COUNT - 1 : toMonthNumber(to.getYear(), to.getMonthValue());
+        return prefixTotal(last) - prefixTotal(first - 1);
+    }
+
+    /**
+     * Adds {@code amount} to {@code month} of {@code year}.
+     */
+    private void record(int month, int year, long amount) {
+        int monthNumber = toMonthNumber(year, month);
+        assert monthNumber >= 0 && monthNumber < MONTH_COUNT : "payments must have four-digit years";
+
+        monthlyTotals.merge(monthNumber, amount, Long::sum);
+        for (int node = monthNumber + 1; node <= MONTH_COUNT; node += node & -node) {
+            tree.merge(node, amount, Long::sum);
+        }
+    }
+
+    /**
+     * Returns the total paid in the months numbered 0 to {@code monthNumber}, both inclusive.
+     */
+    private long prefixTotal(int monthNumber) {
+        long total = 0;
+        for (int node = monthNumber + 1; node > 0; node -= node & -node) {
+            total += tree.getOrDefault(node, 0L);
+        }
+        return total;
+    }
+
+    /**
+     * Numbers the months consecutively, starting from January of the first four-digit year.
+     */
+    private static int toMonthNumber(int year, int month) {
+        return (year - FIRST_YEAR) * MONTHS_IN_YEAR + month - 1;
+    }
+}
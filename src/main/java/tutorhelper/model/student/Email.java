@@ -3,6 +3,8 @@ package tutorhelper.model.student;
 import static java.util.Objects.requireNonNull;
 import static tutorhelper.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's email in the TutorHelper.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -26,6 +28,7 @@ public class Email {
     private static final String DOMAIN_LAST_CHARACTER_REGEX = "[^\\W_]$";
     public static final String EMAIL_VALIDATION_REGEX = LOCAL_PART_REGEX + "@"
             + DOMAIN_FIRST_CHARACTER_REGEX + DOMAIN_MIDDLE_REGEX + DOMAIN_LAST_CHARACTER_REGEX;
+    private static final Pattern EMAIL_VALIDATION_PATTERN = Pattern.compile(EMAIL_VALIDATION_REGEX);
 
     public final String value;
 
@@ -44,7 +47,7 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(EMAIL_VALIDATION_REGEX);
+        return EMAIL_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
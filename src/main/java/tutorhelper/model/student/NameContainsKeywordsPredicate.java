@@ -1,24 +1,64 @@
 package tutorhelper.model.student;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import tutorhelper.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Student}'s {@code Name} matches any of the keywords given.
+ * A keyword may join several words with {@value #ALL_OF_SEPARATOR}, in which case the name must have all of them,
+ * and a word may end with {@code *}, in which case it matches any word of the name that starts with it.
+ * Matching is case insensitive.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Student> {
+
+    public static final String ALL_OF_SEPARATOR = "+";
+
     private final List<String> keywords;
+    /** The case-folded words of each keyword. */
+    private final List<List<String>> alternatives = new ArrayList<>();
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            List<String> terms = new ArrayList<>();
+            for (String term : keyword.split("\\" + ALL_OF_SEPARATOR)) {
+                if (!term.trim().isEmpty()) {
+                    terms.add(NameTokenIndex.fold(term.trim()));
+                }
+            }
+            if (!terms.isEmpty()) {
+                alternatives.add(terms);
+            }
+        }
+    }
+
+    /**
+     * Returns the case-folded words of each keyword, as understood by {@code NameTokenIndex#find(List)}.
+     */
+    List<List<String>> getAlternatives() {
+        return Collections.unmodifiableList(alternatives);
     }
 
     @Override
     public boolean test(Student student) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(student.getName().fullName, keyword));
+        Set<String> tokens = new HashSet<>(NameTokenIndex.tokenize(student.getName()));
+        return alternatives.stream()
+                .anyMatch(terms -> terms.stream().allMatch(term -> matches(tokens, term)));
+    }
+
+    /**
+     * Returns true if {@code term} is one of {@code tokens}, or is a prefix of one of them ending with a wildcard.
+     */
+    private static boolean matches(Set<String> tokens, String term) {
+        if (term.charAt(term.length() - 1) != NameTokenIndex.PREFIX_WILDCARD) {
+            return tokens.contains(term);
+        }
+        String prefix = term.substring(0, term.length() - 1);
+        return tokens.stream().anyMatch(token -> token.startsWith(prefix));
     }
 
     @Override
@@ -0,0 +1,133 @@
+package tutorhelper.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index from the case-folded words of student names to the students whose name has that word.
+ * Looking up a word, the words starting with a prefix, or a combination of them through {@link #find(List)}
+ * takes time proportional to the number of students found rather than to the number of students indexed.
+ *
+ * Students are held by identity, so the index must be given the same {@code Student} instances that are
+ * in the list it indexes.
+ */
+class NameTokenIndex {
+
+    /** Ends a term that matches every word starting with the rest of the term. */
+    static final char PREFIX_WILDCARD = '*';
+
+    private final NavigableMap<String, Set<Student>> studentsByToken = new TreeMap<>();
+
+    /**
+     * Adds {@code student} to the index.
+     */
+    void add(Student student) {
+        for (String token : tokenize(student.getName())) {
+            studentsByToken.computeIfAbsent(token, unused -> newStudentSet()).add(student);
+        }
+    }
+
+    /**
+     * Removes {@code student} from the index.
+     */
+    void remove(Student student) {
+        for (String token : tokenize(student.getName())) {
+            Set<Student> students = studentsByToken.get(token);
+            if (students != null && students.remove(student) && students.isEmpty()) {
+                studentsByToken.remove(token);
+            }
+        }
+    }
+
+    void clear() {
+        studentsByToken.clear();
+    }
+
+    /**
+     * Returns the students whose name matches any of {@code alternatives}.
+     * A name matches an alternative if it matches every case-folded term in it; a term is either a whole word,
+     * or a prefix of a word followed by {@link #PREFIX_WILDCARD}.
+     */
+    Set<Student> find(List<List<String>> alternatives) {
+        requireNonNull(alternatives);
+        Set<Student> found = newStudentSet();
+        for (List<String> terms : alternatives) {
+            found.addAll(findAll(terms));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the students whose name matches every one of {@code terms}, or none if there are no terms.
+     * Only the students matching the rarest term are checked against the others.
+     */
+    private Set<Student> findAll(List<String> terms) {
+        List<Set<Student>> matches = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            matches.add(lookUp(term));
+        }
+        if (matches.isEmpty()) {
+            return Collections.emptySet();
+        }
+        matches.sort(Comparator.comparingInt(Set::size));
+
+        Set<Student> found = newStudentSet();
+        List<Set<Student>> others = matches.subList(1, matches.size());
+        for (Student student : matches.get(0)) {
+            if (others.stream().allMatch(students -> students.contains(student))) {
+                found.add(student);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the students whose name matches {@code term}, which is already case-folded.
+     */
+    private Set<Student> lookUp(String term) {
+        if (term.isEmpty() || term.charAt(term.length() - 1) != PREFIX_WILDCARD) {
+            return studentsByToken.getOrDefault(term, Collections.emptySet());
+        }
+
+        String prefix = term.substring(0, term.length() - 1);
+        Set<Student> students = newStudentSet();
+        for (Set<Student> withToken : studentsByToken.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values()) {
+            students.addAll(withToken);
+        }
+        return students;
+    }
+
+    /**
+     * Returns the case-folded words of {@code name}.
+     */
+    static List<String> tokenize(Name name) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : name.fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(fold(word));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns {@code word} in the case used by the index.
+     */
+    static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<Student> newStudentSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
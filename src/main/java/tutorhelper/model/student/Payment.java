@@ -1,6 +1,7 @@
 package tutorhelper.model.student;
 
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import tutorhelper.commons.core.index.Index;
 
@@ -21,6 +22,7 @@ public class Payment {
             "Year should only contain 4 digits integers.";
 
     public static final String TAG_VALIDATION_REGEX = "(.)*(\\d)(.)*";
+    private static final Pattern TAG_VALIDATION_PATTERN = Pattern.compile(TAG_VALIDATION_REGEX);
     private static final int MAX_PAYMENT_AMOUNT = 10000;
     private static final int JANUARY = 1;
     private static final int DECEMBER = 12;
@@ -52,7 +54,7 @@ public class Payment {
         if (test > MAX_PAYMENT_AMOUNT) {
             return false;
         }
-        return String.valueOf(test).matches(TAG_VALIDATION_REGEX);
+        return TAG_VALIDATION_PATTERN.matcher(String.valueOf(test)).matches();
     }
 
     /**
@@ -60,7 +62,7 @@ public class Payment {
      */
     public static boolean isValidMonth(int test) {
         //Check if month is within the correct range of jan - dec
-        if (String.valueOf(test).matches(TAG_VALIDATION_REGEX)) {
+        if (TAG_VALIDATION_PATTERN.matcher(String.valueOf(test)).matches()) {
             if (test >= JANUARY && test <= DECEMBER) {
                 return true;
             }
@@ -82,7 +84,7 @@ public class Payment {
         if (digits != 4) {
             return false;
         }
-        return String.valueOf(test).matches(TAG_VALIDATION_REGEX);
+        return TAG_VALIDATION_PATTERN.matcher(String.valueOf(test)).matches();
     }
 
     /**
@@ -133,7 +135,7 @@ public class Payment {
 
     @Override
     public int hashCode() {
-        return Objects.hash(studentIndex, amount, month, year);
+        return Objects.hash(amount, month, year);
     }
 }
 
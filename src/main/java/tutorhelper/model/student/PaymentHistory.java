@@ -0,0 +1,260 @@
+package tutorhelper.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static tutorhelper.commons.util.AppUtil.checkArgument;
+
+import java.time.YearMonth;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An immutable, unbounded history of the payments made by one student, at most one for each month.
+ * Guarantees: immutable; payments are in chronological order.
+ *
+ * Instead of one {@code Payment} object per payment, the history keeps two parallel arrays: the month of each
+ * payment packed as {@code yyyymm}, and the running total of the amounts up to and including that payment.
+ * A payment so costs 12 bytes. As the months are sorted, the payment of a given month is found by binary search,
+ * and the total of a range of months by two binary searches and a subtraction, in O(log n) however many payments
+ * the range holds. {@code Payment} objects are only created when the history is read through {@link #asList()}.
+ */
+public final class PaymentHistory {
+
+    public static final String MESSAGE_PACKED_CONSTRAINTS =
+            "Payments should be for valid months, in increasing order, and each have an amount";
+
+    private static final PaymentHistory EMPTY = new PaymentHistory(new int[0], new long[0]);
+    private static final int MONTHS_FACTOR = 100;
+    // the months of the four-digit years that Payment allows, packed
+    private static final int FIRST_YEAR_MONTH = 1000 * MONTHS_FACTOR + 1;
+    private static final int LAST_YEAR_MONTH = 9999 * MONTHS_FACTOR + 12;
+
+    /** The month of each payment as {@code yyyymm}, in increasing order. */
+    private final int[] yearMonths;
+    /** The total of the amounts of the payments up to and including each one. */
+    private final long[] totals;
+
+    private PaymentHistory(int[] yearMonths, long[] totals) {
+        this.yearMonths = yearMonths;
+        this.totals = totals;
+    }
+
+    /**
+     * Returns a history without any payments.
+     */
+    public static PaymentHistory empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a history of {@code payments}, which may be in any order.
+     * If several of them are for the same month, the last one replaces the others, as with {@link #with(Payment)}.
+     */
+    public static PaymentHistory of(Collection<Payment> payments) {
+        requireNonNull(payments);
+        List<Payment> sorted = new ArrayList<>(payments);
+        // the sort is stable, so the last payment for a month stays last among those for that month
+        sorted.sort(Comparator.comparingInt(PaymentHistory::toYearMonth));
+
+        int[] yearMonths = new int[sorted.size()];
+        int[] amounts = new int[sorted.size()];
+        int size = 0;
+        for (Payment payment : sorted) {
+            int yearMonth = toYearMonth(payment);
+            if (size > 0 && yearMonths[size - 1] == yearMonth) {
+                size--;
+            }
+            yearMonths[size] = yearMonth;
+            amounts[size] = payment.getAmount();
+            size++;
+        }
+        return size == 0 ? EMPTY : new PaymentHistory(Arrays.copyOf(yearMonths, size), toTotals(amounts, size));
+    }
+
+    /**
+     * Returns a history of the payments made in {@code yearMonths}, packed as by {@link #getYearMonth(int)},
+     * of the matching {@code amounts}. The months must be in increasing order.
+     * Throws {@code IllegalArgumentException} if they are not, or if there is not one amount for each of them.
+     */
+    public static PaymentHistory ofPacked(int[] yearMonths, int[] amounts) {
+        requireNonNull(yearMonths);
+        requireNonNull(amounts);
+        checkArgument(yearMonths.length == amounts.length, MESSAGE_PACKED_CONSTRAINTS);
+        for (int i = 0; i < yearMonths.length; i++) {
+            int month = yearMonths[i] % MONTHS_FACTOR;
+            checkArgument(yearMonths[i] >= FIRST_YEAR_MONTH && yearMonths[i] <= LAST_YEAR_MONTH
+                    && month >= 1 && month <= 12
+                    && (i == 0 || yearMonths[i - 1] < yearMonths[i]), MESSAGE_PACKED_CONSTRAINTS);
+        }
+        return yearMonths.length == 0 ? EMPTY
+                : new PaymentHistory(yearMonths.clone(), toTotals(amounts, amounts.length));
+    }
+
+    /**
+     * Returns a copy of this history with {@code payment} added,
+     * replacing the payment already made for the same month if there is one.
+     */
+    public PaymentHistory with(Payment payment) {
+        requireNonNull(payment);
+        int yearMonth = toYearMonth(payment);
+        int position = Arrays.binarySearch(yearMonths, yearMonth);
+        if (position >= 0) {
+            long[] newTotals = totals.clone();
+            addFrom(newTotals, position, payment.getAmount() - getAmount(position));
+            return new PaymentHistory(yearMonths, newTotals);
+        }
+
+        int insertAt = -position - 1;
+        long[] newTotals = new long[totals.length + 1];
+        System.arraycopy(totals, 0, newTotals, 0, insertAt);
+        newTotals[insertAt] = totalBefore(insertAt);
+        System.arraycopy(totals, insertAt, newTotals, insertAt + 1, totals.length - insertAt);
+        addFrom(newTotals, insertAt, payment.getAmount());
+        return new PaymentHistory(insert(yearMonths, insertAt, yearMonth), newTotals);
+    }
+
+    /**
+     * Returns true if a payment was made for {@code month} of {@code year}.
+     */
+    public boolean contains(int month, int year) {
+        return Arrays.binarySearch(yearMonths, toYearMonth(month, year)) >= 0;
+    }
+
+    /**
+     * Returns the total paid from {@code from} to {@code to}, both inclusive, in O(log n) time.
+     */
+    public long getTotal(YearMonth from, YearMonth to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        int first = firstAtOrAfter(toYearMonth(from.getMonthValue(), from.getYear()));
+        int end = firstAtOrAfter(toYearMonth(to.getMonthValue(), to.getYear()) + 1);
+        return end <= first ? 0 : totalBefore(end) - totalBefore(first);
+    }
+
+    public int size() {
+        return yearMonths.length;
+    }
+
+    public int getMonth(int index) {
+        return yearMonths[index] % MONTHS_FACTOR;
+    }
+
+    public int getYear(int index) {
+        return yearMonths[index] / MONTHS_FACTOR;
+    }
+
+    /**
+     * Returns the month of the payment at {@code index} packed as {@code yyyymm}, which orders months
+     * chronologically.
+     */
+    public int getYearMonth(int index) {
+        return yearMonths[index];
+    }
+
+    public int getAmount(int index) {
+        return (int) (totals[index] - totalBefore(index));
+    }
+
+    /**
+     * Returns an unmodifiable view of the payments in chronological order.
+     * The payments are created as they are read and are not tied to any student index.
+     */
+    public List<Payment> asList() {
+        return new AbstractList<Payment>() {
+            @Override
+            public Payment get(int index) {
+                return new Payment(null, getAmount(index), getMonth(index), getYear(index));
+            }
+
+            @Override
+            public int size() {
+                return PaymentHistory.this.size();
+            }
+        };
+    }
+
+    /**
+     * Returns an unmodifiable view of the last {@code count} payments, or of all of them if there are fewer.
+     */
+    public List<Payment> getLatest(int count) {
+        List<Payment> payments = asList();
+        return payments.subList(Math.max(0, payments.size() - count), payments.size());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof PaymentHistory
+                && Arrays.equals(yearMonths, ((PaymentHistory) other).yearMonths)
+                && Arrays.equals(totals, ((PaymentHistory) other).totals));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(yearMonths) + Arrays.hashCode(totals);
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    /**
+     * Returns the position of the first payment made in {@code yearMonth} or later.
+     */
+    private int firstAtOrAfter(int yearMonth) {
+        int position = Arrays.binarySearch(yearMonths, yearMonth);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * Returns the total of the amounts of the payments before the one at {@code index}.
+     */
+    private long totalBefore(int index) {
+        return index == 0 ? 0 : totals[index - 1];
+    }
+
+    /**
+     * Returns the running totals of the first {@code size} of {@code amounts}.
+     */
+    private static long[] toTotals(int[] amounts, int size) {
+        long[] totals = new long[size];
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += amounts[i];
+            totals[i] = total;
+        }
+        return totals;
+    }
+
+    /**
+     * Adds {@code delta} to the totals from the one at {@code index} onwards.
+     */
+    private static void addFrom(long[] totals, int index, long delta) {
+        for (int i = index; i < totals.length; i++) {
+            totals[i] += delta;
+        }
+    }
+
+    private static int toYearMonth(Payment payment) {
+        return toYearMonth(payment.getMonth(), payment.getYear());
+    }
+
+    private static int toYearMonth(int month, int year) {
+        return year * MONTHS_FACTOR + month;
+    }
+
+    /**
+     * Returns a copy of {@code array} with {@code value} inserted at {@code index}.
+     */
+    private static int[] insert(int[] array, int index, int value) {
+        int[] result = new int[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+}
@@ -0,0 +1,563 @@
+package tutorhelper.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import tutorhelper.model.util.MemoryUsageUtil;
+
+/**
+ * An immutable, persistent sequence of students.
+ * Every update returns a new {@code PersistentStudentList} that shares all untouched nodes with the old one,
+ * so keeping many versions of a roster alive costs O(log n) extra memory per update instead of O(n).
+ *
+ * The sequence is stored as a weight-balanced binary tree ordered by position, which keeps
+ * {@link #get(int)}, {@link #set(int, Student)}, {@link #add(int, Student)} and {@link #remove(int)} at O(log n).
+ *
+ * Lists derived from each other share most of their nodes, so they are compared by walking both trees in step and
+ * skipping every subtree they share, in O(k log n) for k differing students, see {@link #getDifferingPositions}.
+ *
+ * Each list also keeps a running estimate of the bytes allocated along the chain of updates it was derived from,
+ * so that the memory shared between two versions can be told apart cheaply, see {@link #estimateSizeAddedSince}.
+ */
+public final class PersistentStudentList implements Iterable<Student> {
+
+    /** A subtree is rebalanced once one side is more than {@code DELTA} times heavier than the other. */
+    private static final int DELTA = 3;
+    /** Decides between a single and a double rotation when rebalancing. */
+    private static final int RATIO = 2;
+
+    /** Estimated size of one tree node. */
+    private static final long NODE_BYTES = 32;
+
+    private final Node root;
+    /** Identifies the chain of updates this list belongs to. Lists built from scratch start a new chain. */
+    private final Object origin;
+    /** Estimated bytes allocated by all updates since the start of the chain. */
+    private final long allocatedBytes;
+    /** Estimated bytes held by this list, including its students. */
+    private final long estimatedBytes;
+
+    private PersistentStudentList(Node root, Object origin, long allocatedBytes, long estimatedBytes) {
+        this.root = root;
+        this.origin = origin;
+        this.allocatedBytes = allocatedBytes;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    public static PersistentStudentList empty() {
+        return new PersistentStudentList(null, new Object(), 0, 0);
+    }
+
+    /**
+     * Returns a list containing {@code students} in the same order.
+     * Runs in O(n) as the tree is built perfectly balanced.
+     */
+    public static PersistentStudentList of(List<Student> students) {
+        requireNonNull(students);
+        long bytes = 0;
+        for (Student student : students) {
+            bytes += NODE_BYTES + MemoryUsageUtil.estimateSize(student);
+        }
+        return new PersistentStudentList(build(new ArrayList<>(students), 0, students.size()), new Object(),
+                bytes, bytes);
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the student at {@code index}.
+     */
+    public Student get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.student;
+            }
+        }
+    }
+
+    /**
+     * Returns a new list with the student at {@code index} replaced by {@code student}.
+     */
+    public PersistentStudentList set(int index, Student student) {
+        requireNonNull(student);
+        checkIndex(index, size());
+        long studentBytes = MemoryUsageUtil.estimateSize(student);
+        return derive(replaceAt(root, index, student), estimatePathSize() + studentBytes,
+                studentBytes - MemoryUsageUtil.estimateSize(get(index)));
+    }
+
+    /**
+     * Returns a new list with {@code student} appended to the end.
+     */
+    public PersistentStudentList add(Student student) {
+        return add(size(), student);
+    }
+
+    /**
+     * Returns a new list with {@code student} inserted at {@code index}.
+     */
+    public PersistentStudentList add(int index, Student student) {
+        requireNonNull(student);
+        checkIndex(index, size() + 1);
+        long studentBytes = MemoryUsageUtil.estimateSize(student);
+        return derive(insertAt(root, index, student), estimatePathSize() + studentBytes, NODE_BYTES + studentBytes);
+    }
+
+    /**
+     * Returns a new list with the student at {@code index} removed.
+     */
+    public PersistentStudentList remove(int index) {
+        checkIndex(index, size());
+        return derive(removeAt(root, index), estimatePathSize(),
+                -NODE_BYTES - MemoryUsageUtil.estimateSize(get(index)));
+    }
+
+    /**
+     * Returns the estimated number of bytes held by this list, counting every node and student.
+     */
+    public long getEstimatedSize() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Returns the estimated number of bytes this list holds on top of {@code base},
+     * assuming this list was derived from {@code base} through a chain of updates.
+     * If the two lists do not belong to the same chain, nothing is shared and the full estimate is returned.
+     */
+    public long estimateSizeAddedSince(PersistentStudentList base) {
+        requireNonNull(base);
+        if (origin != base.origin || allocatedBytes < base.allocatedBytes) {
+            return estimatedBytes;
+        }
+        return allocatedBytes - base.allocatedBytes;
+    }
+
+    /**
+     * Returns the number of students at the start of this list that are the same objects as at the start of
+     * {@code other}.
+     */
+    public int getCommonPrefixLength(PersistentStudentList other) {
+        requireNonNull(other);
+        return walkInStep(new Cursor(root, false), new Cursor(other.root, false),
+                Math.min(size(), other.size()), null);
+    }
+
+    /**
+     * Returns the number of students, at most {@code limit}, at the end of this list that are the same objects as
+     * at the end of {@code other}.
+     */
+    public int getCommonSuffixLength(PersistentStudentList other, int limit) {
+        requireNonNull(other);
+        return walkInStep(new Cursor(root, true), new Cursor(other.root, true),
+                Math.min(limit, Math.min(size(), other.size())), null);
+    }
+
+    /**
+     * Returns the positions, in increasing order, at which this list and {@code other}, which must be of the same
+     * size, hold different student objects.
+     */
+    public List<Integer> getDifferingPositions(PersistentStudentList other) {
+        requireNonNull(other);
+        if (size() != other.size()) {
+            throw new IllegalArgumentException("Only lists of the same size can be compared position by position");
+        }
+        List<Integer> positions = new ArrayList<>();
+        walkInStep(new Cursor(root, false), new Cursor(other.root, false), size(), positions);
+        return positions;
+    }
+
+    /**
+     * Returns the students from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, as a new, mutable
+     * {@code List}, in O(log n + k) for k students.
+     */
+    public List<Student> toList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size());
+        }
+        List<Student> list = new ArrayList<>(toIndex - fromIndex);
+        Cursor cursor = new Cursor(root, false);
+        int position = 0;
+        while (position < toIndex) {
+            Frame frame = cursor.peek();
+            if (frame.isWholeSubtree && position + frame.node.size <= fromIndex) {
+                position += cursor.pop();
+            } else if (frame.isWholeSubtree) {
+                cursor.expand();
+            } else {
+                if (position >= fromIndex) {
+                    list.add(frame.node.student);
+                }
+                position += cursor.pop();
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Returns the contents of this list as a new, mutable {@code List}.
+     */
+    public List<Student> toList() {
+        List<Student> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    @Override
+    public Iterator<Student> iterator() {
+        return new InOrderIterator(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersistentStudentList)) {
+            return false;
+        }
+
+        PersistentStudentList otherList = (PersistentStudentList) other;
+        if (size() != otherList.size()) {
+            return false;
+        }
+
+        Iterator<Student> otherIterator = otherList.iterator();
+        for (Student student : this) {
+            if (!student.equals(otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (Student student : this) {
+            hashCode = 31 * hashCode + student.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //// tree operations
+
+    /**
+     * Returns a list with {@code root} that continues the chain of updates of this list.
+     */
+    private PersistentStudentList derive(Node root, long allocated, long sizeChange) {
+        return new PersistentStudentList(root, origin, allocatedBytes + allocated, estimatedBytes + sizeChange);
+    }
+
+    /**
+     * Returns the estimated bytes of the nodes copied by a single update, which is one node per tree level.
+     */
+    private long estimatePathSize() {
+        int levels = Integer.SIZE - Integer.numberOfLeadingZeros(size() + 1);
+        return NODE_BYTES * (levels + 1);
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    /**
+     * Walks {@code a} and {@code b} in step over at most {@code limit} positions, skipping the subtrees they share,
+     * and returns the number of positions passed. If {@code differingPositions} is null, the walk stops at the
+     * first position where they hold different students, and otherwise goes on, adding each such position to it.
+     */
+    private static int walkInStep(Cursor a, Cursor b, int limit, List<Integer> differingPositions) {
+        int position = 0;
+        while (position < limit) {
+            Frame frameA = a.peek();
+            Frame frameB = b.peek();
+            if (frameA.isWholeSubtree && frameB.isWholeSubtree && frameA.node == frameB.node
+                    && frameA.node.size <= limit - position) {
+                a.pop();
+                position += b.pop();
+            } else if (frameA.isWholeSubtree || frameB.isWholeSubtree) {
+                // opens the larger subtree, so that both walks come down to subtrees of the same size
+                if (frameA.isWholeSubtree && (!frameB.isWholeSubtree || frameA.node.size >= frameB.node.size)) {
+                    a.expand();
+                } else {
+                    b.expand();
+                }
+            } else if (frameA.node.student != frameB.node.student && differingPositions == null) {
+                break;
+            } else {
+                if (frameA.node.student != frameB.node.student) {
+                    differingPositions.add(position);
+                }
+                a.pop();
+                position += b.pop();
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Builds a perfectly balanced subtree out of {@code students[from, to)}.
+     */
+    private static Node build(List<Student> students, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        Student student = requireNonNull(students.get(mid));
+        return new Node(student, build(students, from, mid), build(students, mid + 1, to));
+    }
+
+    /**
+     * Returns a copy of the subtree at {@code node} with the student at {@code index} replaced.
+     * Only the nodes on the path to {@code index} are copied.
+     */
+    private static Node replaceAt(Node node, int index, Student student) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node(node.student, replaceAt(node.left, index, student), node.right);
+        } else if (index > leftSize) {
+            return new Node(node.student, node.left, replaceAt(node.right, index - leftSize - 1, student));
+        } else {
+            return new Node(student, node.left, node.right);
+        }
+    }
+
+    /**
+     * Returns a copy of the subtree at {@code node} with {@code student} inserted at {@code index}.
+     */
+    private static Node insertAt(Node node, int index, Student student) {
+        if (node == null) {
+            return new Node(student, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.student, insertAt(node.left, index, student), node.right);
+        } else {
+            return balance(node.student, node.left, insertAt(node.right, index - leftSize - 1, student));
+        }
+    }
+
+    /**
+     * Returns a copy of the subtree at {@code node} with the student at {@code index} removed.
+     */
+    private static Node removeAt(Node node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.student, removeAt(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.student, node.left, removeAt(node.right, index - leftSize - 1));
+        } else {
+            return glue(node.left, node.right);
+        }
+    }
+
+    /**
+     * Joins two balanced subtrees whose sizes are within balance of each other.
+     */
+    private static Node glue(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.size > right.size) {
+            Node last = left;
+            while (last.right != null) {
+                last = last.right;
+            }
+            return balance(last.student, removeAt(left, left.size - 1), right);
+        } else {
+            Node first = right;
+            while (first.left != null) {
+                first = first.left;
+            }
+            return balance(first.student, left, removeAt(right, 0));
+        }
+    }
+
+    /**
+     * Creates a node from {@code student}, {@code left} and {@code right}, rotating if the two subtrees have
+     * drifted out of balance by a single insertion or removal.
+     */
+    private static Node balance(Student student, Node left, Node right) {
+        int leftSize = sizeOf(left);
+        int rightSize = sizeOf(right);
+        if (leftSize + rightSize <= 1) {
+            return new Node(student, left, right);
+        } else if (rightSize > DELTA * leftSize) {
+            return rotateLeft(student, left, right);
+        } else if (leftSize > DELTA * rightSize) {
+            return rotateRight(student, left, right);
+        } else {
+            return new Node(student, left, right);
+        }
+    }
+
+    /**
+     * Moves weight from the heavy {@code right} subtree over to the left.
+     */
+    private static Node rotateLeft(Student student, Node left, Node right) {
+        Node rightLeft = right.left;
+        if (sizeOf(rightLeft) < RATIO * sizeOf(right.right)) {
+            return new Node(right.student, new Node(student, left, rightLeft), right.right);
+        }
+        return new Node(rightLeft.student,
+                new Node(student, left, rightLeft.left),
+                new Node(right.student, rightLeft.right, right.right));
+    }
+
+    /**
+     * Moves weight from the heavy {@code left} subtree over to the right.
+     */
+    private static Node rotateRight(Student student, Node left, Node right) {
+        Node leftRight = left.right;
+        if (sizeOf(leftRight) < RATIO * sizeOf(left.left)) {
+            return new Node(left.student, left.left, new Node(student, leftRight, right));
+        }
+        return new Node(leftRight.student,
+                new Node(left.student, left.left, leftRight.left),
+                new Node(student, leftRight.right, right));
+    }
+
+    /**
+     * An immutable tree node. Nodes are never modified once created, which is what allows versions to share them.
+     */
+    private static final class Node {
+        private final Student student;
+        private final Node left;
+        private final Node right;
+        private final int size;
+
+        private Node(Student student, Node left, Node right) {
+            this.student = student;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+
+    /**
+     * A subtree, or the student of its root node only, waiting to be walked by a {@code Cursor}.
+     */
+    private static final class Frame {
+        private final Node node;
+        private final boolean isWholeSubtree;
+
+        private Frame(Node node, boolean isWholeSubtree) {
+            this.node = node;
+            this.isWholeSubtree = isWholeSubtree;
+        }
+    }
+
+    /**
+     * Walks the tree in positional order, or in reverse, a whole subtree at a time unless asked to open it.
+     */
+    private static final class Cursor {
+        private final Deque<Frame> stack = new ArrayDeque<>();
+        private final boolean isReversed;
+
+        private Cursor(Node root, boolean isReversed) {
+            this.isReversed = isReversed;
+            pushSubtree(root);
+        }
+
+        private void pushSubtree(Node node) {
+            if (node != null) {
+                stack.push(new Frame(node, true));
+            }
+        }
+
+        private Frame peek() {
+            return stack.peek();
+        }
+
+        /**
+         * Skips the subtree or student next in the walk, and returns the number of students skipped.
+         */
+        private int pop() {
+            Frame frame = stack.pop();
+            return frame.isWholeSubtree ? frame.node.size : 1;
+        }
+
+        /**
+         * Replaces the subtree next in the walk with its two children and the student of its root, in walking order.
+         */
+        private void expand() {
+            Node node = stack.pop().node;
+            pushSubtree(isReversed ? node.left : node.right);
+            stack.push(new Frame(node, false));
+            pushSubtree(isReversed ? node.right : node.left);
+        }
+    }
+
+    /**
+     * Walks the tree in positional order.
+     */
+    private static final class InOrderIterator implements Iterator<Student> {
+        private final Deque<Node> stack = new ArrayDeque<>();
+
+        private InOrderIterator(Node root) {
+            pushLeftSpine(root);
+        }
+
+        /**
+         * Pushes {@code node} and all of its left descendants, so that the leftmost one is on top.
+         */
+        private void pushLeftSpine(Node node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public Student next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = stack.pop();
+            pushLeftSpine(node.right);
+            return node.student;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package tutorhelper.model.student;
 import static java.util.Objects.requireNonNull;
 import static tutorhelper.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's phone number in the TutorHelper.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -13,6 +15,7 @@ public class Phone {
     public static final String MESSAGE_PHONE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should only contain 8 digits";
     public static final String PHONE_VALIDATION_REGEX = "\\d{8}";
+    private static final Pattern PHONE_VALIDATION_PATTERN = Pattern.compile(PHONE_VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -30,7 +33,7 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(PHONE_VALIDATION_REGEX);
+        return PHONE_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
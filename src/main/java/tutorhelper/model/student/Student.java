@@ -2,7 +2,6 @@ package tutorhelper.model.student;
 
 import static tutorhelper.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -29,22 +28,31 @@ public class Student {
     private final Set<Subject> subjects = new HashSet<>();
     private final TuitionTiming tuitionTiming;
     private final Set<Tag> tags = new HashSet<>();
-    private final List<Payment> payments = new ArrayList<>();
+    private final PaymentHistory payments;
 
     /**
      * Alternate constructor for student with payment being optional.
      */
     public Student(Name name, Phone phone, Email email, Address address,
                    Set<Subject> subjects, TuitionTiming tuitionTiming, Set<Tag> tags) {
-        this(name, phone, email, address, subjects, tuitionTiming, tags, new ArrayList<>());
+        this(name, phone, email, address, subjects, tuitionTiming, tags, PaymentHistory.empty());
     }
 
     /**
      * Every field must be present and not null.
+     * If {@code paymentList} holds several payments for the same month, only the last of them is kept.
      */
     public Student(Name name, Phone phone, Email email, Address address,
                    Set<Subject> subjects, TuitionTiming tuitionTiming, Set<Tag> tags, List<Payment> paymentList) {
-        requireAllNonNull(name, phone, email, address, tags, paymentList);
+        this(name, phone, email, address, subjects, tuitionTiming, tags, PaymentHistory.of(paymentList));
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Student(Name name, Phone phone, Email email, Address address,
+                   Set<Subject> subjects, TuitionTiming tuitionTiming, Set<Tag> tags, PaymentHistory payments) {
+        requireAllNonNull(name, phone, email, address, tags, payments);
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -52,7 +60,7 @@ public class Student {
         this.subjects.addAll(subjects);
         this.tuitionTiming = tuitionTiming;
         this.tags.addAll(tags);
-        this.payments.addAll(paymentList);
+        this.payments = payments;
     }
 
     public Name getName() {
@@ -75,7 +83,14 @@ public class Student {
         return tuitionTiming;
     }
 
+    /**
+     * Returns an immutable list of every payment made by this student, in chronological order.
+     */
     public List<Payment> getPayments() {
+        return payments.asList();
+    }
+
+    public PaymentHistory getPaymentHistory() {
         return payments;
     }
 
@@ -142,7 +157,7 @@ public class Student {
                 && otherStudent.getSubjects().equals(getSubjects())
                 && otherStudent.getTuitionTiming().equals(getTuitionTiming())
                 && otherStudent.getTags().equals(getTags())
-                && otherStudent.getPayments().equals(getPayments());
+                && otherStudent.getPaymentHistory().equals(getPaymentHistory());
     }
 
     @Override
@@ -0,0 +1,100 @@
+package tutorhelper.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A hash index over a set of students that answers {@code Student#isSameStudent(Student)} lookups in O(1).
+ * Two students are the same if they have the same name and the same phone, email or address, so every student
+ * is indexed under three keys: its name paired with each of those fields.
+ * As the indexed students are unique, no two of them can share a key.
+ *
+ * @see Student#isSameStudent(Student)
+ */
+class StudentIdentityIndex {
+
+    private final Map<IdentityKey, Student> students = new HashMap<>();
+
+    StudentIdentityIndex() {}
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    StudentIdentityIndex(StudentIdentityIndex toBeCopied) {
+        students.putAll(toBeCopied.students);
+    }
+
+    /**
+     * Returns true if an indexed student is the same student as {@code toCheck}.
+     */
+    boolean contains(Student toCheck) {
+        requireNonNull(toCheck);
+        Name name = toCheck.getName();
+        return students.containsKey(new IdentityKey(name, toCheck.getPhone()))
+                || students.containsKey(new IdentityKey(name, toCheck.getEmail()))
+                || students.containsKey(new IdentityKey(name, toCheck.getAddress()));
+    }
+
+    /**
+     * Returns the indexed student with the same name and phone as {@code toFind}, or null if there is none.
+     * If {@code toFind} is equal to an indexed student, that student is the one returned.
+     */
+    Student get(Student toFind) {
+        requireNonNull(toFind);
+        return students.get(new IdentityKey(toFind.getName(), toFind.getPhone()));
+    }
+
+    /**
+     * Adds {@code student} to the index. The caller must have checked that it is not already there.
+     */
+    void add(Student student) {
+        Name name = student.getName();
+        students.put(new IdentityKey(name, student.getPhone()), student);
+        students.put(new IdentityKey(name, student.getEmail()), student);
+        students.put(new IdentityKey(name, student.getAddress()), student);
+    }
+
+    /**
+     * Removes {@code student} from the index.
+     */
+    void remove(Student student) {
+        Name name = student.getName();
+        students.remove(new IdentityKey(name, student.getPhone()), student);
+        students.remove(new IdentityKey(name, student.getEmail()), student);
+        students.remove(new IdentityKey(name, student.getAddress()), student);
+    }
+
+    void clear() {
+        students.clear();
+    }
+
+    /**
+     * A name paired with one of the phone, email or address fields.
+     * Fields of different types never compare equal, so the three kinds of keys can share one map.
+     */
+    private static final class IdentityKey {
+        private final Name name;
+        private final Object field;
+
+        private IdentityKey(Name name, Object field) {
+            this.name = name;
+            this.field = field;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof IdentityKey
+                    && name.equals(((IdentityKey) other).name)
+                    && field.equals(((IdentityKey) other).field));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, field);
+        }
+    }
+}
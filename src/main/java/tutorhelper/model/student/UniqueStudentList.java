@@ -3,13 +3,24 @@ package tutorhelper.model.student;
 import static java.util.Objects.requireNonNull;
 import static tutorhelper.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DayOfWeek;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import tutorhelper.model.student.exceptions.DuplicateStudentException;
 import tutorhelper.model.student.exceptions.StudentNotFoundException;
+import tutorhelper.model.tuitiontiming.TuitionTimingIndex;
 
 /**
  * A list of students that enforces uniqueness between its elements and does not allow nulls.
@@ -21,63 +32,161 @@ import tutorhelper.model.student.exceptions.StudentNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Every mutation is mirrored into a {@code StudentIdentityIndex}, which makes duplicate checks O(1),
+ * into a map of the position of each student, which together with the identity index finds a student in O(1),
+ * into a {@code TuitionTimingIndex}, which finds the students on a day or at a time,
+ * into an {@code EarningsLedger}, which totals their payments by month,
+ * into a {@code NameTokenIndex}, which finds students by the words of their names,
+ * and into a {@code PersistentStudentList}, so that a snapshot of the list
+ * can be taken in O(1) through {@link #snapshot()} and restored later through {@link #restore(PersistentStudentList)}.
+ *
  * @see Student#isSameStudent(Student)
  */
 public class UniqueStudentList implements Iterable<Student> {
 
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
+    private PersistentStudentList roster = PersistentStudentList.empty();
+    private StudentIdentityIndex identityIndex = new StudentIdentityIndex();
+    /** The position of each student in {@code internalList}, by identity. */
+    private final Map<Student, Integer> positions = new IdentityHashMap<>();
+    private final TuitionTimingIndex tuitionTimingIndex = new TuitionTimingIndex();
+    private final EarningsLedger earningsLedger = new EarningsLedger();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return identityIndex.contains(toCheck);
     }
 
     /**
-     * Adds a student to the list.
+     * Adds a student to the end of the list and returns the index it was added at.
      * The student must not already exist in the list.
      */
-    public void add(Student toAdd) {
+    public int add(Student toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
         internalList.add(toAdd);
+        positions.put(toAdd, internalList.size() - 1);
+        roster = roster.add(toAdd);
+        identityIndex.add(toAdd);
+        tuitionTimingIndex.add(toAdd);
+        earningsLedger.add(toAdd);
+        nameTokenIndex.add(toAdd);
+        return internalList.size() - 1;
     }
 
     /**
-     * Replaces the student {@code target} in the list with {@code editedStudent}.
+     * Replaces the student {@code target} in the list with {@code editedStudent} and returns the index it was at.
      * {@code target} must exist in the list.
      * The student identity of {@code editedStudent} must not be the same as another existing student in the list.
+     * {@code target} is found through the identity index, so this takes O(1) expected time.
      */
-    public void setStudent(Student target, Student editedStudent) {
+    public int setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
         if (!target.isSameStudent(editedStudent) && contains(editedStudent)) {
             throw new DuplicateStudentException();
         }
-        internalList.set(index, editedStudent);
+        setAt(index, editedStudent);
+        return index;
     }
 
     /**
-     * Removes the equivalent student from the list.
+     * Removes the equivalent student from the list and returns the index it was at.
      * The student must exist in the list.
+     * {@code toRemove} is found in O(1) expected time; only the students after it are moved up.
      */
-    public void remove(Student toRemove) {
+    public int remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+        removeAt(index);
+        return index;
+    }
+
+    /**
+     * Removes the equivalent students of {@code toRemove} from the list in a single pass over it.
+     * They must all exist in the list, or none of them is removed.
+     */
+    public void removeAll(Collection<Student> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Student> remaining = new HashSet<>(toRemove);
+        List<Student> kept = new ArrayList<>(internalList.size());
+        List<Student> removed = new ArrayList<>(remaining.size());
+        for (Student student : internalList) {
+            if (remaining.remove(student)) {
+                removed.add(student);
+            } else {
+                kept.add(student);
+            }
+        }
+        if (!remaining.isEmpty()) {
+            throw new StudentNotFoundException();
+        }
+
+        internalList.setAll(kept);
+        renumberFrom(0);
+        roster = PersistentStudentList.of(kept);
+        for (Student student : removed) {
+            identityIndex.remove(student);
+            tuitionTimingIndex.remove(student);
+            earningsLedger.remove(student);
+            nameTokenIndex.remove(student);
+        }
+    }
+
+    /**
+     * Replaces each student of {@code targets} in the list with the student at the same position of
+     * {@code editedStudents}, finding each of them in O(1) expected time.
+     * {@code targets} must all exist in the list, and the student identity of each edited student must not be
+     * the same as another existing student in the list, or no student is replaced.
+     */
+    public void setStudents(List<Student> targets, List<Student> editedStudents) {
+        requireAllNonNull(targets, editedStudents);
+        if (targets.size() != editedStudents.size()) {
+            throw new IllegalArgumentException("Every target must have an edited student");
+        }
+        Map<Student, Student> replacements = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Student target = targets.get(i);
+            Student editedStudent = editedStudents.get(i);
+            if (!target.isSameStudent(editedStudent) && contains(editedStudent)) {
+                throw new DuplicateStudentException();
+            }
+            replacements.put(target, editedStudent);
+        }
+
+        List<Integer> indexes = new ArrayList<>(replacements.size());
+        for (Student target : replacements.keySet()) {
+            int index = indexOf(target);
+            if (index == -1) {
+                throw new StudentNotFoundException();
+            }
+            indexes.add(index);
+        }
+
+        for (int index : indexes) {
+            setAt(index, replacements.get(internalList.get(index)));
+        }
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        renumberFrom(0);
+        roster = replacement.roster;
+        identityIndex = new StudentIdentityIndex(replacement.identityIndex);
+        reindex();
     }
 
     /**
@@ -86,25 +195,165 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
-            throw new DuplicateStudentException();
-        }
+        StudentIdentityIndex newIdentityIndex = indexUniqueStudents(students);
 
         internalList.setAll(students);
+        renumberFrom(0);
+        roster = PersistentStudentList.of(students);
+        identityIndex = newIdentityIndex;
+        reindex();
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns an immutable snapshot of the current contents of the list.
+     * The snapshot shares its structure with the list, so taking it costs O(1).
      */
-    public ObservableList<Student> asUnmodifiableObservableList() {
-        return FXCollections.unmodifiableObservableList(internalList);
+    public PersistentStudentList snapshot() {
+        return roster;
+    }
+
+    /**
+     * Replaces the contents of this list with a {@code snapshot} previously returned by {@link #snapshot()}.
+     * The snapshot is known to be free of duplicates, so it is not checked again.
+     * Only the students that differ from the snapshot are replaced, and they are found by skipping the subtrees
+     * the snapshot shares with the current contents, so restoring a nearby version costs time in proportion to
+     * the change: the differing positions if the sizes match, and otherwise the span between the first and last
+     * difference.
+     */
+    public void restore(PersistentStudentList snapshot) {
+        requireNonNull(snapshot);
+        if (snapshot.size() == roster.size()) {
+            List<Integer> differingPositions = roster.getDifferingPositions(snapshot);
+            // every replaced student is unindexed before any other is indexed, as a student may only have moved
+            for (int position : differingPositions) {
+                Student student = internalList.get(position);
+                positions.remove(student);
+                unindex(student);
+            }
+            for (int position : differingPositions) {
+                Student student = snapshot.get(position);
+                internalList.set(position, student);
+                positions.put(student, position);
+                index(student);
+            }
+        } else {
+            int prefixLength = roster.getCommonPrefixLength(snapshot);
+            int suffixLength = roster.getCommonSuffixLength(snapshot,
+                    Math.min(roster.size(), snapshot.size()) - prefixLength);
+            List<Student> added = snapshot.toList(prefixLength, snapshot.size() - suffixLength);
+            int removedEnd = internalList.size() - suffixLength;
+            for (Student student : internalList.subList(prefixLength, removedEnd)) {
+                positions.remove(student);
+                unindex(student);
+            }
+            internalList.remove(prefixLength, removedEnd);
+            internalList.addAll(prefixLength, added);
+            renumberFrom(prefixLength);
+            added.forEach(this::index);
+        }
+        roster = snapshot;
+    }
+
+    //// unchecked positional operations, used to replay changes that were checked when they were first made
+
+    /**
+     * Inserts {@code student} at {@code index} without checking for duplicates.
+     */
+    public void addAt(int index, Student student) {
+        requireNonNull(student);
+        internalList.add(index, student);
+        renumberFrom(index);
+        roster = roster.add(index, student);
+        identityIndex.add(student);
+        tuitionTimingIndex.add(student);
+        earningsLedger.add(student);
+        nameTokenIndex.add(student);
+    }
+
+    /**
+     * Replaces the student at {@code index} with {@code student} without checking for duplicates.
+     */
+    public void setAt(int index, Student student) {
+        requireNonNull(student);
+        Student replaced = internalList.set(index, student);
+        positions.remove(replaced);
+        positions.put(student, index);
+        roster = roster.set(index, student);
+        identityIndex.remove(replaced);
+        identityIndex.add(student);
+        tuitionTimingIndex.remove(replaced);
+        tuitionTimingIndex.add(student);
+        earningsLedger.remove(replaced);
+        earningsLedger.add(student);
+        nameTokenIndex.remove(replaced);
+        nameTokenIndex.add(student);
     }
 
     /**
-     * Returns the backing list as a modifiable {@code ObservableList}.
+     * Removes the student at {@code index}.
      */
-    public ObservableList<Student> asModifiableObservableList() {
-        return internalList;
+    public void removeAt(int index) {
+        Student removed = internalList.remove(index);
+        positions.remove(removed);
+        renumberFrom(index);
+        roster = roster.remove(index);
+        identityIndex.remove(removed);
+        tuitionTimingIndex.remove(removed);
+        earningsLedger.remove(removed);
+        nameTokenIndex.remove(removed);
+    }
+
+    /**
+     * Returns the students whose tuition is on {@code day}, ordered by time, and those at the same time
+     * in the order of the list.
+     * The tuition timing index keeps them sorted by time, so this takes time proportional to the k students found,
+     * plus O(t log t) for each t of them at the same time.
+     */
+    public List<Student> getStudentsWithTuitionOn(DayOfWeek day) {
+        return concatInListOrder(tuitionTimingIndex.getStudentsOn(day));
+    }
+
+    /**
+     * Returns the students whose tuition starts at {@code minuteOfDay}, on any day, ordered by day, and those on
+     * the same day in the order of the list.
+     * The tuition timing index keeps them sorted by day, so this takes time proportional to the k students found,
+     * plus O(t log t) for each t of them on the same day.
+     */
+    public List<Student> getStudentsWithTuitionAt(int minuteOfDay) {
+        return concatInListOrder(tuitionTimingIndex.getStudentsAt(minuteOfDay));
+    }
+
+    /**
+     * Returns the students whose name matches {@code predicate}, in the order of the list.
+     * Takes time proportional to the number of matches, O(k log k) for k matches, rather than to the size of the list.
+     */
+    public List<Student> findByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        List<Student> found = new ArrayList<>(nameTokenIndex.find(predicate.getAlternatives()));
+        found.sort(Comparator.comparingInt(positions::get));
+        return found;
+    }
+
+    /**
+     * Returns the total paid by the students in the list in {@code month} of {@code year}, in O(1).
+     */
+    public long getEarnings(int month, int year) {
+        return earningsLedger.getTotal(month, year);
+    }
+
+    /**
+     * Returns the total paid by the students in the list from {@code from} to {@code to}, both inclusive,
+     * in O(log n) of the number of months that payments can be made in.
+     */
+    public long getEarnings(YearMonth from, YearMonth to) {
+        return earningsLedger.getTotal(from, to);
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Student> asUnmodifiableObservableList() {
+        return FXCollections.unmodifiableObservableList(internalList);
     }
 
     @Override
@@ -126,16 +375,93 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Returns the position of the student equal to {@code student} in the list, or -1 if there is none.
+     * The student is looked up in the identity index, so this takes O(1) expected time.
+     */
+    private int indexOf(Student student) {
+        Student indexed = identityIndex.get(student);
+        if (indexed == null || !indexed.equals(student)) {
+            return -1;
+        }
+        return positions.get(indexed);
+    }
+
+    /**
+     * Returns the students of {@code groups} one group after another, and the students of each group in the order
+     * of the list. They must all be in the list.
+     */
+    private List<Student> concatInListOrder(Collection<Set<Student>> groups) {
+        List<Student> students = new ArrayList<>();
+        for (Set<Student> group : groups) {
+            int start = students.size();
+            students.addAll(group);
+            if (group.size() > 1) {
+                students.subList(start, students.size()).sort(Comparator.comparingInt(positions::get));
+            }
+        }
+        return students;
+    }
+
+    /**
+     * Records the positions of the students from {@code from} to the end of the list,
+     * after they have been moved by an insertion or a removal.
+     * This covers the same students the backing array list has just shifted.
+     */
+    private void renumberFrom(int from) {
+        if (from == 0) {
+            positions.clear();
+        }
+        for (int i = from; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Adds {@code student} to every index.
+     */
+    private void index(Student student) {
+        identityIndex.add(student);
+        tuitionTimingIndex.add(student);
+        earningsLedger.add(student);
+        nameTokenIndex.add(student);
+    }
+
+    /**
+     * Removes {@code student} from every index.
+     */
+    private void unindex(Student student) {
+        identityIndex.remove(student);
+        tuitionTimingIndex.remove(student);
+        earningsLedger.remove(student);
+        nameTokenIndex.remove(student);
+    }
+
+    /**
+     * Rebuilds the tuition timing index, the earnings ledger and the name index from the current contents of the list.
+     */
+    private void reindex() {
+        tuitionTimingIndex.clear();
+        earningsLedger.clear();
+        nameTokenIndex.clear();
+        for (Student student : internalList) {
+            tuitionTimingIndex.add(student);
+            earningsLedger.add(student);
+            nameTokenIndex.add(student);
+        }
+    }
+
+    /**
+     * Returns an index of {@code students}, checking in O(n) that they are all unique.
+     * Throws {@code DuplicateStudentException} if {@code students} contains duplicate students.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+    private StudentIdentityIndex indexUniqueStudents(List<Student> students) {
+        StudentIdentityIndex index = new StudentIdentityIndex();
+        for (Student student : students) {
+            if (index.contains(student)) {
+                throw new DuplicateStudentException();
             }
+            index.add(student);
         }
-        return true;
+        return index;
     }
 }
@@ -3,6 +3,8 @@ package tutorhelper.model.subject;
 import static java.util.Objects.requireNonNull;
 import static tutorhelper.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's syllabus in the TutorHelper.
  * Guarantees: immutable; is valid as declared in {@link #isValidSyllabus(String)}
@@ -17,6 +19,7 @@ public class Syllabus {
      * becomes a valid input. Syllabus should not be longer than 30 characters.
      */
     public static final String SYLLABUS_VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern SYLLABUS_VALIDATION_PATTERN = Pattern.compile(SYLLABUS_VALIDATION_REGEX);
 
     public final String syllabus;
 
@@ -53,7 +56,7 @@ public class Syllabus {
         if (test.contains("/")) {
             return false;
         } else {
-            return test.matches(SYLLABUS_VALIDATION_REGEX);
+            return SYLLABUS_VALIDATION_PATTERN.matcher(test).matches();
         }
     }
 
@@ -3,9 +3,8 @@ package tutorhelper.model.tuitiontiming;
 import static java.util.Objects.requireNonNull;
 import static tutorhelper.commons.util.AppUtil.checkArgument;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.DayOfWeek;
+import java.util.regex.Pattern;
 
 /**
  * Represents tuition timing in TutorHelper.
@@ -29,9 +28,19 @@ public class TuitionTiming {
      */
     public static final String TUITION_TIMING_VALIDATION_REGEX = DAY_REGEX + " " + TIME_REGEX;
 
+    public static final int MINUTES_IN_DAY = 24 * 60;
+
+    private static final Pattern TUITION_TIMING_VALIDATION_PATTERN =
+            Pattern.compile(TUITION_TIMING_VALIDATION_REGEX);
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
     public final DayOfWeek day;
     public final String time;
     public final String value;
+    /** The time of the tuition as the number of minutes since midnight, used to look up and group tuitions. */
+    public final int minuteOfDay;
+    /** The day and time of the tuition as the number of minutes since Monday midnight, used to sort tuitions. */
+    public final int minuteOfWeek;
     private String dayString;
     private String timeString;
 
@@ -48,40 +57,37 @@ public class TuitionTiming {
         // this.day and this.time used for comparison purposes for Group Command
         this.day = DayOfWeek.valueOf(dayString.toUpperCase());
         this.time = timeString;
+        this.minuteOfDay = toMinuteOfDay(timeString);
+        this.minuteOfWeek = (day.getValue() - 1) * MINUTES_IN_DAY + minuteOfDay;
     }
 
     /**
      * Splits the {@code tuitionTiming} string into Day and Time.
      */
     private void splitTuitionTiming(String tuitionTiming) {
-        String[] tuitionTimingArr = tuitionTiming.split("\\s+");
+        String[] tuitionTimingArr = WHITESPACES.split(tuitionTiming);
         dayString = tuitionTimingArr[0].trim();
         timeString = tuitionTimingArr[1].trim();
     }
 
     /**
-     * Converts the 12hours time into 24hours time.
-     * @param time Time in hh:mm format. E.g. 12:00pm.
-     * @return a 24hour version of {@code time}. E.g. 1:00pm converts to 13:00.
+     * Converts a 12-hour {@code time} matching {@link #TIME_REGEX}, e.g. 1:30pm, into the number of minutes
+     * since midnight, e.g. 810.
      */
-    public static String convertTwelveHourToTwentyFourHour(String time) {
+    public static int toMinuteOfDay(String time) {
         requireNonNull(time);
-        String newTime = null;
-        SimpleDateFormat timeIn12Hour = new SimpleDateFormat("hh:mmaa");
-        SimpleDateFormat timeIn24Hour = new SimpleDateFormat("HH:mm");
-        try {
-            newTime = timeIn24Hour.format(timeIn12Hour.parse(time));
-        } catch (ParseException e) {
-            e.printStackTrace();
-        }
-        return newTime;
+        int colon = time.indexOf(':');
+        int hour = Integer.parseInt(time.substring(0, colon)) % 12;
+        int minute = Integer.parseInt(time.substring(colon + 1, colon + 3));
+        boolean isPm = Character.toLowerCase(time.charAt(colon + 3)) == 'p';
+        return (isPm ? hour + 12 : hour) * 60 + minute;
     }
 
     /**
      * Returns true if a given string is a valid time and day
      */
     public static boolean isValidTiming(String test) {
-        return test.matches(TUITION_TIMING_VALIDATION_REGEX);
+        return TUITION_TIMING_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
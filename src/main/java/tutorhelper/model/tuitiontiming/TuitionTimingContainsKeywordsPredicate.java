@@ -1,31 +1,59 @@
 package tutorhelper.model.tuitiontiming;
 
 import java.time.DayOfWeek;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
-import tutorhelper.commons.util.StringUtil;
 import tutorhelper.model.student.Student;
 
 /**
  * Tests that a {@code Student}'s {@code TuitionTiming} matches any of the keywords given.
+ * The keyword is parsed once, as either a day or a time, so that testing a student is a plain comparison.
  */
 public class TuitionTimingContainsKeywordsPredicate implements Predicate<Student> {
 
     private final String keyword; //note that keyword is capitalised for day.
+    private final DayOfWeek day;
+    private final OptionalInt minuteOfDay;
 
     public TuitionTimingContainsKeywordsPredicate(String keyword) {
         this.keyword = keyword;
+
+        if (keyword.matches(TuitionTiming.DAY_REGEX)) {
+            day = DayOfWeek.valueOf(keyword.toUpperCase());
+            minuteOfDay = OptionalInt.empty();
+        } else if ((keyword.toLowerCase()).matches((TuitionTiming.TIME_REGEX).toLowerCase())) {
+            day = null;
+            minuteOfDay = OptionalInt.of(TuitionTiming.toMinuteOfDay(keyword));
+        } else {
+            day = null;
+            minuteOfDay = OptionalInt.empty();
+        }
+    }
+
+    /**
+     * Returns the day in the keyword, if the keyword is a day.
+     */
+    public Optional<DayOfWeek> getDay() {
+        return Optional.ofNullable(day);
+    }
+
+    /**
+     * Returns the time in the keyword as minutes since midnight, if the keyword is a time.
+     */
+    public OptionalInt getMinuteOfDay() {
+        return minuteOfDay;
     }
 
     @Override
     public boolean test(Student student) {
-        DayOfWeek day = student.getTuitionTiming().day;
-        String time = student.getTuitionTiming().time;
+        TuitionTiming tuitionTiming = student.getTuitionTiming();
 
-        if (keyword.matches(TuitionTiming.DAY_REGEX)) {
-            return day.equals(DayOfWeek.valueOf(keyword.toUpperCase()));
-        } else if ((keyword.toLowerCase()).matches((TuitionTiming.TIME_REGEX).toLowerCase())) {
-            return StringUtil.containsWordIgnoreCase(time, keyword);
+        if (day != null) {
+            return tuitionTiming.day == day;
+        } else if (minuteOfDay.isPresent()) {
+            return tuitionTiming.minuteOfDay == minuteOfDay.getAsInt();
         } else {
             return false;
         }
@@ -0,0 +1,97 @@
+package tutorhelper.model.tuitiontiming;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import tutorhelper.model.student.Student;
+
+/**
+ * An index of students by the day and by the time of their tuition.
+ * The students on a day are kept sorted by time, and the students at a time are kept sorted by day,
+ * so looking them up in that order takes time proportional to the number of students found,
+ * and adding or removing a student takes O(log k) for the k students on its day or at its time.
+ *
+ * Students are held by identity, so the index must be given the same {@code Student} instances that are
+ * in the list it indexes. The collections returned by lookups are live views that follow later changes to the index.
+ */
+public class TuitionTimingIndex {
+
+    private final Map<DayOfWeek, NavigableMap<Integer, Set<Student>>> studentsByDay = new EnumMap<>(DayOfWeek.class);
+    private final Map<Integer, NavigableMap<Integer, Set<Student>>> studentsByMinuteOfDay = new HashMap<>();
+
+    /**
+     * Adds {@code student} to the index.
+     */
+    public void add(Student student) {
+        TuitionTiming timing = student.getTuitionTiming();
+        add(bucket(studentsByDay, timing.day), timing.minuteOfDay, student);
+        add(bucket(studentsByMinuteOfDay, timing.minuteOfDay), timing.day.getValue(), student);
+    }
+
+    /**
+     * Removes {@code student} from the index.
+     */
+    public void remove(Student student) {
+        TuitionTiming timing = student.getTuitionTiming();
+        remove(bucket(studentsByDay, timing.day), timing.minuteOfDay, student);
+        remove(bucket(studentsByMinuteOfDay, timing.minuteOfDay), timing.day.getValue(), student);
+    }
+
+    /**
+     * Removes every student from the index. Views returned earlier stay valid and become empty.
+     */
+    public void clear() {
+        studentsByDay.values().forEach(Map::clear);
+        studentsByMinuteOfDay.values().forEach(Map::clear);
+    }
+
+    /**
+     * Returns an unmodifiable view of the students whose tuition is on {@code day}, grouped by the time of their
+     * tuition, in increasing order of time. The groups must not be modified.
+     */
+    public Collection<Set<Student>> getStudentsOn(DayOfWeek day) {
+        requireNonNull(day);
+        return Collections.unmodifiableCollection(bucket(studentsByDay, day).values());
+    }
+
+    /**
+     * Returns an unmodifiable view of the students whose tuition starts at {@code minuteOfDay}, on any day, grouped
+     * by the day of their tuition, from Monday to Sunday. The groups must not be modified.
+     */
+    public Collection<Set<Student>> getStudentsAt(int minuteOfDay) {
+        return Collections.unmodifiableCollection(bucket(studentsByMinuteOfDay, minuteOfDay).values());
+    }
+
+    /**
+     * Returns the students under {@code key}, sorted by the other half of their timing, creating them if needed.
+     * They are never dropped, so that views handed out earlier keep following the index.
+     */
+    private static <K> NavigableMap<Integer, Set<Student>> bucket(Map<K, NavigableMap<Integer, Set<Student>>> buckets,
+            K key) {
+        return buckets.computeIfAbsent(key, unused -> new TreeMap<>());
+    }
+
+    private static void add(NavigableMap<Integer, Set<Student>> bucket, int sortKey, Student student) {
+        bucket.computeIfAbsent(sortKey, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(student);
+    }
+
+    /**
+     * Removes {@code student} from {@code bucket}, and its group too if it was the last student in it.
+     */
+    private static void remove(NavigableMap<Integer, Set<Student>> bucket, int sortKey, Student student) {
+        Set<Student> students = bucket.get(sortKey);
+        if (students != null && students.remove(student) && students.isEmpty()) {
+            bucket.remove(sortKey);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package tutorhelper.model.util;
+
+import tutorhelper.model.student.Student;
+import tutorhelper.model.subject.Subject;
+import tutorhelper.model.subject.Syllabus;
+import tutorhelper.model.tag.Tag;
+
+/**
+ * Contains utility methods for estimating the heap footprint of model objects.
+ * The estimates assume a 64-bit JVM with compressed references and compact strings;
+ * they are meant for budgeting, not for exact accounting.
+ */
+public class MemoryUsageUtil {
+
+    /** Object header plus a few fields. */
+    public static final long OBJECT_OVERHEAD_BYTES = 16;
+
+    /** A {@code String} and its backing array, excluding the characters themselves. */
+    private static final long STRING_OVERHEAD_BYTES = 40;
+
+    /** A {@code Student}, its five field wrappers, its two sets and its payment history with its two arrays. */
+    private static final long STUDENT_OVERHEAD_BYTES = 240;
+
+    /** A {@code Subject} with its content list. */
+    private static final long SUBJECT_OVERHEAD_BYTES = 72;
+
+    /** A payment in a {@code PaymentHistory}, which keeps its month and its amount as one {@code int} each. */
+    private static final long PAYMENT_BYTES = 8;
+
+    /**
+     * Returns the estimated number of bytes held by {@code student}, including its subjects, tags and payments.
+     */
+    public static long estimateSize(Student student) {
+        long bytes = STUDENT_OVERHEAD_BYTES
+                + estimateSize(student.getName().fullName)
+                + estimateSize(student.getPhone().value)
+                + estimateSize(student.getEmail().value)
+                + estimateSize(student.getAddress().value);
+        if (student.getTuitionTiming() != null) {
+            bytes += estimateSize(student.getTuitionTiming().value);
+        }
+        for (Subject subject : student.getSubjects()) {
+            bytes += SUBJECT_OVERHEAD_BYTES;
+            for (Syllabus syllabus : subject.getSubjectContent()) {
+                bytes += OBJECT_OVERHEAD_BYTES + estimateSize(syllabus.syllabus);
+            }
+        }
+        for (Tag tag : student.getTags()) {
+            bytes += OBJECT_OVERHEAD_BYTES + estimateSize(tag.tagName);
+        }
+        bytes += PAYMENT_BYTES * student.getPaymentHistory().size();
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated number of bytes held by {@code string}.
+     */
+    public static long estimateSize(String string) {
+        return STRING_OVERHEAD_BYTES + string.length();
+    }
+
+    /**
+     * Returns {@code bytes} in a human readable form, e.g. {@code 512 B}, {@code 1.5 KB} or {@code 20.0 MB}.
+     */
+    public static String toReadableSize(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        String[] units = {"KB", "MB", "GB"};
+        long divisor = 1024;
+        int unit = 0;
+        while (bytes >= divisor * 1024 && unit < units.length - 1) {
+            divisor *= 1024;
+            unit++;
+        }
+        long tenths = bytes * 10 / divisor;
+        return tenths / 10 + "." + tenths % 10 + " " + units[unit];
+    }
+}
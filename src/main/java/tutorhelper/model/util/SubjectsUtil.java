@@ -61,6 +61,6 @@ public class SubjectsUtil {
     public static Student createStudentWithNewSubjects(Student source, Set<Subject> subjects) {
         return new Student(source.getName(), source.getPhone(),
                 source.getEmail(), source.getAddress(), subjects,
-                source.getTuitionTiming(), source.getTags(), source.getPayments());
+                source.getTuitionTiming(), source.getTags(), source.getPaymentHistory());
     }
 }
@@ -0,0 +1,240 @@
+package tutorhelper.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import tutorhelper.commons.exceptions.IllegalValueException;
+import tutorhelper.model.ReadOnlyTutorHelper;
+import tutorhelper.model.TutorHelper;
+import tutorhelper.model.student.Address;
+import tutorhelper.model.student.Email;
+import tutorhelper.model.student.Name;
+import tutorhelper.model.student.PaymentHistory;
+import tutorhelper.model.student.Phone;
+import tutorhelper.model.student.Student;
+import tutorhelper.model.subject.Subject;
+import tutorhelper.model.subject.SubjectType;
+import tutorhelper.model.subject.Syllabus;
+import tutorhelper.model.tag.Tag;
+import tutorhelper.model.tuitiontiming.TuitionTiming;
+
+/**
+ * Stores TutorHelper data in a compact binary file, which is read into a buffer in one go and decoded from it.
+ *
+ * The file starts with a magic number and a format version, followed by the number of students and then each
+ * student in order. Strings are stored as their length followed by their UTF-8 bytes, subject types as their
+ * ordinal, the states of the syllabus topics of a subject as a bitset, and payments as two packed arrays of
+ * months and amounts. All numbers are big-endian.
+ */
+public class BinaryFileStorage {
+
+    public static final String MESSAGE_NOT_BINARY_DATA_FILE = "File is not a TutorHelper binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED_DATA_FILE = "Binary data file is corrupted.";
+
+    /** "THBD", for TutorHelper binary data. */
+    static final int MAGIC = 0x54484244;
+    static final short VERSION = 1;
+
+    private static final SubjectType[] SUBJECT_TYPES = SubjectType.values();
+
+    /**
+     * Returns true if the file at {@code file} starts like a binary data file, of any version.
+     */
+    public static boolean isBinaryDataFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining() && channel.read(magic) != -1) {
+                // keep reading until the magic number is complete or the file ends
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Saves the given TutorHelper to the specified file, which is created if missing and replaced otherwise.
+     * The file is replaced atomically, as done by {@link CheckedXmlFileStorage#replaceFile}, so that a save cut
+     * short leaves the old file as it was.
+     */
+    public static void saveTutorHelperToFile(Path file, ReadOnlyTutorHelper tutorHelper) throws IOException {
+        CheckedXmlFileStorage.replaceFile(file, 0, stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(tutorHelper.getStudentList().size());
+            for (Student student : tutorHelper.getStudentList()) {
+                writeStudent(out, student);
+            }
+            out.flush();
+        });
+    }
+
+    /**
+     * Returns the TutorHelper in the file.
+     *
+     * @throws IllegalValueException if the file is not a binary data file of a supported version, is corrupted,
+     * or there were any data constraints violated or duplicates in it.
+     */
+    public static TutorHelper loadTutorHelperFromSaveFile(Path file) throws IOException, IllegalValueException {
+        return XmlSerializableTutorHelper.toModelType(loadStudentsFromSaveFile(file));
+    }
+
+    /**
+     * Returns the students in the file, in order, without checking them for duplicates.
+     * The file is read into memory rather than mapped, so that it is closed on return, and can be replaced right
+     * away also on platforms that forbid replacing a mapped file, such as Windows.
+     *
+     * @throws IllegalValueException if the file is not a binary data file of a supported version, is corrupted,
+     * or there were any data constraints violated in it.
+     */
+    static List<Student> loadStudentsFromSaveFile(Path file) throws IOException, IllegalValueException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+
+        try {
+            if (buffer.remaining() < Integer.BYTES + Short.BYTES || buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_DATA_FILE);
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            int count = buffer.getInt();
+            List<Student> students = new ArrayList<>(Math.min(Math.max(count, 0), buffer.remaining()));
+            for (int i = 0; i < count; i++) {
+                students.add(readStudent(buffer));
+            }
+            if (buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_DATA_FILE);
+            }
+            return students;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DATA_FILE);
+        } catch (IllegalArgumentException e) {
+            // thrown by the model's constructors when a field does not meet its constraints
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes every field of {@code student} to {@code out}.
+     */
+    private static void writeStudent(DataOutputStream out, Student student) throws IOException {
+        writeString(out, student.getName().fullName);
+        writeString(out, student.getPhone().value);
+        writeString(out, student.getEmail().value);
+        writeString(out, student.getAddress().value);
+        writeString(out, student.getTuitionTiming().value);
+
+        out.writeInt(student.getSubjects().size());
+        for (Subject subject : student.getSubjects()) {
+            out.writeByte(subject.getSubjectType().ordinal());
+            out.writeFloat(subject.getCompletionRate());
+            List<Syllabus> content = subject.getSubjectContent();
+            out.writeInt(content.size());
+            byte[] states = new byte[(content.size() + Byte.SIZE - 1) / Byte.SIZE];
+            for (int i = 0; i < content.size(); i++) {
+                writeString(out, content.get(i).syllabus);
+                if (content.get(i).state) {
+                    states[i / Byte.SIZE] |= 1 << (i % Byte.SIZE);
+                }
+            }
+            out.write(states);
+        }
+
+        out.writeInt(student.getTags().size());
+        for (Tag tag : student.getTags()) {
+            writeString(out, tag.tagName);
+        }
+
+        PaymentHistory payments = student.getPaymentHistory();
+        out.writeInt(payments.size());
+        for (int i = 0; i < payments.size(); i++) {
+            out.writeInt(payments.getYearMonth(i));
+        }
+        for (int i = 0; i < payments.size(); i++) {
+            out.writeInt(payments.getAmount(i));
+        }
+    }
+
+    /**
+     * Reads back a student written by {@link #writeStudent}.
+     */
+    private static Student readStudent(ByteBuffer in) {
+        Name name = new Name(readString(in));
+        Phone phone = new Phone(readString(in));
+        Email email = new Email(readString(in));
+        Address address = new Address(readString(in));
+        TuitionTiming tuitionTiming = new TuitionTiming(readString(in));
+
+        int subjectCount = in.getInt();
+        Set<Subject> subjects = new HashSet<>();
+        for (int i = 0; i < subjectCount; i++) {
+            SubjectType type = SUBJECT_TYPES[in.get()];
+            float completionRate = in.getFloat();
+            String[] topics = new String[readCount(in)];
+            for (int j = 0; j < topics.length; j++) {
+                topics[j] = readString(in);
+            }
+            byte[] states = new byte[(topics.length + Byte.SIZE - 1) / Byte.SIZE];
+            in.get(states);
+            List<Syllabus> content = new ArrayList<>(topics.length);
+            for (int j = 0; j < topics.length; j++) {
+                content.add(new Syllabus(topics[j], (states[j / Byte.SIZE] & (1 << (j % Byte.SIZE))) != 0));
+            }
+            subjects.add(new Subject(type, content, completionRate));
+        }
+
+        int tagCount = in.getInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(readString(in)));
+        }
+
+        int[] yearMonths = new int[readCount(in)];
+        int[] amounts = new int[yearMonths.length];
+        in.asIntBuffer().get(yearMonths).get(amounts);
+        in.position(in.position() + (yearMonths.length + amounts.length) * Integer.BYTES);
+
+        return new Student(name, phone, email, address, subjects, tuitionTiming, tags,
+                PaymentHistory.ofPacked(yearMonths, amounts));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[readCount(in)];
+        in.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Reads the number of items that follow, each taking at least one byte.
+     * Throws {@code BufferUnderflowException} if there are not that many bytes left, so that a corrupted count
+     * never makes a huge allocation.
+     */
+    private static int readCount(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,197 @@
+package tutorhelper.storage;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import tutorhelper.commons.util.FileUtil;
+
+/**
+ * Writes xml data files so that a crash or power loss during a save never leaves a damaged data file behind,
+ * and tells an intact data file from a damaged one without parsing it.
+ *
+ * A save writes the new file next to the old one, forces it to the disk, and only then renames it over the old
+ * one, which is kept as the newest of a number of backups. The last line of the file is an xml comment holding
+ * the CRC32 checksum of everything before it, which {@link #verify} checks in a single pass over the bytes.
+ * Data files in other formats are replaced in the same way by {@link #replaceFile}.
+ */
+public class CheckedXmlFileStorage {
+
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final String CHECKSUM_FORMAT = "<!-- crc32 %08x -->\n";
+    private static final Pattern CHECKSUM_PATTERN = Pattern.compile("<!-- crc32 ([0-9a-f]{8}) -->\n");
+    private static final int CHECKSUM_LENGTH = String.format(CHECKSUM_FORMAT, 0).length();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * What {@link #verify} found out about a data file.
+     */
+    public enum Verification {
+        /** The file ends with a checksum that matches the rest of it. */
+        INTACT,
+        /** The file does not end with a checksum, as it was not saved by this class, so only parsing can tell. */
+        UNCHECKED,
+        /** The file ends with a checksum that does not match the rest of it. */
+        DAMAGED
+    }
+
+    /**
+     * Writes the content of a data file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(Writer out) throws IOException;
+    }
+
+    /**
+     * Writes the bytes of a file.
+     */
+    @FunctionalInterface
+    public interface BytesWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Returns the path of the {@code generation}th newest backup of the data file at {@code filePath}, from 1.
+     */
+    public static Path getBackupFilePath(Path filePath, int generation) {
+        return Paths.get(filePath.toString() + "." + generation + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the paths of the data file at {@code filePath} and of its first {@code backupCount} backups that
+     * exist, newest first.
+     */
+    public static List<Path> getSnapshotPaths(Path filePath, int backupCount) {
+        List<Path> snapshots = new ArrayList<>();
+        for (int generation = 0; generation <= backupCount; generation++) {
+            Path snapshot = generation == 0 ? filePath : getBackupFilePath(filePath, generation);
+            if (FileUtil.isFileExists(snapshot)) {
+                snapshots.add(snapshot);
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Replaces the data file at {@code filePath}, creating it and its missing parent directories if needed,
+     * with what {@code content} writes followed by its checksum. The file replaced becomes the newest of
+     * {@code backupCount} backups, and the oldest backup is deleted. If this is cut short, the data file and
+     * its backups are as they were, but for the newest backup maybe having taken the place of the data file.
+     */
+    public static void saveToFile(Path filePath, int backupCount, ContentWriter content) throws IOException {
+        replaceFile(filePath, backupCount, buffered -> {
+            CheckedOutputStream checked = new CheckedOutputStream(buffered, new CRC32());
+            Writer out = new OutputStreamWriter(checked, UTF_8);
+            content.writeTo(out);
+            out.flush();
+            buffered.write(String.format(CHECKSUM_FORMAT, checked.getChecksum().getValue()).getBytes(UTF_8));
+        });
+    }
+
+    /**
+     * Replaces the file at {@code filePath} in the same way as {@link #saveToFile}, with exactly the bytes that
+     * {@code content} writes, for files that are not xml. The stream given to {@code content} is buffered.
+     */
+    public static void replaceFile(Path filePath, int backupCount, BytesWriter content) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = Paths.get(filePath.toString() + TEMP_FILE_SUFFIX);
+
+        try (FileOutputStream file = new FileOutputStream(tempPath.toFile())) {
+            OutputStream buffered = new BufferedOutputStream(file, BUFFER_SIZE);
+            content.writeTo(buffered);
+            buffered.flush();
+            file.getChannel().force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+
+        if (backupCount > 0 && Files.exists(filePath)) {
+            rotateBackups(filePath, backupCount);
+        }
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns whether the data file at {@code filePath} ends with a checksum and whether it matches.
+     */
+    public static Verification verify(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long contentLength = channel.size() - CHECKSUM_LENGTH;
+            if (contentLength < 0) {
+                return Verification.UNCHECKED;
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            buffer.limit(CHECKSUM_LENGTH);
+            readFully(channel, buffer, contentLength);
+            Matcher matcher = CHECKSUM_PATTERN.matcher(new String(buffer.array(), 0, CHECKSUM_LENGTH, ISO_8859_1));
+            if (!matcher.matches()) {
+                return Verification.UNCHECKED;
+            }
+
+            CRC32 checksum = new CRC32();
+            for (long position = 0; position < contentLength; position += buffer.limit()) {
+                buffer.clear();
+                buffer.limit((int) Math.min(BUFFER_SIZE, contentLength - position));
+                readFully(channel, buffer, position);
+                checksum.update(buffer.array(), 0, buffer.limit());
+            }
+            return checksum.getValue() == Long.parseLong(matcher.group(1), 16)
+                    ? Verification.INTACT
+                    : Verification.DAMAGED;
+        }
+    }
+
+    /**
+     * Moves each backup of the data file at {@code filePath} one generation older, deleting the oldest,
+     * and then the data file itself to the newest backup.
+     */
+    private static void rotateBackups(Path filePath, int backupCount) throws IOException {
+        Files.deleteIfExists(getBackupFilePath(filePath, backupCount));
+        for (int generation = backupCount - 1; generation > 0; generation--) {
+            Path backup = getBackupFilePath(filePath, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFilePath(filePath, generation + 1), StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+        Files.move(filePath, getBackupFilePath(filePath, 1), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Fills the rest of {@code buffer} from {@code channel}, starting at {@code position}, and flips it.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+            position += read;
+        }
+        buffer.flip();
+    }
+
+}
@@ -0,0 +1,31 @@
+package tutorhelper.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a storage for the history of commands entered.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns the latest commands stored, up to the number this storage keeps, from the earliest to the latest.
+     *   Returns an empty list if the storage file is not found.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<String> readCommandHistory() throws IOException;
+
+    /**
+     * Adds {@code commandText} to the end of the stored history.
+     * @param commandText cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommand(String commandText) throws IOException;
+
+}
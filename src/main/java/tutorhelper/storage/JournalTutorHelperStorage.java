@@ -0,0 +1,243 @@
+package tutorhelper.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.xml.bind.JAXBException;
+
+import tutorhelper.commons.core.LogsCenter;
+import tutorhelper.commons.exceptions.DataConversionException;
+import tutorhelper.commons.exceptions.IllegalValueException;
+import tutorhelper.commons.util.XmlUtil;
+import tutorhelper.model.ReadOnlyTutorHelper;
+import tutorhelper.model.student.Student;
+
+/**
+ * A class to access TutorHelper data stored as an xml file on the hard disk, together with a journal of the
+ * changes made since the file was last written.
+ *
+ * Instead of rewriting the whole data file, a save appends one line to the journal holding only the students
+ * that changed, so an add, edit or delete costs O(1) I/O whatever the size of the roster. Once the journal
+ * grows bigger than the data file, the next save compacts it: the data file is rewritten and the journal
+ * emptied. Reading replays the journal onto the data file.
+ *
+ * The data file is in the same format as the one of {@link XmlTutorHelperStorage}. The first line of the journal
+ * identifies the data file it applies to, so a journal left over from before a compaction is ignored, and a
+ * last line cut short by a crash is dropped.
+ */
+public class JournalTutorHelperStorage implements TutorHelperStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** Journals smaller than this are never compacted by default, however small the data file. */
+    static final long DEFAULT_MIN_COMPACTION_BYTES = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTutorHelperStorage.class);
+
+    private Path filePath;
+    private final long minCompactionBytes;
+    private final XmlStudentFragmentCache fragmentCache = new XmlStudentFragmentCache();
+
+    // The students last read from or saved to savedFilePath, which the next save there is compared to.
+    private Path savedFilePath;
+    private List<Student> savedStudents;
+    private long savedFileBytes;
+    // Negative if the journal must be rewritten by the next save.
+    private long journalBytes = -1;
+
+    public JournalTutorHelperStorage(Path filePath) {
+        this(filePath, DEFAULT_MIN_COMPACTION_BYTES);
+    }
+
+    /**
+     * Creates a storage that never compacts journals smaller than {@code minCompactionBytes}.
+     */
+    JournalTutorHelperStorage(Path filePath, long minCompactionBytes) {
+        this.filePath = filePath;
+        this.minCompactionBytes = minCompactionBytes;
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getTutorHelperFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorHelper> readTutorHelper() throws DataConversionException, IOException {
+        return readTutorHelper(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTutorHelper()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTutorHelper> readTutorHelper(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("TutorHelper file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            List<Student> students = XmlFileStorage.loadStudentsFromSaveFile(filePath);
+            long replayedBytes = replayJournal(filePath, students);
+            ReadOnlyTutorHelper tutorHelper = XmlSerializableTutorHelper.toModelType(students);
+            remember(filePath, students, Files.size(filePath), replayedBytes);
+            return Optional.of(tutorHelper);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTutorHelper(ReadOnlyTutorHelper tutorHelper) throws IOException {
+        saveTutorHelper(tutorHelper, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTutorHelper(ReadOnlyTutorHelper)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public synchronized void saveTutorHelper(ReadOnlyTutorHelper tutorHelper, Path filePath) throws IOException {
+        requireNonNull(tutorHelper);
+        requireNonNull(filePath);
+
+        List<Student> students = new ArrayList<>(tutorHelper.getStudentList());
+        if (!filePath.equals(savedFilePath) || journalBytes < 0 || !Files.exists(filePath)) {
+            compact(tutorHelper, filePath, students);
+            return;
+        }
+
+        XmlAdaptedJournalEntry entry = XmlAdaptedJournalEntry.between(savedStudents, students);
+        if (entry == null) {
+            savedStudents = students;
+            return;
+        }
+
+        byte[] line = toLine(entry);
+        if (journalBytes + line.length > Math.max(savedFileBytes, minCompactionBytes)) {
+            compact(tutorHelper, filePath, students);
+            return;
+        }
+        Files.write(getJournalFilePath(filePath), line, StandardOpenOption.APPEND);
+        remember(filePath, students, savedFileBytes, journalBytes + line.length);
+    }
+
+    /**
+     * Rewrites the data file at {@code filePath} with {@code tutorHelper}, and starts a new, empty journal for it.
+     * If this is cut short, the old journal no longer matches the data file and is ignored.
+     */
+    private void compact(ReadOnlyTutorHelper tutorHelper, Path filePath, List<Student> students) throws IOException {
+        logger.fine("Compacting journal into data file: " + filePath);
+        XmlFileStorage.saveTutorHelperToFile(filePath, tutorHelper, fragmentCache, 0);
+
+        long fileBytes = Files.size(filePath);
+        byte[] header = toLine(new XmlAdaptedJournalHeader(fileBytes, checksumOf(filePath)));
+        Files.write(getJournalFilePath(filePath), header);
+        remember(filePath, students, fileBytes, header.length);
+    }
+
+    /**
+     * Applies the changes in the journal of the data file at {@code filePath} to {@code students},
+     * which were read from that data file.
+     * Returns the length of the journal, or -1 if there is no journal that matches the data file.
+     */
+    private long replayJournal(Path filePath, List<Student> students)
+            throws IOException, DataConversionException, IllegalValueException {
+        Path journalPath = getJournalFilePath(filePath);
+        if (!Files.exists(journalPath)) {
+            return -1;
+        }
+
+        String journal = new String(Files.readAllBytes(journalPath), UTF_8);
+        int end = journal.lastIndexOf('\n') + 1;
+        if (end < journal.length()) {
+            logger.warning("Dropping incomplete last change in " + journalPath);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(journal.substring(0, end).getBytes(UTF_8).length);
+            }
+        }
+
+        String[] lines = journal.substring(0, end).split("\n");
+        try {
+            XmlAdaptedJournalHeader expectedHeader =
+                    new XmlAdaptedJournalHeader(Files.size(filePath), checksumOf(filePath));
+            if (lines[0].isEmpty() || !expectedHeader.equals(
+                    XmlUtil.fromXmlString(lines[0], XmlAdaptedJournalHeader.class))) {
+                logger.warning("Ignoring " + journalPath + ", which was not written for " + filePath);
+                return -1;
+            }
+            for (int i = 1; i < lines.length; i++) {
+                XmlUtil.fromXmlString(lines[i], XmlAdaptedJournalEntry.class).applyTo(students);
+            }
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+        logger.fine("Replayed " + (lines.length - 1) + " changes from " + journalPath);
+        return Files.size(journalPath);
+    }
+
+    /**
+     * Remembers that the data file at {@code filePath}, together with its journal, now holds {@code students}.
+     */
+    private void remember(Path filePath, List<Student> students, long fileBytes, long journalBytes) {
+        savedFilePath = filePath;
+        savedStudents = students;
+        savedFileBytes = fileBytes;
+        this.journalBytes = journalBytes;
+    }
+
+    /**
+     * Returns {@code data} as one line of the journal.
+     */
+    private static byte[] toLine(Object data) {
+        try {
+            // a journal line must not contain line breaks, so those within the data are escaped
+            String xml = XmlUtil.toXmlString(data).replace("\r", "&#13;").replace("\n", "&#10;");
+            return (xml + "\n").getBytes(UTF_8);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the file at {@code filePath}.
+     */
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+
+}
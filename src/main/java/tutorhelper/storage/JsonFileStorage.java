@@ -0,0 +1,313 @@
+package tutorhelper.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import tutorhelper.commons.exceptions.DataConversionException;
+import tutorhelper.commons.exceptions.IllegalValueException;
+import tutorhelper.commons.util.JsonUtil;
+import tutorhelper.model.ReadOnlyTutorHelper;
+import tutorhelper.model.TutorHelper;
+import tutorhelper.model.student.Payment;
+import tutorhelper.model.student.Student;
+import tutorhelper.model.subject.Subject;
+import tutorhelper.model.subject.Syllabus;
+import tutorhelper.model.tag.Tag;
+
+/**
+ * Stores TutorHelper data in a JSON file, written and read one token at a time through Jackson's streaming API,
+ * so that neither the whole file nor a tree of it is ever held in memory.
+ *
+ * The file holds an object with a {@code students} array, and each student has the same fields, with the same
+ * names, as in the xml data file. Students read are checked against the same constraints as those read from xml.
+ */
+public class JsonFileStorage {
+
+    public static final String FILE_EXTENSION = ".json";
+
+    private static final String FIELD_STUDENTS = "students";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_PHONE = "phone";
+    private static final String FIELD_EMAIL = "email";
+    private static final String FIELD_ADDRESS = "address";
+    private static final String FIELD_TUITION_TIMING = "tuitionTiming";
+    private static final String FIELD_SUBJECTS = "subjects";
+    private static final String FIELD_TAGS = "tagged";
+    private static final String FIELD_PAYMENTS = "payments";
+    private static final String FIELD_SUBJECT_NAME = "subjectName";
+    private static final String FIELD_COMPLETION_RATE = "completionRate";
+    private static final String FIELD_SUBJECT_CONTENT = "subjectContent";
+    private static final String FIELD_SYLLABUS = "syllabus";
+    private static final String FIELD_STATE = "state";
+    private static final String FIELD_AMOUNT = "amount";
+    private static final String FIELD_MONTH = "month";
+    private static final String FIELD_YEAR = "year";
+
+    /**
+     * Returns true if {@code filePath} names a JSON data file.
+     */
+    public static boolean isJsonFilePath(Path filePath) {
+        return filePath.toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Saves the given TutorHelper to the specified file, which is created if missing and replaced otherwise.
+     * The file is replaced as a whole, so it is never left half written.
+     */
+    public static void saveTutorHelperToFile(Path file, ReadOnlyTutorHelper tutorHelper) throws IOException {
+        CheckedXmlFileStorage.replaceFile(file, 0, stream -> {
+            try (JsonGenerator out = JsonUtil.createJsonGenerator(stream)) {
+                out.writeStartObject();
+                out.writeArrayFieldStart(FIELD_STUDENTS);
+                for (Student student : tutorHelper.getStudentList()) {
+                    writeStudent(out, student);
+                }
+                out.writeEndArray();
+                out.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * Returns the TutorHelper in the file.
+     *
+     * @throws DataConversionException if the file is not valid JSON or does not hold TutorHelper data.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static TutorHelper loadTutorHelperFromSaveFile(Path file)
+            throws DataConversionException, IOException, IllegalValueException {
+        ParallelStudentConverter converter = new ParallelStudentConverter();
+        try (JsonParser in = JsonUtil.createJsonParser(file)) {
+            expect(in, in.nextToken(), JsonToken.START_OBJECT);
+            while (in.nextToken() == JsonToken.FIELD_NAME) {
+                if (in.getCurrentName().equals(FIELD_STUDENTS)) {
+                    expect(in, in.nextToken(), JsonToken.START_ARRAY);
+                    while (in.nextToken() != JsonToken.END_ARRAY) {
+                        converter.add(readStudent(in));
+                    }
+                } else {
+                    in.nextToken();
+                    in.skipChildren();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new DataConversionException(e);
+        }
+        return XmlSerializableTutorHelper.toModelType(converter.getStudents());
+    }
+
+    /**
+     * Writes every field of {@code student} to {@code out}.
+     */
+    private static void writeStudent(JsonGenerator out, Student student) throws IOException {
+        out.writeStartObject();
+        out.writeStringField(FIELD_NAME, student.getName().fullName);
+        out.writeStringField(FIELD_PHONE, student.getPhone().value);
+        out.writeStringField(FIELD_EMAIL, student.getEmail().value);
+        out.writeStringField(FIELD_ADDRESS, student.getAddress().value);
+        out.writeStringField(FIELD_TUITION_TIMING, student.getTuitionTiming().value);
+
+        out.writeArrayFieldStart(FIELD_SUBJECTS);
+        for (Subject subject : student.getSubjects()) {
+            out.writeStartObject();
+            out.writeStringField(FIELD_SUBJECT_NAME, subject.getSubjectName());
+            out.writeNumberField(FIELD_COMPLETION_RATE, subject.getCompletionRate());
+            out.writeArrayFieldStart(FIELD_SUBJECT_CONTENT);
+            for (Syllabus syllabus : subject.getSubjectContent()) {
+                out.writeStartObject();
+                out.writeStringField(FIELD_SYLLABUS, syllabus.syllabus);
+                out.writeBooleanField(FIELD_STATE, syllabus.state);
+                out.writeEndObject();
+            }
+            out.writeEndArray();
+            out.writeEndObject();
+        }
+        out.writeEndArray();
+
+        out.writeArrayFieldStart(FIELD_TAGS);
+        for (Tag tag : student.getTags()) {
+            out.writeString(tag.tagName);
+        }
+        out.writeEndArray();
+
+        out.writeArrayFieldStart(FIELD_PAYMENTS);
+        for (Payment payment : student.getPayments()) {
+            out.writeStartObject();
+            out.writeNumberField(FIELD_AMOUNT, payment.getAmount());
+            out.writeNumberField(FIELD_MONTH, payment.getMonth());
+            out.writeNumberField(FIELD_YEAR, payment.getYear());
+            out.writeEndObject();
+        }
+        out.writeEndArray();
+        out.writeEndObject();
+    }
+
+    /**
+     * Reads the student object that {@code in} is at the start of, without checking its fields.
+     */
+    private static XmlAdaptedStudent readStudent(JsonParser in) throws IOException {
+        expect(in, in.getCurrentToken(), JsonToken.START_OBJECT);
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        String tuitionTiming = null;
+        List<XmlAdaptedSubject> subjects = new ArrayList<>();
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        List<XmlAdaptedPay> payments = new ArrayList<>();
+
+        while (in.nextToken() == JsonToken.FIELD_NAME) {
+            String field = in.getCurrentName();
+            in.nextToken();
+            switch (field) {
+            case FIELD_NAME:
+                name = readScalar(in);
+                break;
+            case FIELD_PHONE:
+                phone = readScalar(in);
+                break;
+            case FIELD_EMAIL:
+                email = readScalar(in);
+                break;
+            case FIELD_ADDRESS:
+                address = readScalar(in);
+                break;
+            case FIELD_TUITION_TIMING:
+                tuitionTiming = readScalar(in);
+                break;
+            case FIELD_SUBJECTS:
+                expect(in, in.getCurrentToken(), JsonToken.START_ARRAY);
+                while (in.nextToken() != JsonToken.END_ARRAY) {
+                    subjects.add(readSubject(in));
+                }
+                break;
+            case FIELD_TAGS:
+                expect(in, in.getCurrentToken(), JsonToken.START_ARRAY);
+                while (in.nextToken() != JsonToken.END_ARRAY) {
+                    tags.add(new XmlAdaptedTag(readScalar(in)));
+                }
+                break;
+            case FIELD_PAYMENTS:
+                expect(in, in.getCurrentToken(), JsonToken.START_ARRAY);
+                while (in.nextToken() != JsonToken.END_ARRAY) {
+                    payments.add(readPayment(in));
+                }
+                break;
+            default:
+                in.skipChildren();
+            }
+        }
+        return new XmlAdaptedStudent(name, phone, email, address, subjects, tuitionTiming, tags, payments);
+    }
+
+    /**
+     * Reads the subject object that {@code in} is at the start of, without checking its fields.
+     */
+    private static XmlAdaptedSubject readSubject(JsonParser in) throws IOException {
+        expect(in, in.getCurrentToken(), JsonToken.START_OBJECT);
+        String subjectName = null;
+        float completionRate = 0;
+        List<XmlAdaptedSyllabus> content = new ArrayList<>();
+
+        while (in.nextToken() == JsonToken.FIELD_NAME) {
+            String field = in.getCurrentName();
+            in.nextToken();
+            switch (field) {
+            case FIELD_SUBJECT_NAME:
+                subjectName = readScalar(in);
+                break;
+            case FIELD_COMPLETION_RATE:
+                completionRate = in.getFloatValue();
+                break;
+            case FIELD_SUBJECT_CONTENT:
+                expect(in, in.getCurrentToken(), JsonToken.START_ARRAY);
+                while (in.nextToken() != JsonToken.END_ARRAY) {
+                    content.add(readSyllabus(in));
+                }
+                break;
+            default:
+                in.skipChildren();
+            }
+        }
+        return new XmlAdaptedSubject(subjectName, content, completionRate);
+    }
+
+    /**
+     * Reads the syllabus object that {@code in} is at the start of, without checking its fields.
+     */
+    private static XmlAdaptedSyllabus readSyllabus(JsonParser in) throws IOException {
+        expect(in, in.getCurrentToken(), JsonToken.START_OBJECT);
+        String syllabus = null;
+        boolean state = false;
+
+        while (in.nextToken() == JsonToken.FIELD_NAME) {
+            String field = in.getCurrentName();
+            in.nextToken();
+            if (field.equals(FIELD_SYLLABUS)) {
+                syllabus = readScalar(in);
+            } else if (field.equals(FIELD_STATE)) {
+                state = in.getValueAsBoolean();
+            } else {
+                in.skipChildren();
+            }
+        }
+        return new XmlAdaptedSyllabus(syllabus, state);
+    }
+
+    /**
+     * Reads the payment object that {@code in} is at the start of, without checking its fields.
+     */
+    private static XmlAdaptedPay readPayment(JsonParser in) throws IOException {
+        expect(in, in.getCurrentToken(), JsonToken.START_OBJECT);
+        String amount = null;
+        String month = null;
+        String year = null;
+
+        while (in.nextToken() == JsonToken.FIELD_NAME) {
+            String field = in.getCurrentName();
+            in.nextToken();
+            switch (field) {
+            case FIELD_AMOUNT:
+                amount = readScalar(in);
+                break;
+            case FIELD_MONTH:
+                month = readScalar(in);
+                break;
+            case FIELD_YEAR:
+                year = readScalar(in);
+                break;
+            default:
+                in.skipChildren();
+            }
+        }
+        return new XmlAdaptedPay(null, amount, month, year);
+    }
+
+    /**
+     * Returns the text of the value {@code in} is at, which must be a string, number, boolean or null.
+     */
+    private static String readScalar(JsonParser in) throws IOException {
+        if (!in.getCurrentToken().isScalarValue()) {
+            throw new JsonParseException(in, "Expected a value but found " + in.getCurrentToken());
+        }
+        return in.getValueAsString();
+    }
+
+    /**
+     * Throws a {@code JsonParseException} if {@code actual} is not the {@code expected} token.
+     */
+    private static void expect(JsonParser in, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(in, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+package tutorhelper.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import tutorhelper.commons.exceptions.IllegalValueException;
+import tutorhelper.model.student.Student;
+
+/**
+ * Converts {@code XmlAdaptedStudent}s to the model's {@code Student}s on a fork-join pool, in batches, while the
+ * caller goes on reading the rest of the data file. Checking the constraints of every field is what takes most
+ * of the time of a load, and each student can be checked independently of the others.
+ *
+ * The students converted are given back in the order they were added, and a conversion that fails reports the
+ * first student in that order that violates a constraint, so the result is the same as converting them one at
+ * a time. Not thread-safe: all methods must be called from the thread that reads the file.
+ */
+class ParallelStudentConverter {
+
+    /** The number of students converted by one task, enough to make up for the cost of scheduling it. */
+    static final int BATCH_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final List<ConversionBatch> batches = new ArrayList<>();
+    private List<XmlAdaptedStudent> pending = new ArrayList<>(BATCH_SIZE);
+
+    ParallelStudentConverter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    ParallelStudentConverter(ForkJoinPool pool) {
+        this.pool = requireNonNull(pool);
+    }
+
+    /**
+     * Queues {@code student} for conversion, starting to convert a batch once it is full.
+     */
+    void add(XmlAdaptedStudent student) {
+        pending.add(requireNonNull(student));
+        if (pending.size() == BATCH_SIZE) {
+            submitPending();
+        }
+    }
+
+    /**
+     * Waits for every student added to be converted, and returns them in the order they were added.
+     *
+     * @throws IllegalValueException if any student violates a data constraint. The first such student added
+     * is the one reported.
+     */
+    List<Student> getStudents() throws IllegalValueException {
+        submitPending();
+
+        List<Student> students = new ArrayList<>(batches.size() * BATCH_SIZE);
+        try {
+            for (ConversionBatch batch : batches) {
+                batch.join();
+                if (batch.error != null) {
+                    throw batch.error;
+                }
+                students.addAll(batch.converted);
+            }
+        } finally {
+            for (ConversionBatch batch : batches) {
+                batch.cancel(false);
+            }
+            batches.clear();
+        }
+        return students;
+    }
+
+    /**
+     * Starts converting the students queued so far.
+     */
+    private void submitPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        ConversionBatch batch = new ConversionBatch(pending);
+        batches.add(batch);
+        pool.execute(batch);
+        pending = new ArrayList<>(BATCH_SIZE);
+    }
+
+    /**
+     * Converts a batch of students in order, stopping at the first one that violates a constraint.
+     */
+    private static class ConversionBatch extends RecursiveAction {
+        private final List<XmlAdaptedStudent> toConvert;
+        private final List<Student> converted;
+        private IllegalValueException error;
+
+        ConversionBatch(List<XmlAdaptedStudent> toConvert) {
+            this.toConvert = toConvert;
+            this.converted = new ArrayList<>(toConvert.size());
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                for (XmlAdaptedStudent student : toConvert) {
+                    converted.add(student.toModelType());
+                }
+            } catch (IllegalValueException ive) {
+                error = ive;
+            }
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package tutorhelper.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.JAXBException;
+
+import tutorhelper.commons.core.LogsCenter;
+import tutorhelper.commons.exceptions.DataConversionException;
+import tutorhelper.commons.exceptions.IllegalValueException;
+import tutorhelper.commons.util.XmlUtil;
+import tutorhelper.model.ReadOnlyTutorHelper;
+import tutorhelper.model.student.Student;
+
+/**
+ * A class to access TutorHelper data stored as a directory with one small xml file, or shard, per student,
+ * next to where the data file would be.
+ *
+ * A manifest in the directory lists the shards in the order of the students. A save only writes the shards of
+ * the students that changed since the last save, and the manifest if students were added, removed or moved,
+ * so an edit costs one small write whatever the size of the roster. Shards are read in parallel, and a shard
+ * that is missing or damaged is skipped with a warning, and kept on disk, rather than failing the whole load.
+ *
+ * Each shard is a data file in the format of {@link XmlTutorHelperStorage} holding a single student. If there is
+ * no shard directory yet, the data file itself is imported, and split into shards on the next save.
+ */
+public class ShardedTutorHelperStorage implements TutorHelperStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.txt";
+
+    public static final String MESSAGE_INVALID_SHARD_NAME = "Invalid shard name in manifest: ";
+
+    private static final String SHARD_FILE_EXTENSION = ".xml";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    /** Shard names are file names within the shard directory, never paths that lead out of it. */
+    private static final Pattern SHARD_NAME_PATTERN = Pattern.compile("[\\w-]+\\.xml");
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedTutorHelperStorage.class);
+
+    private Path filePath;
+
+    // The students last read from or saved to savedFilePath, and the names of their shards, in the same order.
+    private Path savedFilePath;
+    private List<Student> savedStudents = Collections.emptyList();
+    private List<String> savedShardNames = Collections.emptyList();
+
+    public ShardedTutorHelperStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the directory holding the shards of the data file at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        return Paths.get(filePath.toString() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getTutorHelperFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorHelper> readTutorHelper() throws DataConversionException, IOException {
+        return readTutorHelper(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTutorHelper()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the manifest or an imported data file is not in the correct format,
+     * or the students read include duplicates.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTutorHelper> readTutorHelper(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Path manifestPath = getShardDirectoryPath(filePath).resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            if (Files.exists(filePath)) {
+                logger.info("Importing data from " + filePath);
+            }
+            return new XmlTutorHelperStorage(filePath).readTutorHelper(filePath);
+        }
+
+        List<String> shardNames = readManifest(manifestPath);
+        Path directory = manifestPath.getParent();
+        List<Student> students = shardNames.parallelStream()
+                .map(shardName -> readShard(directory.resolve(shardName)))
+                .collect(Collectors.toList());
+
+        List<Student> found = new ArrayList<>(students.size());
+        List<String> foundShardNames = new ArrayList<>(students.size());
+        for (int i = 0; i < students.size(); i++) {
+            if (students.get(i) != null) {
+                found.add(students.get(i));
+                foundShardNames.add(shardNames.get(i));
+            }
+        }
+
+        try {
+            ReadOnlyTutorHelper tutorHelper = XmlSerializableTutorHelper.toModelType(found);
+            remember(filePath, found, foundShardNames);
+            return Optional.of(tutorHelper);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTutorHelper(ReadOnlyTutorHelper tutorHelper) throws IOException {
+        saveTutorHelper(tutorHelper, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTutorHelper(ReadOnlyTutorHelper)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public synchronized void saveTutorHelper(ReadOnlyTutorHelper tutorHelper, Path filePath) throws IOException {
+        requireNonNull(tutorHelper);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(savedFilePath)) {
+            remember(filePath, Collections.emptyList(), Collections.emptyList());
+        }
+        Path directory = getShardDirectoryPath(filePath);
+        Files.createDirectories(directory);
+
+        List<Student> students = new ArrayList<>(tutorHelper.getStudentList());
+        Map<Student, String> savedShardNamesByStudent = new IdentityHashMap<>();
+        for (int i = 0; i < savedStudents.size(); i++) {
+            savedShardNamesByStudent.put(savedStudents.get(i), savedShardNames.get(i));
+        }
+        Set<Student> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        kept.addAll(students);
+
+        List<String> shardNames = new ArrayList<>(students.size());
+        int written = 0;
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            String shardName = savedShardNamesByStudent.remove(student);
+            if (shardName == null) {
+                shardName = reusableShardName(i, kept);
+                writeShard(directory.resolve(shardName), student);
+                written++;
+            }
+            shardNames.add(shardName);
+        }
+
+        if (!shardNames.equals(savedShardNames)) {
+            writeManifest(directory.resolve(MANIFEST_FILE_NAME), shardNames);
+        }
+        Set<String> inUse = new HashSet<>(shardNames);
+        for (String shardName : savedShardNames) {
+            if (!inUse.contains(shardName)) {
+                Files.deleteIfExists(directory.resolve(shardName));
+            }
+        }
+        logger.fine("Wrote " + written + " shards to " + directory);
+        remember(filePath, students, shardNames);
+    }
+
+    /**
+     * Returns the name of the shard to write the student at {@code index} to: that of the student saved at the
+     * same position if it is not in {@code kept}, as when a student is edited, so that the manifest stays the
+     * same, and otherwise a new one.
+     */
+    private String reusableShardName(int index, Set<Student> kept) {
+        if (index < savedStudents.size() && !kept.contains(savedStudents.get(index))) {
+            return savedShardNames.get(index);
+        }
+        return UUID.randomUUID() + SHARD_FILE_EXTENSION;
+    }
+
+    /**
+     * Remembers that the shard directory of the data file at {@code filePath} now holds {@code students},
+     * in the shards named {@code shardNames}.
+     */
+    private void remember(Path filePath, List<Student> students, List<String> shardNames) {
+        savedFilePath = filePath;
+        savedStudents = students;
+        savedShardNames = shardNames;
+    }
+
+    /**
+     * Returns the student in the shard at {@code shardPath}, or null if it is missing or damaged.
+     */
+    private static Student readShard(Path shardPath) {
+        try {
+            List<Student> students = XmlFileStorage.loadStudentsFromSaveFile(shardPath);
+            if (students.size() == 1) {
+                return students.get(0);
+            }
+            logger.warning("Skipping shard " + shardPath + ", which holds " + students.size() + " students");
+        } catch (DataConversionException | IllegalValueException | IllegalArgumentException | IOException e) {
+            // IllegalArgumentException is thrown for payments that are not numbers
+            logger.warning("Skipping damaged shard " + shardPath + ": " + e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Writes {@code student} to the shard at {@code shardPath}, replacing it if it exists, in one step, so that a
+     * crash leaves either the old or the new shard. This matters as the shard of a student who was removed is
+     * reused for another student, while the manifest still lists it.
+     */
+    private static void writeShard(Path shardPath, Student student) throws IOException {
+        Path tempPath = shardPath.resolveSibling(shardPath.getFileName() + TEMP_FILE_SUFFIX);
+        if (!Files.exists(tempPath)) {
+            Files.createFile(tempPath);
+        }
+        try {
+            XmlUtil.saveElementsToFile(tempPath, XmlSerializableTutorHelper.ROOT_ELEMENT_NAME,
+                    XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME, XmlAdaptedStudent.class,
+                    Collections.singletonList(new XmlAdaptedStudent(student)));
+        } catch (JAXBException e) {
+            Files.deleteIfExists(tempPath);
+            throw new IOException(e.getMessage(), e);
+        }
+        Files.move(tempPath, shardPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the shard names listed in the manifest at {@code manifestPath}.
+     *
+     * @throws DataConversionException if a line of the manifest is not the name of a shard.
+     */
+    private static List<String> readManifest(Path manifestPath) throws IOException, DataConversionException {
+        List<String> shardNames = new ArrayList<>();
+        for (String line : Files.readAllLines(manifestPath, UTF_8)) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            if (!SHARD_NAME_PATTERN.matcher(line).matches()) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_INVALID_SHARD_NAME + line));
+            }
+            shardNames.add(line);
+        }
+        return shardNames;
+    }
+
+    /**
+     * Replaces the manifest at {@code manifestPath} with one listing {@code shardNames}, in one step, so that a
+     * crash leaves either the old or the new manifest.
+     */
+    private static void writeManifest(Path manifestPath, List<String> shardNames) throws IOException {
+        Path tempPath = manifestPath.resolveSibling(MANIFEST_FILE_NAME + TEMP_FILE_SUFFIX);
+        Files.write(tempPath, shardNames, UTF_8);
+        Files.move(tempPath, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+}
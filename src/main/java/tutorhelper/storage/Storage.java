@@ -1,10 +1,14 @@
 package tutorhelper.storage;
 
 import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
+import tutorhelper.commons.events.logic.CommandEnteredEvent;
 import tutorhelper.commons.events.model.TutorHelperChangedEvent;
+import tutorhelper.commons.events.storage.DataFilePathChangedEvent;
 import tutorhelper.commons.events.storage.DataSavingExceptionEvent;
 import tutorhelper.commons.exceptions.DataConversionException;
 import tutorhelper.model.ReadOnlyTutorHelper;
@@ -13,7 +17,7 @@ import tutorhelper.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends TutorHelperStorage, UserPrefsStorage {
+public interface Storage extends TutorHelperStorage, UserPrefsStorage, CommandHistoryStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -30,10 +34,36 @@ public interface Storage extends TutorHelperStorage, UserPrefsStorage {
     @Override
     void saveTutorHelper(ReadOnlyTutorHelper tutorHelper) throws IOException;
 
+    @Override
+    List<String> readCommandHistory() throws IOException;
+
     /**
-     * Saves the current version of the TutorHelper to the hard disk.
+     * Saves the current version of the TutorHelper to the hard disk, in the background.
      *   Creates the data file if it is missing.
-     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     * Raises {@link DataSavingExceptionEvent}, from the saving thread, if there was an error during saving.
      */
     void handleTutorHelperChangedEvent(TutorHelperChangedEvent abce);
+
+    /**
+     * Appends the command entered to the command history on the hard disk, in the background.
+     */
+    void handleCommandEnteredEvent(CommandEnteredEvent event);
+
+    /**
+     * Saves {@code tutorHelper} with {@code newStorage}, and then saves to {@code newStorage} instead from now on.
+     * The changes not saved yet are saved with the current storage first.
+     * Raises {@link DataFilePathChangedEvent} once done.
+     *
+     * @throws FileAlreadyExistsException if the file of {@code newStorage} already exists, as it is never
+     * overwritten.
+     * @throws IOException if {@code tutorHelper} could not be saved with {@code newStorage}, in which case
+     * the current storage is kept.
+     */
+    void switchTutorHelperStorage(TutorHelperStorage newStorage, ReadOnlyTutorHelper tutorHelper)
+            throws IOException;
+
+    /**
+     * Saves the changes and commands not saved yet, and returns once they and any save in progress are done.
+     */
+    void flush();
 }
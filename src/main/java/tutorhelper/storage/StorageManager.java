@@ -1,34 +1,74 @@
 package tutorhelper.storage;
 
+import static tutorhelper.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.collections.FXCollections;
 import tutorhelper.commons.core.ComponentManager;
 import tutorhelper.commons.core.LogsCenter;
+import tutorhelper.commons.events.logic.CommandEnteredEvent;
 import tutorhelper.commons.events.model.TutorHelperChangedEvent;
+import tutorhelper.commons.events.storage.DataFilePathChangedEvent;
+import tutorhelper.commons.events.storage.DataSavedEvent;
 import tutorhelper.commons.events.storage.DataSavingExceptionEvent;
 import tutorhelper.commons.exceptions.DataConversionException;
+import tutorhelper.commons.util.StringUtil;
 import tutorhelper.model.ReadOnlyTutorHelper;
+import tutorhelper.model.TutorHelper;
 import tutorhelper.model.UserPrefs;
+import tutorhelper.model.student.PersistentStudentList;
+import tutorhelper.model.student.Student;
 
 /**
  * Manages storage of TutorHelper data in local storage.
+ *
+ * Changes to the TutorHelper are saved by a background thread, so that the UI never waits on the disk.
+ * Only the latest version is saved: the changes made while a save is waiting or running are saved together
+ * by the next one. The commands entered are appended to the command history by the same thread, in order.
+ * A {@code DataSavedEvent} is raised from that thread each time the changes have been written.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
+    public static final String MESSAGE_FILE_EXISTS = "The file already exists";
+
+    /** How long a save waits for further changes, so that a burst of changes is saved once. */
+    static final long SAVE_DELAY_MILLIS = 100;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private TutorHelperStorage tutorHelperStorage;
+    private volatile TutorHelperStorage tutorHelperStorage;
     private UserPrefsStorage userPrefsStorage;
+    private CommandHistoryStorage commandHistoryStorage;
 
+    private final ScheduledExecutorService saver = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TutorHelper saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The latest version of the TutorHelper that is not saved yet, or null if there is none. */
+    private final AtomicReference<ReadOnlyTutorHelper> pendingSave = new AtomicReference<>();
 
-    public StorageManager(TutorHelperStorage tutorHelperStorage, UserPrefsStorage userPrefsStorage) {
+
+    public StorageManager(TutorHelperStorage tutorHelperStorage, UserPrefsStorage userPrefsStorage,
+            CommandHistoryStorage commandHistoryStorage) {
         super();
         this.tutorHelperStorage = tutorHelperStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.commandHistoryStorage = commandHistoryStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -49,6 +89,36 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
 
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryStorage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public List<String> readCommandHistory() throws IOException {
+        return commandHistoryStorage.readCommandHistory();
+    }
+
+    @Override
+    public void appendCommand(String commandText) throws IOException {
+        commandHistoryStorage.appendCommand(commandText);
+    }
+
+    @Override
+    @Subscribe
+    public void handleCommandEnteredEvent(CommandEnteredEvent event) {
+        saver.execute(() -> {
+            try {
+                appendCommand(event.commandText);
+            } catch (IOException e) {
+                logger.warning("Failed to save command history " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+
     // ================ TutorHelper methods ==============================
 
     @Override
@@ -63,6 +133,7 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public Optional<ReadOnlyTutorHelper> readTutorHelper(Path filePath) throws DataConversionException, IOException {
+        flush();
         logger.fine("Attempting to read data from file: " + filePath);
         return tutorHelperStorage.readTutorHelper(filePath);
     }
@@ -82,12 +153,86 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     @Subscribe
     public void handleTutorHelperChangedEvent(TutorHelperChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, scheduling save to file"));
+        if (pendingSave.getAndSet(snapshotOf(event.data)) == null) {
+            saver.schedule(this::savePending, SAVE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            // runs after any save in progress, and saves the pending changes without waiting for the delay
+            saver.submit(this::savePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void switchTutorHelperStorage(TutorHelperStorage newStorage, ReadOnlyTutorHelper tutorHelper)
+            throws IOException {
+        requireAllNonNull(newStorage, tutorHelper);
+        ReadOnlyTutorHelper snapshot = snapshotOf(tutorHelper);
+        Callable<Void> switchStorage = () -> {
+            if (Files.exists(newStorage.getTutorHelperFilePath())) {
+                throw new FileAlreadyExistsException(newStorage.getTutorHelperFilePath().toString(), null,
+                        MESSAGE_FILE_EXISTS);
+            }
+            savePending();
+            logger.info("Moving data to file: " + newStorage.getTutorHelperFilePath());
+            newStorage.saveTutorHelper(snapshot);
+            tutorHelperStorage = newStorage;
+            return null;
+        };
+
         try {
-            saveTutorHelper(event.data);
+            // runs on the saving thread, so that no save to the old storage can start afterwards
+            saver.submit(switchStorage).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+        raise(new DataFilePathChangedEvent(newStorage.getTutorHelperFilePath()));
+    }
+
+    /**
+     * Saves the latest pending version of the TutorHelper, if there is one.
+     * Raises {@link DataSavedEvent} once it is written, or {@link DataSavingExceptionEvent} if there was an error
+     * during saving.
+     */
+    private void savePending() {
+        ReadOnlyTutorHelper tutorHelper = pendingSave.getAndSet(null);
+        if (tutorHelper == null) {
+            return;
+        }
+        try {
+            Path filePath = tutorHelperStorage.getTutorHelperFilePath();
+            saveTutorHelper(tutorHelper, filePath);
+            logger.fine("Saved pending changes to data file");
+            raise(new DataSavedEvent(filePath));
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
 
+    /**
+     * Returns an immutable copy of {@code tutorHelper} that can be saved while it goes on changing.
+     */
+    private static ReadOnlyTutorHelper snapshotOf(ReadOnlyTutorHelper tutorHelper) {
+        if (tutorHelper instanceof TutorHelper) {
+            PersistentStudentList students = ((TutorHelper) tutorHelper).getSnapshot();
+            return () -> FXCollections.unmodifiableObservableList(FXCollections.observableList(students.toList()));
+        }
+        Student[] students = tutorHelper.getStudentList().toArray(new Student[0]);
+        return () -> FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(students));
+    }
+
 }
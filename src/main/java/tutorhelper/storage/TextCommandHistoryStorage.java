@@ -0,0 +1,155 @@
+package tutorhelper.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static tutorhelper.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+
+import tutorhelper.commons.core.LogsCenter;
+import tutorhelper.commons.util.FileUtil;
+
+/**
+ * A class to access the command history stored as a text file on the hard disk, one command per line.
+ *
+ * Each command entered is appended to the file as a line, so saving it costs O(1) I/O however long the history.
+ * Only the latest {@code capacity} commands are read back, and once the file holds more than twice as many, it is
+ * compacted: rewritten with the latest ones only. Line breaks and backslashes in a command are written as
+ * {@code \n}, {@code \r} and {@code \\}. A last line cut short by a crash is dropped.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(TextCommandHistoryStorage.class);
+
+    private final Path filePath;
+    private final int capacity;
+    /** The number of lines in the file, or -1 if the file has not been read yet. */
+    private int lineCount = -1;
+
+    /**
+     * Creates a storage for the history in the file at {@code filePath}, which keeps the latest {@code capacity}
+     * commands.
+     */
+    public TextCommandHistoryStorage(Path filePath, int capacity) {
+        requireNonNull(filePath);
+        checkArgument(capacity > 0, "The capacity of a command history must be positive");
+        this.filePath = filePath;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readCommandHistory() throws IOException {
+        List<String> lines = readLines();
+        List<String> commands = new ArrayList<>(Math.min(lines.size(), capacity));
+        for (String line : lines.subList(Math.max(0, lines.size() - capacity), lines.size())) {
+            commands.add(unescape(line));
+        }
+        return commands;
+    }
+
+    @Override
+    public void appendCommand(String commandText) throws IOException {
+        requireNonNull(commandText);
+        if (lineCount < 0) {
+            readLines();
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(filePath, (escape(commandText) + "\n").getBytes(UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        lineCount++;
+        if (lineCount > 2 * capacity) {
+            readLines();
+        }
+    }
+
+    /**
+     * Returns every whole line of the file, and compacts it if it holds too many lines or its last line was cut
+     * short. Returns an empty list if the file is not found.
+     */
+    private List<String> readLines() throws IOException {
+        if (!Files.exists(filePath)) {
+            lineCount = 0;
+            return new ArrayList<>();
+        }
+
+        String content = new String(Files.readAllBytes(filePath), UTF_8);
+        List<String> lines = new ArrayList<>(Arrays.asList(content.split("\n", -1)));
+        // empty if the file ends with a line break, as it does unless its last line was cut short
+        String lastLine = lines.remove(lines.size() - 1);
+        lineCount = lines.size();
+        if (!lastLine.isEmpty() || lineCount > 2 * capacity) {
+            compact(lines);
+        }
+        return lines;
+    }
+
+    /**
+     * Rewrites the file with the latest {@code capacity} of {@code lines}, replacing it only once they are all
+     * written.
+     */
+    private void compact(List<String> lines) throws IOException {
+        List<String> keptLines = lines.subList(Math.max(0, lines.size() - capacity), lines.size());
+        logger.fine("Compacting command history file " + filePath + " from " + lines.size() + " to "
+                + keptLines.size() + " commands");
+
+        StringBuilder content = new StringBuilder();
+        for (String line : keptLines) {
+            content.append(line).append('\n');
+        }
+
+        Path tempPath = Paths.get(filePath.toString() + TEMP_FILE_SUFFIX);
+        try {
+            Files.write(tempPath, content.toString().getBytes(UTF_8));
+        } catch (IOException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        lineCount = keptLines.size();
+    }
+
+    /**
+     * Returns {@code commandText} written as a single line.
+     */
+    private static String escape(String commandText) {
+        return commandText.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    /**
+     * Returns the command written as {@code line} by {@link #escape}.
+     */
+    private static String unescape(String line) {
+        if (line.indexOf('\\') == -1) {
+            return line;
+        }
+
+        StringBuilder commandText = new StringBuilder(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != '\\' || i + 1 == line.length()) {
+                commandText.append(c);
+                continue;
+            }
+            char escaped = line.charAt(++i);
+            commandText.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+        }
+        return commandText.toString();
+    }
+}
@@ -0,0 +1,115 @@
+package tutorhelper.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import tutorhelper.commons.exceptions.IllegalValueException;
+import tutorhelper.model.student.Student;
+
+/**
+ * JAXB-friendly version of one change to the student list, as recorded in a journal:
+ * starting at position {@code at}, {@code removed} students are replaced with the given students.
+ * A single add, edit or delete is recorded with one student at most, whatever the size of the list.
+ */
+@XmlRootElement(name = "change")
+public class XmlAdaptedJournalEntry {
+
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal entry changes students that do not exist.";
+
+    @XmlAttribute(required = true)
+    private int at;
+    @XmlAttribute(required = true)
+    private int removed;
+    @XmlElement(name = XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME)
+    private List<XmlAdaptedStudent> students = new ArrayList<>();
+
+    /**
+     * Constructs an XmlAdaptedJournalEntry.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedJournalEntry() {}
+
+    /**
+     * Constructs an {@code XmlAdaptedJournalEntry} that replaces {@code removed} students starting at {@code at}
+     * with {@code inserted}.
+     */
+    public XmlAdaptedJournalEntry(int at, int removed, List<Student> inserted) {
+        this.at = at;
+        this.removed = removed;
+        for (Student student : inserted) {
+            students.add(new XmlAdaptedStudent(student));
+        }
+    }
+
+    /**
+     * Returns the entry that changes {@code before} into {@code after}, or null if they hold the same students.
+     * Only the students between the longest common prefix and the longest common suffix are recorded.
+     */
+    public static XmlAdaptedJournalEntry between(List<Student> before, List<Student> after) {
+        int shorter = Math.min(before.size(), after.size());
+        int prefix = 0;
+        while (prefix < shorter && isSame(before.get(prefix), after.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < shorter - prefix
+                && isSame(before.get(before.size() - 1 - suffix), after.get(after.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        int removed = before.size() - prefix - suffix;
+        List<Student> inserted = after.subList(prefix, after.size() - suffix);
+        if (removed == 0 && inserted.isEmpty()) {
+            return null;
+        }
+        return new XmlAdaptedJournalEntry(prefix, removed, inserted);
+    }
+
+    /**
+     * Students are immutable and kept from one version of the list to the next,
+     * so most unchanged students are found by reference.
+     */
+    private static boolean isSame(Student before, Student after) {
+        return before == after || before.equals(after);
+    }
+
+    /**
+     * Makes this change on {@code target}.
+     *
+     * @throws IllegalValueException if the change does not fit {@code target}, or there were any data constraints
+     * violated in the students it inserts.
+     */
+    public void applyTo(List<Student> target) throws IllegalValueException {
+        if (at < 0 || removed < 0 || at + removed > target.size()) {
+            throw new IllegalValueException(MESSAGE_OUT_OF_RANGE);
+        }
+        List<Student> inserted = new ArrayList<>(students.size());
+        for (XmlAdaptedStudent student : students) {
+            inserted.add(student.toModelType());
+        }
+
+        List<Student> range = target.subList(at, at + removed);
+        range.clear();
+        range.addAll(inserted);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedJournalEntry)) {
+            return false;
+        }
+
+        XmlAdaptedJournalEntry otherEntry = (XmlAdaptedJournalEntry) other;
+        return at == otherEntry.at
+                && removed == otherEntry.removed
+                && students.equals(otherEntry.students);
+    }
+}
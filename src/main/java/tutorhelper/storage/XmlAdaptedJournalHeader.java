@@ -0,0 +1,43 @@
+package tutorhelper.storage;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * JAXB-friendly version of the first line of a journal, which identifies the data file the journal applies to
+ * by its length and checksum. A journal whose header does not match its data file is out of date.
+ */
+@XmlRootElement(name = "journal")
+public class XmlAdaptedJournalHeader {
+
+    @XmlAttribute(required = true)
+    private long baseLength;
+    @XmlAttribute(required = true)
+    private long baseChecksum;
+
+    /**
+     * Constructs an XmlAdaptedJournalHeader.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedJournalHeader() {}
+
+    public XmlAdaptedJournalHeader(long baseLength, long baseChecksum) {
+        this.baseLength = baseLength;
+        this.baseChecksum = baseChecksum;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedJournalHeader)) {
+            return false;
+        }
+
+        XmlAdaptedJournalHeader otherHeader = (XmlAdaptedJournalHeader) other;
+        return baseLength == otherHeader.baseLength
+                && baseChecksum == otherHeader.baseChecksum;
+    }
+}
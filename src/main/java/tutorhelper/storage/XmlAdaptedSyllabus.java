@@ -23,6 +23,14 @@ public class XmlAdaptedSyllabus {
      */
     public XmlAdaptedSyllabus() {}
 
+    /**
+     * Constructs an {@code XmlAdaptedSyllabus} with the given topic and state.
+     */
+    public XmlAdaptedSyllabus(String syllabus, boolean state) {
+        this.syllabus = syllabus;
+        this.state = state;
+    }
+
     /**
      * Converts a given Syllabus into this class for JAXB use.
      *
@@ -3,12 +3,18 @@ package tutorhelper.storage;
 import static tutorhelper.commons.util.XmlUtil.getDataFromFile;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import javax.xml.bind.JAXBException;
 
 import tutorhelper.commons.exceptions.DataConversionException;
+import tutorhelper.commons.exceptions.IllegalValueException;
 import tutorhelper.commons.util.XmlUtil;
+import tutorhelper.model.ReadOnlyTutorHelper;
+import tutorhelper.model.TutorHelper;
+import tutorhelper.model.student.Student;
 
 /**
  * Stores TutorHelper data in an XML file
@@ -38,4 +44,62 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Saves the given TutorHelper to the specified file, converting and writing one student at a time
+     * so that the whole TutorHelper is never held in memory in its XML form.
+     */
+    public static void saveTutorHelperToFile(Path file, ReadOnlyTutorHelper tutorHelper)
+            throws FileNotFoundException {
+        Iterable<XmlAdaptedStudent> students = () -> tutorHelper.getStudentList().stream()
+                .map(XmlAdaptedStudent::new).iterator();
+        try {
+            XmlUtil.saveElementsToFile(file, XmlSerializableTutorHelper.ROOT_ELEMENT_NAME,
+                    XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME, XmlAdaptedStudent.class, students);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Saves the given TutorHelper to the specified file, converting only the students that are not in
+     * {@code fragmentCache} yet. The file is replaced in one step, with a checksum, keeping the file it replaces
+     * as the newest of {@code backupCount} backups, as done by {@link CheckedXmlFileStorage#saveToFile}.
+     */
+    static void saveTutorHelperToFile(Path file, ReadOnlyTutorHelper tutorHelper,
+            XmlStudentFragmentCache fragmentCache, int backupCount) throws IOException {
+        List<String> fragments = fragmentCache.getFragments(tutorHelper.getStudentList());
+        CheckedXmlFileStorage.ContentWriter content = out ->
+                XmlUtil.writeFragments(out, XmlSerializableTutorHelper.ROOT_ELEMENT_NAME, fragments);
+        CheckedXmlFileStorage.saveToFile(file, backupCount, content);
+    }
+
+    /**
+     * Returns the TutorHelper in the file, reading and converting one student at a time
+     * so that the whole file is never held in memory in its XML form.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static TutorHelper loadTutorHelperFromSaveFile(Path file)
+            throws DataConversionException, FileNotFoundException, IllegalValueException {
+        return XmlSerializableTutorHelper.toModelType(loadStudentsFromSaveFile(file));
+    }
+
+    /**
+     * Returns the students in the file, in order, without checking them for duplicates.
+     * Students are converted in parallel while the rest of the file is read.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the file.
+     */
+    static List<Student> loadStudentsFromSaveFile(Path file)
+            throws DataConversionException, FileNotFoundException, IllegalValueException {
+        ParallelStudentConverter converter = new ParallelStudentConverter();
+        try {
+            XmlUtil.readElementsFromFile(file, XmlSerializableTutorHelper.ROOT_ELEMENT_NAME,
+                    XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME, XmlAdaptedStudent.class, converter::add);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+        return converter.getStudents();
+    }
+
 }
@@ -10,19 +10,21 @@ import javax.xml.bind.annotation.XmlRootElement;
 import tutorhelper.commons.exceptions.IllegalValueException;
 import tutorhelper.model.ReadOnlyTutorHelper;
 import tutorhelper.model.TutorHelper;
-import tutorhelper.model.student.Payment;
 import tutorhelper.model.student.Student;
+import tutorhelper.model.student.exceptions.DuplicateStudentException;
 
 /**
  * An Immutable TutorHelper that is serializable to XML format
  */
-@XmlRootElement(name = "TutorHelper")
+@XmlRootElement(name = XmlSerializableTutorHelper.ROOT_ELEMENT_NAME)
 public class XmlSerializableTutorHelper {
 
     public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
-    private static final int MAX_PAYMENTS_DISPLAYED = 5;
 
-    @XmlElement
+    public static final String ROOT_ELEMENT_NAME = "TutorHelper";
+    public static final String STUDENT_ELEMENT_NAME = "students";
+
+    @XmlElement(name = STUDENT_ELEMENT_NAME)
     private List<XmlAdaptedStudent> students;
 
     /**
@@ -48,19 +50,22 @@ public class XmlSerializableTutorHelper {
      * {@code XmlAdaptedStudent}.
      */
     public TutorHelper toModelType() throws IllegalValueException {
-        TutorHelper tutorHelper = new TutorHelper();
-        for (XmlAdaptedStudent p : students) {
-            Student student = p.toModelType();
-            if (tutorHelper.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            List<Payment> pay = student.getPayments();
-            while (pay.size() > MAX_PAYMENTS_DISPLAYED) {
-                pay.remove(0);
-            }
-            tutorHelper.addStudent(student);
+        ParallelStudentConverter converter = new ParallelStudentConverter();
+        students.forEach(converter::add);
+        return toModelType(converter.getStudents());
+    }
+
+    /**
+     * Returns the model's {@code TutorHelper} object holding {@code modelStudents}.
+     *
+     * @throws IllegalValueException if there are duplicates in {@code modelStudents}.
+     */
+    static TutorHelper toModelType(List<Student> modelStudents) throws IllegalValueException {
+        try {
+            return new TutorHelper(modelStudents);
+        } catch (DuplicateStudentException dse) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
         }
-        return tutorHelper;
     }
 
     @Override
@@ -0,0 +1,71 @@
+package tutorhelper.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.bind.JAXBException;
+
+import tutorhelper.commons.util.XmlUtil;
+import tutorhelper.model.student.Student;
+
+/**
+ * Keeps the xml form of each student last saved, so that saving again only converts the students that changed
+ * since, and save time grows with the size of the change rather than with the size of the roster.
+ *
+ * Students are immutable, and a change to one replaces it with a new {@code Student} in the list, so a fragment
+ * is looked up by the identity of the student it was converted from. Fragments of students that are no longer
+ * in the list saved are dropped.
+ */
+class XmlStudentFragmentCache {
+
+    private Map<Student, String> fragments = new IdentityHashMap<>();
+
+    /**
+     * Returns the xml fragment of each of {@code students}, in order, converting only those not in the last list
+     * given. The fragments are as written by {@link XmlUtil#saveFragmentsToFile}.
+     */
+    synchronized List<String> getFragments(List<Student> students) {
+        requireNonNull(students);
+
+        Map<Student, String> updated = new IdentityHashMap<>(students.size());
+        List<Student> changed = new ArrayList<>();
+        for (Student student : students) {
+            String fragment = fragments.get(student);
+            if (fragment == null && !updated.containsKey(student)) {
+                changed.add(student);
+            }
+            updated.put(student, fragment);
+        }
+        List<String> converted = convert(changed);
+        for (int i = 0; i < changed.size(); i++) {
+            updated.put(changed.get(i), converted.get(i));
+        }
+
+        List<String> result = new ArrayList<>(students.size());
+        for (Student student : students) {
+            result.add(updated.get(student));
+        }
+        fragments = updated;
+        return result;
+    }
+
+    /**
+     * Returns the xml fragments of {@code students}, in order.
+     */
+    private static List<String> convert(List<Student> students) {
+        List<XmlAdaptedStudent> adapted = new ArrayList<>(students.size());
+        for (Student student : students) {
+            adapted.add(new XmlAdaptedStudent(student));
+        }
+        try {
+            return XmlUtil.toXmlFragments(XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME, XmlAdaptedStudent.class,
+                    adapted);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+}
@@ -2,30 +2,48 @@ package tutorhelper.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import tutorhelper.commons.core.LogsCenter;
 import tutorhelper.commons.exceptions.DataConversionException;
 import tutorhelper.commons.exceptions.IllegalValueException;
-import tutorhelper.commons.util.FileUtil;
 import tutorhelper.model.ReadOnlyTutorHelper;
 
 /**
  * A class to access TutorHelper data stored as an xml file on the hard disk.
+ * A binary data file found where the xml file is expected is imported, and replaced by an xml file on the
+ * next save.
+ *
+ * The xml form of each student saved is kept, so that a save only converts the students that changed since.
+ *
+ * Saves replace the data file in one step, keeping the last few versions of it as backups. If the data file is
+ * damaged or missing, the newest backup that is intact is read instead; files whose checksum does not match
+ * are skipped without being parsed.
  */
 public class XmlTutorHelperStorage implements TutorHelperStorage {
 
+    /** The number of earlier versions of the data file kept by default. */
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+
+    public static final String MESSAGE_NO_INTACT_SNAPSHOT = "Neither the data file nor any of its backups is intact";
+
     private static final Logger logger = LogsCenter.getLogger(XmlTutorHelperStorage.class);
 
     private Path filePath;
+    private final int backupCount;
+    private final XmlStudentFragmentCache fragmentCache = new XmlStudentFragmentCache();
 
     public XmlTutorHelperStorage(Path filePath) {
+        this(filePath, DEFAULT_BACKUP_COUNT);
+    }
+
+    public XmlTutorHelperStorage(Path filePath, int backupCount) {
         this.filePath = filePath;
+        this.backupCount = backupCount;
     }
 
     public Path getTutorHelperFilePath() {
@@ -40,22 +58,55 @@ public class XmlTutorHelperStorage implements TutorHelperStorage {
     /**
      * Similar to {@link #readTutorHelper()}
      * @param filePath location of the data. Cannot be null
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if neither the file nor any of its backups is in the correct format.
      */
-    public Optional<ReadOnlyTutorHelper> readTutorHelper(Path filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+    public Optional<ReadOnlyTutorHelper> readTutorHelper(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
 
-        if (!Files.exists(filePath)) {
+        List<Path> snapshots = CheckedXmlFileStorage.getSnapshotPaths(filePath, backupCount);
+        if (snapshots.isEmpty()) {
             logger.info("TutorHelper file " + filePath + " not found");
             return Optional.empty();
         }
 
-        XmlSerializableTutorHelper xmlTutorHelper = XmlFileStorage.loadDataFromSaveFile(filePath);
+        DataConversionException firstError = null;
+        for (Path snapshot : snapshots) {
+            if (CheckedXmlFileStorage.verify(snapshot) == CheckedXmlFileStorage.Verification.DAMAGED) {
+                logger.warning("Skipping " + snapshot + ", which does not match its checksum");
+                continue;
+            }
+            try {
+                ReadOnlyTutorHelper tutorHelper = readSnapshot(snapshot);
+                if (!snapshot.equals(filePath)) {
+                    logger.warning("Restored TutorHelper data from backup " + snapshot);
+                }
+                return Optional.of(tutorHelper);
+            } catch (DataConversionException e) {
+                logger.warning("Could not read " + snapshot + ": " + e.getMessage());
+                if (firstError == null) {
+                    firstError = e;
+                }
+            }
+        }
+        throw firstError != null
+                ? firstError
+                : new DataConversionException(new IllegalValueException(MESSAGE_NO_INTACT_SNAPSHOT));
+    }
+
+    /**
+     * Returns the TutorHelper in the data file, or backup, at {@code snapshot}.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    private static ReadOnlyTutorHelper readSnapshot(Path snapshot) throws DataConversionException, IOException {
         try {
-            return Optional.of(xmlTutorHelper.toModelType());
+            if (BinaryFileStorage.isBinaryDataFile(snapshot)) {
+                logger.info("Importing binary data from " + snapshot);
+                return BinaryFileStorage.loadTutorHelperFromSaveFile(snapshot);
+            }
+            return XmlFileStorage.loadTutorHelperFromSaveFile(snapshot);
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            logger.info("Illegal values found in " + snapshot + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
@@ -73,8 +124,7 @@ public class XmlTutorHelperStorage implements TutorHelperStorage {
         requireNonNull(tutorHelper);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableTutorHelper(tutorHelper));
+        XmlFileStorage.saveTutorHelperToFile(filePath, tutorHelper, fragmentCache, backupCount);
     }
 
 }
@@ -16,6 +16,7 @@ import javafx.scene.shape.Line;
 import tutorhelper.commons.core.LogsCenter;
 import tutorhelper.commons.core.index.Index;
 import tutorhelper.commons.events.ui.StudentPanelSelectionChangedEvent;
+import tutorhelper.model.student.Payment;
 import tutorhelper.model.student.Student;
 import tutorhelper.model.subject.Subject;
 
@@ -26,6 +27,8 @@ public class BrowserPanel extends UiPart<Region> {
 
     public static final String FXML = "BrowserPanel.fxml";
 
+    private static final int MAX_PAYMENTS_DISPLAYED = 5;
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     @FXML
@@ -123,11 +126,12 @@ public class BrowserPanel extends UiPart<Region> {
             student.getSubjects().forEach(subject -> subjectsShort.getChildren().add(
                     new Label(subject.getSubjectName())));
             student.getTags().forEach(tag -> tagsShort.getChildren().add(new Label(tag.tagName)));
-            student.getPayments().forEach(amount -> paymentAmount.getChildren().add(
+            List<Payment> latestPayments = student.getPaymentHistory().getLatest(MAX_PAYMENTS_DISPLAYED);
+            latestPayments.forEach(amount -> paymentAmount.getChildren().add(
                     new Label(String.valueOf(amount.getAmount()))));
-            student.getPayments().forEach(amount -> paymentMonth.getChildren().add(
+            latestPayments.forEach(amount -> paymentMonth.getChildren().add(
                     new Label(String.valueOf(amount.getMonth()))));
-            student.getPayments().forEach(amount -> paymentYear.getChildren().add(
+            latestPayments.forEach(amount -> paymentYear.getChildren().add(
                     new Label(String.valueOf(amount.getYear()))));
 
             for (int i = 0; i < student.getSubjects().size(); i++) {
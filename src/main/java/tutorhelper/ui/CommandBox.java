@@ -1,10 +1,12 @@
 package tutorhelper.ui;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import tutorhelper.commons.core.LogsCenter;
@@ -26,6 +28,8 @@ public class CommandBox extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    /** The text searched for by the reverse search in progress, or null if there is none. */
+    private String searchQuery;
 
     @FXML
     private TextField commandTextField;
@@ -43,6 +47,10 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleKeyPress(KeyEvent keyEvent) {
+        if (!isReverseSearch(keyEvent) && !keyEvent.getCode().isModifierKey()) {
+            searchQuery = null;
+        }
+
         switch (keyEvent.getCode()) {
         case UP:
             // As up and down buttons will alter the position of the caret,
@@ -55,6 +63,12 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case R:
+            if (isReverseSearch(keyEvent)) {
+                keyEvent.consume();
+                searchPreviousInput();
+            }
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -86,6 +100,30 @@ public class CommandBox extends UiPart<Region> {
         replaceText(historySnapshot.next());
     }
 
+    private static boolean isReverseSearch(KeyEvent keyEvent) {
+        return keyEvent.getCode() == KeyCode.R && keyEvent.isShortcutDown();
+    }
+
+    /**
+     * Updates the text field with the latest input in {@code historySnapshot} before the one shown that contains
+     * the text searched for, which is the text in the field when the search started.
+     * Indicates a failure if there is no such input.
+     */
+    private void searchPreviousInput() {
+        assert historySnapshot != null;
+        if (searchQuery == null) {
+            searchQuery = commandTextField.getText();
+        }
+
+        Optional<String> previousInput = historySnapshot.findPrevious(searchQuery);
+        if (!previousInput.isPresent()) {
+            setStyleToIndicateCommandFailure();
+            return;
+        }
+
+        replaceText(previousInput.get());
+    }
+
     /**
      * Sets {@code CommandBox}'s text field with {@code text} and
      * positions the caret to the end of the {@code text}.
@@ -14,7 +14,9 @@ import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import tutorhelper.commons.core.LogsCenter;
-import tutorhelper.commons.events.model.TutorHelperChangedEvent;
+import tutorhelper.commons.events.storage.DataFilePathChangedEvent;
+import tutorhelper.commons.events.storage.DataSavedEvent;
+import tutorhelper.commons.events.storage.DataSavingExceptionEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -23,6 +25,7 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SYNC_STATUS_SAVE_FAILED = "Changes could not be saved: %s";
 
     /**
      * Used to generate time stamps.
@@ -73,11 +76,27 @@ public class StatusBarFooter extends UiPart<Region> {
         Platform.runLater(() -> syncStatus.setText(status));
     }
 
+    /**
+     * Reports the time the changes were written to the data file, which is after they were made,
+     * as they are saved in the background.
+     */
     @Subscribe
-    public void handleTutorHelperChangedEvent(TutorHelperChangedEvent abce) {
+    public void handleDataSavedEvent(DataSavedEvent event) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
+
+    @Subscribe
+    public void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Setting sync status to save failure"));
+        setSyncStatus(String.format(SYNC_STATUS_SAVE_FAILED, event.exception.getMessage()));
+    }
+
+    @Subscribe
+    public void handleDataFilePathChangedEvent(DataFilePathChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Setting save location to " + event.filePath));
+        setSaveLocation(Paths.get(".").resolve(event.filePath).toString());
+    }
 }
@@ -3,12 +3,14 @@ package systemtests;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorhelper.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
 
+import java.time.DayOfWeek;
+
 import org.junit.Test;
 
 import tutorhelper.logic.commands.GroupCommand;
 import tutorhelper.logic.commands.UndoCommand;
 import tutorhelper.model.Model;
-import tutorhelper.model.tuitiontiming.TuitionTimingContainsKeywordsPredicate;
+import tutorhelper.model.tuitiontiming.TuitionTiming;
 
 public class GroupCommandSystemTest extends TutorHelperSystemTest {
     private static final String MESSAGE_INVALID_GROUP_COMMAND_FORMAT =
@@ -17,56 +19,32 @@ public class GroupCommandSystemTest extends TutorHelperSystemTest {
     @Test
     public void group() {
         /* --------------------- Performing group operation while an unfiltered list is shown ---------------------- */
-        Model modelBeforeGrouping = getModel();
         Model expectedModel = getModel();
         String command = "     " + GroupCommand.COMMAND_WORD + "      ";
-        String undoCommand = UndoCommand.COMMAND_WORD;
 
         //Groups by day
         String validDayCommand = command + "Monday ";
-        expectedModel.updateFilteredStudentList(new TuitionTimingContainsKeywordsPredicate("Monday"));
-        String expectedResultMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW,
-                expectedModel.getFilteredStudentList().size());
-        assertCommandSuccess(validDayCommand, true, false, expectedModel, expectedResultMessage);
-        //Undo sorting by time
-        expectedResultMessage = UndoCommand.MESSAGE_SUCCESS;
-        assertCommandSuccess(undoCommand, modelBeforeGrouping, expectedResultMessage);
+        expectedModel.showStudentsWithTuitionOn(DayOfWeek.MONDAY);
+        assertCommandSuccess(validDayCommand, expectedModel);
 
         //Groups by time
         String validTimeCommand = command + "5:00pm ";
-        expectedModel.updateFilteredStudentList(new TuitionTimingContainsKeywordsPredicate("5:00pm"));
-        expectedResultMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW,
-                expectedModel.getFilteredStudentList().size());
-        assertCommandSuccess(validTimeCommand, false, true, expectedModel, expectedResultMessage);
-        //Undo sorting by day
-        expectedResultMessage = UndoCommand.MESSAGE_SUCCESS;
-        assertCommandSuccess(undoCommand, modelBeforeGrouping, expectedResultMessage);
-
+        expectedModel.showStudentsWithTuitionAt(TuitionTiming.toMinuteOfDay("5:00pm"));
+        assertCommandSuccess(validTimeCommand, expectedModel);
 
         /* ---------------------- Performing group operation while a filtered list is shown ------------------------ */
-        //Initial model needs to be acquired and sorted first
-        Model modelAfterFirstSort = getModel();
-        modelAfterFirstSort.sortByTime();
-
-        //Group by day and sort by time first
+        //Group by day
         String firstGroupCommand = command + "Saturday ";
-        expectedModel.updateFilteredStudentList(new TuitionTimingContainsKeywordsPredicate("Saturday"));
-        expectedResultMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW,
-                expectedModel.getFilteredStudentList().size());
-        assertCommandSuccess(firstGroupCommand, true, false, expectedModel, expectedResultMessage);
+        expectedModel.showStudentsWithTuitionOn(DayOfWeek.SATURDAY);
+        assertCommandSuccess(firstGroupCommand, expectedModel);
 
-        //Followed by grouping by time and sorting by day
+        //Followed by grouping by time
         String secondGroupCommand = command + "1:00pm ";
-        expectedModel.updateFilteredStudentList(new TuitionTimingContainsKeywordsPredicate("1:00pm"));
-        expectedResultMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW,
-                expectedModel.getFilteredStudentList().size());
-        assertCommandSuccess(secondGroupCommand, false, true, expectedModel, expectedResultMessage);
-
-        //Undo sorting twice
-        expectedResultMessage = UndoCommand.MESSAGE_SUCCESS;
-        assertCommandSuccess(undoCommand, modelAfterFirstSort, expectedResultMessage);
-        assertCommandSuccess(undoCommand, modelBeforeGrouping, expectedResultMessage);
+        expectedModel.showStudentsWithTuitionAt(TuitionTiming.toMinuteOfDay("1:00pm"));
+        assertCommandSuccess(secondGroupCommand, expectedModel);
 
+        /* --------------------- Grouping does not change the data, so there is nothing to undo --------------------- */
+        assertCommandFailure(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
 
         /* -------------------------------- Performing invalid group operation ------------------------------------- */
         String invalidDayCommand = command + "MONDAY ";
@@ -82,48 +60,23 @@ public class GroupCommandSystemTest extends TutorHelperSystemTest {
     /**
      * Executes {@code command} and in addition,<br>
      * 1. Asserts that the command box displays an empty string.<br>
-     * 2. Asserts that the result display box displays {@code expectedResultMessage}.<br>
+     * 2. Asserts that the result display box displays {@code Messages#MESSAGE_STUDENTS_LISTED_OVERVIEW} with the
+     * number of students in the filtered list of {@code expectedModel}.<br>
      * 3. Asserts that the browser url and selected card remains unchanged.<br>
-     * 4. Asserts that the status bar's sync status changes.<br>
+     * 4. Asserts that the status bar remains unchanged, as grouping does not change the data.<br>
      * 5. Asserts that the command box has the default style class.<br>
-     * 6. Sorts the list depending on whether its grouped by day or time.<br>
      * Verifications 1 and 2 are performed by
      * {@code TutorHelperSystemTest#assertApplicationDisplaysExpected(String, String, Model)}.
      * @see TutorHelperSystemTest#assertApplicationDisplaysExpected(String, String, Model)
      */
-    private void assertCommandSuccess(String command, boolean isDay, boolean isTime,
-                                      Model expectedModel, String expectedResultMessage) {
-        executeCommand(command);
-        if (isDay && !isTime) {
-            expectedModel.sortByTime();
-            expectedModel.commitTutorHelper();
-        } else if (isTime && !isDay) {
-            expectedModel.sortByDay();
-            expectedModel.commitTutorHelper();
-        }
-        assertApplicationDisplaysExpected("", expectedResultMessage, expectedModel);
-        assertSelectedCardUnchanged();
-        assertCommandBoxShowsDefaultStyle();
-        assertStatusBarUnchangedExceptSyncStatus();
-    }
-
-    /**
-     * Executes {@code command} and in addition,<br>
-     * 1. Asserts that the command box displays an empty string.<br>
-     * 2. Asserts that the result display box displays {@code expectedResultMessage}.<br>
-     * 3. Asserts that the browser url and selected card remains unchanged.<br>
-     * 4. Asserts that the status bar's sync status changes.<br>
-     * 5. Asserts that the command box has the default style class.<br>
-     * Verifications 1 and 2 are performed by
-     * {@code TutorHelperSystemTest#assertApplicationDisplaysExpected(String, String, Model)}.
-     * @see TutorHelperSystemTest#assertApplicationDisplaysExpected(String, String, Model)
-     */
-    private void assertCommandSuccess(String command, Model expectedModel, String expectedResultMessage) {
+    private void assertCommandSuccess(String command, Model expectedModel) {
+        String expectedResultMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW,
+                expectedModel.getFilteredStudentList().size());
         executeCommand(command);
         assertApplicationDisplaysExpected("", expectedResultMessage, expectedModel);
         assertSelectedCardUnchanged();
         assertCommandBoxShowsDefaultStyle();
-        assertStatusBarUnchangedExceptSyncStatus();
+        assertStatusBarUnchanged();
     }
 
     /**
@@ -37,6 +37,29 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("run", "script.txt");
+        expected.setScriptPath(Paths.get("script.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_success() {
+        parametersStub.namedParameters.put("run", "a\0");
+        expected.setScriptPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parseNamedParameters_mixedArguments_returnsNamedOnly() {
+        Map<String, String> expectedNamedParameters = new HashMap<>();
+        expectedNamedParameters.put("config", "config.json");
+        expectedNamedParameters.put("serve", "");
+        assertEquals(expectedNamedParameters, AppParameters.parseNamedParameters(
+                new String[] {"--config=config.json", "unnamed", "--serve=", "-x=1", "--=value"}));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -1,6 +1,7 @@
 package tutorhelper;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.function.Supplier;
 
@@ -28,6 +29,8 @@ import tutorhelper.testutil.TestUtil;
 public class TestApp extends MainApp {
 
     public static final Path SAVE_LOCATION_FOR_TESTING = TestUtil.getFilePathInSandboxFolder("sampleData.xml");
+    public static final Path COMMAND_HISTORY_LOCATION_FOR_TESTING =
+            TestUtil.getFilePathInSandboxFolder("commandhistory.txt");
     public static final String APP_TITLE = "Test App";
 
     protected static final Path DEFAULT_PREF_FILE_LOCATION_FOR_TESTING =
@@ -65,6 +68,13 @@ public class TestApp extends MainApp {
         double y = Screen.getPrimary().getVisualBounds().getMinY();
         userPrefs.updateLastUsedGuiSetting(new GuiSettings(600.0, 600.0, (int) x, (int) y));
         userPrefs.setTutorHelperFilePath(saveFileLocation);
+        userPrefs.setCommandHistoryFilePath(COMMAND_HISTORY_LOCATION_FOR_TESTING);
+        try {
+            // every test starts without any command entered
+            Files.deleteIfExists(COMMAND_HISTORY_LOCATION_FOR_TESTING);
+        } catch (IOException e) {
+            throw new AssertionError("Failed to delete the command history file", e);
+        }
         return userPrefs;
     }
 
@@ -0,0 +1,84 @@
+package tutorhelper.commons.core.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class IndexRangeTest {
+
+    private static final List<String> LIST = Arrays.asList("a", "b", "c", "d");
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void between_lastBeforeFirst_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        IndexRange.between(Index.fromOneBased(3), Index.fromOneBased(2));
+    }
+
+    @Test
+    public void isSingleIndex() {
+        assertTrue(IndexRange.of(Index.fromOneBased(2)).isSingleIndex());
+        assertTrue(IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(2)).isSingleIndex());
+        assertFalse(IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(3)).isSingleIndex());
+        assertFalse(IndexRange.all().isSingleIndex());
+    }
+
+    @Test
+    public void isWithin() {
+        IndexRange range = IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(4));
+        assertTrue(range.isWithin(4));
+        assertFalse(range.isWithin(3));
+
+        // all indexes -> within any list that is not empty
+        assertTrue(IndexRange.all().isWithin(1));
+        assertFalse(IndexRange.all().isWithin(0));
+    }
+
+    @Test
+    public void getElementsOf_rangeWithinList_returnsElementsInRange() {
+        assertEquals(Collections.singletonList("b"), IndexRange.of(Index.fromOneBased(2)).getElementsOf(LIST));
+        assertEquals(Arrays.asList("b", "c", "d"),
+                IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(4)).getElementsOf(LIST));
+        assertEquals(LIST, IndexRange.all().getElementsOf(LIST));
+    }
+
+    @Test
+    public void getElementsOf_rangeOutsideList_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(5)).getElementsOf(LIST);
+    }
+
+    @Test
+    public void equals() {
+        IndexRange range = IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(4));
+
+        // same values -> returns true
+        assertTrue(range.equals(IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(4))));
+        assertTrue(IndexRange.of(Index.fromOneBased(2))
+                .equals(IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(2))));
+        assertTrue(IndexRange.all().equals(IndexRange.all()));
+
+        // same object -> returns true
+        assertTrue(range.equals(range));
+
+        // null -> returns false
+        assertFalse(range.equals(null));
+
+        // different types -> returns false
+        assertFalse(range.equals(Index.fromOneBased(2)));
+
+        // different range -> returns false
+        assertFalse(range.equals(IndexRange.between(Index.fromOneBased(1), Index.fromOneBased(4))));
+        assertFalse(range.equals(IndexRange.all()));
+    }
+}
@@ -1,10 +1,12 @@
 package tutorhelper.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static tutorhelper.testutil.TypicalStudents.getTypicalStudents;
 
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -16,7 +18,9 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import tutorhelper.commons.core.index.Index;
+import tutorhelper.commons.exceptions.IllegalValueException;
 import tutorhelper.model.TutorHelper;
+import tutorhelper.model.student.Student;
 import tutorhelper.model.subject.Subject;
 import tutorhelper.storage.XmlAdaptedPay;
 import tutorhelper.storage.XmlAdaptedStudent;
@@ -146,6 +150,118 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void readElementsFromFile_missingFile_fileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        readStudents(MISSING_FILE);
+    }
+
+    @Test
+    public void readElementsFromFile_emptyFile_dataFormatMismatchException() throws Exception {
+        thrown.expect(JAXBException.class);
+        readStudents(EMPTY_FILE);
+    }
+
+    @Test
+    public void readElementsFromFile_wrongRootElement_dataFormatMismatchException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.readElementsFromFile(VALID_FILE, "AddressBook", XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME,
+                XmlAdaptedStudent.class, student -> { });
+    }
+
+    @Test
+    public void readElementsFromFile_validFile_sameAsWholeDocument() throws Exception {
+        XmlSerializableTutorHelper wholeDocument = XmlUtil.getDataFromFile(VALID_FILE,
+                XmlSerializableTutorHelper.class);
+        List<XmlAdaptedStudent> streamed = readStudents(VALID_FILE);
+
+        assertEquals(9, streamed.size());
+        assertEquals(wholeDocument.toModelType(), new TutorHelper(toModelStudents(streamed)));
+    }
+
+    @Test
+    public void readElementsFromFile_handlerThrows_readingStops() throws Exception {
+        List<XmlAdaptedStudent> read = new ArrayList<>();
+        thrown.expect(IllegalValueException.class);
+        XmlUtil.ElementHandler<XmlAdaptedStudent, IllegalValueException> stopAtFirst = student -> {
+            read.add(student);
+            throw new IllegalValueException("stop");
+        };
+        try {
+            XmlUtil.readElementsFromFile(VALID_FILE, XmlSerializableTutorHelper.ROOT_ELEMENT_NAME,
+                    XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME, XmlAdaptedStudent.class, stopAtFirst);
+        } finally {
+            assertEquals(1, read.size());
+        }
+    }
+
+    @Test
+    public void saveElementsToFile_missingFile_fileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlUtil.saveElementsToFile(MISSING_FILE, XmlSerializableTutorHelper.ROOT_ELEMENT_NAME,
+                XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME, XmlAdaptedStudent.class, Collections.emptyList());
+    }
+
+    @Test
+    public void saveElementsToFile_validFile_dataSaved() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        TutorHelper tutorHelper = new TutorHelperBuilder(new TutorHelper())
+                .withStudent(new StudentBuilder().build()).build();
+        List<XmlAdaptedStudent> students = new ArrayList<>();
+        tutorHelper.getStudentList().forEach(student -> students.add(new XmlAdaptedStudent(student)));
+
+        XmlUtil.saveElementsToFile(TEMP_FILE, XmlSerializableTutorHelper.ROOT_ELEMENT_NAME,
+                XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME, XmlAdaptedStudent.class, students);
+        assertEquals(students, readStudents(TEMP_FILE));
+        assertEquals(new XmlSerializableTutorHelper(tutorHelper),
+                XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableTutorHelper.class));
+    }
+
+    @Test
+    public void saveFragmentsToFile_missingFile_fileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlUtil.saveFragmentsToFile(MISSING_FILE, XmlSerializableTutorHelper.ROOT_ELEMENT_NAME,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void saveFragmentsToFile_fragmentsOfElements_sameAsSavingElements() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        List<XmlAdaptedStudent> students = new ArrayList<>();
+        getTypicalStudents().forEach(student -> students.add(new XmlAdaptedStudent(student)));
+
+        XmlUtil.saveElementsToFile(TEMP_FILE, XmlSerializableTutorHelper.ROOT_ELEMENT_NAME,
+                XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME, XmlAdaptedStudent.class, students);
+        String savedElements = FileUtil.readFromFile(TEMP_FILE);
+
+        List<String> fragments = XmlUtil.toXmlFragments(XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME,
+                XmlAdaptedStudent.class, students);
+        XmlUtil.saveFragmentsToFile(TEMP_FILE, XmlSerializableTutorHelper.ROOT_ELEMENT_NAME, fragments);
+        assertEquals(savedElements, FileUtil.readFromFile(TEMP_FILE));
+        assertEquals(students, readStudents(TEMP_FILE));
+    }
+
+    /**
+     * Returns the students in {@code file}, read one at a time.
+     */
+    private static List<XmlAdaptedStudent> readStudents(Path file) throws Exception {
+        List<XmlAdaptedStudent> students = new ArrayList<>();
+        XmlUtil.readElementsFromFile(file, XmlSerializableTutorHelper.ROOT_ELEMENT_NAME,
+                XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME, XmlAdaptedStudent.class, students::add);
+        return students;
+    }
+
+    /**
+     * Converts {@code students} to the model's students.
+     */
+    private static List<Student> toModelStudents(List<XmlAdaptedStudent> students) throws Exception {
+        List<Student> modelStudents = new ArrayList<>();
+        for (XmlAdaptedStudent student : students) {
+            modelStudents.add(student.toModelType());
+        }
+        return modelStudents;
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedStudent}
      * objects.
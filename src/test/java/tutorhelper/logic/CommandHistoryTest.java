@@ -6,6 +6,7 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -36,6 +37,42 @@ public class CommandHistoryTest {
         assertEquals(Arrays.asList(validCommand, invalidCommand), history.getHistory());
     }
 
+    @Test
+    public void add_moreThanCapacity_oldestDropped() {
+        CommandHistory boundedHistory = new CommandHistory(2);
+        for (int i = 1; i <= 7; i++) {
+            boundedHistory.add("delete " + i);
+        }
+
+        assertEquals(2, boundedHistory.size());
+        assertEquals(Arrays.asList("delete 6", "delete 7"), boundedHistory.getHistory());
+    }
+
+    @Test
+    public void getSnapshot_commandsAddedAfterwards_snapshotUnchanged() {
+        CommandHistory boundedHistory = new CommandHistory(2);
+        boundedHistory.add("a");
+        boundedHistory.add("b");
+        List<String> snapshot = boundedHistory.getSnapshot();
+
+        for (int i = 0; i < 5; i++) {
+            boundedHistory.add("c");
+        }
+        assertEquals(Arrays.asList("a", "b"), snapshot);
+    }
+
+    @Test
+    public void constructor_withCommandHistory_copyChangesIndependently() {
+        CommandHistory boundedHistory = new CommandHistory(2);
+        boundedHistory.add("a");
+        CommandHistory copy = new CommandHistory(boundedHistory);
+
+        copy.add("b");
+        boundedHistory.add("c");
+        assertEquals(Arrays.asList("a", "b"), copy.getHistory());
+        assertEquals(Arrays.asList("a", "c"), boundedHistory.getHistory());
+    }
+
     @Test
     public void equals() {
         final CommandHistory commandHistoryWithA = new CommandHistory();
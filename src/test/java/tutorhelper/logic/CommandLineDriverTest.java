@@ -0,0 +1,94 @@
+package tutorhelper.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
+import static tutorhelper.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import tutorhelper.logic.commands.ClearCommand;
+import tutorhelper.logic.commands.ListCommand;
+import tutorhelper.model.Model;
+import tutorhelper.model.ModelManager;
+import tutorhelper.model.UserPrefs;
+
+public class CommandLineDriverTest {
+
+    private final Model model = new ModelManager(getTypicalTutorHelper(), new UserPrefs());
+    private final CommandLineDriver driver = new CommandLineDriver(new LogicManager(model));
+
+    @Test
+    public void execute_validCommand_returnsSuccessLine() {
+        assertEquals(CommandLineDriver.RESULT_SUCCESS + "\t" + ListCommand.MESSAGE_SUCCESS,
+                driver.execute(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_invalidCommand_returnsErrorLine() {
+        assertEquals(CommandLineDriver.RESULT_ERROR + "\t" + MESSAGE_UNKNOWN_COMMAND, driver.execute("unknown"));
+    }
+
+    @Test
+    public void execute_multiLineMessage_returnsSingleLine() {
+        String result = driver.execute("delete 0");
+        assertTrue(result.startsWith(CommandLineDriver.RESULT_ERROR + "\t"));
+        assertEquals(-1, result.indexOf('\n'));
+        assertTrue(result.contains("\\n"));
+    }
+
+    @Test
+    public void run_linesOfCommands_writesOneResultLinePerCommand() throws Exception {
+        StringWriter out = new StringWriter();
+        driver.run(new StringReader(ListCommand.COMMAND_WORD + "\n\n  \ndelete 99\n" + ClearCommand.COMMAND_WORD),
+                out);
+
+        assertEquals(CommandLineDriver.RESULT_SUCCESS + "\t" + ListCommand.MESSAGE_SUCCESS + "\n"
+                + CommandLineDriver.RESULT_ERROR + "\t" + MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX + "\n"
+                + CommandLineDriver.RESULT_SUCCESS + "\t" + ClearCommand.MESSAGE_SUCCESS + "\n", out.toString());
+        assertTrue(model.getFilteredStudentList().isEmpty());
+    }
+
+    @Test
+    public void run_validToken_runsCommandsAfterToken() throws Exception {
+        StringWriter out = new StringWriter();
+        driver.run(new StringReader("secret\n" + ClearCommand.COMMAND_WORD + "\n"), out, "secret");
+
+        assertEquals(CommandLineDriver.RESULT_SUCCESS + "\t" + ClearCommand.MESSAGE_SUCCESS + "\n", out.toString());
+        assertTrue(model.getFilteredStudentList().isEmpty());
+    }
+
+    @Test
+    public void run_invalidToken_runsNoCommands() throws Exception {
+        StringWriter out = new StringWriter();
+        driver.run(new StringReader(ClearCommand.COMMAND_WORD + "\n" + ClearCommand.COMMAND_WORD + "\n"), out,
+                "secret");
+
+        assertEquals(CommandLineDriver.RESULT_ERROR + "\t" + CommandLineDriver.MESSAGE_INVALID_TOKEN + "\n",
+                out.toString());
+        assertEquals(getTypicalTutorHelper().getStudentList().size(), model.getFilteredStudentList().size());
+    }
+
+    @Test
+    public void run_noToken_runsNoCommands() throws Exception {
+        StringWriter out = new StringWriter();
+        driver.run(new StringReader(""), out, "secret");
+
+        assertEquals(CommandLineDriver.RESULT_ERROR + "\t" + CommandLineDriver.MESSAGE_INVALID_TOKEN + "\n",
+                out.toString());
+    }
+
+    @Test
+    public void run_stopped_skipsRemainingCommands() throws Exception {
+        StringWriter out = new StringWriter();
+        driver.stop();
+        driver.run(new StringReader(ClearCommand.COMMAND_WORD + "\n"), out);
+
+        assertEquals("", out.toString());
+        assertEquals(getTypicalTutorHelper().getStudentList().size(), model.getFilteredStudentList().size());
+    }
+}
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -78,6 +79,25 @@ public class ListElementPointerTest {
         assertPreviousFailure();
     }
 
+    @Test
+    public void findPrevious() {
+        pointer = ListElementPointer.ofSnapshot(Collections.unmodifiableList(pointerElements));
+        pointer.add("");
+
+        // searches from the element before the cursor
+        assertEquals(Optional.of(FIRST_ELEMENT), pointer.findPrevious("first"));
+        assertCurrentSuccess(FIRST_ELEMENT);
+
+        // no earlier match -> cursor unchanged
+        assertEquals(Optional.empty(), pointer.findPrevious("first"));
+        assertCurrentSuccess(FIRST_ELEMENT);
+
+        // from past the end of the list
+        assertNextSuccess(SECOND_ELEMENT);
+        assertNextSuccess("");
+        assertEquals(Optional.of(SECOND_ELEMENT), pointer.findPrevious("sec"));
+    }
+
     @Test
     public void equals() {
         ListElementPointer firstPointer = new ListElementPointer(pointerElements);
@@ -5,8 +5,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.DayOfWeek;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -19,6 +22,7 @@ import tutorhelper.logic.commands.exceptions.CommandException;
 import tutorhelper.model.Model;
 import tutorhelper.model.ReadOnlyTutorHelper;
 import tutorhelper.model.TutorHelper;
+import tutorhelper.model.student.NameContainsKeywordsPredicate;
 import tutorhelper.model.student.Student;
 import tutorhelper.testutil.StudentBuilder;
 
@@ -122,6 +126,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteStudents(List<Student> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateStudents(List<Student> targets, List<Student> editedStudents) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Student> getFilteredStudentList() {
             throw new AssertionError("This method should not be called.");
@@ -158,12 +172,52 @@ public class AddCommandTest {
         }
 
         @Override
-        public void sortByTime() {
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void abortBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showStudentsWithTuitionOn(DayOfWeek day) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showStudentsWithTuitionAt(int minuteOfDay) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showStudentsWithName(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getEarnings(YearMonth from, YearMonth to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getUndoHistoryBytesInMemory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getUndoHistoryBytesOnDisk() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortByDay() {
+        public void close() {
             throw new AssertionError("This method should not be called.");
         }
     }
@@ -5,18 +5,23 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_SUBJECT_INDEX;
+import static tutorhelper.commons.core.Messages.MESSAGE_SUBJECT_NOT_TAKEN;
 import static tutorhelper.logic.commands.CommandTestUtil.assertCommandFailure;
 import static tutorhelper.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tutorhelper.logic.commands.CommandTestUtil.showStudentAtIndex;
 import static tutorhelper.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import static tutorhelper.model.util.SubjectsUtil.createStudentWithNewSubjects;
+import static tutorhelper.model.util.SubjectsUtil.findSubjectIndex;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_SUBJECT;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_SYLLABUS;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
+import static tutorhelper.testutil.TypicalIndexes.INDEX_SECOND_SUBJECT;
+import static tutorhelper.testutil.TypicalIndexes.INDEX_THIRD_STUDENT;
 import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -26,12 +31,14 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import tutorhelper.commons.core.index.Index;
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.model.Model;
 import tutorhelper.model.ModelManager;
 import tutorhelper.model.UserPrefs;
 import tutorhelper.model.student.Student;
 import tutorhelper.model.subject.Subject;
+import tutorhelper.model.subject.SubjectType;
 import tutorhelper.model.subject.Syllabus;
 
 /**
@@ -52,8 +59,8 @@ public class AddSyllCommandTest {
         List<Syllabus> syllabusList = new ArrayList<>();
         syllabusList.add(Syllabus.makeSyllabus("Mathematics"));
         thrown.expect(NullPointerException.class);
-        new AddSyllCommand(null, null, null);
-        new AddSyllCommand(null, INDEX_FIRST_SUBJECT, syllabusList);
+        new AddSyllCommand((Index) null, null, null);
+        new AddSyllCommand((Index) null, INDEX_FIRST_SUBJECT, syllabusList);
         new AddSyllCommand(INDEX_FIRST_STUDENT, null, syllabusList);
         new AddSyllCommand(INDEX_FIRST_STUDENT, INDEX_FIRST_SUBJECT, null);
     }
@@ -78,6 +85,54 @@ public class AddSyllCommandTest {
     }
 
 
+    @Test
+    public void constructor_rangeWithSubjectIndex_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new AddSyllCommand(IndexRange.all(), SubjectTarget.of(INDEX_FIRST_SUBJECT), new ArrayList<>());
+    }
+
+    @Test
+    public void execute_validRangeUnfilteredList_addedToSubjectOfSameType() {
+        // the third and fourth students both take Mathematics and Physics, each listing them in their own order
+        IndexRange range = IndexRange.between(INDEX_THIRD_STUDENT, Index.fromOneBased(4));
+        Syllabus syllabus = Syllabus.makeSyllabus("AddSyllTestSyllabus");
+        List<Syllabus> syllabusTest = Collections.singletonList(syllabus);
+        AddSyllCommand addSyllCommand = new AddSyllCommand(range, SubjectTarget.of(SubjectType.Physics),
+                syllabusTest);
+
+        String expectedMessage = String.format(AddSyllCommand.MESSAGE_ADDSYLL_STUDENTS_SUCCESS, 2);
+        List<Student> studentTargets = range.getElementsOf(model.getFilteredStudentList());
+        List<Student> newStudents = new ArrayList<>();
+        for (Student studentTarget : studentTargets) {
+            Index physicsIndex = findSubjectIndex(studentTarget, SubjectType.Physics).get();
+            newStudents.add(simulateAddSyllCommand(studentTarget, physicsIndex, syllabusTest));
+        }
+
+        ModelManager expectedModel = new ModelManager(model.getTutorHelper(), new UserPrefs());
+        expectedModel.updateStudents(studentTargets, newStudents);
+        expectedModel.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        expectedModel.commitTutorHelper();
+
+        assertCommandSuccess(addSyllCommand, model, commandHistory, expectedMessage, expectedModel);
+        for (Student student : range.getElementsOf(model.getFilteredStudentList())) {
+            for (Subject subject : student.getSubjects()) {
+                assertEquals(subject.hasTypeOf(SubjectType.Physics), subject.contains(syllabus));
+            }
+        }
+    }
+
+    @Test
+    public void execute_rangeWithSubjectNotTaken_noStudentChanged() {
+        // the third and fourth students take Physics, but the fifth does not
+        Student fifthStudent = model.getFilteredStudentList().get(4);
+        AddSyllCommand addSyllCommand = new AddSyllCommand(
+                IndexRange.between(INDEX_THIRD_STUDENT, Index.fromOneBased(5)), SubjectTarget.of(SubjectType.Physics),
+                Collections.singletonList(Syllabus.makeSyllabus("AddSyllTestSyllabus")));
+
+        assertCommandFailure(addSyllCommand, model, commandHistory,
+                String.format(MESSAGE_SUBJECT_NOT_TAKEN, fifthStudent.getName(), SubjectType.Physics));
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         List<Syllabus> syllabusTest = new ArrayList<>();
@@ -254,6 +309,12 @@ public class AddSyllCommandTest {
 
         // different command -> returns false
         assertNotEquals(addSyllFirstCommand, addSyllSecondCommand);
+
+        // different subject -> returns false
+        assertNotEquals(addSyllFirstCommand, new AddSyllCommand(
+                INDEX_FIRST_STUDENT, INDEX_SECOND_SUBJECT, syllabusTest));
+        assertNotEquals(addSyllFirstCommand, new AddSyllCommand(
+                IndexRange.of(INDEX_FIRST_STUDENT), SubjectTarget.of(SubjectType.Mathematics), syllabusTest));
     }
 
     /**
@@ -8,12 +8,16 @@ import static tutorhelper.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tutorhelper.logic.commands.CommandTestUtil.showStudentAtIndex;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
+import static tutorhelper.testutil.TypicalIndexes.INDEX_THIRD_STUDENT;
 import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
 
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
 import tutorhelper.commons.core.index.Index;
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.model.Model;
 import tutorhelper.model.ModelManager;
@@ -81,6 +85,57 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, commandHistory, MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_validRangeUnfilteredList_success() {
+        IndexRange range = IndexRange.between(INDEX_FIRST_STUDENT, INDEX_THIRD_STUDENT);
+        List<Student> studentsToDelete = range.getElementsOf(model.getFilteredStudentList());
+        DeleteCommand deleteCommand = new DeleteCommand(range);
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_STUDENTS_SUCCESS, 3);
+
+        ModelManager expectedModel = new ModelManager(model.getTutorHelper(), new UserPrefs());
+        expectedModel.deleteStudents(studentsToDelete);
+        expectedModel.commitTutorHelper();
+
+        assertCommandSuccess(deleteCommand, model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allFilteredList_deletesOnlyShownStudents() {
+        showStudentAtIndex(model, INDEX_SECOND_STUDENT);
+        Student studentToDelete = model.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
+        DeleteCommand deleteCommand = new DeleteCommand(IndexRange.all());
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_STUDENTS_SUCCESS, 1);
+
+        expectedModel.deleteStudent(studentToDelete);
+        expectedModel.commitTutorHelper();
+        showNoStudent(expectedModel);
+
+        assertCommandSuccess(deleteCommand, model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidRangeUnfilteredList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredStudentList().size() + 1);
+        DeleteCommand deleteCommand = new DeleteCommand(IndexRange.between(INDEX_FIRST_STUDENT, outOfBoundIndex));
+
+        assertCommandFailure(deleteCommand, model, commandHistory, MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void executeUndo_validRangeUnfilteredList_undoneInOneStep() throws Exception {
+        Model expectedModel = new ModelManager(model.getTutorHelper(), new UserPrefs());
+        expectedModel.deleteStudents(expectedModel.getFilteredStudentList());
+        expectedModel.commitTutorHelper();
+        new DeleteCommand(IndexRange.all()).execute(model, commandHistory);
+        assertTrue(model.getFilteredStudentList().isEmpty());
+
+        // undo -> every deleted student is back
+        expectedModel.undoTutorHelper();
+        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
     @Test
     public void executeUndoRedo_validIndexUnfilteredList_success() throws Exception {
         Student studentToDelete = model.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
@@ -1,14 +1,20 @@
 package tutorhelper.logic.commands;
 
 import static tutorhelper.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorhelper.logic.commands.CommandTestUtil.showStudentAtIndex;
+import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static tutorhelper.testutil.TypicalIndexes.INDEX_THIRD_STUDENT;
 import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelperWithPayments;
 
+import java.time.YearMonth;
+
 import org.junit.jupiter.api.Test;
 
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.model.Model;
 import tutorhelper.model.ModelManager;
 import tutorhelper.model.UserPrefs;
+import tutorhelper.model.student.Payment;
 
 public class EarningsCommandTest {
 
@@ -28,4 +34,36 @@ public class EarningsCommandTest {
         assertCommandSuccess(earnings2, model, commandHistory, expectedMessage2, model);
 
     }
+
+    @Test
+    public void execute_repeated_doesNotAccumulate() {
+        EarningsCommand earnings = new EarningsCommand(3, 2018);
+        assertCommandSuccess(earnings, model, commandHistory, "Earnings: $700", model);
+        assertCommandSuccess(earnings, model, commandHistory, "Earnings: $700", model);
+    }
+
+    @Test
+    public void execute_range_success() {
+        EarningsCommand earnings = new EarningsCommand(YearMonth.of(2018, 1), YearMonth.of(2018, 12));
+        assertCommandSuccess(earnings, model, commandHistory, "Earnings: $1100", model);
+    }
+
+    @Test
+    public void execute_filteredList_onlyCountsShownStudents() {
+        showStudentAtIndex(model, INDEX_THIRD_STUDENT);
+
+        assertCommandSuccess(new EarningsCommand(3, 2018), model, commandHistory, "Earnings: $300", model);
+        assertCommandSuccess(new EarningsCommand(YearMonth.of(2018, 1), YearMonth.of(2018, 12)), model,
+                commandHistory, "Earnings: $300", model);
+    }
+
+    @Test
+    public void execute_afterPayment_reflectsNewPayment() throws Exception {
+        new PayCommand(new Payment(INDEX_FIRST_STUDENT, 50, 3, 2018)).execute(model, commandHistory);
+        assertCommandSuccess(new EarningsCommand(3, 2018), model, commandHistory, "Earnings: $750", model);
+
+        // paying again for the same month replaces the earlier payment
+        new PayCommand(new Payment(INDEX_FIRST_STUDENT, 80, 3, 2018)).execute(model, commandHistory);
+        assertCommandSuccess(new EarningsCommand(3, 2018), model, commandHistory, "Earnings: $780", model);
+    }
 }
@@ -6,20 +6,27 @@ import static org.junit.Assert.assertTrue;
 import static tutorhelper.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
 import static tutorhelper.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tutorhelper.testutil.TypicalStudents.CARL;
+import static tutorhelper.testutil.TypicalStudents.DANIEL;
 import static tutorhelper.testutil.TypicalStudents.ELLE;
 import static tutorhelper.testutil.TypicalStudents.FIONA;
+import static tutorhelper.testutil.TypicalStudents.getTypicalStudents;
 import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Test;
 
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.model.Model;
 import tutorhelper.model.ModelManager;
+import tutorhelper.model.TutorHelper;
 import tutorhelper.model.UserPrefs;
+import tutorhelper.model.student.Name;
 import tutorhelper.model.student.NameContainsKeywordsPredicate;
+import tutorhelper.model.student.Student;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -76,10 +83,66 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_allOfAndPrefixKeywords_matchingStudentsFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 3);
+        NameContainsKeywordsPredicate predicate = preparePredicate("meier+dan* KU*");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, DANIEL, FIONA), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_keywords_nonMatchingStudentsNeverVisited() {
+        List<VisitCountingStudent> students = new ArrayList<>();
+        for (Student student : getTypicalStudents()) {
+            students.add(new VisitCountingStudent(student));
+        }
+        Model model = new ModelManager(new TutorHelper(new ArrayList<>(students)), new UserPrefs());
+        students.forEach(VisitCountingStudent::resetVisits);
+
+        new FindCommand(preparePredicate("Kurz")).execute(model, commandHistory);
+
+        List<Student> found = new ArrayList<>(model.getFilteredStudentList());
+        for (VisitCountingStudent student : students) {
+            if (found.stream().noneMatch(foundStudent -> foundStudent == student)) {
+                assertEquals(0, student.getVisits());
+            }
+        }
+        assertEquals(Collections.singletonList(CARL), found);
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
     private NameContainsKeywordsPredicate preparePredicate(String userInput) {
         return new NameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
     }
+
+    /**
+     * A student that counts how many times its name is read.
+     */
+    private static class VisitCountingStudent extends Student {
+        private int visits;
+
+        VisitCountingStudent(Student student) {
+            super(student.getName(), student.getPhone(), student.getEmail(), student.getAddress(),
+                    student.getSubjects(), student.getTuitionTiming(), student.getTags(), student.getPaymentHistory());
+        }
+
+        @Override
+        public Name getName() {
+            visits++;
+            return super.getName();
+        }
+
+        int getVisits() {
+            return visits;
+        }
+
+        void resetVisits() {
+            visits = 0;
+        }
+    }
 }
@@ -9,8 +9,10 @@ import static tutorhelper.testutil.TypicalStudents.BENSON;
 import static tutorhelper.testutil.TypicalStudents.CARL;
 import static tutorhelper.testutil.TypicalStudents.DANIEL;
 import static tutorhelper.testutil.TypicalStudents.GEORGE;
+import static tutorhelper.testutil.TypicalStudents.getTypicalStudents;
 import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
 
+import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -20,6 +22,7 @@ import tutorhelper.logic.CommandHistory;
 import tutorhelper.model.Model;
 import tutorhelper.model.ModelManager;
 import tutorhelper.model.UserPrefs;
+import tutorhelper.model.tuitiontiming.TuitionTiming;
 import tutorhelper.model.tuitiontiming.TuitionTimingContainsKeywordsPredicate;
 
 public class GroupCommandTest {
@@ -76,9 +79,7 @@ public class GroupCommandTest {
         String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 2);
         TuitionTimingContainsKeywordsPredicate dayPredicate = new TuitionTimingContainsKeywordsPredicate("Saturday");
         GroupCommand command = new GroupCommand(dayPredicate, true, false);
-        expectedModel.updateFilteredStudentList(dayPredicate);
-        expectedModel.sortByTime();
-        expectedModel.commitTutorHelper();
+        expectedModel.showStudentsWithTuitionOn(DayOfWeek.SATURDAY);
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(CARL, DANIEL), model.getFilteredStudentList());
 
@@ -86,10 +87,24 @@ public class GroupCommandTest {
         expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 2);
         TuitionTimingContainsKeywordsPredicate timePredicate = new TuitionTimingContainsKeywordsPredicate("5:00pm");
         command = new GroupCommand(timePredicate, false, true);
-        expectedModel.updateFilteredStudentList(timePredicate);
-        expectedModel.sortByDay();
-        expectedModel.commitTutorHelper();
+        expectedModel.showStudentsWithTuitionAt(TuitionTiming.toMinuteOfDay("5:00pm"));
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(BENSON, GEORGE), model.getFilteredStudentList());
     }
+
+    @Test
+    public void execute_day_tutorHelperNotChangedOrCommitted() {
+        GroupCommand command = new GroupCommand(new TuitionTimingContainsKeywordsPredicate("Saturday"), true, false);
+        command.execute(model, commandHistory);
+        assertEquals(getTypicalStudents(), model.getTutorHelper().getStudentList());
+        assertFalse(model.canUndoTutorHelper());
+    }
+
+    @Test
+    public void execute_dayThenStudentDeleted_groupFollowsDeletion() {
+        GroupCommand command = new GroupCommand(new TuitionTimingContainsKeywordsPredicate("Saturday"), true, false);
+        command.execute(model, commandHistory);
+        model.deleteStudent(CARL);
+        assertEquals(Collections.singletonList(DANIEL), model.getFilteredStudentList());
+    }
 }
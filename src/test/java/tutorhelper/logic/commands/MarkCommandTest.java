@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_SUBJECT_INDEX;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_SYLLABUS_INDEX;
+import static tutorhelper.commons.core.Messages.MESSAGE_SUBJECT_NOT_TAKEN;
+import static tutorhelper.commons.core.Messages.MESSAGE_SYLLABUS_NOT_FOUND;
 import static tutorhelper.logic.commands.CommandTestUtil.assertCommandFailure;
 import static tutorhelper.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tutorhelper.logic.commands.CommandTestUtil.showStudentAtIndex;
@@ -14,6 +16,9 @@ import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_SUBJECT;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_SYLLABUS;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
+import static tutorhelper.testutil.TypicalIndexes.INDEX_SECOND_SYLLABUS;
+import static tutorhelper.testutil.TypicalStudents.BENSON;
+import static tutorhelper.testutil.TypicalStudents.FIONA;
 import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
 
 import java.util.ArrayList;
@@ -21,16 +26,22 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import tutorhelper.commons.core.index.Index;
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.logic.commands.exceptions.CommandException;
 import tutorhelper.model.Model;
 import tutorhelper.model.ModelManager;
+import tutorhelper.model.TutorHelper;
 import tutorhelper.model.UserPrefs;
 import tutorhelper.model.student.Student;
 import tutorhelper.model.subject.Subject;
+import tutorhelper.model.subject.SubjectType;
+import tutorhelper.testutil.StudentBuilder;
 
 /**
  * Contains integration tests (interaction with the Model, UndoCommand and RedoCommand) and unit tests for
@@ -38,6 +49,9 @@ import tutorhelper.model.subject.Subject;
  */
 public class MarkCommandTest {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     private Model model = new ModelManager(getTypicalTutorHelper(), new UserPrefs());
     private Model expectedModel = new ModelManager(model.getTutorHelper(), new UserPrefs());
     private CommandHistory commandHistory = new CommandHistory();
@@ -168,6 +182,57 @@ public class MarkCommandTest {
         assertCommandFailure(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_FAILURE);
     }
 
+    @Test
+    public void constructor_rangeWithSubjectIndex_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new MarkCommand(IndexRange.all(), SubjectTarget.of(INDEX_FIRST_SUBJECT), INDEX_FIRST_SYLLABUS);
+    }
+
+    @Test
+    public void execute_rangeBySubjectName_togglesSubjectOfSameType() throws Exception {
+        TutorHelper tutorHelper = new TutorHelper();
+        tutorHelper.addStudent(BENSON);
+        tutorHelper.addStudent(FIONA);
+        Model chemistryModel = new ModelManager(tutorHelper, new UserPrefs());
+        MarkCommand markCommand = new MarkCommand(IndexRange.all(), SubjectTarget.of(SubjectType.Chemistry),
+                INDEX_FIRST_SYLLABUS);
+
+        CommandResult result = markCommand.execute(chemistryModel, commandHistory);
+        assertEquals(String.format(MarkCommand.MESSAGE_MARK_STUDENTS_SUCCESS, 2), result.feedbackToUser);
+        for (Student student : chemistryModel.getFilteredStudentList()) {
+            Subject chemistry = student.getSubjects().iterator().next();
+            assertTrue(chemistry.getSubjectContent().get(INDEX_FIRST_SYLLABUS.getZeroBased()).state);
+        }
+    }
+
+    @Test
+    public void execute_rangeWithSubjectNotTaken_noStudentChanged() {
+        // the first student takes Mathematics, but the second does not
+        Student secondStudent = model.getFilteredStudentList().get(INDEX_SECOND_STUDENT.getZeroBased());
+        MarkCommand markCommand = new MarkCommand(IndexRange.between(INDEX_FIRST_STUDENT, INDEX_SECOND_STUDENT),
+                SubjectTarget.of(SubjectType.Mathematics), INDEX_FIRST_SYLLABUS);
+
+        assertCommandFailure(markCommand, model, commandHistory,
+                String.format(MESSAGE_SUBJECT_NOT_TAKEN, secondStudent.getName(), SubjectType.Mathematics));
+    }
+
+    @Test
+    public void execute_rangeWithTooFewTopicsForSomeStudents_failureNamesStudent() {
+        Student oneTopicStudent = new StudentBuilder(FIONA).withName("Fiona Junior").withSubjects("Chemistry")
+                .withSyllabus(INDEX_FIRST_SUBJECT, "Kinetics").build();
+        TutorHelper tutorHelper = new TutorHelper();
+        tutorHelper.addStudent(BENSON);
+        tutorHelper.addStudent(oneTopicStudent);
+        tutorHelper.addStudent(FIONA);
+        Model chemistryModel = new ModelManager(tutorHelper, new UserPrefs());
+        MarkCommand markCommand = new MarkCommand(IndexRange.all(), SubjectTarget.of(SubjectType.Chemistry),
+                INDEX_SECOND_SYLLABUS);
+
+        // only the second student has fewer than two Chemistry topics, and no student is changed
+        assertCommandFailure(markCommand, chemistryModel, commandHistory, String.format(MESSAGE_SYLLABUS_NOT_FOUND,
+                oneTopicStudent.getName(), INDEX_SECOND_SYLLABUS.getOneBased(), SubjectType.Chemistry));
+    }
+
     @Test
     public void equals() {
         MarkCommand markFirstCommand = new MarkCommand(INDEX_FIRST_STUDENT, INDEX_FIRST_SUBJECT, INDEX_FIRST_SYLLABUS);
@@ -190,6 +255,10 @@ public class MarkCommandTest {
 
         // different student -> returns false
         assertNotEquals(markFirstCommand, markSecondCommand);
+
+        // different subject -> returns false
+        assertNotEquals(markFirstCommand, new MarkCommand(IndexRange.of(INDEX_FIRST_STUDENT),
+                SubjectTarget.of(SubjectType.Mathematics), INDEX_FIRST_SYLLABUS));
     }
 
     /**
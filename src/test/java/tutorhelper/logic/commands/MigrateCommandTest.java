@@ -0,0 +1,96 @@
+package tutorhelper.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.eventbus.Subscribe;
+
+import tutorhelper.commons.core.EventsCenter;
+import tutorhelper.commons.events.storage.MigrateDataRequestEvent;
+import tutorhelper.logic.CommandHistory;
+import tutorhelper.logic.commands.exceptions.CommandException;
+import tutorhelper.model.Model;
+import tutorhelper.model.ModelManager;
+import tutorhelper.testutil.Assert;
+import tutorhelper.ui.testutil.EventsCollectorRule;
+
+public class MigrateCommandTest {
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Model model = new ModelManager();
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_migrate_success() throws Exception {
+        Path filePath = Paths.get("data", "tutorhelper.json");
+        CommandResult result = new MigrateCommand(filePath).execute(model, commandHistory);
+        assertEquals(String.format(MigrateCommand.MESSAGE_SUCCESS, filePath), result.feedbackToUser);
+        MigrateDataRequestEvent event = (MigrateDataRequestEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(filePath, event.filePath);
+        assertTrue(eventsCollectorRule.eventsCollector.getSize() == 1);
+    }
+
+    @Test
+    public void execute_migrateFails_throwsCommandException() throws Exception {
+        Path filePath = Paths.get("data", "tutorhelper.json");
+        EventsCenter.getInstance().registerHandler(new Object() {
+            @Subscribe
+            public void handleMigrateDataRequestEvent(MigrateDataRequestEvent event) {
+                event.setFailure(new IOException("disk full"));
+            }
+        });
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(MigrateCommand.MESSAGE_MIGRATE_FAILED, filePath, "disk full"));
+        new MigrateCommand(filePath).execute(model, commandHistory);
+    }
+
+    @Test
+    public void execute_existingFile_throwsCommandException() throws Exception {
+        Path filePath = testFolder.newFile("tutorhelper.json").toPath();
+
+        String expectedMessage = String.format(MigrateCommand.MESSAGE_FILE_EXISTS, filePath);
+        Assert.assertThrows(CommandException.class, expectedMessage, () ->
+                new MigrateCommand(filePath).execute(model, commandHistory));
+        // the data is not moved, so the existing file is left as it is
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        MigrateCommand migrateToJson = new MigrateCommand(Paths.get("data", "tutorhelper.json"));
+        MigrateCommand migrateToXml = new MigrateCommand(Paths.get("data", "tutorhelper.xml"));
+
+        // same object -> returns true
+        assertTrue(migrateToJson.equals(migrateToJson));
+
+        // same values -> returns true
+        assertTrue(migrateToJson.equals(new MigrateCommand(Paths.get("data", "tutorhelper.json"))));
+
+        // different types -> returns false
+        assertFalse(migrateToJson.equals(1));
+
+        // null -> returns false
+        assertFalse(migrateToJson.equals(null));
+
+        // different file -> returns false
+        assertFalse(migrateToJson.equals(migrateToXml));
+    }
+}
@@ -16,6 +16,7 @@ import java.util.List;
 import org.junit.Test;
 
 import tutorhelper.commons.core.index.Index;
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.CommandHistory;
 import tutorhelper.model.Model;
 import tutorhelper.model.ModelManager;
@@ -50,22 +51,43 @@ public class PayCommandTest {
     }
 
     @Test
-    public void execute_updatePaymentMethod_success() {
-        Payment originalPayment = new Payment(INDEX_FIRST_STUDENT, 100, 11, 1998);
-        PayCommand originalPayCommand = new PayCommand(originalPayment);
-
-        List<Payment> oldPaymentList = new ArrayList<>();
-        oldPaymentList.add(originalPayment);
-
-        Payment newPayment = new Payment(INDEX_FIRST_STUDENT, 100, 11, 2018);
-        List<Payment> actualReturnedPayment = originalPayCommand.updatePayment(oldPaymentList, newPayment);
+    public void execute_validRangeUnfilteredList_success() {
+        IndexRange range = IndexRange.between(INDEX_SECOND_STUDENT, INDEX_THIRD_STUDENT);
+        Payment payment = new Payment(INDEX_SECOND_STUDENT, 200, 9, 2020);
+        PayCommand payCommand = new PayCommand(range, payment);
+
+        List<Student> studentsOriginal = range.getElementsOf(model.getFilteredStudentList());
+        List<Student> expectedStudents = new ArrayList<>();
+        for (Student studentOriginal : studentsOriginal) {
+            expectedStudents.add(new StudentBuilder(studentOriginal).withPayments(payment).build());
+        }
+
+        String expectedMessage = "Payment is added for 2 students: Month: 9 Year: 2020 Amount: 200";
+        expectedModel.updateStudents(studentsOriginal, expectedStudents);
+        expectedModel.commitTutorHelper();
 
-        List<Payment> expectedReturnedPaymentList = new ArrayList<>();
-        expectedReturnedPaymentList.add(originalPayment);
-        expectedReturnedPaymentList.add(newPayment);
+        CommandTestUtil.assertCommandSuccess(payCommand, model, commandHistory, expectedMessage, expectedModel);
+    }
 
-        assertEquals(actualReturnedPayment, expectedReturnedPaymentList);
+    @Test
+    public void execute_invalidRangeUnfilteredList_failure() {
+        Index outOfBoundsIndex = Index.fromOneBased(model.getFilteredStudentList().size() + 1);
+        PayCommand payCommand = new PayCommand(IndexRange.between(INDEX_FIRST_STUDENT, outOfBoundsIndex),
+                new Payment(INDEX_FIRST_STUDENT, 200, 9, 2020));
+        CommandTestUtil.assertCommandFailure(payCommand, model, commandHistory,
+                MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+    }
 
+    @Test
+    public void execute_morePaymentsThanDisplayed_keepsWholeHistory() throws Exception {
+        for (int month = 1; month <= 12; month++) {
+            new PayCommand(new Payment(INDEX_FIRST_STUDENT, 100 + month, month, 2019)).execute(model, commandHistory);
+        }
+
+        Student paidStudent = model.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
+        assertEquals(12, paidStudent.getPayments().size());
+        assertEquals(new Payment(null, 101, 1, 2019), paidStudent.getPayments().get(0));
+        assertEquals(new Payment(null, 112, 12, 2019), paidStudent.getPayments().get(11));
     }
 
     @Test
@@ -0,0 +1,114 @@
+package tutorhelper.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static tutorhelper.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorhelper.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static tutorhelper.testutil.TypicalStudents.AMY;
+import static tutorhelper.testutil.TypicalStudents.BOB;
+import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import tutorhelper.commons.core.Messages;
+import tutorhelper.commons.core.index.Index;
+import tutorhelper.commons.events.model.TutorHelperChangedEvent;
+import tutorhelper.logic.CommandHistory;
+import tutorhelper.model.Model;
+import tutorhelper.model.ModelManager;
+import tutorhelper.model.TutorHelper;
+import tutorhelper.model.UserPrefs;
+import tutorhelper.ui.testutil.EventsCollectorRule;
+
+public class RunCommandTest {
+    private static final Path SCRIPT_PATH = Paths.get("data", "script.txt");
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final Model model = new ModelManager(getTypicalTutorHelper(), new UserPrefs());
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_allCommandsSucceed_oneUndoableStateAndOneSave() {
+        RunCommand runCommand = new RunCommand(SCRIPT_PATH, scriptOf(new AddCommand(AMY),
+                new DeleteCommand(INDEX_FIRST_STUDENT), new AddCommand(BOB)));
+
+        Model expectedModel = new ModelManager(getTypicalTutorHelper(), new UserPrefs());
+        expectedModel.addStudent(AMY);
+        expectedModel.deleteStudent(expectedModel.getFilteredStudentList().get(0));
+        expectedModel.addStudent(BOB);
+        expectedModel.commitTutorHelper();
+        eventsCollectorRule.eventsCollector.reset();
+
+        assertCommandSuccess(runCommand, model, commandHistory,
+                String.format(RunCommand.MESSAGE_SUCCESS, 3, SCRIPT_PATH), expectedModel);
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof TutorHelperChangedEvent);
+
+        model.undoTutorHelper();
+        assertEquals(getTypicalTutorHelper(), new TutorHelper(model.getTutorHelper()));
+        assertFalse(model.canUndoTutorHelper());
+    }
+
+    @Test
+    public void execute_commandFails_noChangesMade() throws Exception {
+        Index outOfBoundIndex = Index.fromOneBased(getTypicalTutorHelper().getStudentList().size() + 2);
+        SortedMap<Integer, Command> commands = new TreeMap<>();
+        commands.put(1, new AddCommand(AMY));
+        commands.put(3, new DeleteCommand(outOfBoundIndex));
+        RunCommand runCommand = new RunCommand(SCRIPT_PATH, commands);
+
+        assertCommandFailure(runCommand, model, commandHistory, String.format(RunCommand.MESSAGE_COMMAND_FAILED, 3,
+                Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX));
+        assertEquals(getTypicalTutorHelper(), new TutorHelper(model.getTutorHelper()));
+        assertFalse(model.canUndoTutorHelper());
+
+        // the model can run commands on its own again
+        new AddCommand(AMY).execute(model, commandHistory);
+        assertTrue(model.canUndoTutorHelper());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runAddAmy = new RunCommand(SCRIPT_PATH, scriptOf(new AddCommand(AMY)));
+        RunCommand runAddBob = new RunCommand(SCRIPT_PATH, scriptOf(new AddCommand(BOB)));
+
+        // same object -> returns true
+        assertTrue(runAddAmy.equals(runAddAmy));
+
+        // same values -> returns true
+        assertTrue(runAddAmy.equals(new RunCommand(SCRIPT_PATH, scriptOf(new AddCommand(AMY)))));
+
+        // different types -> returns false
+        assertFalse(runAddAmy.equals(1));
+
+        // null -> returns false
+        assertFalse(runAddAmy.equals(null));
+
+        // different commands -> returns false
+        assertFalse(runAddAmy.equals(runAddBob));
+
+        // different file -> returns false
+        assertFalse(runAddAmy.equals(new RunCommand(Paths.get("other.txt"), scriptOf(new AddCommand(AMY)))));
+    }
+
+    /**
+     * Returns {@code commands} keyed by consecutive line numbers from 1.
+     */
+    private static SortedMap<Integer, Command> scriptOf(Command... commands) {
+        SortedMap<Integer, Command> script = new TreeMap<>();
+        for (int i = 0; i < commands.length; i++) {
+            script.put(i + 1, commands[i]);
+        }
+        return script;
+    }
+}
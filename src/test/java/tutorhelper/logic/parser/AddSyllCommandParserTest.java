@@ -1,6 +1,7 @@
 package tutorhelper.logic.parser;
 
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorhelper.commons.core.Messages.MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS;
 import static tutorhelper.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static tutorhelper.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
@@ -14,7 +15,10 @@ import java.util.List;
 
 import org.junit.Test;
 
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.commands.AddSyllCommand;
+import tutorhelper.logic.commands.SubjectTarget;
+import tutorhelper.model.subject.SubjectType;
 import tutorhelper.model.subject.Syllabus;
 
 public class AddSyllCommandParserTest {
@@ -35,6 +39,32 @@ public class AddSyllCommandParserTest {
                 new AddSyllCommand(INDEX_FIRST_STUDENT, INDEX_SECOND_SUBJECT, syllabusList));
     }
 
+    @Test
+    public void parse_validRange_returnsAddSyllCommand() {
+        List<Syllabus> syllabusList = new ArrayList<>();
+        syllabusList.add(Syllabus.makeSyllabus("Algebra"));
+        assertParseSuccess(parser, "1-2 Mathematics sy/Algebra", new AddSyllCommand(
+                IndexRange.between(INDEX_FIRST_STUDENT, INDEX_SECOND_STUDENT),
+                SubjectTarget.of(SubjectType.Mathematics), syllabusList));
+        assertParseSuccess(parser, "all Physics sy/Algebra",
+                new AddSyllCommand(IndexRange.all(), SubjectTarget.of(SubjectType.Physics), syllabusList));
+    }
+
+    @Test
+    public void parse_subjectName_returnsAddSyllCommand() {
+        List<Syllabus> syllabusList = new ArrayList<>();
+        syllabusList.add(Syllabus.makeSyllabus("Algebra"));
+        assertParseSuccess(parser, "1 Mathematics sy/Algebra", new AddSyllCommand(
+                IndexRange.of(INDEX_FIRST_STUDENT), SubjectTarget.of(SubjectType.Mathematics), syllabusList));
+    }
+
+    @Test
+    public void parse_rangeWithSubjectIndex_throwsParseException() {
+        // each student lists their subjects in their own order, so an index picks a different subject for each
+        assertParseFailure(parser, "1-2 1 sy/Algebra", MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS);
+        assertParseFailure(parser, "all 1 sy/Algebra", MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a",
@@ -47,6 +77,8 @@ public class AddSyllCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddSyllCommand.MESSAGE_USAGE));
         assertParseFailure(parser, "1 1 test",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddSyllCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "all Astrology sy/Algebra",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddSyllCommand.MESSAGE_USAGE));
 
         // Error on the syllabus parsing should show syllabus constraints instead
         assertParseFailure(parser, "1 1 sy/ ", Syllabus.MESSAGE_SYLLABUS_CONSTRAINTS);
@@ -4,9 +4,11 @@ import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorhelper.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static tutorhelper.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static tutorhelper.testutil.TypicalIndexes.INDEX_THIRD_STUDENT;
 
 import org.junit.Test;
 
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.commands.DeleteCommand;
 
 /**
@@ -25,9 +27,18 @@ public class DeleteCommandParserTest {
         assertParseSuccess(parser, "1", new DeleteCommand(INDEX_FIRST_STUDENT));
     }
 
+    @Test
+    public void parse_validRange_returnsDeleteCommand() {
+        assertParseSuccess(parser, "1-3",
+                new DeleteCommand(IndexRange.between(INDEX_FIRST_STUDENT, INDEX_THIRD_STUDENT)));
+        assertParseSuccess(parser, "all", new DeleteCommand(IndexRange.all()));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 DeleteCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "3-1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                DeleteCommand.MESSAGE_USAGE));
     }
 }
@@ -4,6 +4,8 @@ import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorhelper.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static tutorhelper.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.YearMonth;
+
 import org.junit.Test;
 
 import tutorhelper.logic.commands.EarningsCommand;
@@ -19,6 +21,21 @@ public class EarningsCommandParserTest {
         assertParseSuccess(earnings, input, new EarningsCommand(8, 2018));
     }
 
+    @Test
+    public void parse_range_success() {
+        EarningsCommandParser earnings = new EarningsCommandParser();
+        assertParseSuccess(earnings, "1 2018  12 2018",
+                new EarningsCommand(YearMonth.of(2018, 1), YearMonth.of(2018, 12)));
+    }
+
+    @Test
+    public void parse_invalidRange_failure() {
+        EarningsCommandParser earnings = new EarningsCommandParser();
+        assertParseFailure(earnings, "12 2018 1 2018", EarningsCommand.MESSAGE_INVALID_RANGE);
+        assertParseFailure(earnings, "1 2018 12", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                EarningsCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_compulsoryFieldAbsent_failure() {
 
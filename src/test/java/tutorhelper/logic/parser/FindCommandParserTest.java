@@ -30,6 +30,19 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // keywords combining words and prefixes
+        assertParseSuccess(parser, "Ali*+Bob Carl", new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Ali*+Bob", "Carl"))));
+    }
+
+    @Test
+    public void parse_malformedKeyword_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "*", expectedMessage);
+        assertParseFailure(parser, "Alice+", expectedMessage);
+        assertParseFailure(parser, "Alice++Bob", expectedMessage);
+        assertParseFailure(parser, "Al*ce", expectedMessage);
     }
 
 }
@@ -1,6 +1,7 @@
 package tutorhelper.logic.parser;
 
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorhelper.commons.core.Messages.MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS;
 import static tutorhelper.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static tutorhelper.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
@@ -14,7 +15,10 @@ import static tutorhelper.testutil.TypicalIndexes.INDEX_THIRD_SYLLABUS;
 
 import org.junit.Test;
 
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.commands.MarkCommand;
+import tutorhelper.logic.commands.SubjectTarget;
+import tutorhelper.model.subject.SubjectType;
 
 public class MarkCommandParserTest {
     private MarkCommandParser parser = new MarkCommandParser();
@@ -29,6 +33,21 @@ public class MarkCommandParserTest {
                 new MarkCommand(INDEX_FIRST_STUDENT, INDEX_SECOND_SUBJECT, INDEX_THIRD_SYLLABUS));
     }
 
+    @Test
+    public void parse_validRange_returnsMarkCommand() {
+        assertParseSuccess(parser, "1-2 Mathematics 2", new MarkCommand(IndexRange.between(INDEX_FIRST_STUDENT,
+                INDEX_SECOND_STUDENT), SubjectTarget.of(SubjectType.Mathematics), INDEX_SECOND_SYLLABUS));
+        assertParseSuccess(parser, "all Chemistry 1",
+                new MarkCommand(IndexRange.all(), SubjectTarget.of(SubjectType.Chemistry), INDEX_FIRST_SYLLABUS));
+    }
+
+    @Test
+    public void parse_rangeWithSubjectIndex_throwsParseException() {
+        // each student lists their subjects in their own order, so an index picks a different subject for each
+        assertParseFailure(parser, "1-2 1 2", MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS);
+        assertParseFailure(parser, "all 3 1", MESSAGE_SUBJECT_INDEX_FOR_MANY_STUDENTS);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a",
@@ -39,5 +58,9 @@ public class MarkCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE));
         assertParseFailure(parser, "a 1",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "2-1 1 1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1 1 2 3",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE));
     }
 }
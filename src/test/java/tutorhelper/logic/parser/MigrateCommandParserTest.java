@@ -0,0 +1,27 @@
+package tutorhelper.logic.parser;
+
+import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorhelper.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorhelper.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import tutorhelper.logic.commands.MigrateCommand;
+
+public class MigrateCommandParserTest {
+
+    private MigrateCommandParser parser = new MigrateCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMigrateCommand() {
+        assertParseSuccess(parser, " data/tutorhelper.json ", new MigrateCommand(Paths.get("data/tutorhelper.json")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                MigrateCommand.MESSAGE_USAGE));
+    }
+}
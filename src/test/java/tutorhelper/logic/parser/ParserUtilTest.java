@@ -2,16 +2,22 @@ package tutorhelper.logic.parser;
 
 import static org.junit.Assert.assertEquals;
 
+import static tutorhelper.logic.parser.ParserUtil.MESSAGE_INVALID_FILE_PATH;
 import static tutorhelper.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static tutorhelper.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static tutorhelper.logic.parser.ParserUtil.parseAddress;
 import static tutorhelper.logic.parser.ParserUtil.parseEmail;
+import static tutorhelper.logic.parser.ParserUtil.parseFilePath;
 import static tutorhelper.logic.parser.ParserUtil.parseIndex;
+import static tutorhelper.logic.parser.ParserUtil.parseIndexRange;
 import static tutorhelper.logic.parser.ParserUtil.parseName;
 import static tutorhelper.logic.parser.ParserUtil.parsePhone;
 import static tutorhelper.logic.parser.ParserUtil.parseTag;
 import static tutorhelper.logic.parser.ParserUtil.parseTags;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static tutorhelper.testutil.TypicalIndexes.INDEX_THIRD_STUDENT;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -21,6 +27,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.parser.exceptions.ParseException;
 import tutorhelper.model.student.Address;
 import tutorhelper.model.student.Email;
@@ -69,6 +76,51 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_STUDENT, parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexRange_invalidInput_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        parseIndexRange("1-a");
+    }
+
+    @Test
+    public void parseIndexRange_lastBeforeFirst_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_INVALID_INDEX_RANGE);
+        parseIndexRange("3-1");
+    }
+
+    @Test
+    public void parseIndexRange_validInput_success() throws Exception {
+        // single index
+        assertEquals(IndexRange.of(INDEX_FIRST_STUDENT), parseIndexRange("1"));
+
+        // range, with leading and trailing whitespaces
+        assertEquals(IndexRange.between(INDEX_FIRST_STUDENT, INDEX_THIRD_STUDENT), parseIndexRange("  1-3  "));
+
+        // all indexes
+        assertEquals(IndexRange.all(), parseIndexRange("all"));
+    }
+
+    @Test
+    public void parseFilePath_emptyInput_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_INVALID_FILE_PATH);
+        parseFilePath(WHITESPACE);
+    }
+
+    @Test
+    public void parseFilePath_invalidInput_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_INVALID_FILE_PATH);
+        parseFilePath("data/tutor\0helper.json");
+    }
+
+    @Test
+    public void parseFilePath_validInput_success() throws Exception {
+        assertEquals(Paths.get("data", "tutorhelper.json"), parseFilePath(WHITESPACE + "data/tutorhelper.json"
+                + WHITESPACE));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         tutorhelper.testutil.Assert.assertThrows(NullPointerException.class, () -> parseName((String) null));
@@ -11,6 +11,7 @@ import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 
 import org.junit.Test;
 
+import tutorhelper.commons.core.index.IndexRange;
 import tutorhelper.logic.commands.PayCommand;
 import tutorhelper.model.student.Payment;
 
@@ -26,6 +27,13 @@ public class PayCommandParserTest {
         assertParseSuccess(pay, input, new PayCommand(expectedPayment));
     }
 
+    @Test
+    public void parse_allStudents_success() {
+        PayCommandParser pay = new PayCommandParser();
+        Payment expectedPayment = new Payment(INDEX_FIRST_STUDENT, 200, 8, 2008);
+        assertParseSuccess(pay, "all 200 8 2008", new PayCommand(IndexRange.all(), expectedPayment));
+    }
+
     @Test
     public void parse_compulsoryFieldAbsent_failure() {
 
@@ -0,0 +1,87 @@
+package tutorhelper.logic.parser;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorhelper.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static tutorhelper.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorhelper.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static tutorhelper.testutil.TypicalStudents.AMY;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import tutorhelper.logic.commands.AddCommand;
+import tutorhelper.logic.commands.Command;
+import tutorhelper.logic.commands.DeleteCommand;
+import tutorhelper.logic.commands.RunCommand;
+import tutorhelper.testutil.StudentUtil;
+
+public class RunCommandParserTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validScript_returnsRunCommand() throws Exception {
+        Path scriptPath = writeScript("# term start", StudentUtil.getAddCommand(AMY), "",
+                "  " + DeleteCommand.COMMAND_WORD + " 1  ");
+
+        SortedMap<Integer, Command> expectedCommands = new TreeMap<>();
+        expectedCommands.put(2, new AddCommand(AMY));
+        expectedCommands.put(4, new DeleteCommand(INDEX_FIRST_STUDENT));
+        assertParseSuccess(parser, " " + scriptPath, new RunCommand(scriptPath, expectedCommands));
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseExceptionWithLineNumber() throws Exception {
+        Path scriptPath = writeScript(StudentUtil.getAddCommand(AMY), "unknownCommand");
+        assertParseFailure(parser, scriptPath.toString(),
+                String.format(RunCommandParser.MESSAGE_INVALID_LINE, 2, MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void parse_undoInScript_throwsParseException() throws Exception {
+        Path scriptPath = writeScript(StudentUtil.getAddCommand(AMY), "undo");
+        assertParseFailure(parser, scriptPath.toString(), String.format(RunCommandParser.MESSAGE_INVALID_LINE, 2,
+                String.format(RunCommandParser.MESSAGE_NOT_ALLOWED_IN_SCRIPT, "undo")));
+    }
+
+    @Test
+    public void parse_migrateInScript_throwsParseException() throws Exception {
+        Path scriptPath = writeScript(StudentUtil.getAddCommand(AMY), "migrate data/moved.xml");
+        assertParseFailure(parser, scriptPath.toString(), String.format(RunCommandParser.MESSAGE_INVALID_LINE, 2,
+                String.format(RunCommandParser.MESSAGE_NOT_ALLOWED_IN_SCRIPT, "migrate")));
+    }
+
+    @Test
+    public void parse_missingScript_throwsParseException() {
+        Path scriptPath = testFolder.getRoot().toPath().resolve("missing.txt");
+        assertParseFailure(parser, scriptPath.toString(),
+                String.format(RunCommandParser.MESSAGE_CANNOT_READ_FILE, scriptPath));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Writes a script with the given lines to a new file and returns its path.
+     */
+    private Path writeScript(String... lines) throws IOException {
+        Path scriptPath = testFolder.newFile().toPath();
+        Files.write(scriptPath, Arrays.asList(lines), UTF_8);
+        return scriptPath;
+    }
+}
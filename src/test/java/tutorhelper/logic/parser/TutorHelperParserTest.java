@@ -5,17 +5,26 @@ import static org.junit.Assert.assertTrue;
 import static tutorhelper.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorhelper.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static tutorhelper.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static tutorhelper.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import tutorhelper.logic.commands.AddCommand;
 import tutorhelper.logic.commands.ClearCommand;
+import tutorhelper.logic.commands.Command;
 import tutorhelper.logic.commands.DeleteCommand;
 import tutorhelper.logic.commands.EditCommand;
 import tutorhelper.logic.commands.ExitCommand;
@@ -23,7 +32,9 @@ import tutorhelper.logic.commands.FindCommand;
 import tutorhelper.logic.commands.HelpCommand;
 import tutorhelper.logic.commands.HistoryCommand;
 import tutorhelper.logic.commands.ListCommand;
+import tutorhelper.logic.commands.MigrateCommand;
 import tutorhelper.logic.commands.RedoCommand;
+import tutorhelper.logic.commands.RunCommand;
 import tutorhelper.logic.commands.SelectCommand;
 import tutorhelper.logic.commands.UndoCommand;
 import tutorhelper.logic.parser.exceptions.ParseException;
@@ -37,6 +48,9 @@ public class TutorHelperParserTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     private final TutorHelperParser parser = new TutorHelperParser();
 
     @Test
@@ -107,6 +121,23 @@ public class TutorHelperParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_migrate() throws Exception {
+        MigrateCommand command = (MigrateCommand) parser.parseCommand(
+                MigrateCommand.COMMAND_WORD + " data/tutorhelper.json");
+        assertEquals(new MigrateCommand(Paths.get("data/tutorhelper.json")), command);
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        Path scriptPath = testFolder.newFile().toPath();
+        Files.write(scriptPath, Collections.singletonList(DeleteCommand.COMMAND_WORD + " 1"));
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " " + scriptPath);
+        SortedMap<Integer, Command> commands = new TreeMap<>();
+        commands.put(1, new DeleteCommand(INDEX_FIRST_STUDENT));
+        assertEquals(new RunCommand(scriptPath, commands), command);
+    }
+
     @Test
     public void parseCommand_select() throws Exception {
         SelectCommand command = (SelectCommand) parser.parseCommand(
@@ -139,4 +170,26 @@ public class TutorHelperParserTest {
         thrown.expectMessage(MESSAGE_UNKNOWN_COMMAND);
         parser.parseCommand("unknownCommand");
     }
+
+    @Test
+    public void parseCommand_tabAfterCommandWord_success() throws Exception {
+        DeleteCommand command = (DeleteCommand) parser.parseCommand(
+                DeleteCommand.COMMAND_WORD + "\t" + INDEX_FIRST_STUDENT.getOneBased());
+        assertEquals(new DeleteCommand(INDEX_FIRST_STUDENT), command);
+    }
+
+    @Test
+    public void parseCommand_lineBreakInArguments_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        parser.parseCommand(DeleteCommand.COMMAND_WORD + " 1\n2");
+    }
+
+    @Test
+    public void parseCommand_sameParserTwice_independentResults() throws Exception {
+        Command first = parser.parseCommand(DeleteCommand.COMMAND_WORD + " 1");
+        Command second = parser.parseCommand(DeleteCommand.COMMAND_WORD + " 2");
+        assertEquals(new DeleteCommand(INDEX_FIRST_STUDENT), first);
+        assertEquals(new DeleteCommand(INDEX_SECOND_STUDENT), second);
+    }
 }
@@ -1,5 +1,6 @@
 package tutorhelper.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static tutorhelper.testutil.TypicalStudents.ALICE;
@@ -12,13 +13,18 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import tutorhelper.commons.events.model.TutorHelperChangedEvent;
 import tutorhelper.model.student.NameContainsKeywordsPredicate;
 import tutorhelper.testutil.TutorHelperBuilder;
+import tutorhelper.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -44,6 +50,63 @@ public class ModelManagerTest {
         modelManager.getFilteredStudentList().remove(0);
     }
 
+    @Test
+    public void endBatch_changesCommitted_oneUndoableStateAndOneChangeEvent() {
+        modelManager.beginBatch();
+        modelManager.addStudent(ALICE);
+        modelManager.commitTutorHelper();
+        modelManager.addStudent(BENSON);
+        modelManager.commitTutorHelper();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertFalse(modelManager.canUndoTutorHelper());
+
+        modelManager.endBatch();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof TutorHelperChangedEvent);
+        modelManager.undoTutorHelper();
+        assertEquals(new TutorHelper(), new TutorHelper(modelManager.getTutorHelper()));
+        assertFalse(modelManager.canUndoTutorHelper());
+    }
+
+    @Test
+    public void endBatch_noChanges_nothingCommitted() {
+        modelManager.beginBatch();
+        modelManager.endBatch();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertFalse(modelManager.canUndoTutorHelper());
+    }
+
+    @Test
+    public void abortBatch_changesMade_changesDiscarded() {
+        modelManager.addStudent(ALICE);
+        modelManager.commitTutorHelper();
+
+        modelManager.beginBatch();
+        modelManager.addStudent(BENSON);
+        modelManager.commitTutorHelper();
+        modelManager.deleteStudent(ALICE);
+        modelManager.abortBatch();
+
+        assertEquals(new TutorHelperBuilder().withStudent(ALICE).build(),
+                new TutorHelper(modelManager.getTutorHelper()));
+        assertFalse(modelManager.canRedoTutorHelper());
+        modelManager.undoTutorHelper();
+        assertFalse(modelManager.canUndoTutorHelper());
+    }
+
+    @Test
+    public void beginBatch_batchAlreadyBegun_throwsIllegalStateException() {
+        modelManager.beginBatch();
+        thrown.expect(IllegalStateException.class);
+        modelManager.beginBatch();
+    }
+
+    @Test
+    public void endBatch_noBatch_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        modelManager.endBatch();
+    }
+
     @Test
     public void equals() {
         TutorHelper tutorHelper = new TutorHelperBuilder().withStudent(ALICE).withStudent(BENSON).build();
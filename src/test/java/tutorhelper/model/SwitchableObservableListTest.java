@@ -0,0 +1,63 @@
+package tutorhelper.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SwitchableObservableListTest {
+
+    private final ObservableList<String> first = FXCollections.observableArrayList("a", "b");
+    private final ObservableList<String> second = FXCollections.observableArrayList("c");
+    private final SwitchableObservableList<String> list = new SwitchableObservableList<>(first);
+    private final List<String> removed = new ArrayList<>();
+    private final List<String> added = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void sourceChanged_changePassedOn() {
+        first.set(1, "d");
+        assertEquals(Arrays.asList("a", "d"), list);
+        assertEquals(Collections.singletonList("b"), removed);
+        assertEquals(Collections.singletonList("d"), added);
+    }
+
+    @Test
+    public void setSource_wholeContentsReplaced() {
+        list.setSource(second);
+        assertEquals(Collections.singletonList("c"), list);
+        assertEquals(Arrays.asList("a", "b"), removed);
+        assertEquals(Collections.singletonList("c"), added);
+    }
+
+    @Test
+    public void setSource_oldSourceChanged_changeNotPassedOn() {
+        list.setSource(second);
+        removed.clear();
+        added.clear();
+        first.add("e");
+        assertTrue(added.isEmpty());
+        second.add("f");
+        assertEquals(Arrays.asList("c", "f"), list);
+        assertEquals(Collections.singletonList("f"), added);
+    }
+}
@@ -36,6 +36,18 @@ public class TutorHelperTest {
         assertEquals(Collections.emptyList(), tutorHelper.getStudentList());
     }
 
+    @Test
+    public void constructor_studentList_holdsStudentsInOrder() {
+        TutorHelper typicalTutorHelper = getTypicalTutorHelper();
+        assertEquals(typicalTutorHelper, new TutorHelper(typicalTutorHelper.getStudentList()));
+    }
+
+    @Test
+    public void constructor_studentListWithDuplicates_throwsDuplicateStudentException() {
+        thrown.expect(DuplicateStudentException.class);
+        new TutorHelper(Arrays.asList(ALICE, new StudentBuilder(ALICE).withTags(VALID_TAG_WEAK).build()));
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
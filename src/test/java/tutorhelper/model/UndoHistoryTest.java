@@ -0,0 +1,132 @@
+package tutorhelper.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
+import static tutorhelper.testutil.TypicalStudents.BENSON;
+import static tutorhelper.testutil.TypicalStudents.CARL;
+import static tutorhelper.testutil.TypicalStudents.DANIEL;
+
+import org.junit.Test;
+
+import tutorhelper.model.student.PersistentStudentList;
+
+public class UndoHistoryTest {
+
+    private final PersistentStudentList first = PersistentStudentList.empty().add(ALICE);
+    private final PersistentStudentList second = first.add(BENSON);
+    private final PersistentStudentList third = second.add(CARL);
+    private final PersistentStudentList fourth = third.set(0, DANIEL);
+
+    @Test
+    public void add_unlimitedBudget_keepsEveryStateInMemory() {
+        UndoHistory history = prepareHistory(UndoHistory.UNLIMITED, UndoHistory.UNLIMITED);
+
+        assertEquals(4, history.getStatesInMemory());
+        assertEquals(0, history.getBytesOnDisk());
+    }
+
+    @Test
+    public void add_consecutiveStates_chargedOnlyForWhatIsNotShared() {
+        UndoHistory history = prepareHistory(UndoHistory.UNLIMITED, UndoHistory.UNLIMITED);
+
+        assertEquals(fourth.estimateSizeAddedSince(first) + first.getEstimatedSize(), history.getBytesInMemory());
+        assertTrue(history.getBytesInMemory() < first.getEstimatedSize() + second.getEstimatedSize()
+                + third.getEstimatedSize() + fourth.getEstimatedSize());
+    }
+
+    @Test
+    public void add_stateBudgetExceeded_spillsOldestStates() {
+        UndoHistory history = prepareHistory(2, UndoHistory.UNLIMITED);
+
+        assertEquals(2, history.getStatesInMemory());
+        assertTrue(history.getBytesOnDisk() > 0);
+        assertEquals(fourth.estimateSizeAddedSince(third) + third.getEstimatedSize(), history.getBytesInMemory());
+    }
+
+    @Test
+    public void add_byteBudgetExceeded_spillsOldestStates() {
+        UndoHistory history = prepareHistory(UndoHistory.UNLIMITED, fourth.getEstimatedSize());
+
+        assertEquals(1, history.getStatesInMemory());
+        assertTrue(history.getBytesInMemory() <= fourth.getEstimatedSize());
+        assertTrue(history.getBytesOnDisk() > 0);
+    }
+
+    @Test
+    public void get_spilledState_readBackIntoMemory() {
+        UndoHistory history = prepareHistory(1, UndoHistory.UNLIMITED);
+        assertEquals(1, history.getStatesInMemory());
+
+        assertEquals(first, history.get(0));
+        assertEquals(second, history.get(1));
+        assertEquals(third, history.get(2));
+        assertEquals(fourth, history.get(3));
+        assertEquals(1, history.getStatesInMemory());
+    }
+
+    @Test
+    public void truncate_statesInMemory_releasesTheirBytes() {
+        UndoHistory history = prepareHistory(UndoHistory.UNLIMITED, UndoHistory.UNLIMITED);
+
+        history.truncate(1);
+        assertEquals(1, history.size());
+        assertEquals(1, history.getStatesInMemory());
+        assertEquals(first.getEstimatedSize(), history.getBytesInMemory());
+    }
+
+    @Test
+    public void truncate_spilledStates_reusesTheirSpaceOnDisk() {
+        UndoHistory history = new UndoHistory(1, UndoHistory.UNLIMITED);
+        history.add(first);
+        history.add(second);
+        history.add(third);
+        long bytesOnDisk = history.getBytesOnDisk();
+        history.add(fourth);
+        assertTrue(history.getBytesOnDisk() > bytesOnDisk);
+
+        history.truncate(2);
+        assertEquals(bytesOnDisk, history.getBytesOnDisk());
+        assertEquals(first, history.get(0));
+        assertEquals(second, history.get(1));
+    }
+
+    @Test
+    public void add_manyStates_keepsEveryState() {
+        UndoHistory history = new UndoHistory(1, UndoHistory.UNLIMITED);
+        for (int i = 0; i < 2000; i++) {
+            history.add(i % 2 == 0 ? first : second);
+        }
+
+        assertEquals(2000, history.size());
+        assertEquals(1, history.getStatesInMemory());
+        assertEquals(first, history.get(0));
+        assertEquals(second, history.get(1999));
+    }
+
+    @Test
+    public void close_spilledStates_deletesSpillFile() {
+        UndoHistory history = prepareHistory(1, UndoHistory.UNLIMITED);
+        assertTrue(history.getBytesOnDisk() > 0);
+
+        history.close();
+        assertEquals(0, history.getBytesOnDisk());
+    }
+
+    @Test
+    public void equals_spilledAndInMemoryStates_returnsTrue() {
+        assertEquals(prepareHistory(UndoHistory.UNLIMITED, UndoHistory.UNLIMITED), prepareHistory(1, 1));
+    }
+
+    /**
+     * Returns a history holding the four states of this test, oldest first.
+     */
+    private UndoHistory prepareHistory(int maxStatesInMemory, long maxBytesInMemory) {
+        UndoHistory history = new UndoHistory(maxStatesInMemory, maxBytesInMemory);
+        history.add(first);
+        history.add(second);
+        history.add(third);
+        history.add(fourth);
+        return history;
+    }
+}
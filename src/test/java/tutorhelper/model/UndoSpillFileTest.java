@@ -0,0 +1,142 @@
+package tutorhelper.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
+import static tutorhelper.testutil.TypicalStudents.BENSON;
+import static tutorhelper.testutil.TypicalStudents.getTypicalStudents;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import tutorhelper.model.student.PersistentStudentList;
+import tutorhelper.model.student.Student;
+
+public class UndoSpillFileTest {
+
+    private final PersistentStudentList roster = prepareRoster(1000);
+    private UndoSpillFile spillFile;
+
+    @Before
+    public void setUp() throws Exception {
+        spillFile = new UndoSpillFile();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        spillFile.close();
+    }
+
+    @Test
+    public void write_followingStates_storedAsDeltas() throws Exception {
+        UndoSpillFile.Record record = spillFile.write(roster, null);
+        long wholeStateBytes = spillFile.size();
+        PersistentStudentList state = roster;
+        for (int i = 0; i < 10; i++) {
+            state = i % 2 == 0 ? state.set(i * 50, ALICE) : state.add(i * 50, BENSON);
+            record = spillFile.write(state, record);
+        }
+
+        assertTrue(spillFile.size() < wholeStateBytes * 11 / 10);
+        assertEquals(state, spillFile.read(record));
+    }
+
+    @Test
+    public void write_longChain_readsBackEveryState() throws Exception {
+        List<PersistentStudentList> states = new ArrayList<>();
+        List<UndoSpillFile.Record> records = new ArrayList<>();
+        PersistentStudentList state = roster;
+        UndoSpillFile.Record record = null;
+        for (int i = 0; i < 2 * UndoSpillFile.MAX_CHAIN_LENGTH + 3; i++) {
+            state = i % 3 == 2 ? state.remove(i) : state.set(i, BENSON);
+            record = spillFile.write(state, record);
+            states.add(state);
+            records.add(record);
+        }
+
+        for (int i = records.size() - 1; i >= 0; i--) {
+            assertEquals(states.get(i), spillFile.read(records.get(i)));
+        }
+    }
+
+    @Test
+    public void read_followingStates_shareStructure() throws Exception {
+        UndoSpillFile.Record first = spillFile.write(roster, null);
+        UndoSpillFile.Record second = spillFile.write(roster.set(10, ALICE), first);
+        spillFile.write(PersistentStudentList.empty().add(BENSON), null);
+
+        PersistentStudentList secondState = spillFile.read(second);
+        PersistentStudentList firstState = spillFile.read(first);
+        assertEquals(roster, firstState);
+        assertTrue(secondState.estimateSizeAddedSince(firstState) < secondState.getEstimatedSize() / 10);
+    }
+
+    @Test
+    public void free_lastRecords_shrinksFile() throws Exception {
+        UndoSpillFile.Record first = spillFile.write(roster, null);
+        long firstBytes = spillFile.size();
+        UndoSpillFile.Record second = spillFile.write(roster.set(0, ALICE), first);
+        UndoSpillFile.Record third = spillFile.write(roster.add(BENSON), null);
+
+        spillFile.free(second);
+        assertTrue(spillFile.size() > firstBytes);
+        spillFile.free(third);
+        assertEquals(firstBytes, spillFile.size());
+        assertEquals(roster, spillFile.read(first));
+    }
+
+    @Test
+    public void free_mostRecords_compactsFile() throws Exception {
+        UndoSpillFile.Record first = spillFile.write(roster, null);
+        UndoSpillFile.Record second = spillFile.write(roster.add(ALICE), null);
+        long twoRecordsBytes = spillFile.size();
+        PersistentStudentList thirdState = roster.add(BENSON);
+        UndoSpillFile.Record third = spillFile.write(thirdState, null);
+        long thirdBytes = spillFile.size() - twoRecordsBytes;
+
+        spillFile.free(first);
+        spillFile.free(second);
+        assertEquals(thirdBytes, spillFile.size());
+        assertEquals(thirdState, spillFile.read(third));
+    }
+
+    @Test
+    public void free_baseOfDelta_keptUntilDeltaFreed() throws Exception {
+        UndoSpillFile.Record first = spillFile.write(roster, null);
+        PersistentStudentList secondState = roster.set(0, ALICE);
+        UndoSpillFile.Record second = spillFile.write(secondState, first);
+        spillFile.write(PersistentStudentList.empty(), null);
+
+        spillFile.free(first);
+        assertEquals(secondState, spillFile.read(second));
+        spillFile.free(second);
+        assertTrue(spillFile.size() < 100);
+    }
+
+    @Test
+    public void close_deletesFile() throws Exception {
+        spillFile.write(roster, null);
+        assertTrue(Files.exists(spillFile.getFilePath()));
+
+        spillFile.close();
+        assertFalse(Files.exists(spillFile.getFilePath()));
+    }
+
+    /**
+     * Returns a roster of {@code size} students, repeating the typical students.
+     */
+    private static PersistentStudentList prepareRoster(int size) {
+        List<Student> typicalStudents = getTypicalStudents();
+        List<Student> students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            students.add(typicalStudents.get(i % typicalStudents.size()));
+        }
+        return PersistentStudentList.of(students);
+    }
+}
@@ -4,16 +4,20 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
 import static tutorhelper.testutil.TypicalStudents.AMY;
 import static tutorhelper.testutil.TypicalStudents.BOB;
 import static tutorhelper.testutil.TypicalStudents.CARL;
+import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import tutorhelper.testutil.StudentBuilder;
 import tutorhelper.testutil.TutorHelperBuilder;
 
 public class VersionedTutorHelperTest {
@@ -207,6 +211,84 @@ public class VersionedTutorHelperTest {
         assertThrows(VersionedTutorHelper.NoRedoableStateException.class, versionedTutorHelper::redo);
     }
 
+    @Test
+    public void undoRedo_changeLogMode_restoresEveryCommittedState() {
+        VersionedTutorHelper versionedTutorHelper = new VersionedTutorHelper(getTypicalTutorHelper(),
+                UndoMode.CHANGE_LOG, 0, 0);
+        List<ReadOnlyTutorHelper> expectedStates = new ArrayList<>();
+        expectedStates.add(new TutorHelper(versionedTutorHelper));
+
+        versionedTutorHelper.addStudent(AMY);
+        versionedTutorHelper.commit();
+        expectedStates.add(new TutorHelper(versionedTutorHelper));
+
+        versionedTutorHelper.updateStudent(ALICE, new StudentBuilder(ALICE).withPhone("99999999").build());
+        versionedTutorHelper.removeStudent(CARL);
+        versionedTutorHelper.commit();
+        expectedStates.add(new TutorHelper(versionedTutorHelper));
+
+        versionedTutorHelper.addStudent(BOB);
+        versionedTutorHelper.commit();
+        expectedStates.add(new TutorHelper(versionedTutorHelper));
+
+        versionedTutorHelper.resetData(emptyTutorHelper);
+        versionedTutorHelper.commit();
+
+        assertTutorHelperListStatus(versionedTutorHelper, expectedStates, emptyTutorHelper,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_changeLogModeWithUncommittedChanges_discardsUncommittedChanges() {
+        VersionedTutorHelper versionedTutorHelper = new VersionedTutorHelper(emptyTutorHelper,
+                UndoMode.CHANGE_LOG, 0, 0);
+        versionedTutorHelper.addStudent(AMY);
+        versionedTutorHelper.commit();
+
+        versionedTutorHelper.addStudent(BOB);
+        versionedTutorHelper.undo();
+        assertEquals(emptyTutorHelper, new TutorHelper(versionedTutorHelper));
+
+        versionedTutorHelper.redo();
+        assertEquals(tutorHelperWithAmy, new TutorHelper(versionedTutorHelper));
+    }
+
+    @Test
+    public void rollback_uncommittedChanges_restoresLastCommittedState() {
+        for (UndoMode undoMode : UndoMode.values()) {
+            VersionedTutorHelper versionedTutorHelper = new VersionedTutorHelper(emptyTutorHelper, undoMode, 0, 0);
+            versionedTutorHelper.addStudent(AMY);
+            versionedTutorHelper.commit();
+
+            versionedTutorHelper.addStudent(BOB);
+            versionedTutorHelper.removeStudent(AMY);
+            versionedTutorHelper.rollback();
+            assertEquals(tutorHelperWithAmy, new TutorHelper(versionedTutorHelper));
+
+            // the rolled back changes are not part of the history
+            versionedTutorHelper.undo();
+            assertEquals(emptyTutorHelper, new TutorHelper(versionedTutorHelper));
+            versionedTutorHelper.redo();
+            assertEquals(tutorHelperWithAmy, new TutorHelper(versionedTutorHelper));
+        }
+    }
+
+    @Test
+    public void commit_changeLogModeAfterUndo_removesUndoneChanges() {
+        VersionedTutorHelper versionedTutorHelper = new VersionedTutorHelper(emptyTutorHelper,
+                UndoMode.CHANGE_LOG, 0, 0);
+        versionedTutorHelper.addStudent(AMY);
+        versionedTutorHelper.commit();
+        versionedTutorHelper.undo();
+
+        versionedTutorHelper.addStudent(BOB);
+        versionedTutorHelper.commit();
+        assertTutorHelperListStatus(versionedTutorHelper,
+                Collections.singletonList(emptyTutorHelper),
+                tutorHelperWithBob,
+                Collections.emptyList());
+    }
+
     @Test
     public void equals() {
         VersionedTutorHelper versionedTutorHelper = prepareTutorHelperList(tutorHelperWithAmy, tutorHelperWithBob);
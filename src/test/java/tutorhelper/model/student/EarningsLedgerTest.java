@@ -0,0 +1,75 @@
+package tutorhelper.model.student;
+
+import static org.junit.Assert.assertEquals;
+import static tutorhelper.testutil.TypicalStudents.ALCYONE;
+import static tutorhelper.testutil.TypicalStudents.BILLY;
+import static tutorhelper.testutil.TypicalStudents.CABBAGE;
+import static tutorhelper.testutil.TypicalStudents.DAISY;
+
+import java.time.YearMonth;
+
+import org.junit.Test;
+
+import tutorhelper.testutil.StudentBuilder;
+
+public class EarningsLedgerTest {
+
+    private final EarningsLedger ledger = new EarningsLedger();
+
+    @Test
+    public void getTotal_singleMonth_sumsEveryStudent() {
+        addTypicalStudents();
+
+        assertEquals(400, ledger.getTotal(2, 2018));
+        assertEquals(700, ledger.getTotal(3, 2018));
+        assertEquals(0, ledger.getTotal(4, 2018));
+    }
+
+    @Test
+    public void getTotal_range_sumsEveryMonthInRange() {
+        addTypicalStudents();
+        ledger.add(new StudentBuilder().withPayments("1 50 12 2017", "1 60 1 2019").build());
+
+        assertEquals(1100, ledger.getTotal(YearMonth.of(2018, 1), YearMonth.of(2018, 12)));
+        assertEquals(1210, ledger.getTotal(YearMonth.of(2017, 12), YearMonth.of(2019, 1)));
+        assertEquals(700, ledger.getTotal(YearMonth.of(2018, 3), YearMonth.of(2018, 3)));
+        assertEquals(0, ledger.getTotal(YearMonth.of(2018, 4), YearMonth.of(2018, 12)));
+        assertEquals(0, ledger.getTotal(YearMonth.of(2018, 12), YearMonth.of(2018, 1)));
+    }
+
+    @Test
+    public void getTotal_rangeBeyondFourDigitYears_clampedToValidYears() {
+        ledger.add(new StudentBuilder().withPayments("1 10 1 1000", "1 20 12 9999").build());
+
+        assertEquals(30, ledger.getTotal(YearMonth.of(1, 1), YearMonth.of(99999, 1)));
+        assertEquals(0, ledger.getTotal(YearMonth.of(1, 1), YearMonth.of(999, 12)));
+    }
+
+    @Test
+    public void remove_student_paymentsNoLongerCounted() {
+        addTypicalStudents();
+        ledger.remove(CABBAGE);
+
+        assertEquals(400, ledger.getTotal(3, 2018));
+        assertEquals(800, ledger.getTotal(YearMonth.of(2018, 1), YearMonth.of(2018, 12)));
+    }
+
+    @Test
+    public void clear_emptiesLedger() {
+        addTypicalStudents();
+        ledger.clear();
+
+        assertEquals(0, ledger.getTotal(3, 2018));
+        assertEquals(0, ledger.getTotal(YearMonth.of(2018, 1), YearMonth.of(2018, 12)));
+    }
+
+    /**
+     * Adds the typical students with payments, who pay 400 in February 2018 and 700 in March 2018.
+     */
+    private void addTypicalStudents() {
+        ledger.add(ALCYONE);
+        ledger.add(BILLY);
+        ledger.add(CABBAGE);
+        ledger.add(DAISY);
+    }
+}
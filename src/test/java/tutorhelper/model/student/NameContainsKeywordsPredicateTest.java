@@ -57,6 +57,21 @@ public class NameContainsKeywordsPredicateTest {
         assertTrue(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
     }
 
+    @Test
+    public void test_nameContainsAllOfOrPrefixKeywords_returnsTrue() {
+        // All words of a keyword
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("bob+ALICE"));
+        assertTrue(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
+
+        // Prefix of a word
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Ca*"));
+        assertTrue(predicate.test(new StudentBuilder().withName("Alice Carol").build()));
+
+        // Prefix combined with a whole word
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("al*+carol"));
+        assertTrue(predicate.test(new StudentBuilder().withName("Alice Carol").build()));
+    }
+
     @Test
     public void test_nameDoesNotContainKeywords_returnsFalse() {
         // Zero keywords
@@ -67,6 +82,14 @@ public class NameContainsKeywordsPredicateTest {
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol"));
         assertFalse(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
 
+        // Only some words of a keyword
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice+Carol"));
+        assertFalse(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
+
+        // Prefix of a word is not a whole word
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Ali"));
+        assertFalse(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
+
 
         // Keywords match phone, email and address, but does not match name
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("12345678", "alice@email.com", "Main", "Street"));
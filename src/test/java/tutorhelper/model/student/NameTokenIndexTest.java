@@ -0,0 +1,74 @@
+package tutorhelper.model.student;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
+import static tutorhelper.testutil.TypicalStudents.BENSON;
+import static tutorhelper.testutil.TypicalStudents.DANIEL;
+import static tutorhelper.testutil.TypicalStudents.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @Before
+    public void setUp() {
+        index.add(ALICE); // Alice Pauline
+        index.add(BENSON); // Benson Meier
+        index.add(DANIEL); // Daniel Meier
+        index.add(ELLE); // Elle Meyer
+    }
+
+    @Test
+    public void find_exactWord_matchesWholeWordsOnly() {
+        assertFound(query("meier"), BENSON, DANIEL);
+        assertFound(query("mei"));
+    }
+
+    @Test
+    public void find_prefix_matchesEveryWordWithPrefix() {
+        assertFound(query("me*"), BENSON, DANIEL, ELLE);
+        assertFound(query("pauline*"), ALICE);
+    }
+
+    @Test
+    public void find_allOf_matchesStudentsWithEveryWord() {
+        assertFound(query("meier", "dan*"), DANIEL);
+        assertFound(query("meier", "alice"));
+    }
+
+    @Test
+    public void find_anyOf_matchesStudentsWithAnyKeyword() {
+        assertFound(Arrays.asList(Arrays.asList("alice"), Arrays.asList("elle")), ALICE, ELLE);
+        assertFound(Collections.emptyList());
+    }
+
+    @Test
+    public void remove_student_noLongerFound() {
+        index.remove(BENSON);
+        assertFound(query("meier"), DANIEL);
+        index.remove(DANIEL);
+        assertTrue(index.find(query("meier")).isEmpty());
+    }
+
+    private static List<List<String>> query(String... terms) {
+        return Collections.singletonList(Arrays.asList(terms));
+    }
+
+    /**
+     * Asserts that the index finds exactly {@code expected} for {@code alternatives}.
+     */
+    private void assertFound(List<List<String>> alternatives, Student... expected) {
+        Set<Student> found = index.find(alternatives);
+        assertEquals(new HashSet<>(Arrays.asList(expected)), new HashSet<>(found));
+    }
+}
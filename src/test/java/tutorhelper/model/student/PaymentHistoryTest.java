@@ -0,0 +1,124 @@
+package tutorhelper.model.student;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import tutorhelper.commons.core.index.Index;
+
+public class PaymentHistoryTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PaymentHistory history = PaymentHistory.of(Arrays.asList(
+            new Payment(Index.fromOneBased(1), 300, 3, 2018),
+            new Payment(Index.fromOneBased(1), 100, 12, 2017),
+            new Payment(Index.fromOneBased(1), 200, 1, 2018)));
+
+    @Test
+    public void of_unorderedPayments_sortedChronologically() {
+        assertEquals(Arrays.asList(new Payment(null, 100, 12, 2017), new Payment(null, 200, 1, 2018),
+                new Payment(null, 300, 3, 2018)), history.asList());
+    }
+
+    @Test
+    public void of_samePaymentMonth_lastPaymentKept() {
+        PaymentHistory repeated = PaymentHistory.of(Arrays.asList(new Payment(null, 100, 3, 2018),
+                new Payment(null, 250, 3, 2018)));
+        assertEquals(Collections.singletonList(new Payment(null, 250, 3, 2018)), repeated.asList());
+    }
+
+    @Test
+    public void ofPacked_packedHistory_equalsHistory() {
+        int[] yearMonths = new int[history.size()];
+        int[] amounts = new int[history.size()];
+        for (int i = 0; i < history.size(); i++) {
+            yearMonths[i] = history.getYearMonth(i);
+            amounts[i] = history.getAmount(i);
+        }
+        assertEquals(history, PaymentHistory.ofPacked(yearMonths, amounts));
+    }
+
+    @Test
+    public void ofPacked_monthsOutOfOrder_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        PaymentHistory.ofPacked(new int[] {201803, 201801}, new int[] {100, 200});
+    }
+
+    @Test
+    public void ofPacked_invalidMonth_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        PaymentHistory.ofPacked(new int[] {201813}, new int[] {100});
+    }
+
+    @Test
+    public void with_newMonth_insertedInOrder() {
+        PaymentHistory updated = history.with(new Payment(null, 150, 2, 2018));
+        assertEquals(4, updated.size());
+        assertEquals(2, updated.getMonth(2));
+        assertEquals(150, updated.getAmount(2));
+        assertEquals(3, history.size());
+    }
+
+    @Test
+    public void with_existingMonth_amountReplaced() {
+        PaymentHistory updated = history.with(new Payment(null, 999, 1, 2018));
+        assertEquals(3, updated.size());
+        assertEquals(999, updated.getAmount(1));
+        assertEquals(200, history.getAmount(1));
+    }
+
+    @Test
+    public void contains() {
+        assertTrue(history.contains(12, 2017));
+        assertFalse(history.contains(2, 2018));
+        assertFalse(PaymentHistory.empty().contains(12, 2017));
+    }
+
+    @Test
+    public void getTotal_range_sumsPaymentsInRange() {
+        assertEquals(500, history.getTotal(YearMonth.of(2018, 1), YearMonth.of(2018, 12)));
+        assertEquals(600, history.getTotal(YearMonth.of(2017, 12), YearMonth.of(2018, 3)));
+        assertEquals(200, history.getTotal(YearMonth.of(2018, 1), YearMonth.of(2018, 1)));
+        assertEquals(0, history.getTotal(YearMonth.of(2018, 4), YearMonth.of(2019, 1)));
+    }
+
+    @Test
+    public void getTotal_afterWith_includesNewAmounts() {
+        PaymentHistory updated = history.with(new Payment(null, 150, 2, 2018)).with(new Payment(null, 50, 12, 2017));
+        assertEquals(700, updated.getTotal(YearMonth.of(2017, 12), YearMonth.of(2018, 3)));
+        assertEquals(650, updated.getTotal(YearMonth.of(2018, 1), YearMonth.of(2018, 3)));
+        assertEquals(50, updated.getAmount(0));
+        assertEquals(300, updated.getAmount(3));
+    }
+
+    @Test
+    public void getLatest_fewerPaymentsThanCount_returnsAll() {
+        assertEquals(history.asList(), history.getLatest(5));
+        assertEquals(Collections.singletonList(new Payment(null, 300, 3, 2018)), history.getLatest(1));
+    }
+
+    @Test
+    public void asList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        history.asList().remove(0);
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(history, PaymentHistory.of(history.asList()));
+        assertEquals(history.hashCode(), PaymentHistory.of(history.asList()).hashCode());
+        assertNotEquals(history, history.with(new Payment(null, 1, 1, 2018)));
+        assertNotEquals(history, PaymentHistory.empty());
+    }
+}
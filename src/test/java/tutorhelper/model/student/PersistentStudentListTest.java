@@ -0,0 +1,189 @@
+package tutorhelper.model.student;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
+import static tutorhelper.testutil.TypicalStudents.BENSON;
+import static tutorhelper.testutil.TypicalStudents.CARL;
+import static tutorhelper.testutil.TypicalStudents.getTypicalStudents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import tutorhelper.testutil.StudentBuilder;
+
+public class PersistentStudentListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_nullList_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentStudentList.of(null);
+    }
+
+    @Test
+    public void of_list_preservesOrder() {
+        List<Student> students = getTypicalStudents();
+        PersistentStudentList list = PersistentStudentList.of(students);
+        assertEquals(students.size(), list.size());
+        assertEquals(students, list.toList());
+        for (int i = 0; i < students.size(); i++) {
+            assertEquals(students.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentStudentList.empty().add(ALICE).get(1);
+    }
+
+    @Test
+    public void add_nullStudent_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentStudentList.empty().add(null);
+    }
+
+    @Test
+    public void updates_leaveOriginalUnchanged() {
+        PersistentStudentList original = PersistentStudentList.of(Arrays.asList(ALICE, BENSON));
+
+        PersistentStudentList added = original.add(CARL);
+        PersistentStudentList replaced = original.set(0, CARL);
+        PersistentStudentList removed = original.remove(1);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), original.toList());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), added.toList());
+        assertEquals(Arrays.asList(CARL, BENSON), replaced.toList());
+        assertEquals(Collections.singletonList(ALICE), removed.toList());
+    }
+
+    @Test
+    public void updates_randomSequence_matchesArrayList() {
+        List<Student> pool = getTypicalStudents();
+        Random random = new Random(2103);
+        List<Student> expected = new ArrayList<>();
+        PersistentStudentList actual = PersistentStudentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            Student student = pool.get(random.nextInt(pool.size()));
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, student);
+                actual = actual.add(index, student);
+            } else if (operation == 1) {
+                expected.add(student);
+                actual = actual.add(student);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, student);
+                actual = actual.set(index, student);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+
+        assertEquals(expected, actual.toList());
+    }
+
+    @Test
+    public void getDifferingPositions_derivedList_returnsReplacedPositions() {
+        PersistentStudentList original = PersistentStudentList.of(getTypicalStudents());
+        PersistentStudentList replaced = original.set(1, CARL).set(5, ALICE);
+
+        assertEquals(Arrays.asList(1, 5), original.getDifferingPositions(replaced));
+        assertEquals(Collections.emptyList(), original.getDifferingPositions(original));
+    }
+
+    @Test
+    public void getDifferingPositions_differentSizes_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        PersistentStudentList.of(Arrays.asList(ALICE, BENSON)).getDifferingPositions(PersistentStudentList.empty());
+    }
+
+    @Test
+    public void comparisons_randomDerivedLists_matchArrayList() {
+        List<Student> pool = getTypicalStudents();
+        Random random = new Random(2113);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            students.add(pool.get(random.nextInt(pool.size())));
+        }
+        PersistentStudentList original = PersistentStudentList.of(students);
+
+        for (int i = 0; i < 50; i++) {
+            List<Student> expected = new ArrayList<>(students);
+            PersistentStudentList derived = original;
+            for (int j = random.nextInt(5); j >= 0; j--) {
+                int index = random.nextInt(expected.size());
+                Student student = new StudentBuilder(pool.get(random.nextInt(pool.size()))).build();
+                if (random.nextBoolean()) {
+                    expected.set(index, student);
+                    derived = derived.set(index, student);
+                } else {
+                    expected.add(index, student);
+                    derived = derived.add(index, student);
+                }
+            }
+
+            int prefixLength = 0;
+            while (prefixLength < students.size() && students.get(prefixLength) == expected.get(prefixLength)) {
+                prefixLength++;
+            }
+            int suffixLength = 0;
+            while (suffixLength < students.size() - prefixLength && students.get(students.size() - 1 - suffixLength)
+                    == expected.get(expected.size() - 1 - suffixLength)) {
+                suffixLength++;
+            }
+            assertEquals(prefixLength, original.getCommonPrefixLength(derived));
+            assertEquals(suffixLength, original.getCommonSuffixLength(derived, students.size() - prefixLength));
+            assertEquals(expected.subList(prefixLength, expected.size() - suffixLength),
+                    derived.toList(prefixLength, expected.size() - suffixLength));
+
+            if (expected.size() == students.size()) {
+                List<Integer> differingPositions = new ArrayList<>();
+                for (int j = 0; j < students.size(); j++) {
+                    if (students.get(j) != expected.get(j)) {
+                        differingPositions.add(j);
+                    }
+                }
+                assertEquals(differingPositions, original.getDifferingPositions(derived));
+            }
+        }
+    }
+
+    @Test
+    public void equals() {
+        PersistentStudentList list = PersistentStudentList.of(Arrays.asList(ALICE, BENSON));
+
+        // same values -> returns true
+        assertTrue(list.equals(PersistentStudentList.empty().add(ALICE).add(BENSON)));
+        assertEquals(list.hashCode(), PersistentStudentList.empty().add(ALICE).add(BENSON).hashCode());
+
+        // same object -> returns true
+        assertTrue(list.equals(list));
+
+        // null -> returns false
+        assertFalse(list.equals(null));
+
+        // different order -> returns false
+        assertNotEquals(list, PersistentStudentList.of(Arrays.asList(BENSON, ALICE)));
+
+        // different size -> returns false
+        assertNotEquals(list, list.add(CARL));
+    }
+}
@@ -0,0 +1,61 @@
+package tutorhelper.model.student;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static tutorhelper.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static tutorhelper.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static tutorhelper.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static tutorhelper.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
+import static tutorhelper.testutil.TypicalStudents.BOB;
+
+import org.junit.Test;
+
+import tutorhelper.testutil.StudentBuilder;
+
+public class StudentIdentityIndexTest {
+
+    private final StudentIdentityIndex index = new StudentIdentityIndex();
+
+    @Test
+    public void contains_sameNameAndAnyIdentityField_returnsTrue() {
+        index.add(ALICE);
+
+        assertTrue(index.contains(ALICE));
+        assertTrue(index.contains(new StudentBuilder(ALICE).withEmail(VALID_EMAIL_BOB)
+                .withAddress(VALID_ADDRESS_BOB).build()));
+        assertTrue(index.contains(new StudentBuilder(ALICE).withPhone(VALID_PHONE_BOB)
+                .withAddress(VALID_ADDRESS_BOB).build()));
+        assertTrue(index.contains(new StudentBuilder(ALICE).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build()));
+    }
+
+    @Test
+    public void contains_differentNameOrAllIdentityFieldsDifferent_returnsFalse() {
+        index.add(ALICE);
+
+        assertFalse(index.contains(BOB));
+        assertFalse(index.contains(new StudentBuilder(ALICE).withName(VALID_NAME_BOB).build()));
+        assertFalse(index.contains(new StudentBuilder(ALICE).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).withAddress(VALID_ADDRESS_BOB).build()));
+    }
+
+    @Test
+    public void remove_indexedStudent_noLongerContained() {
+        index.add(ALICE);
+        index.add(BOB);
+        index.remove(ALICE);
+
+        assertFalse(index.contains(ALICE));
+        assertTrue(index.contains(BOB));
+    }
+
+    @Test
+    public void copy_laterChanges_doNotAffectCopy() {
+        index.add(ALICE);
+        StudentIdentityIndex copy = new StudentIdentityIndex(index);
+        index.remove(ALICE);
+
+        assertTrue(copy.contains(ALICE));
+    }
+}
@@ -9,6 +9,8 @@ import static tutorhelper.logic.commands.CommandTestUtil.VALID_TUITION_TIMING_BO
 import static tutorhelper.testutil.TypicalStudents.ALICE;
 import static tutorhelper.testutil.TypicalStudents.BOB;
 
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -140,6 +142,34 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void remove_equalStudent_removesStudent() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.remove(new StudentBuilder(ALICE).build());
+        assertEquals(new UniqueStudentList(), uniqueStudentList);
+    }
+
+    @Test
+    public void remove_sameIdentityButDifferentFields_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        thrown.expect(StudentNotFoundException.class);
+        uniqueStudentList.remove(new StudentBuilder(ALICE).withTags(VALID_TAG_WEAK).build());
+    }
+
+    @Test
+    public void setStudent_afterStudentsBeforeItMoved_replacesTarget() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.remove(ALICE);
+        uniqueStudentList.addAt(0, ALICE);
+        uniqueStudentList.remove(ALICE);
+
+        Student editedBob = new StudentBuilder(BOB).withTags(VALID_TAG_WEAK).build();
+        assertEquals(0, uniqueStudentList.setStudent(BOB, editedBob));
+        assertEquals(Collections.singletonList(editedBob), uniqueStudentList.asUnmodifiableObservableList());
+        assertEquals(0, uniqueStudentList.remove(editedBob));
+    }
+
     @Test
     public void setStudents_nullUniqueStudentList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -183,4 +213,84 @@ public class UniqueStudentListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniqueStudentList.asUnmodifiableObservableList().remove(0);
     }
+
+    @Test
+    public void snapshot_laterMutations_doNotAffectSnapshot() {
+        uniqueStudentList.add(ALICE);
+        PersistentStudentList snapshot = uniqueStudentList.snapshot();
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.remove(ALICE);
+        assertEquals(Collections.singletonList(ALICE), snapshot.toList());
+        assertEquals(Collections.singletonList(BOB), uniqueStudentList.snapshot().toList());
+    }
+
+    @Test
+    public void restore_snapshot_replacesOwnListWithSnapshot() {
+        uniqueStudentList.add(ALICE);
+        PersistentStudentList snapshot = uniqueStudentList.snapshot();
+        uniqueStudentList.setStudent(ALICE, BOB);
+        uniqueStudentList.restore(snapshot);
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(ALICE);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertEquals(snapshot, uniqueStudentList.snapshot());
+    }
+
+    @Test
+    public void restore_snapshotsOfEarlierVersions_matchesListsBuiltFromSnapshots() {
+        List<PersistentStudentList> snapshots = new ArrayList<>();
+        for (int i = 0; i < 26; i++) {
+            uniqueStudentList.add(new StudentBuilder(ALICE).withName("Student " + (char) ('A' + i)).build());
+        }
+        snapshots.add(uniqueStudentList.snapshot());
+        uniqueStudentList.setStudent(uniqueStudentList.asUnmodifiableObservableList().get(3),
+                new StudentBuilder(ALICE).withName("Edited").withPayments("1 100 3 2018").build());
+        snapshots.add(uniqueStudentList.snapshot());
+        uniqueStudentList.removeAt(10);
+        uniqueStudentList.removeAt(20);
+        snapshots.add(uniqueStudentList.snapshot());
+        uniqueStudentList.addAt(0, BOB);
+        snapshots.add(uniqueStudentList.snapshot());
+        uniqueStudentList.addAt(5, new StudentBuilder(BOB).withName("Other").build());
+        snapshots.add(uniqueStudentList.snapshot());
+
+        for (int i : new int[] {0, 4, 1, 3, 2, 0, 2, 4}) {
+            uniqueStudentList.restore(snapshots.get(i));
+            UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+            expectedUniqueStudentList.setStudents(snapshots.get(i).toList());
+            assertEquals(expectedUniqueStudentList, uniqueStudentList);
+            assertEquals(snapshots.get(i), uniqueStudentList.snapshot());
+            for (Student student : snapshots.get(0)) {
+                assertEquals(expectedUniqueStudentList.contains(student), uniqueStudentList.contains(student));
+            }
+            assertEquals(expectedUniqueStudentList.contains(BOB), uniqueStudentList.contains(BOB));
+            assertEquals(expectedUniqueStudentList.getEarnings(3, 2018), uniqueStudentList.getEarnings(3, 2018));
+        }
+    }
+
+    @Test
+    public void positionalOperations_keepListAndSnapshotInStep() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.addAt(0, BOB);
+        assertEquals(Arrays.asList(BOB, ALICE), uniqueStudentList.asUnmodifiableObservableList());
+
+        uniqueStudentList.setAt(1, BOB);
+        uniqueStudentList.removeAt(0);
+        assertEquals(Collections.singletonList(BOB), uniqueStudentList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList(BOB), uniqueStudentList.snapshot().toList());
+    }
+
+    @Test
+    public void getEarnings_afterEditAndRestore_followsCurrentPayments() {
+        Student paid = new StudentBuilder(ALICE).withPayments("1 100 3 2018").build();
+        uniqueStudentList.add(paid);
+        PersistentStudentList snapshot = uniqueStudentList.snapshot();
+
+        uniqueStudentList.setStudent(paid, new StudentBuilder(ALICE).withPayments("1 250 3 2018").build());
+        assertEquals(250, uniqueStudentList.getEarnings(3, 2018));
+
+        uniqueStudentList.restore(snapshot);
+        assertEquals(100, uniqueStudentList.getEarnings(3, 2018));
+        assertEquals(100, uniqueStudentList.getEarnings(YearMonth.of(2018, 1), YearMonth.of(2018, 12)));
+    }
 }
@@ -0,0 +1,68 @@
+package tutorhelper.model.tuitiontiming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
+import static tutorhelper.testutil.TypicalStudents.BENSON;
+import static tutorhelper.testutil.TypicalStudents.CARL;
+import static tutorhelper.testutil.TypicalStudents.DANIEL;
+import static tutorhelper.testutil.TypicalStudents.GEORGE;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import tutorhelper.model.student.Student;
+import tutorhelper.testutil.StudentBuilder;
+
+public class TuitionTimingIndexTest {
+
+    private static final int FIVE_PM = 17 * 60;
+
+    private final TuitionTimingIndex index = new TuitionTimingIndex();
+
+    @Test
+    public void getStudentsOn_studentsOnDay_returnsOnlyThoseStudentsByTime() {
+        Arrays.asList(ALICE, BENSON, DANIEL, CARL).forEach(index::add);
+
+        assertEquals(Arrays.asList(Collections.singleton(CARL), Collections.singleton(DANIEL)),
+                new ArrayList<>(index.getStudentsOn(DayOfWeek.SATURDAY)));
+        assertTrue(index.getStudentsOn(DayOfWeek.WEDNESDAY).isEmpty());
+    }
+
+    @Test
+    public void getStudentsAt_studentsAtTime_returnsStudentsOnAnyDayByDay() {
+        Arrays.asList(ALICE, GEORGE, CARL, BENSON).forEach(index::add);
+
+        assertEquals(Arrays.asList(Collections.singleton(BENSON), Collections.singleton(GEORGE)),
+                new ArrayList<>(index.getStudentsAt(FIVE_PM)));
+    }
+
+    @Test
+    public void getStudentsOn_sameTime_grouped() {
+        Student otherCarl = new StudentBuilder(CARL).withName("Other Carl").build();
+        Arrays.asList(CARL, otherCarl).forEach(index::add);
+
+        assertEquals(Collections.singletonList(new HashSet<>(Arrays.asList(CARL, otherCarl))),
+                new ArrayList<>(index.getStudentsOn(DayOfWeek.SATURDAY)));
+    }
+
+    @Test
+    public void getStudentsOn_laterChanges_viewFollowsIndex() {
+        Collection<Set<Student>> saturday = index.getStudentsOn(DayOfWeek.SATURDAY);
+
+        index.add(CARL);
+        index.add(DANIEL);
+        index.remove(CARL);
+        assertEquals(Collections.singletonList(Collections.singleton(DANIEL)), new ArrayList<>(saturday));
+
+        index.clear();
+        assertTrue(saturday.isEmpty());
+    }
+}
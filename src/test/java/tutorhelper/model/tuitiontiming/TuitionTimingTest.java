@@ -1,5 +1,6 @@
 package tutorhelper.model.tuitiontiming;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -39,4 +40,24 @@ public class TuitionTimingTest {
         assertTrue(TuitionTiming.isValidTiming("Tuesday 5:00PM"));
         assertTrue(TuitionTiming.isValidTiming("Sunday 10:30AM"));
     }
+
+    @Test
+    public void toMinuteOfDay() {
+        assertEquals(0, TuitionTiming.toMinuteOfDay("12:00am")); // midnight
+        assertEquals(45, TuitionTiming.toMinuteOfDay("12:45AM"));
+        assertEquals(9 * 60 + 5, TuitionTiming.toMinuteOfDay("9:05am"));
+        assertEquals(12 * 60, TuitionTiming.toMinuteOfDay("12:00pm")); // noon
+        assertEquals(13 * 60 + 30, TuitionTiming.toMinuteOfDay("1:30PM"));
+        assertEquals(23 * 60 + 59, TuitionTiming.toMinuteOfDay("11:59pm"));
+
+        assertEquals(17 * 60, new TuitionTiming("Monday 5:00pm").minuteOfDay);
+    }
+
+    @Test
+    public void minuteOfWeek() {
+        assertEquals(0, new TuitionTiming("Monday 12:00am").minuteOfWeek);
+        assertEquals(17 * 60, new TuitionTiming("Monday 5:00pm").minuteOfWeek);
+        assertEquals(TuitionTiming.MINUTES_IN_DAY + 9 * 60, new TuitionTiming("Tuesday 9:00AM").minuteOfWeek);
+        assertEquals(7 * TuitionTiming.MINUTES_IN_DAY - 1, new TuitionTiming("Sunday 11:59pm").minuteOfWeek);
+    }
 }
@@ -0,0 +1,99 @@
+package tutorhelper.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
+import static tutorhelper.testutil.TypicalStudents.HOON;
+import static tutorhelper.testutil.TypicalStudents.getTypicalStudentsWithPayments;
+import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import tutorhelper.commons.exceptions.DataConversionException;
+import tutorhelper.model.TutorHelper;
+
+public class BinaryTutorHelperStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinaryTutorHelperStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempTutorHelper.bin");
+        storage = new BinaryTutorHelperStorage(filePath);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTutorHelper().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTutorHelper_allInOrder_success() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        getTypicalStudentsWithPayments().forEach(original::addStudent);
+        storage.saveTutorHelper(original);
+        assertTrue(BinaryFileStorage.isBinaryDataFile(filePath));
+        assertEquals(original, new TutorHelper(storage.readTutorHelper().get()));
+
+        // the file can be replaced right after it was read
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        storage.saveTutorHelper(original);
+        assertEquals(original, new TutorHelper(storage.readTutorHelper().get()));
+    }
+
+    @Test
+    public void readTutorHelper_xmlDataFile_imported() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        new XmlTutorHelperStorage(filePath).saveTutorHelper(original);
+        assertEquals(original, new TutorHelper(storage.readTutorHelper().get()));
+    }
+
+    @Test
+    public void readTutorHelper_truncatedFile_throwsDataConversionException() throws Exception {
+        storage.saveTutorHelper(getTypicalTutorHelper());
+        byte[] data = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(data, data.length - 1));
+
+        thrown.expect(DataConversionException.class);
+        storage.readTutorHelper();
+    }
+
+    @Test
+    public void readTutorHelper_unsupportedVersion_throwsDataConversionException() throws Exception {
+        storage.saveTutorHelper(getTypicalTutorHelper());
+        byte[] data = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(data).putShort(Integer.BYTES, (short) (BinaryFileStorage.VERSION + 1));
+        Files.write(filePath, data);
+
+        thrown.expect(DataConversionException.class);
+        storage.readTutorHelper();
+    }
+
+    @Test
+    public void saveTutorHelper_smallerThanXml() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("TempTutorHelper.xml");
+        new XmlTutorHelperStorage(xmlFilePath).saveTutorHelper(original);
+        storage.saveTutorHelper(original);
+        assertTrue(Files.size(filePath) < Files.size(xmlFilePath));
+    }
+
+}
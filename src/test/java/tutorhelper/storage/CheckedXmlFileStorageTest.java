@@ -0,0 +1,125 @@
+package tutorhelper.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import tutorhelper.storage.CheckedXmlFileStorage.Verification;
+import tutorhelper.testutil.Assert;
+
+public class CheckedXmlFileStorageTest {
+
+    private static final String CONTENT = "<TutorHelper>\n    <students>Ünïcode</students>\n</TutorHelper>\n";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("data").resolve("TempTutorHelper.xml");
+    }
+
+    @Test
+    public void saveToFile_missingFile_createdWithChecksum() throws Exception {
+        CheckedXmlFileStorage.saveToFile(filePath, 2, out -> out.write(CONTENT));
+        String saved = new String(Files.readAllBytes(filePath), UTF_8);
+        assertTrue(saved.startsWith(CONTENT));
+        assertTrue(saved.substring(CONTENT.length()).startsWith("<!-- crc32 "));
+        assertEquals(Verification.INTACT, CheckedXmlFileStorage.verify(filePath));
+        assertFalse(Files.exists(CheckedXmlFileStorage.getBackupFilePath(filePath, 1)));
+    }
+
+    @Test
+    public void saveToFile_existingFile_keepsBackups() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            String content = "<version>" + i + "</version>\n";
+            CheckedXmlFileStorage.saveToFile(filePath, 2, out -> out.write(content));
+        }
+        Path newestBackup = CheckedXmlFileStorage.getBackupFilePath(filePath, 1);
+        Path oldestBackup = CheckedXmlFileStorage.getBackupFilePath(filePath, 2);
+        assertTrue(readContent(filePath).startsWith("<version>3</version>"));
+        assertTrue(readContent(newestBackup).startsWith("<version>2</version>"));
+        assertTrue(readContent(oldestBackup).startsWith("<version>1</version>"));
+        assertFalse(Files.exists(CheckedXmlFileStorage.getBackupFilePath(filePath, 3)));
+        assertEquals(Arrays.asList(filePath, newestBackup, oldestBackup),
+                CheckedXmlFileStorage.getSnapshotPaths(filePath, 2));
+    }
+
+    @Test
+    public void saveToFile_writerFails_fileUnchanged() throws Exception {
+        CheckedXmlFileStorage.saveToFile(filePath, 1, out -> out.write(CONTENT));
+        byte[] saved = Files.readAllBytes(filePath);
+
+        Assert.assertThrows(IOException.class, () -> CheckedXmlFileStorage.saveToFile(filePath, 1, out -> {
+            out.write("<TutorHelper>");
+            throw new IOException("disk full");
+        }));
+        assertTrue(Arrays.equals(saved, Files.readAllBytes(filePath)));
+        assertFalse(Files.exists(CheckedXmlFileStorage.getBackupFilePath(filePath, 1)));
+        assertFalse(Files.exists(Paths.get(filePath + CheckedXmlFileStorage.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void replaceFile_existingFile_replacedWithBytesOnly() throws Exception {
+        byte[] bytes = {0x54, 0x48, 0x42, 0x44, 0, 1};
+        CheckedXmlFileStorage.saveToFile(filePath, 0, out -> out.write(CONTENT));
+        CheckedXmlFileStorage.replaceFile(filePath, 0, out -> out.write(bytes));
+        assertTrue(Arrays.equals(bytes, Files.readAllBytes(filePath)));
+        assertFalse(Files.exists(Paths.get(filePath + CheckedXmlFileStorage.TEMP_FILE_SUFFIX)));
+
+        Assert.assertThrows(IOException.class, () -> CheckedXmlFileStorage.replaceFile(filePath, 0, out -> {
+            out.write(1);
+            throw new IOException("disk full");
+        }));
+        assertTrue(Arrays.equals(bytes, Files.readAllBytes(filePath)));
+    }
+
+    @Test
+    public void verify_fileWithoutChecksum_unchecked() throws Exception {
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, CONTENT.getBytes(UTF_8));
+        assertEquals(Verification.UNCHECKED, CheckedXmlFileStorage.verify(filePath));
+
+        Files.write(filePath, Collections.singletonList("<a/>"), UTF_8);
+        assertEquals(Verification.UNCHECKED, CheckedXmlFileStorage.verify(filePath));
+    }
+
+    @Test
+    public void verify_contentChanged_damaged() throws Exception {
+        CheckedXmlFileStorage.saveToFile(filePath, 0, out -> out.write(CONTENT));
+        byte[] saved = Files.readAllBytes(filePath);
+        saved[CONTENT.indexOf("students")] = 'S';
+        Files.write(filePath, saved);
+        assertEquals(Verification.DAMAGED, CheckedXmlFileStorage.verify(filePath));
+    }
+
+    @Test
+    public void verify_contentLargerThanBuffer_intact() throws Exception {
+        StringBuilder content = new StringBuilder();
+        while (content.length() < 200 * 1024) {
+            content.append(CONTENT);
+        }
+        CheckedXmlFileStorage.saveToFile(filePath, 0, out -> out.write(content.toString()));
+        assertEquals(Verification.INTACT, CheckedXmlFileStorage.verify(filePath));
+    }
+
+    private static String readContent(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), UTF_8);
+    }
+
+}
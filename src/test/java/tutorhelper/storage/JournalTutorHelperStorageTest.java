@@ -0,0 +1,141 @@
+package tutorhelper.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
+import static tutorhelper.testutil.TypicalStudents.BENSON;
+import static tutorhelper.testutil.TypicalStudents.HOON;
+import static tutorhelper.testutil.TypicalStudents.IDA;
+import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import tutorhelper.commons.exceptions.DataConversionException;
+import tutorhelper.model.TutorHelper;
+import tutorhelper.testutil.StudentBuilder;
+
+public class JournalTutorHelperStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalPath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempTutorHelper.xml");
+        journalPath = JournalTutorHelperStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalTutorHelperStorage(filePath).readTutorHelper().isPresent());
+    }
+
+    @Test
+    public void save_changesAfterFirstSave_onlyJournalWritten() throws Exception {
+        JournalTutorHelperStorage storage = new JournalTutorHelperStorage(filePath);
+        TutorHelper original = getTypicalTutorHelper();
+        storage.saveTutorHelper(original);
+        byte[] savedData = Files.readAllBytes(filePath);
+        long journalSize = Files.size(journalPath);
+
+        original.addStudent(HOON);
+        storage.saveTutorHelper(original);
+        original.updateStudent(BENSON, new StudentBuilder(BENSON).withPhone("11111111").build());
+        storage.saveTutorHelper(original);
+        original.removeStudent(ALICE);
+        storage.saveTutorHelper(original);
+
+        assertArrayEquals(savedData, Files.readAllBytes(filePath));
+        assertTrue(Files.size(journalPath) > journalSize);
+        assertEquals(original, new TutorHelper(storage.readTutorHelper().get()));
+        // a new storage replays the journal too
+        assertEquals(original, new TutorHelper(new JournalTutorHelperStorage(filePath).readTutorHelper().get()));
+    }
+
+    @Test
+    public void save_afterRead_appendsToJournal() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        new JournalTutorHelperStorage(filePath).saveTutorHelper(original);
+        byte[] savedData = Files.readAllBytes(filePath);
+
+        JournalTutorHelperStorage storage = new JournalTutorHelperStorage(filePath);
+        TutorHelper readBack = new TutorHelper(storage.readTutorHelper().get());
+        readBack.addStudent(IDA);
+        storage.saveTutorHelper(readBack);
+
+        assertArrayEquals(savedData, Files.readAllBytes(filePath));
+        assertEquals(readBack, new TutorHelper(new JournalTutorHelperStorage(filePath).readTutorHelper().get()));
+    }
+
+    @Test
+    public void save_journalBiggerThanDataFile_compacted() throws Exception {
+        JournalTutorHelperStorage storage = new JournalTutorHelperStorage(filePath, 0);
+        TutorHelper original = getTypicalTutorHelper();
+        storage.saveTutorHelper(original);
+        long journalSize = Files.size(journalPath);
+
+        boolean compacted = false;
+        for (int i = 0; i < 20; i++) {
+            original.updateStudent(original.getStudentList().get(0),
+                    new StudentBuilder(original.getStudentList().get(0)).withPhone(String.valueOf(10000000 + i))
+                            .build());
+            storage.saveTutorHelper(original);
+            assertTrue(Files.size(journalPath) <= Files.size(filePath));
+            compacted |= Files.size(journalPath) < journalSize;
+            journalSize = Files.size(journalPath);
+        }
+
+        assertTrue(compacted);
+        assertEquals(original, new TutorHelper(new JournalTutorHelperStorage(filePath).readTutorHelper().get()));
+    }
+
+    @Test
+    public void read_journalOfOtherDataFile_journalIgnored() throws Exception {
+        JournalTutorHelperStorage storage = new JournalTutorHelperStorage(filePath);
+        TutorHelper original = getTypicalTutorHelper();
+        storage.saveTutorHelper(original);
+        original.addStudent(HOON);
+        storage.saveTutorHelper(original);
+
+        TutorHelper replaced = new TutorHelper();
+        replaced.addStudent(IDA);
+        new XmlTutorHelperStorage(filePath).saveTutorHelper(replaced);
+
+        assertEquals(replaced, new TutorHelper(new JournalTutorHelperStorage(filePath).readTutorHelper().get()));
+    }
+
+    @Test
+    public void read_incompleteLastChange_changeDropped() throws Exception {
+        JournalTutorHelperStorage storage = new JournalTutorHelperStorage(filePath);
+        TutorHelper original = getTypicalTutorHelper();
+        storage.saveTutorHelper(original);
+        original.addStudent(HOON);
+        storage.saveTutorHelper(original);
+        long journalSize = Files.size(journalPath);
+        Files.write(journalPath, "<change at=\"0\" remo".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(original, new TutorHelper(new JournalTutorHelperStorage(filePath).readTutorHelper().get()));
+        assertEquals(journalSize, Files.size(journalPath));
+    }
+
+    @Test(expected = DataConversionException.class)
+    public void read_invalidChange_throwsDataConversionException() throws Exception {
+        new JournalTutorHelperStorage(filePath).saveTutorHelper(getTypicalTutorHelper());
+        Files.write(journalPath, "<change at=\"100\" removed=\"1\"/>\n".getBytes(UTF_8), StandardOpenOption.APPEND);
+        new JournalTutorHelperStorage(filePath).readTutorHelper();
+    }
+
+}
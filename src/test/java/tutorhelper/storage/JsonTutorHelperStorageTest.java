@@ -0,0 +1,138 @@
+package tutorhelper.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
+import static tutorhelper.testutil.TypicalStudents.HOON;
+import static tutorhelper.testutil.TypicalStudents.getTypicalStudentsWithPayments;
+import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import tutorhelper.commons.exceptions.DataConversionException;
+import tutorhelper.model.TutorHelper;
+import tutorhelper.model.student.Phone;
+
+public class JsonTutorHelperStorageTest {
+
+    private static final String VALID_STUDENT = "{ \"name\" : \"Alice Pauline\", \"phone\" : \"94351253\", "
+            + "\"email\" : \"alice@example.com\", \"address\" : \"123, Jurong West Ave 6, #08-111\", "
+            + "\"tuitionTiming\" : \"Monday 6:00pm\" }";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private JsonTutorHelperStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempTutorHelper.json");
+        storage = new JsonTutorHelperStorage(filePath);
+    }
+
+    @Test
+    public void isJsonFilePath() {
+        assertTrue(JsonFileStorage.isJsonFilePath(filePath));
+        assertFalse(JsonFileStorage.isJsonFilePath(testFolder.getRoot().toPath().resolve("TempTutorHelper.xml")));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTutorHelper().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTutorHelper_allInOrder_success() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        getTypicalStudentsWithPayments().forEach(original::addStudent);
+        storage.saveTutorHelper(original);
+        assertEquals(original, new TutorHelper(storage.readTutorHelper().get()));
+
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        storage.saveTutorHelper(original);
+        assertEquals(original, new TutorHelper(storage.readTutorHelper().get()));
+    }
+
+    @Test
+    public void readTutorHelper_unknownFields_ignored() throws Exception {
+        Files.write(filePath, ("{ \"version\" : { \"major\" : 1 }, \"students\" : [ "
+                + VALID_STUDENT.replace("}", ", \"nickname\" : [ \"Al\" ] }") + " ] }").getBytes(UTF_8));
+        assertEquals(1, storage.readTutorHelper().get().getStudentList().size());
+    }
+
+    @Test
+    public void readTutorHelper_invalidStudentField_throwsDataConversionException() throws Exception {
+        storage.saveTutorHelper(getTypicalTutorHelper());
+        String json = new String(Files.readAllBytes(filePath), UTF_8);
+        Files.write(filePath, json.replace(ALICE.getPhone().value, "+651234").getBytes(UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(Phone.MESSAGE_PHONE_CONSTRAINTS);
+        storage.readTutorHelper();
+    }
+
+    @Test
+    public void readTutorHelper_duplicateStudents_throwsDataConversionException() throws Exception {
+        Files.write(filePath, ("{ \"students\" : [ " + VALID_STUDENT + ", " + VALID_STUDENT + " ] }")
+                .getBytes(UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(XmlSerializableTutorHelper.MESSAGE_DUPLICATE_STUDENT);
+        storage.readTutorHelper();
+    }
+
+    @Test
+    public void readTutorHelper_truncatedFile_throwsDataConversionException() throws Exception {
+        storage.saveTutorHelper(getTypicalTutorHelper());
+        byte[] data = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(data, data.length / 2));
+
+        thrown.expect(DataConversionException.class);
+        storage.readTutorHelper();
+    }
+
+    @Test
+    public void readTutorHelper_xmlDataFile_throwsDataConversionException() throws Exception {
+        new XmlTutorHelperStorage(filePath).saveTutorHelper(getTypicalTutorHelper());
+
+        thrown.expect(DataConversionException.class);
+        storage.readTutorHelper();
+    }
+
+    @Test
+    public void saveTutorHelper_existingFile_replacedWithNoTemporaryFileLeft() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        storage.saveTutorHelper(original);
+        original.removeStudent(ALICE);
+        storage.saveTutorHelper(original);
+
+        assertEquals(original, new TutorHelper(storage.readTutorHelper().get()));
+        assertFalse(Files.exists(Paths.get(filePath + CheckedXmlFileStorage.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void saveTutorHelper_smallerThanXml() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("TempTutorHelper.xml");
+        new XmlTutorHelperStorage(xmlFilePath).saveTutorHelper(original);
+        storage.saveTutorHelper(original);
+        assertTrue(Files.size(filePath) < Files.size(xmlFilePath));
+    }
+
+}
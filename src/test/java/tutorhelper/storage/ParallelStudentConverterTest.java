@@ -0,0 +1,101 @@
+package tutorhelper.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Test;
+
+import tutorhelper.commons.exceptions.IllegalValueException;
+import tutorhelper.model.student.Email;
+import tutorhelper.model.student.Phone;
+import tutorhelper.model.student.Student;
+import tutorhelper.testutil.Assert;
+import tutorhelper.testutil.StudentBuilder;
+
+public class ParallelStudentConverterTest {
+
+    private static final int STUDENT_COUNT = ParallelStudentConverter.BATCH_SIZE * 3 + 7;
+    private static final String VALID_PHONE = StudentBuilder.DEFAULT_PHONE;
+    private static final String VALID_EMAIL = StudentBuilder.DEFAULT_EMAIL;
+    private static final String INVALID_PHONE = "+651234";
+    private static final String INVALID_EMAIL = "example.com";
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ParallelStudentConverter converter = new ParallelStudentConverter(pool);
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void getStudents_noStudents_returnsEmptyList() throws Exception {
+        assertTrue(converter.getStudents().isEmpty());
+    }
+
+    @Test
+    public void getStudents_manyBatches_returnsStudentsInOrder() throws Exception {
+        List<Student> students = generateStudents(STUDENT_COUNT);
+        students.forEach(student -> converter.add(new XmlAdaptedStudent(student)));
+        assertEquals(students, converter.getStudents());
+    }
+
+    @Test
+    public void getStudents_invalidStudentsInSeveralBatches_reportsFirstInvalidStudent() {
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            if (i == ParallelStudentConverter.BATCH_SIZE + 1) {
+                converter.add(adaptedStudent(i, INVALID_PHONE, VALID_EMAIL));
+            } else if (i == ParallelStudentConverter.BATCH_SIZE * 2 || i == STUDENT_COUNT - 1) {
+                converter.add(adaptedStudent(i, VALID_PHONE, INVALID_EMAIL));
+            } else {
+                converter.add(adaptedStudent(i, VALID_PHONE, VALID_EMAIL));
+            }
+        }
+        Assert.assertThrows(IllegalValueException.class, Phone.MESSAGE_PHONE_CONSTRAINTS, converter::getStudents);
+    }
+
+    @Test
+    public void getStudents_invalidStudentInLastBatch_reported() {
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            converter.add(adaptedStudent(i, VALID_PHONE, i == STUDENT_COUNT - 1 ? INVALID_EMAIL : VALID_EMAIL));
+        }
+        Assert.assertThrows(IllegalValueException.class, Email.MESSAGE_EMAIL_CONSTRAINTS, converter::getStudents);
+    }
+
+    /**
+     * Returns {@code count} students with different names.
+     */
+    private static List<Student> generateStudents(int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(new StudentBuilder().withName(nameOf(i)).build());
+        }
+        return students;
+    }
+
+    /**
+     * Returns a different name for each {@code i}, spelling out its digits as letters.
+     */
+    private static String nameOf(int i) {
+        StringBuilder name = new StringBuilder("Student ");
+        for (char digit : String.valueOf(i).toCharArray()) {
+            name.append((char) ('a' + digit - '0'));
+        }
+        return name.toString();
+    }
+
+    /**
+     * Returns the {@code i}th student, with the given phone and email, which may not be valid.
+     */
+    private static XmlAdaptedStudent adaptedStudent(int i, String phone, String email) {
+        return new XmlAdaptedStudent(nameOf(i), phone, email, StudentBuilder.DEFAULT_ADDRESS,
+                Collections.emptyList(), StudentBuilder.DEFAULT_TUITION_TIMING, Collections.emptyList(),
+                Collections.emptyList());
+    }
+}
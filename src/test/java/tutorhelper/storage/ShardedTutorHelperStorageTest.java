@@ -0,0 +1,142 @@
+package tutorhelper.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
+import static tutorhelper.testutil.TypicalStudents.BENSON;
+import static tutorhelper.testutil.TypicalStudents.HOON;
+import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import tutorhelper.commons.exceptions.DataConversionException;
+import tutorhelper.model.TutorHelper;
+import tutorhelper.model.student.Student;
+import tutorhelper.testutil.StudentBuilder;
+
+public class ShardedTutorHelperStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path shardDirectory;
+    private Path manifestPath;
+    private ShardedTutorHelperStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempTutorHelper.xml");
+        shardDirectory = ShardedTutorHelperStorage.getShardDirectoryPath(filePath);
+        manifestPath = shardDirectory.resolve(ShardedTutorHelperStorage.MANIFEST_FILE_NAME);
+        storage = new ShardedTutorHelperStorage(filePath);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTutorHelper().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTutorHelper_allInOrder_success() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        storage.saveTutorHelper(original);
+        assertEquals(original.getStudentList().size(), Files.readAllLines(manifestPath, UTF_8).size());
+        assertEquals(original, new TutorHelper(new ShardedTutorHelperStorage(filePath).readTutorHelper().get()));
+
+        // students can be added and removed right after they were read
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        storage.saveTutorHelper(original);
+        assertEquals(original, new TutorHelper(new ShardedTutorHelperStorage(filePath).readTutorHelper().get()));
+    }
+
+    @Test
+    public void saveTutorHelper_studentEdited_rewritesOnlyItsShard() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        storage.saveTutorHelper(original);
+        List<String> shardNames = Files.readAllLines(manifestPath, UTF_8);
+        byte[] untouchedShard = Files.readAllBytes(shardDirectory.resolve(shardNames.get(0)));
+
+        Student editedBenson = new StudentBuilder(BENSON).withPhone("99999999").build();
+        original.updateStudent(BENSON, editedBenson);
+        storage.saveTutorHelper(original);
+
+        assertEquals(shardNames, Files.readAllLines(manifestPath, UTF_8));
+        assertTrue(Arrays.equals(untouchedShard, Files.readAllBytes(shardDirectory.resolve(shardNames.get(0)))));
+        assertEquals(original, new TutorHelper(new ShardedTutorHelperStorage(filePath).readTutorHelper().get()));
+    }
+
+    @Test
+    public void saveTutorHelper_shardsReplaced_noTemporaryFilesLeft() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        storage.saveTutorHelper(original);
+        original.updateStudent(BENSON, new StudentBuilder(BENSON).withPhone("99999999").build());
+        storage.saveTutorHelper(original);
+
+        Set<String> expectedFileNames = new HashSet<>(Files.readAllLines(manifestPath, UTF_8));
+        expectedFileNames.add(ShardedTutorHelperStorage.MANIFEST_FILE_NAME);
+        try (Stream<Path> files = Files.list(shardDirectory)) {
+            assertEquals(expectedFileNames, files.map(file -> file.getFileName().toString()).collect(toSet()));
+        }
+    }
+
+    @Test
+    public void saveTutorHelper_studentRemoved_deletesItsShard() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        storage.saveTutorHelper(original);
+        String aliceShardName = Files.readAllLines(manifestPath, UTF_8).get(0);
+
+        original.removeStudent(ALICE);
+        storage.saveTutorHelper(original);
+        assertFalse(Files.exists(shardDirectory.resolve(aliceShardName)));
+    }
+
+    @Test
+    public void readTutorHelper_damagedShard_skipped() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        storage.saveTutorHelper(original);
+        Path aliceShard = shardDirectory.resolve(Files.readAllLines(manifestPath, UTF_8).get(0));
+        Files.write(aliceShard, "not xml".getBytes(UTF_8));
+
+        original.removeStudent(ALICE);
+        assertEquals(original, new TutorHelper(new ShardedTutorHelperStorage(filePath).readTutorHelper().get()));
+        assertTrue(Files.exists(aliceShard));
+    }
+
+    @Test
+    public void readTutorHelper_xmlDataFile_imported() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        new XmlTutorHelperStorage(filePath).saveTutorHelper(original);
+        assertEquals(original, new TutorHelper(storage.readTutorHelper().get()));
+        assertFalse(Files.exists(shardDirectory));
+    }
+
+    @Test
+    public void readTutorHelper_invalidShardName_throwsDataConversionException() throws Exception {
+        storage.saveTutorHelper(getTypicalTutorHelper());
+        Files.write(manifestPath, Arrays.asList("../TempTutorHelper.xml"), UTF_8);
+
+        thrown.expect(DataConversionException.class);
+        new ShardedTutorHelperStorage(filePath).readTutorHelper();
+    }
+
+}
@@ -3,19 +3,28 @@ package tutorhelper.storage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
+import static tutorhelper.testutil.TypicalStudents.BENSON;
 import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
 
 import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import tutorhelper.commons.events.logic.CommandEnteredEvent;
 import tutorhelper.commons.events.model.TutorHelperChangedEvent;
+import tutorhelper.commons.events.storage.DataFilePathChangedEvent;
+import tutorhelper.commons.events.storage.DataSavedEvent;
 import tutorhelper.commons.events.storage.DataSavingExceptionEvent;
+import tutorhelper.logic.CommandHistory;
 import tutorhelper.model.ReadOnlyTutorHelper;
 import tutorhelper.model.TutorHelper;
 import tutorhelper.model.UserPrefs;
@@ -34,7 +43,9 @@ public class StorageManagerTest {
     public void setUp() {
         XmlTutorHelperStorage tutorHelperStorage = new XmlTutorHelperStorage(getTempFilePath("ab"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
-        storageManager = new StorageManager(tutorHelperStorage, userPrefsStorage);
+        TextCommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(
+                getTempFilePath("history"), CommandHistory.DEFAULT_CAPACITY);
+        storageManager = new StorageManager(tutorHelperStorage, userPrefsStorage, commandHistoryStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -78,11 +89,118 @@ public class StorageManagerTest {
     public void handleTutorHelperChangedEvent_exceptionThrown_eventRaised() {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
         Storage storage = new StorageManager(new XmlTutorHelperStorageExceptionThrowingStub(Paths.get("dummy")),
-                                             new JsonUserPrefsStorage(Paths.get("dummy")));
+                                             new JsonUserPrefsStorage(Paths.get("dummy")),
+                                             new TextCommandHistoryStorage(getTempFilePath("history"), 1));
         storage.handleTutorHelperChangedEvent(new TutorHelperChangedEvent(new TutorHelper()));
+        storage.flush();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleTutorHelperChangedEvent_saved_eventRaisedAfterSave() {
+        storageManager.handleTutorHelperChangedEvent(new TutorHelperChangedEvent(getTypicalTutorHelper()));
+        storageManager.flush();
+        assertEquals(new DataSavedEvent(storageManager.getTutorHelperFilePath()).toString(),
+                eventsCollectorRule.eventsCollector.getMostRecent().toString());
+    }
+
+    @Test
+    public void handleTutorHelperChangedEvent_burstOfChanges_latestSavedOnce() {
+        XmlTutorHelperStorageCountingStub tutorHelperStorage = new XmlTutorHelperStorageCountingStub(
+                getTempFilePath("ab"));
+        Storage storage = new StorageManager(tutorHelperStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new TextCommandHistoryStorage(getTempFilePath("history"), 1));
+        TutorHelper tutorHelper = getTypicalTutorHelper();
+        storage.handleTutorHelperChangedEvent(new TutorHelperChangedEvent(tutorHelper));
+        tutorHelper.removeStudent(ALICE);
+        storage.handleTutorHelperChangedEvent(new TutorHelperChangedEvent(tutorHelper));
+        TutorHelper expected = new TutorHelper(tutorHelper);
+        tutorHelper.removeStudent(BENSON);
+        storage.flush();
+
+        assertEquals(1, tutorHelperStorage.saveCount);
+        // changes made after the last event are not saved until the next one
+        assertEquals(expected, new TutorHelper(tutorHelperStorage.lastSaved));
+    }
+
+    @Test
+    public void readTutorHelper_afterChangedEvent_readsChanges() throws Exception {
+        TutorHelper original = getTypicalTutorHelper();
+        storageManager.handleTutorHelperChangedEvent(new TutorHelperChangedEvent(original));
+        ReadOnlyTutorHelper retrieved = storageManager.readTutorHelper().get();
+        assertEquals(original, new TutorHelper(retrieved));
+    }
+
+    @Test
+    public void handleCommandEnteredEvent_commandsEntered_appendedToHistory() throws Exception {
+        storageManager.handleCommandEnteredEvent(new CommandEnteredEvent("list"));
+        storageManager.handleCommandEnteredEvent(new CommandEnteredEvent("delete 1"));
+        storageManager.flush();
+        assertEquals(Arrays.asList("list", "delete 1"), storageManager.readCommandHistory());
+    }
+
+    @Test
+    public void switchTutorHelperStorage_jsonStorage_dataMovedAndSavedThereFromNowOn() throws Exception {
+        TutorHelper tutorHelper = getTypicalTutorHelper();
+        storageManager.saveTutorHelper(tutorHelper);
+        Path jsonFilePath = getTempFilePath("ab.json");
+        storageManager.switchTutorHelperStorage(new JsonTutorHelperStorage(jsonFilePath), tutorHelper);
+
+        assertEquals(jsonFilePath, storageManager.getTutorHelperFilePath());
+        assertEquals(new DataFilePathChangedEvent(jsonFilePath).toString(),
+                eventsCollectorRule.eventsCollector.getMostRecent().toString());
+        assertEquals(tutorHelper, new TutorHelper(storageManager.readTutorHelper().get()));
+
+        tutorHelper.removeStudent(ALICE);
+        storageManager.handleTutorHelperChangedEvent(new TutorHelperChangedEvent(tutorHelper));
+        storageManager.flush();
+        assertEquals(tutorHelper, new TutorHelper(new JsonTutorHelperStorage(jsonFilePath).readTutorHelper().get()));
+    }
+
+    @Test
+    public void switchTutorHelperStorage_exceptionThrown_currentStorageKept() throws Exception {
+        Path filePath = storageManager.getTutorHelperFilePath();
+        try {
+            storageManager.switchTutorHelperStorage(
+                    new XmlTutorHelperStorageExceptionThrowingStub(getTempFilePath("other")), new TutorHelper());
+            fail("The expected IOException was not thrown.");
+        } catch (IOException e) {
+            assertEquals(filePath, storageManager.getTutorHelperFilePath());
+        }
+    }
+
+    @Test
+    public void switchTutorHelperStorage_existingFile_fileKept() throws Exception {
+        Path jsonFilePath = getTempFilePath("ab.json");
+        TutorHelper existing = getTypicalTutorHelper();
+        new JsonTutorHelperStorage(jsonFilePath).saveTutorHelper(existing);
+        Path filePath = storageManager.getTutorHelperFilePath();
+        try {
+            storageManager.switchTutorHelperStorage(new JsonTutorHelperStorage(jsonFilePath), new TutorHelper());
+            fail("The expected FileAlreadyExistsException was not thrown.");
+        } catch (FileAlreadyExistsException e) {
+            assertEquals(filePath, storageManager.getTutorHelperFilePath());
+            assertEquals(existing, new TutorHelper(new JsonTutorHelperStorage(jsonFilePath).readTutorHelper().get()));
+        }
+    }
+
+    /**
+     * A Stub class to count the saves, and to remember the last TutorHelper saved.
+     */
+    class XmlTutorHelperStorageCountingStub extends XmlTutorHelperStorage {
+        private int saveCount = 0;
+        private ReadOnlyTutorHelper lastSaved;
+
+        public XmlTutorHelperStorageCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTutorHelper(ReadOnlyTutorHelper tutorHelper, Path filePath) {
+            saveCount++;
+            lastSaved = tutorHelper;
+        }
+    }
 
     /**
      * A Stub class to throw an exception when the save method is called
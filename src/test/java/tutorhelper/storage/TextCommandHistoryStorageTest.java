@@ -0,0 +1,68 @@
+package tutorhelper.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TextCommandHistoryStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("data").resolve("commandhistory.txt");
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertTrue(new TextCommandHistoryStorage(filePath, 3).readCommandHistory().isEmpty());
+    }
+
+    @Test
+    public void appendAndRead_commands_sameCommandsRead() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath, 3);
+        List<String> commands = Arrays.asList("list", "add n/Amy\nBee", "find a\\nb", "");
+        for (String command : commands) {
+            storage.appendCommand(command);
+        }
+
+        // one line per command, read back by a new storage as only the latest ones
+        assertEquals(4, Files.readAllLines(filePath, UTF_8).size());
+        assertEquals(commands.subList(1, 4), new TextCommandHistoryStorage(filePath, 3).readCommandHistory());
+    }
+
+    @Test
+    public void append_moreThanTwiceCapacity_fileCompacted() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath, 2);
+        for (int i = 1; i <= 5; i++) {
+            storage.appendCommand("delete " + i);
+        }
+
+        assertEquals(Arrays.asList("delete 4", "delete 5"), Files.readAllLines(filePath, UTF_8));
+        assertEquals(Arrays.asList("delete 4", "delete 5"), storage.readCommandHistory());
+    }
+
+    @Test
+    public void read_lastLineCutShort_lineDropped() throws Exception {
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, "list\nclear\nhist".getBytes(UTF_8));
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath, 3);
+        assertEquals(Arrays.asList("list", "clear"), storage.readCommandHistory());
+
+        storage.appendCommand("history");
+        assertEquals(Arrays.asList("list", "clear", "history"), storage.readCommandHistory());
+    }
+}
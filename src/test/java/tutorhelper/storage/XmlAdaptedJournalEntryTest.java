@@ -0,0 +1,70 @@
+package tutorhelper.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
+import static tutorhelper.testutil.TypicalStudents.BENSON;
+import static tutorhelper.testutil.TypicalStudents.CARL;
+import static tutorhelper.testutil.TypicalStudents.DANIEL;
+import static tutorhelper.testutil.TypicalStudents.HOON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import tutorhelper.commons.exceptions.IllegalValueException;
+import tutorhelper.model.student.Student;
+import tutorhelper.testutil.Assert;
+import tutorhelper.testutil.StudentBuilder;
+
+public class XmlAdaptedJournalEntryTest {
+
+    private static final List<Student> STUDENTS = Arrays.asList(ALICE, BENSON, CARL, DANIEL);
+
+    @Test
+    public void between_sameStudents_returnsNull() {
+        assertNull(XmlAdaptedJournalEntry.between(STUDENTS, new ArrayList<>(STUDENTS)));
+    }
+
+    @Test
+    public void between_studentAdded_recordsOnlyThatStudent() {
+        List<Student> after = new ArrayList<>(STUDENTS);
+        after.add(HOON);
+        assertEquals(new XmlAdaptedJournalEntry(4, 0, Collections.singletonList(HOON)),
+                XmlAdaptedJournalEntry.between(STUDENTS, after));
+    }
+
+    @Test
+    public void between_studentEdited_recordsOnlyThatStudent() {
+        Student editedBenson = new StudentBuilder(BENSON).withPhone("11111111").build();
+        List<Student> after = Arrays.asList(ALICE, editedBenson, CARL, DANIEL);
+        assertEquals(new XmlAdaptedJournalEntry(1, 1, Collections.singletonList(editedBenson)),
+                XmlAdaptedJournalEntry.between(STUDENTS, after));
+    }
+
+    @Test
+    public void between_studentRemoved_recordsNoStudent() {
+        List<Student> after = Arrays.asList(ALICE, BENSON, DANIEL);
+        assertEquals(new XmlAdaptedJournalEntry(2, 1, Collections.emptyList()),
+                XmlAdaptedJournalEntry.between(STUDENTS, after));
+    }
+
+    @Test
+    public void applyTo_entriesBetweenLists_givesLaterList() throws Exception {
+        List<Student> after = Arrays.asList(DANIEL, HOON, CARL);
+        List<Student> target = new ArrayList<>(STUDENTS);
+        XmlAdaptedJournalEntry.between(STUDENTS, after).applyTo(target);
+        assertEquals(after, target);
+    }
+
+    @Test
+    public void applyTo_outOfRange_throwsIllegalValueException() {
+        XmlAdaptedJournalEntry entry = new XmlAdaptedJournalEntry(3, 2, Collections.emptyList());
+        Assert.assertThrows(IllegalValueException.class, XmlAdaptedJournalEntry.MESSAGE_OUT_OF_RANGE, () ->
+                entry.applyTo(new ArrayList<>(STUDENTS)));
+    }
+
+}
@@ -0,0 +1,59 @@
+package tutorhelper.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static tutorhelper.testutil.TypicalStudents.ALICE;
+import static tutorhelper.testutil.TypicalStudents.BENSON;
+import static tutorhelper.testutil.TypicalStudents.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import tutorhelper.commons.util.XmlUtil;
+import tutorhelper.model.student.Student;
+import tutorhelper.testutil.StudentBuilder;
+
+public class XmlStudentFragmentCacheTest {
+
+    private final XmlStudentFragmentCache cache = new XmlStudentFragmentCache();
+
+    @Test
+    public void getFragments_newStudents_converted() throws Exception {
+        List<String> fragments = cache.getFragments(Arrays.asList(ALICE, BENSON));
+        assertEquals(XmlUtil.toXmlFragments(XmlSerializableTutorHelper.STUDENT_ELEMENT_NAME,
+                XmlAdaptedStudent.class, Arrays.asList(new XmlAdaptedStudent(ALICE), new XmlAdaptedStudent(BENSON))),
+                fragments);
+    }
+
+    @Test
+    public void getFragments_unchangedStudents_notConvertedAgain() {
+        List<String> before = cache.getFragments(Arrays.asList(ALICE, BENSON, CARL));
+        Student editedBenson = new StudentBuilder(BENSON).withPhone("11111111").build();
+        List<String> after = cache.getFragments(Arrays.asList(CARL, editedBenson, ALICE));
+
+        assertSame(before.get(2), after.get(0));
+        assertNotSame(before.get(1), after.get(1));
+        assertEquals(cache.getFragments(Collections.singletonList(editedBenson)).get(0), after.get(1));
+        assertSame(before.get(0), after.get(2));
+    }
+
+    @Test
+    public void getFragments_equalButNotSameStudent_convertedAgain() {
+        List<String> before = cache.getFragments(Collections.singletonList(ALICE));
+        List<String> after = cache.getFragments(Collections.singletonList(new StudentBuilder(ALICE).build()));
+        assertNotSame(before.get(0), after.get(0));
+        assertEquals(before, after);
+    }
+
+    @Test
+    public void getFragments_studentRemoved_fragmentDropped() {
+        List<String> before = cache.getFragments(Arrays.asList(ALICE, BENSON));
+        cache.getFragments(Collections.singletonList(BENSON));
+        assertNotSame(before.get(0), cache.getFragments(Collections.singletonList(ALICE)).get(0));
+    }
+
+}
@@ -8,6 +8,8 @@ import static tutorhelper.testutil.TypicalStudents.IDA;
 import static tutorhelper.testutil.TypicalStudents.getTypicalTutorHelper;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -17,6 +19,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import tutorhelper.commons.exceptions.DataConversionException;
+import tutorhelper.commons.util.XmlUtil;
 import tutorhelper.model.ReadOnlyTutorHelper;
 import tutorhelper.model.TutorHelper;
 
@@ -99,6 +102,78 @@ public class XmlTutorHelperStorageTest {
 
     }
 
+    @Test
+    public void saveTutorHelper_streamedFile_readableAsWholeDocument() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTutorHelper.xml");
+        TutorHelper original = getTypicalTutorHelper();
+        new XmlTutorHelperStorage(filePath).saveTutorHelper(original);
+
+        XmlSerializableTutorHelper readBack = XmlUtil.getDataFromFile(filePath, XmlSerializableTutorHelper.class);
+        assertEquals(new XmlSerializableTutorHelper(original), readBack);
+    }
+
+    @Test
+    public void readTutorHelper_binaryDataFile_imported() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTutorHelper.xml");
+        TutorHelper original = getTypicalTutorHelper();
+        new BinaryTutorHelperStorage(filePath).saveTutorHelper(original);
+
+        assertEquals(original, new TutorHelper(new XmlTutorHelperStorage(filePath).readTutorHelper().get()));
+    }
+
+    @Test
+    public void readTutorHelper_damagedDataFile_restoredFromNewestIntactBackup() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTutorHelper.xml");
+        XmlTutorHelperStorage storage = new XmlTutorHelperStorage(filePath);
+        TutorHelper original = getTypicalTutorHelper();
+        storage.saveTutorHelper(original);
+        original.addStudent(HOON);
+        storage.saveTutorHelper(original);
+        TutorHelper older = new TutorHelper(original);
+        original.addStudent(IDA);
+        storage.saveTutorHelper(original);
+
+        // damages the data file without making it invalid xml, so only its checksum can tell
+        damage(filePath);
+        assertEquals(older, new TutorHelper(storage.readTutorHelper().get()));
+
+        damage(CheckedXmlFileStorage.getBackupFilePath(filePath, 1));
+        assertEquals(getTypicalTutorHelper(), new TutorHelper(storage.readTutorHelper().get()));
+    }
+
+    @Test
+    public void readTutorHelper_dataFileMissingButBackupExists_restoredFromBackup() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTutorHelper.xml");
+        XmlTutorHelperStorage storage = new XmlTutorHelperStorage(filePath);
+        TutorHelper original = getTypicalTutorHelper();
+        storage.saveTutorHelper(original);
+        storage.saveTutorHelper(original);
+        Files.delete(filePath);
+
+        assertEquals(original, new TutorHelper(storage.readTutorHelper().get()));
+    }
+
+    @Test
+    public void readTutorHelper_noIntactSnapshot_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTutorHelper.xml");
+        XmlTutorHelperStorage storage = new XmlTutorHelperStorage(filePath, 0);
+        storage.saveTutorHelper(getTypicalTutorHelper());
+        damage(filePath);
+
+        thrown.expect(DataConversionException.class);
+        storage.readTutorHelper();
+    }
+
+    /**
+     * Replaces a letter in the first student's name in the file at {@code filePath}.
+     */
+    private static void damage(Path filePath) throws IOException {
+        byte[] data = Files.readAllBytes(filePath);
+        int nameIndex = new String(data, StandardCharsets.UTF_8).indexOf("<name>") + "<name>".length();
+        data[nameIndex] = (byte) (data[nameIndex] == 'X' ? 'Y' : 'X');
+        Files.write(filePath, data);
+    }
+
     @Test
     public void saveTutorHelper_nullTutorHelper_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
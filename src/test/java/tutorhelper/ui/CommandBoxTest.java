@@ -125,6 +125,25 @@ public class CommandBoxTest extends GuiUnitTest {
         assertInputHistory(KeyCode.UP, thirdCommand);
     }
 
+    @Test
+    public void handleKeyPress_reverseSearch() {
+        commandBoxHandle.run(COMMAND_THAT_SUCCEEDS);
+        commandBoxHandle.run(COMMAND_THAT_FAILS);
+        commandBoxHandle.run("clear");
+
+        // searches back from the latest command for the text in the command box
+        guiRobot.write("i");
+        guiRobot.push(KeyCode.SHORTCUT, KeyCode.R);
+        assertEquals(COMMAND_THAT_FAILS, commandBoxHandle.getInput());
+        guiRobot.push(KeyCode.SHORTCUT, KeyCode.R);
+        assertEquals(COMMAND_THAT_SUCCEEDS, commandBoxHandle.getInput());
+
+        // no earlier match -> input unchanged and failure indicated
+        guiRobot.push(KeyCode.SHORTCUT, KeyCode.R);
+        assertEquals(COMMAND_THAT_SUCCEEDS, commandBoxHandle.getInput());
+        assertEquals(errorStyleOfCommandBox, commandBoxHandle.getStyleClass());
+    }
+
     /**
      * Runs a command that fails, then verifies that <br>
      *      - the text remains <br>
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static tutorhelper.testutil.EventsUtil.postNow;
 import static tutorhelper.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
@@ -17,15 +18,15 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
-import tutorhelper.commons.events.model.TutorHelperChangedEvent;
-import tutorhelper.model.TutorHelper;
+import tutorhelper.commons.events.storage.DataSavedEvent;
+import tutorhelper.commons.events.storage.DataSavingExceptionEvent;
 
 public class StatusBarFooterTest extends GuiUnitTest {
 
     private static final Path STUB_SAVE_LOCATION = Paths.get("Stub");
     private static final Path RELATIVE_PATH = Paths.get(".");
 
-    private static final TutorHelperChangedEvent EVENT_STUB = new TutorHelperChangedEvent(new TutorHelper());
+    private static final DataSavedEvent EVENT_STUB = new DataSavedEvent(STUB_SAVE_LOCATION);
 
     private static final Clock originalClock = StatusBarFooter.getClock();
     private static final Clock injectedClock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
@@ -57,10 +58,15 @@ public class StatusBarFooterTest extends GuiUnitTest {
         // initial state
         assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(), SYNC_STATUS_INITIAL);
 
-        // after TutorHelper is updated
+        // after TutorHelper is saved
         postNow(EVENT_STUB);
         assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(),
                 String.format(StatusBarFooter.SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
+
+        // after the changes could not be saved
+        postNow(new DataSavingExceptionEvent(new IOException("Stub")));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(),
+                String.format(StatusBarFooter.SYNC_STATUS_SAVE_FAILED, "Stub"));
     }
 
     /**